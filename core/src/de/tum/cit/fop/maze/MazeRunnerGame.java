@@ -19,6 +19,8 @@
 import de.tum.cit.fop.maze.audio.AudioConfig;
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
+import de.tum.cit.fop.maze.effects.EffectBudget;
 import de.tum.cit.fop.maze.entities.boss.BossLoadingScreen;
 import de.tum.cit.fop.maze.entities.chapter.ChapterContext;
 import de.tum.cit.fop.maze.game.*;
@@ -28,7 +30,10 @@
 import de.tum.cit.fop.maze.tools.PVAnimationCache;
 import de.tum.cit.fop.maze.tools.PVNode;
 import de.tum.cit.fop.maze.tools.PVPipeline;
+import de.tum.cit.fop.maze.utils.LeaderboardManager;
 import de.tum.cit.fop.maze.utils.Logger;
+import de.tum.cit.fop.maze.game.save.PersistenceService;
+import de.tum.cit.fop.maze.game.save.SaveLoadTask;
 import de.tum.cit.fop.maze.game.save.StorageManager;
 import de.tum.cit.fop.maze.utils.TextureManager;
 
@@ -67,7 +72,29 @@ public AssetManager getAssets() {
         return assets;
     }
     private SpriteBatch spriteBatch;
+    private final StorageManager.SaveBackend saveBackend;
+    private final int saveSlotCount;
+
+    /**
+     * Creates the game with one save file per slot and the default slot count.
+     */
+    public MazeRunnerGame() {
+        this(StorageManager.SaveBackend.FILES, StorageManager.MAX_SAVE_SLOTS);
+    }
+
+    /**
+     * Creates the game with a chosen save storage. The backend is applied
+     * in {@link #create()}, before anything is loaded.
+     *
+     * @param saveBackend   storage backend for game saves
+     * @param saveSlotCount number of manual save slots
+     */
+    public MazeRunnerGame(StorageManager.SaveBackend saveBackend, int saveSlotCount) {
+        this.saveBackend = saveBackend;
+        this.saveSlotCount = saveSlotCount;
+    }
     private Skin skin;
+    private LeaderboardManager leaderboard;
     private AudioManager audioManager;
     private boolean twoPlayerMode = false;
     /**
@@ -176,6 +203,7 @@ public enum StoryStage {
     @Override
     public void create() {
         MazeRunnerGameHolder.init(this);
+        StorageManager.getInstance().setSaveBackend(saveBackend, saveSlotCount);
         assets = new AssetManager();
         currentDifficulty = Difficulty.NORMAL;
         difficultyConfig = DifficultyConfig.of(currentDifficulty);
@@ -392,6 +420,28 @@ private void initializeSoundManager() {
      * @return skin instance
      */
     public Skin getSkin() { return skin; }
+    /**
+     * Returns the leaderboard shared by all screens. It is created on first
+     * use, so the score log is read once per session.
+     *
+     * @return leaderboard manager
+     */
+    public LeaderboardManager getLeaderboard() {
+        if (leaderboard == null) leaderboard = new LeaderboardManager();
+        return leaderboard;
+    }
+
+    /**
+     * Records the frame time for the effect budget, starts the effect
+     * batcher statistics for the frame and renders the current screen.
+     */
+    @Override
+    public void render() {
+        EffectBudget.getInstance().recordFrame(Gdx.graphics.getDeltaTime());
+        EffectBatcher.getInstance().startFrame();
+        super.render();
+    }
+
     /**
      * Releases all allocated resources.
      *
@@ -404,6 +454,8 @@ public void dispose() {
         if (audioManager != null) audioManager.dispose();
         assets.dispose();
         TextureManager.getInstance().dispose();
+        EffectBatcher.getInstance().dispose();
+        PersistenceService.getInstance().flush();
     }
     /**
      * Recreates the maze and restarts gameplay using the given difficulty.
@@ -431,14 +483,24 @@ public void resetMaze(Difficulty difficulty) {
     /**
      * Loads the latest auto-save.
      *
+     * The save is loaded in the background behind a {@link SaveLoadingScreen}.
      * Falls back to starting a new game if no save exists.
      */
     public void loadGame() {
         Logger.info("Loading game from save...");
-        StorageManager storage = StorageManager.getInstance();
-        GameSaveData saveData = storage.loadGame();
-
+        SaveLoadTask task = StorageManager.getInstance().loadGameAsync();
+        setScreen(new SaveLoadingScreen(this, task, StorageManager.SaveTarget.AUTO));
+    }
+    /**
+     * Continues a game from loaded save data, rebuilding its world.
+     * Must be called on the render thread.
+     *
+     * @param saveData loaded save, or null to start a new game instead
+     * @param target   save target the game continues to save to
+     */
+    public void startLoadedGame(GameSaveData saveData, StorageManager.SaveTarget target) {
         if (saveData == null) {
+            Logger.warning("No save loaded, starting new game.");
             startNewGameFromMenu();
             return;
         }
@@ -454,10 +516,7 @@ public void loadGame() {
         this.difficultyConfig = DifficultyConfig.of(savedDifficulty);
         this.setTwoPlayerMode(saveData.twoPlayerMode);
         this.gameManager = new GameManager(this.difficultyConfig, this.twoPlayerMode);
-        this.gameManager.restoreFromSaveData(
-                saveData,
-                StorageManager.SaveTarget.AUTO
-        );
+        this.gameManager.restoreFromSaveData(saveData, target);
 
         if (savedDifficulty == Difficulty.ENDLESS) {
             setScreen(new EndlessScreen(this, difficultyConfig));
@@ -522,44 +581,14 @@ public boolean consumeTwoPlayerModeDirty() {
         return dirty;
     }
     /**
-     * Loads a game from a specific save slot.
+     * Loads a game from a specific save slot in the background.
      *
      * @param slot save slot index
      */
     public void loadGameFromSlot(int slot) {
         Logger.info("Loading game from slot " + slot);
-
-        StorageManager storage = StorageManager.getInstance();
-        GameSaveData saveData = storage.loadGameFromSlot(slot);
-
-        if (saveData == null) {
-            Logger.warning("Save slot " + slot + " is empty, starting new game.");
-            startNewGameFromMenu();
-            return;
-        }
-
-        Difficulty savedDifficulty;
-        try {
-            savedDifficulty = Difficulty.valueOf(saveData.difficulty);
-        } catch (Exception e) {
-            savedDifficulty = Difficulty.NORMAL;
-        }
-
-        this.currentDifficulty = savedDifficulty;
-        this.difficultyConfig = DifficultyConfig.of(savedDifficulty);
-        this.setTwoPlayerMode(saveData.twoPlayerMode);
-
-        this.gameManager = new GameManager(this.difficultyConfig, this.twoPlayerMode);
-        this.gameManager.restoreFromSaveData(
-                saveData,
-                StorageManager.SaveTarget.fromSlot(slot)
-        );
-
-        if (savedDifficulty == Difficulty.ENDLESS) {
-            setScreen(new EndlessScreen(this, difficultyConfig));
-        } else {
-            setScreen(new GameScreen(this, difficultyConfig));
-        }
+        SaveLoadTask task = StorageManager.getInstance().loadGameFromSlotAsync(slot);
+        setScreen(new SaveLoadingScreen(this, task, StorageManager.SaveTarget.fromSlot(slot)));
     }
 
 
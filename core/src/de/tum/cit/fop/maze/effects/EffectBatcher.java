@@ -0,0 +1,305 @@
+package de.tum.cit.fop.maze.effects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.Arrays;
+/**
+ * Shared immediate-mode renderer for shape-based effects.
+ * <p>
+ * Effect systems draw filled rectangles, lines, triangles and circles
+ * between {@link #begin(Matrix4)} and {@link #end()}, the way they would
+ * with a {@code ShapeRenderer} in {@code Filled} mode. Every shape is
+ * turned into triangles and collected in one vertex buffer per
+ * {@link Blend blend mode}; {@link #end()} flushes each non-empty buffer
+ * with a single draw call. A whole layer of effects therefore costs at
+ * most two draw calls, unless a buffer overflows and is flushed early.
+ * <p>
+ * Within a layer, all alpha-blended shapes are drawn before the additive
+ * ones, whatever order they were submitted in.
+ * <p>
+ * GL resources are created on the first {@link #begin(Matrix4)}, so the
+ * batcher can be referenced from code that also runs headless.
+ */
+public final class EffectBatcher {
+
+    /**
+     * Blend modes with their own vertex buffer.
+     */
+    public enum Blend {
+        /** Regular alpha blending. */
+        ALPHA,
+        /** Additive blending for glows. */
+        ADDITIVE
+    }
+
+    /** Vertices per buffer; a full buffer is flushed before more are added. */
+    private static final int MAX_VERTICES = 30000;
+    /** Floats per vertex: x, y and packed color. */
+    private static final int VERTEX_SIZE = 3;
+    /** Width of {@link #line(float, float, float, float)}, as in ShapeRenderer. */
+    private static final float LINE_WIDTH = 0.75f;
+
+    private static EffectBatcher instance;
+
+    private final float[][] vertices = new float[Blend.values().length][];
+    private final int[] used = new int[Blend.values().length];
+    private final Matrix4 projection = new Matrix4();
+    private Mesh mesh;
+    private ShaderProgram shader;
+
+    private boolean drawing = false;
+    private Blend blend = Blend.ALPHA;
+    private float color = Color.WHITE_FLOAT_BITS;
+    private final Color tmp = new Color();
+
+    private int drawCalls = 0;
+    private int vertexCount = 0;
+    private int lastDrawCalls = 0;
+    private int lastVertexCount = 0;
+
+    private EffectBatcher() {}
+
+    public static EffectBatcher getInstance() {
+        if (instance == null) {
+            instance = new EffectBatcher();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts a layer. Shapes are collected until {@link #end()}.
+     *
+     * @param projection projection matrix of the layer
+     */
+    public void begin(Matrix4 projection) {
+        if (drawing) throw new IllegalStateException("EffectBatcher.end must be called before begin.");
+        if (mesh == null) {
+            mesh = new Mesh(false, MAX_VERTICES, 0,
+                    new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+                    new VertexAttribute(VertexAttributes.Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+            shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+            for (int i = 0; i < vertices.length; i++) {
+                vertices[i] = new float[MAX_VERTICES * VERTEX_SIZE];
+            }
+        }
+        this.projection.set(projection);
+        drawing = true;
+        blend = Blend.ALPHA;
+        color = Color.WHITE_FLOAT_BITS;
+    }
+
+    /**
+     * Ends the layer and draws its shapes, one draw call per used blend mode.
+     */
+    public void end() {
+        if (!drawing) throw new IllegalStateException("EffectBatcher.begin must be called before end.");
+        for (Blend b : Blend.values()) {
+            flush(b);
+        }
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        drawing = false;
+    }
+
+    private void flush(Blend b) {
+        int count = used[b.ordinal()];
+        if (count == 0) return;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        if (b == Blend.ADDITIVE) {
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+        } else {
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        }
+
+        mesh.setVertices(vertices[b.ordinal()], 0, count);
+        shader.bind();
+        shader.setUniformMatrix("u_projModelView", projection);
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, count / VERTEX_SIZE);
+
+        drawCalls++;
+        vertexCount += count / VERTEX_SIZE;
+        used[b.ordinal()] = 0;
+    }
+
+    /**
+     * Starts a new frame for the statistics; the counters of the previous
+     * frame stay readable until the next call. Call once per frame.
+     */
+    public void startFrame() {
+        lastDrawCalls = drawCalls;
+        lastVertexCount = vertexCount;
+        drawCalls = 0;
+        vertexCount = 0;
+    }
+
+    /**
+     * Sets the blend mode for the following shapes.
+     *
+     * @param blend blend mode
+     */
+    public void setBlend(Blend blend) {
+        this.blend = blend;
+    }
+
+    public void setColor(Color c) {
+        this.color = tmp.set(c).clamp().toFloatBits();
+    }
+
+    /**
+     * Sets the color for the following shapes. Components are clamped to
+     * [0, 1], as in {@code ShapeRenderer}.
+     */
+    public void setColor(float r, float g, float b, float a) {
+        this.color = tmp.set(r, g, b, a).toFloatBits();
+    }
+
+    /**
+     * Makes room for a number of vertices in the current blend buffer.
+     *
+     * @return float offset to write the vertices at
+     */
+    private int reserve(int vertexCount) {
+        if (!drawing) throw new IllegalStateException("EffectBatcher.begin must be called first.");
+        int b = blend.ordinal();
+        if (used[b] + vertexCount * VERTEX_SIZE > MAX_VERTICES * VERTEX_SIZE) {
+            flush(blend);
+        }
+        int offset = used[b];
+        used[b] += vertexCount * VERTEX_SIZE;
+        return offset;
+    }
+
+    private static int put(float[] v, int i, float x, float y, float color) {
+        v[i] = x;
+        v[i + 1] = y;
+        v[i + 2] = color;
+        return i + VERTEX_SIZE;
+    }
+
+    /**
+     * Draws a filled triangle.
+     */
+    public void triangle(float x1, float y1, float x2, float y2, float x3, float y3) {
+        float[] v = vertices[blend.ordinal()];
+        int i = reserve(3);
+        i = put(v, i, x1, y1, color);
+        i = put(v, i, x2, y2, color);
+        put(v, i, x3, y3, color);
+    }
+
+    /**
+     * Draws a filled quad through four corners in order.
+     */
+    public void quad(float x1, float y1, float x2, float y2, float x3, float y3, float x4, float y4) {
+        float[] v = vertices[blend.ordinal()];
+        int i = reserve(6);
+        i = put(v, i, x1, y1, color);
+        i = put(v, i, x2, y2, color);
+        i = put(v, i, x3, y3, color);
+        i = put(v, i, x3, y3, color);
+        i = put(v, i, x4, y4, color);
+        put(v, i, x1, y1, color);
+    }
+
+    /**
+     * Draws a filled axis-aligned rectangle.
+     */
+    public void rect(float x, float y, float width, float height) {
+        quad(x, y, x + width, y, x + width, y + height, x, y + height);
+    }
+
+    /**
+     * Draws a line as a filled quad of the given width.
+     */
+    public void rectLine(float x1, float y1, float x2, float y2, float width) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len == 0f) return;
+        float tx = -dy / len * width * 0.5f;
+        float ty = dx / len * width * 0.5f;
+        quad(x1 + tx, y1 + ty, x1 - tx, y1 - ty, x2 - tx, y2 - ty, x2 + tx, y2 + ty);
+    }
+
+    /**
+     * Draws a thin line, as {@code ShapeRenderer.line} does in filled mode.
+     */
+    public void line(float x1, float y1, float x2, float y2) {
+        rectLine(x1, y1, x2, y2, LINE_WIDTH);
+    }
+
+    /**
+     * Draws a filled circle with a segment count derived from its radius,
+     * matching {@code ShapeRenderer}.
+     */
+    public void circle(float x, float y, float radius) {
+        circle(x, y, radius, Math.max(1, (int) (6 * (float) Math.cbrt(radius))));
+    }
+
+    /**
+     * Draws a filled circle.
+     *
+     * @param segments number of triangles around the center
+     */
+    public void circle(float x, float y, float radius, int segments) {
+        if (segments <= 0 || radius <= 0f) return;
+        float[] v = vertices[blend.ordinal()];
+        int i = reserve(segments * 3);
+        float angle = MathUtils.PI2 / segments;
+        float cos = MathUtils.cos(angle);
+        float sin = MathUtils.sin(angle);
+        float cx = radius;
+        float cy = 0f;
+        for (int s = 0; s < segments; s++) {
+            float nx = cos * cx - sin * cy;
+            float ny = sin * cx + cos * cy;
+            i = put(v, i, x, y, color);
+            i = put(v, i, x + cx, y + cy, color);
+            i = put(v, i, x + nx, y + ny, color);
+            cx = nx;
+            cy = ny;
+        }
+    }
+
+    /**
+     * @return whether a layer is open
+     */
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    /**
+     * @return draw calls issued in the previous frame
+     */
+    public int getDrawCalls() {
+        return lastDrawCalls;
+    }
+
+    /**
+     * @return vertices drawn in the previous frame
+     */
+    public int getVertexCount() {
+        return lastVertexCount;
+    }
+
+    /**
+     * Releases the GL resources. The batcher recreates them on next use.
+     */
+    public void dispose() {
+        if (mesh != null) mesh.dispose();
+        if (shader != null) shader.dispose();
+        mesh = null;
+        shader = null;
+        drawing = false;
+        Arrays.fill(used, 0);
+    }
+}
@@ -0,0 +1,289 @@
+package de.tum.cit.fop.maze.effects;
+
+import com.badlogic.gdx.utils.Array;
+import de.tum.cit.fop.maze.utils.Logger;
+/**
+ * Central budget for visual effects, adapted to the measured frame time.
+ * <p>
+ * The budget keeps a rolling average of the frame time and moves between
+ * {@link Tier quality tiers}: it drops a tier when frames stay slower than
+ * the target, and climbs back slowly once they are fast again. Effect
+ * systems register an {@link Allowance} and ask it before spawning; the
+ * current tier scales their caps, spawn counts, lifetimes and trail
+ * lengths.
+ * <p>
+ * The budget only governs after {@link #recordFrame(float)} has been
+ * called, so headless simulations, which never render, run at full
+ * quality and stay deterministic.
+ */
+public final class EffectBudget {
+
+    /**
+     * Quality tiers from full detail down to the minimum.
+     */
+    public enum Tier {
+        ULTRA(1f, 1f, 1f),
+        HIGH(0.75f, 0.85f, 0.75f),
+        MEDIUM(0.5f, 0.7f, 0.5f),
+        LOW(0.25f, 0.5f, 0.3f);
+
+        /** Multiplier for caps and spawn counts. */
+        public final float spawnScale;
+        /** Multiplier for particle lifetimes. */
+        public final float lifeScale;
+        /** Multiplier for trail lengths. */
+        public final float trailScale;
+
+        Tier(float spawnScale, float lifeScale, float trailScale) {
+            this.spawnScale = spawnScale;
+            this.lifeScale = lifeScale;
+            this.trailScale = trailScale;
+        }
+    }
+
+    /**
+     * Share of the budget held by one effect system.
+     * <p>
+     * Several instances of a system (for example one portal per exit door)
+     * share an allowance; each reports its live count every frame with
+     * {@link #report(int)} and the totals are compared against the cap.
+     */
+    public static final class Allowance {
+        private final EffectBudget budget;
+        /** Name shown in the developer console. */
+        public final String name;
+        private final int baseCap;
+
+        private int reported = 0;
+        private int active = 0;
+        private int spawnedThisFrame = 0;
+        private long spawned = 0;
+        private long dropped = 0;
+
+        private Allowance(EffectBudget budget, String name, int baseCap) {
+            this.budget = budget;
+            this.name = name;
+            this.baseCap = baseCap;
+        }
+
+        /**
+         * @return maximum number of live elements in the current tier
+         */
+        public int getCap() {
+            return Math.max(1, (int) (baseCap * budget.tier.spawnScale));
+        }
+
+        /**
+         * Asks for room for one new element and counts the answer.
+         *
+         * @return whether the element may be spawned
+         */
+        public boolean trySpawn() {
+            if (budget.governing && active + spawnedThisFrame >= getCap()) {
+                dropped++;
+                return false;
+            }
+            spawnedThisFrame++;
+            spawned++;
+            return true;
+        }
+
+        /**
+         * Adds live elements of one instance for the current frame.
+         *
+         * @param live number of live elements
+         */
+        public void report(int live) {
+            reported += live;
+        }
+
+        /**
+         * Scales a spawn count to the current tier, keeping at least one.
+         *
+         * @param count spawn count at full quality
+         * @return spawn count for the current tier
+         */
+        public int scaleCount(int count) {
+            if (count <= 0) return count;
+            return Math.max(1, Math.round(count * budget.tier.spawnScale));
+        }
+
+        /**
+         * @param life lifetime at full quality in seconds
+         * @return lifetime for the current tier
+         */
+        public float scaleLife(float life) {
+            return life * budget.tier.lifeScale;
+        }
+
+        /**
+         * @param length trail length at full quality
+         * @return trail length for the current tier, at least one
+         */
+        public int scaleTrail(int length) {
+            return Math.max(1, Math.round(length * budget.tier.trailScale));
+        }
+
+        /**
+         * @return live elements reported last frame
+         */
+        public int getActive() {
+            return active;
+        }
+
+        public long getSpawned() { return spawned; }
+        public long getDropped() { return dropped; }
+
+        private void endFrame() {
+            active = reported;
+            reported = 0;
+            spawnedThisFrame = 0;
+        }
+    }
+
+    /** Frame time the budget aims for, in seconds. */
+    private static final float DEFAULT_TARGET_FRAME = 1f / 60f;
+    /** Weight of the newest frame in the rolling average. */
+    private static final float SMOOTHING = 0.05f;
+    /** Longest frame counted; longer hitches such as level loads are clamped. */
+    private static final float MAX_SAMPLE = 0.1f;
+    /** Average above target * this factor counts as over budget. */
+    private static final float DOWNGRADE_RATIO = 1.2f;
+    /**
+     * Average below target * this factor counts as back within budget.
+     * With vsync frames cannot get faster than the target, so headroom is
+     * not measurable and a stable average near the target has to do.
+     */
+    private static final float UPGRADE_RATIO = 1.05f;
+    /** Time over budget before dropping a tier. */
+    private static final float DOWNGRADE_HOLD = 0.5f;
+    /** Time within budget before climbing a tier. */
+    private static final float UPGRADE_HOLD = 3f;
+
+    private static EffectBudget instance;
+
+    private final Array<Allowance> allowances = new Array<>();
+    private Tier tier = Tier.ULTRA;
+    private Tier override = null;
+    private boolean governing = false;
+    private float targetFrame = DEFAULT_TARGET_FRAME;
+    private float averageFrame = DEFAULT_TARGET_FRAME;
+    private float overTime = 0f;
+    private float underTime = 0f;
+
+    private EffectBudget() {}
+
+    public static EffectBudget getInstance() {
+        if (instance == null) {
+            instance = new EffectBudget();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the allowance of an effect system, creating it on first use.
+     *
+     * @param name    system name shown in the developer console
+     * @param baseCap maximum live elements at full quality
+     * @return the shared allowance for the name
+     */
+    public Allowance register(String name, int baseCap) {
+        for (int i = 0; i < allowances.size; i++) {
+            Allowance a = allowances.get(i);
+            if (a.name.equals(name)) return a;
+        }
+        Allowance a = new Allowance(this, name, baseCap);
+        allowances.add(a);
+        return a;
+    }
+
+    /**
+     * Records a rendered frame and updates the tier. Call once per frame.
+     *
+     * @param delta frame time in seconds
+     */
+    public void recordFrame(float delta) {
+        governing = true;
+        for (int i = 0; i < allowances.size; i++) allowances.get(i).endFrame();
+
+        float sample = Math.min(delta, MAX_SAMPLE);
+        averageFrame += (sample - averageFrame) * SMOOTHING;
+
+        if (override != null) {
+            tier = override;
+            return;
+        }
+
+        if (averageFrame > targetFrame * DOWNGRADE_RATIO) {
+            overTime += delta;
+            underTime = 0f;
+            if (overTime >= DOWNGRADE_HOLD && tier.ordinal() < Tier.LOW.ordinal()) {
+                setTier(Tier.values()[tier.ordinal() + 1]);
+                overTime = 0f;
+            }
+        } else if (averageFrame < targetFrame * UPGRADE_RATIO) {
+            underTime += delta;
+            overTime = 0f;
+            if (underTime >= UPGRADE_HOLD && tier.ordinal() > 0) {
+                setTier(Tier.values()[tier.ordinal() - 1]);
+                underTime = 0f;
+            }
+        } else {
+            overTime = 0f;
+            underTime = 0f;
+        }
+    }
+
+    private void setTier(Tier next) {
+        Logger.debug("Effect quality " + tier + " -> " + next
+                + String.format(" (avg frame %.1f ms)", averageFrame * 1000f));
+        tier = next;
+    }
+
+    /**
+     * @return the current quality tier
+     */
+    public Tier getTier() {
+        return tier;
+    }
+
+    /**
+     * Fixes the tier, or returns to frame-time control with {@code null}.
+     *
+     * @param tier tier to use, or null for automatic
+     */
+    public void setOverride(Tier tier) {
+        this.override = tier;
+        if (tier != null) this.tier = tier;
+        overTime = 0f;
+        underTime = 0f;
+    }
+
+    /**
+     * @return the fixed tier, or null under frame-time control
+     */
+    public Tier getOverride() {
+        return override;
+    }
+
+    /**
+     * @param seconds frame time to aim for
+     */
+    public void setTargetFrameTime(float seconds) {
+        this.targetFrame = seconds;
+    }
+
+    /**
+     * @return rolling average frame time in seconds
+     */
+    public float getAverageFrameTime() {
+        return averageFrame;
+    }
+
+    /**
+     * @return registered allowances in registration order
+     */
+    public Array<Allowance> getAllowances() {
+        return allowances;
+    }
+}
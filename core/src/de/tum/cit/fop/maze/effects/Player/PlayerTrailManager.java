@@ -4,9 +4,12 @@
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
+import de.tum.cit.fop.maze.effects.EffectBudget;
+import de.tum.cit.fop.maze.effects.particle.TrailBuffer;
 import de.tum.cit.fop.maze.game.GameConstants;
 
+import java.util.Arrays;
+
 /**
  * Manages afterimage (ghost trail) effects for the player.
  * <p>
@@ -15,36 +18,34 @@
  * running or dashing.
  * <p>
  * The trail effect is purely visual and does not affect gameplay logic.
+ * <p>
+ * Afterimages are kept in a single-slot {@link TrailBuffer}; the sprite
+ * frame and tint of each afterimage sit in arrays indexed like the
+ * buffer's points. An afterimage's alpha follows from its age.
  */
 public class PlayerTrailManager {
-    /**
-     * Represents a single afterimage of the player.
-     * <p>
-     * A ghost stores the position, sprite frame, tint color,
-     * and remaining alpha used for fading out over time.
-     */
-
-    private static class Ghost {
-        float x, y;
-        float alpha;
-        TextureRegion region;
-        Color tintColor;
-
-        public Ghost(float x, float y, TextureRegion region, Color color) {
-            this.x = x;
-            this.y = y;
-            this.region = region;
-            this.alpha = 1.0f;
-            this.tintColor = color;
-        }
-    }
 
-    private Array<Ghost> ghosts = new Array<>();
+    /** Maximum number of afterimages on screen. */
+    private static final int MAX_GHOSTS = 16;
+    /** Ghost fade per second at full quality; lower tiers fade faster for shorter trails. */
+    private static final float FADE_SPEED = 4.0f;
+
+    private final TrailBuffer ghosts = new TrailBuffer(1, MAX_GHOSTS);
+    private final int slot = ghosts.acquire();
+    private final TextureRegion[] regions = new TextureRegion[MAX_GHOSTS];
+    private final Color[] tints = new Color[MAX_GHOSTS];
+    /** Trail clock in seconds; restarts whenever no afterimages are left. */
+    private float clock = 0f;
+    /** Current fade per second. */
+    private float fade = FADE_SPEED;
     private float spawnTimer = 0;
 
     private final float DASH_SPAWN_INTERVAL = 0.03f;
     private final float RUN_SPAWN_INTERVAL = 0.1f;
 
+    private final EffectBudget.Allowance allowance =
+            EffectBudget.getInstance().register("player trail", MAX_GHOSTS);
+
     /**
      * Updates the player trail system.
      * <p>
@@ -61,6 +62,11 @@ public Ghost(float x, float y, TextureRegion region, Color color) {
      */
 
     public void update(float delta, float playerX, float playerY, boolean shouldCreateTrail, TextureRegion currentFrame, Color trailColor) {
+        if (ghosts.size() == 0) clock = 0f;
+        clock += delta;
+        fade = FADE_SPEED / allowance.scaleLife(1f);
+        ghosts.expire(slot, clock - 1f / fade);
+
         if (shouldCreateTrail) {
             spawnTimer += delta;
 
@@ -68,21 +74,17 @@ public void update(float delta, float playerX, float playerY, boolean shouldCrea
 
             if (spawnTimer >= interval) {
                 spawnTimer = 0;
-                if (currentFrame != null) {
-                    ghosts.add(new Ghost(playerX, playerY, currentFrame, trailColor));
+                if (currentFrame != null && allowance.trySpawn()) {
+                    int i = ghosts.append(slot, playerX, playerY, clock, 0f);
+                    regions[i] = currentFrame;
+                    tints[i] = trailColor;
                 }
             }
         } else {
             spawnTimer = 0.5f;
         }
 
-        for (int i = ghosts.size - 1; i >= 0; i--) {
-            Ghost g = ghosts.get(i);
-            g.alpha -= delta * 4.0f;
-            if (g.alpha <= 0) {
-                ghosts.removeIndex(i);
-            }
-        }
+        allowance.report(ghosts.size());
     }
     /**
      * Renders all active player afterimages using additive blending.
@@ -91,7 +93,8 @@ public void update(float delta, float playerX, float playerY, boolean shouldCrea
      */
 
     public void render(SpriteBatch batch) {
-        if (ghosts.size == 0) return;
+        int count = ghosts.count(slot);
+        if (count == 0) return;
 
         int srcFunc = batch.getBlendSrcFunc();
         int dstFunc = batch.getBlendDstFunc();
@@ -99,22 +102,26 @@ public void render(SpriteBatch batch) {
 
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
 
-        for (Ghost g : ghosts) {
-            if (g.region == null) continue;
+        for (int k = 0; k < count; k++) {
+            int i = ghosts.index(slot, k);
+            TextureRegion region = regions[i];
+            Color tint = tints[i];
+            float alpha = 1f - (clock - ghosts.time[i]) * fade;
+            if (region == null || alpha <= 0) continue;
 
-            batch.setColor(g.tintColor.r, g.tintColor.g, g.tintColor.b, g.alpha * 0.5f);
+            batch.setColor(tint.r, tint.g, tint.b, alpha * 0.5f);
 
-            float scale = (float) GameConstants.CELL_SIZE / g.region.getRegionHeight();
+            float scale = (float) GameConstants.CELL_SIZE / region.getRegionHeight();
             float visualScale = 2.9f;
             float finalScale = scale * visualScale;
 
-            float drawW = g.region.getRegionWidth() * finalScale;
-            float drawH = g.region.getRegionHeight() * finalScale;
+            float drawW = region.getRegionWidth() * finalScale;
+            float drawH = region.getRegionHeight() * finalScale;
 
-            float drawX = g.x * GameConstants.CELL_SIZE + GameConstants.CELL_SIZE / 2f - drawW / 2f;
-            float drawY = g.y * GameConstants.CELL_SIZE;
+            float drawX = ghosts.x[i] * GameConstants.CELL_SIZE + GameConstants.CELL_SIZE / 2f - drawW / 2f;
+            float drawY = ghosts.y[i] * GameConstants.CELL_SIZE;
 
-            batch.draw(g.region, drawX, drawY, drawW, drawH);
+            batch.draw(region, drawX, drawY, drawW, drawH);
         }
 
         batch.setColor(oldColor);
@@ -125,6 +132,8 @@ public void render(SpriteBatch batch) {
      */
 
     public void dispose() {
-        ghosts.clear();
+        ghosts.clearPoints();
+        Arrays.fill(regions, null);
+        Arrays.fill(tints, null);
     }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package de.tum.cit.fop.maze.effects.Player.combat;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Pool;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 /**
  * Base class for all combat-related visual effects.
  * <p>
  * A combat effect has a fixed duration and is updated over time.
  * Subclasses implement their own visual behavior using shape
  * rendering, sprite rendering, and optional particle spawning.
+ * <p>
+ * Effects are pooled by {@link CombatEffectManager}: an instance is
+ * started with {@link #start(float, float, float)}, used until it
+ * finishes or is evicted, then {@link #reset()} and reused. Subclasses
+ * keep their per-use state in reusable fields and clear references in
+ * {@code reset()}.
  */
 
-public abstract class CombatEffect {
+public abstract class CombatEffect implements Pool.Poolable {
     /** World position of the combat effect. */
     protected float x, y;
     /** Elapsed time since the effect was created. */
@@ -18,6 +25,14 @@ public abstract class CombatEffect {
     /** Maximum lifetime of the effect in seconds. */
     protected float maxDuration;
     protected boolean isFinished;
+    /** Pool the effect returns to, or null for effects created directly. */
+    CombatEffectPool<?> pool;
+
+    /**
+     * Creates an effect to be started later with {@link #start}.
+     */
+    protected CombatEffect() {
+    }
     /**
      * Creates a combat effect at a given position.
      *
@@ -27,10 +42,31 @@ public abstract class CombatEffect {
      */
 
     public CombatEffect(float x, float y, float duration) {
+        start(x, y, duration);
+    }
+
+    /**
+     * (Re)starts the effect at a given position.
+     *
+     * @param x        x-coordinate in world space
+     * @param y        y-coordinate in world space
+     * @param duration maximum duration of the effect in seconds
+     */
+    protected void start(float x, float y, float duration) {
         this.x = x;
         this.y = y;
         this.maxDuration = duration;
         this.timer = 0;
+        this.isFinished = false;
+    }
+
+    /**
+     * Clears the effect before it returns to its pool.
+     */
+    @Override
+    public void reset() {
+        timer = 0;
+        isFinished = false;
     }
 
     /**
@@ -64,10 +100,10 @@ public void update(float delta, CombatParticleSystem ps) {
     /**
      * Renders the effect using shape-based primitives.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
 
-    public abstract void renderShape(ShapeRenderer sr);
+    public abstract void renderShape(EffectBatcher sr);
 
     /**
      * Renders the effect using sprite-based rendering.
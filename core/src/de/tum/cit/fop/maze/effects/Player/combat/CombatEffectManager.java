@@ -4,13 +4,11 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
+import de.tum.cit.fop.maze.effects.EffectBudget;
 import de.tum.cit.fop.maze.effects.Player.combat.instances.*;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 /**
  * Central manager for all combat-related visual effects.
  * <p>
@@ -22,13 +20,41 @@
  * </ul>
  *
  * Effects are automatically removed once their lifetime ends.
+ * <p>
+ * Every effect type has its own {@link CombatEffectPool}; finished and
+ * evicted effects return to their pool, so steady combat does not
+ * allocate new effects. Active effects are kept oldest-first in a
+ * fixed-capacity ring buffer, which drops the oldest effect in constant
+ * time when full.
  */
 
 public class CombatEffectManager {
 
     private static final int MAX_EFFECTS = 300;
-    private final List<CombatEffect> effects;
+    /** Maximum number of free effects kept per type. */
+    private static final int POOL_CAPACITY = 64;
+
+    /** Active effects, oldest at {@code head}. */
+    private final CombatEffect[] effects = new CombatEffect[MAX_EFFECTS];
+    private int head = 0;
+    private int count = 0;
     private final CombatParticleSystem particleSystem;
+    private final EffectBudget.Allowance allowance =
+            EffectBudget.getInstance().register("combat effects", MAX_EFFECTS);
+
+    private final CombatEffectPool<HitSparkEffect> hitSparkPool = new CombatEffectPool<>(HitSparkEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<AggroPulseEffect> aggroPulsePool = new CombatEffectPool<>(AggroPulseEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<MagicCircleEffect> magicCirclePool = new CombatEffectPool<>(MagicCircleEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<MagicPillarEffect> magicPillarPool = new CombatEffectPool<>(MagicPillarEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<MagicEssenceEffect> magicEssencePool = new CombatEffectPool<>(MagicEssenceEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<SlashEffect> slashPool = new CombatEffectPool<>(SlashEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<DashEffect> dashPool = new CombatEffectPool<>(DashEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<HealEffect> healPool = new CombatEffectPool<>(HealEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<FloatingTextEffect> floatingTextPool = new CombatEffectPool<>(FloatingTextEffect::new, POOL_CAPACITY);
+    private final CombatEffectPool<?>[] pools = {
+            hitSparkPool, aggroPulsePool, magicCirclePool, magicPillarPool, magicEssencePool,
+            slashPool, dashPool, healPool, floatingTextPool
+    };
 
     private final BitmapFont scoreFont;
     private final BitmapFont textFont;
@@ -40,7 +66,6 @@ public class CombatEffectManager {
      */
 
     public CombatEffectManager() {
-        this.effects = new ArrayList<>();
         this.particleSystem = new CombatParticleSystem();
 
         BitmapFont tmpScoreFont;
@@ -71,26 +96,39 @@ public CombatEffectManager() {
 
     public void update(float delta) {
         particleSystem.update(delta);
-        Iterator<CombatEffect> iterator = effects.iterator();
-        while (iterator.hasNext()) {
-            CombatEffect effect = iterator.next();
+        // Compact in place, keeping the remaining effects in order.
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) % MAX_EFFECTS;
+            CombatEffect effect = effects[slot];
             effect.update(delta, particleSystem);
             if (effect.isFinished()) {
-                iterator.remove();
+                release(effect);
+            } else {
+                effects[(head + kept) % MAX_EFFECTS] = effect;
+                kept++;
             }
         }
+        for (int i = kept; i < count; i++) {
+            effects[(head + i) % MAX_EFFECTS] = null;
+        }
+        count = kept;
+        allowance.report(count);
     }
     /**
      * Renders all shape-based combat effects.
+     * <p>
+     * The batcher must be between {@link EffectBatcher#begin} and
+     * {@link EffectBatcher#end}.
      *
-     * @param shapeRenderer shape renderer used for drawing
+     * @param batcher effect batcher used for drawing
      */
 
-    public void renderShapes(ShapeRenderer shapeRenderer) {
-        for (CombatEffect effect : effects) {
-            effect.renderShape(shapeRenderer);
+    public void renderShapes(EffectBatcher batcher) {
+        for (int i = 0; i < count; i++) {
+            effects[(head + i) % MAX_EFFECTS].renderShape(batcher);
         }
-        particleSystem.render(shapeRenderer);
+        particleSystem.render(batcher);
     }
     /**
      * Renders all sprite-based combat effects.
@@ -99,23 +137,58 @@ public void renderShapes(ShapeRenderer shapeRenderer) {
      */
 
     public void renderSprites(SpriteBatch batch) {
-        for (CombatEffect effect : effects) {
-            effect.renderSprite(batch);
+        for (int i = 0; i < count; i++) {
+            effects[(head + i) % MAX_EFFECTS].renderSprite(batch);
         }
     }
     /**
      * Adds a combat effect while enforcing the maximum effect limit.
      * <p>
-     * If the limit is exceeded, the oldest effect is removed.
+     * If the limit is exceeded, the oldest effect is removed. The limit
+     * shrinks with the effect quality of {@link EffectBudget}.
      *
      * @param effect combat effect to add
      */
 
     private void safeAddEffect(CombatEffect effect) {
-        if (effects.size() >= MAX_EFFECTS) {
-            if (!effects.isEmpty()) effects.remove(0);
+        int limit = Math.min(MAX_EFFECTS, allowance.getCap());
+        while (count >= limit) {
+            release(effects[head]);
+            effects[head] = null;
+            head = (head + 1) % MAX_EFFECTS;
+            count--;
         }
-        effects.add(effect);
+        effects[(head + count) % MAX_EFFECTS] = effect;
+        count++;
+    }
+
+    private void release(CombatEffect effect) {
+        if (effect.pool != null) effect.pool.recycle(effect);
+    }
+
+    /**
+     * @return number of active effects
+     */
+    public int getActiveEffectCount() {
+        return count;
+    }
+
+    /**
+     * @return number of spawns that reused a pooled effect, over all types
+     */
+    public int getPoolHits() {
+        int hits = 0;
+        for (CombatEffectPool<?> pool : pools) hits += pool.getHits();
+        return hits;
+    }
+
+    /**
+     * @return number of spawns that had to create a new effect, over all types
+     */
+    public int getPoolMisses() {
+        int misses = 0;
+        for (CombatEffectPool<?> pool : pools) misses += pool.getMisses();
+        return misses;
     }
 
     /**
@@ -125,15 +198,16 @@ private void safeAddEffect(CombatEffect effect) {
      * @param y y-coordinate in world space
      */
     public void spawnHitSpark(float x, float y) {
-        safeAddEffect(new HitSparkEffect(x, y));
+        safeAddEffect(hitSparkPool.obtain().init(x, y));
     }
 
     public void spawnAggroPulse(float x, float y) {
-        safeAddEffect(new AggroPulseEffect(x, y));
+        safeAddEffect(aggroPulsePool.obtain().init(x, y));
     }
 
     public void spawnEnemyDeathEffect(float x, float y) {
-        for (int i = 0; i < 12; i++) {
+        int particles = particleSystem.scaleCount(12);
+        for (int i = 0; i < particles; i++) {
             particleSystem.spawn(
                     x + MathUtils.random(-15, 15),
                     y + MathUtils.random(-15, 15),
@@ -149,7 +223,7 @@ public void spawnEnemyDeathEffect(float x, float y) {
     }
 
     public void spawnMagicCircle(float x, float y, float radius, float duration) {
-        safeAddEffect(new MagicCircleEffect(x, y, radius, duration));
+        safeAddEffect(magicCirclePool.obtain().init(x, y, radius, duration));
     }
 
     public void spawnMagicCircle(float x, float y) {
@@ -157,7 +231,7 @@ public void spawnMagicCircle(float x, float y) {
     }
 
     public void spawnMagicPillar(float x, float y, float radius) {
-        safeAddEffect(new MagicPillarEffect(x, y, radius));
+        safeAddEffect(magicPillarPool.obtain().init(x, y, radius));
     }
 
     public void spawnMagicPillar(float x, float y) {
@@ -165,7 +239,7 @@ public void spawnMagicPillar(float x, float y) {
     }
 
     public void spawnMagicEssence(float startX, float startY, float targetX, float targetY) {
-        safeAddEffect(new MagicEssenceEffect(startX, startY, targetX, targetY));
+        safeAddEffect(magicEssencePool.obtain().init(startX, startY, targetX, targetY));
     }
 
     public void spawnMagicEssence(float targetX, float targetY) {
@@ -175,11 +249,11 @@ public void spawnMagicEssence(float targetX, float targetY) {
     }
 
     public void spawnSlash(float x, float y, float angle, int type) {
-        safeAddEffect(new SlashEffect(x, y, angle, type));
+        safeAddEffect(slashPool.obtain().init(x, y, angle, type));
     }
 
     public void spawnDash(float x, float y, float directionAngle) {
-        safeAddEffect(new DashEffect(x, y, directionAngle));
+        safeAddEffect(dashPool.obtain().init(x, y, directionAngle, 1));
     }
 
     /**
@@ -192,11 +266,11 @@ public void spawnDash(float x, float y, float directionAngle) {
      */
 
     public void spawnDash(float x, float y, float directionAngle, int level) {
-        safeAddEffect(new DashEffect(x, y, directionAngle, level));
+        safeAddEffect(dashPool.obtain().init(x, y, directionAngle, level));
     }
 
     public void spawnHeal(float x, float y) {
-        safeAddEffect(new HealEffect(x, y));
+        safeAddEffect(healPool.obtain().init(x, y));
     }
 
 
@@ -206,7 +280,7 @@ public void spawnScoreText(float x, float y, int score) {
         String text = (score > 0 ? "+" : "") + score;
         Color color = (score > 0) ? Color.GOLD : Color.RED;
 
-        FloatingTextEffect effect = new FloatingTextEffect(x, y, text, color, scoreFont);
+        FloatingTextEffect effect = floatingTextPool.obtain().init(x, y, text, color, scoreFont);
 
         effect.setTargetScale(0.55f);
 
@@ -215,7 +289,7 @@ public void spawnScoreText(float x, float y, int score) {
 
     public void spawnStatusText(float x, float y, String text, Color color) {
         if (text == null || text.isEmpty()) return;
-        safeAddEffect(new FloatingTextEffect(x, y, text, color, textFont));
+        safeAddEffect(floatingTextPool.obtain().init(x, y, text, color, textFont));
     }
 
     public void spawnFloatingText(float x, float y, String text, Color color) {
@@ -233,7 +307,12 @@ public void spawnFloatingText(float x, float y, int value, boolean isCrit) {
      */
 
     public void dispose() {
-        effects.clear();
+        for (int i = 0; i < count; i++) {
+            effects[(head + i) % MAX_EFFECTS] = null;
+        }
+        head = 0;
+        count = 0;
+        for (CombatEffectPool<?> pool : pools) pool.clear();
         if (scoreFont != null) scoreFont.dispose();
         if (textFont != null) textFont.dispose();
         particleSystem.clear();
@@ -0,0 +1,51 @@
+package de.tum.cit.fop.maze.effects.Player.combat;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.function.Supplier;
+/**
+ * Pool for one {@link CombatEffect} type that counts how often an
+ * effect could be reused (hit) and how often a new one was created (miss).
+ *
+ * @param <T> pooled effect type
+ */
+public class CombatEffectPool<T extends CombatEffect> extends Pool<T> {
+
+    private final Supplier<T> factory;
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * @param factory  creates a new, unstarted effect
+     * @param capacity maximum number of free effects kept
+     */
+    public CombatEffectPool(Supplier<T> factory, int capacity) {
+        super(16, capacity);
+        this.factory = factory;
+    }
+
+    @Override
+    protected T newObject() {
+        T effect = factory.get();
+        effect.pool = this;
+        return effect;
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() > 0) hits++;
+        else misses++;
+        return super.obtain();
+    }
+
+    /**
+     * Returns an effect obtained from this pool.
+     */
+    @SuppressWarnings("unchecked")
+    void recycle(CombatEffect effect) {
+        free((T) effect);
+    }
+
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+}
@@ -1,9 +1,9 @@
 package de.tum.cit.fop.maze.effects.Player.combat;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.utils.Array;
-import java.util.Iterator;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
+import de.tum.cit.fop.maze.effects.EffectBudget;
+import de.tum.cit.fop.maze.effects.particle.ParticleEngine;
 /**
  * Lightweight particle system for combat effects.
  * <p>
@@ -12,36 +12,12 @@
  * lifetime, and rendering, but contains no game logic.
  */
 public class CombatParticleSystem {
-    /**
-     * Simple data container representing a single combat particle.
-     */
-    public static class Particle {
-        float x, y;
-        float vx, vy;
-        float life, maxLife;
-        float size;
-        Color color = new Color();
-
-        boolean friction = false;
-        boolean gravity = false;
-
-        public void update(float dt) {
-            x += vx * dt;
-            y += vy * dt;
-
-            if (friction) {
-                vx *= 0.90f;
-                vy *= 0.90f;
-            }
-            if (gravity) {
-                vy += 400f * dt;
-            }
+    /** Maximum number of live combat particles; boss fights stay well below it. */
+    public static final int CAPACITY = 16384;
 
-            life -= dt;
-        }
-    }
-
-    private Array<Particle> particles = new Array<>();
+    private final ParticleEngine engine = new ParticleEngine(CAPACITY);
+    private final EffectBudget.Allowance allowance =
+            EffectBudget.getInstance().register("combat particles", CAPACITY);
     /**
      * Updates all active particles.
      * <p>
@@ -52,32 +28,17 @@ public void update(float dt) {
      */
 
     public void update(float delta) {
-        Iterator<Particle> it = particles.iterator();
-        while (it.hasNext()) {
-            Particle p = it.next();
-            p.update(delta);
-            if (p.life <= 0) it.remove();
-        }
+        engine.update(delta);
+        allowance.report(engine.size());
     }
     /**
      * Renders all particles using simple shape primitives.
      *
-     * @param sr shape renderer used for drawing particles
+     * @param sr effect batcher used for drawing particles
      */
 
-    public void render(ShapeRenderer sr) {
-        for (Particle p : particles) {
-            float alpha = p.life / p.maxLife;
-            sr.setColor(p.color.r, p.color.g, p.color.b, alpha);
-
-            sr.rect(p.x - p.size/2, p.y - p.size/2, p.size, p.size);
-
-            if (p.size > 4) {
-                float len = p.size;
-                sr.rectLine(p.x - len, p.y, p.x + len, p.y, 1);
-                sr.rectLine(p.x, p.y - len, p.x, p.y + len, 1);
-            }
-        }
+    public void render(EffectBatcher sr) {
+        engine.render(sr);
     }
 
     /**
@@ -95,22 +56,34 @@ public void render(ShapeRenderer sr) {
      */
 
     public void spawn(float x, float y, Color c, float vx, float vy, float size, float life, boolean friction, boolean gravity) {
-        Particle p = new Particle();
-        p.x = x; p.y = y;
-        p.vx = vx; p.vy = vy;
-        p.color.set(c);
-        p.maxLife = life;
-        p.life = life;
-        p.size = size;
-        p.friction = friction;
-        p.gravity = gravity;
-        particles.add(p);
+        if (!allowance.trySpawn()) return;
+        int i = engine.spawn(x, y, vx, vy, size, allowance.scaleLife(life), c.r, c.g, c.b, 1f, ParticleEngine.SHAPE_SPARK);
+        if (i < 0) return;
+        if (friction) engine.drag[i] = 0.90f;
+        if (gravity) engine.ay[i] = 400f;
+    }
+
+    /**
+     * Scales a burst size to the current effect quality.
+     *
+     * @param count particles at full quality
+     * @return particles to spawn
+     */
+    public int scaleCount(int count) {
+        return allowance.scaleCount(count);
+    }
+
+    /**
+     * @return number of live particles
+     */
+    public int getActiveCount() {
+        return engine.size();
     }
     /**
      * Removes all active particles.
      */
 
     public void clear() {
-        particles.clear();
+        engine.clear();
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,9 @@
 package de.tum.cit.fop.maze.effects.Player.combat.instances;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 
@@ -18,6 +18,13 @@
 public class AggroPulseEffect extends CombatEffect {
     /** Whether the particle burst has already been spawned. */
     private boolean spawned = false;
+    private static final Color WAVE_COLOR = new Color(0.85f, 0.95f, 1.0f, 0.5f);
+
+    /**
+     * Creates an unstarted aggro pulse for pooling.
+     */
+    public AggroPulseEffect() {
+    }
     /**
      * Creates a new aggro pulse combat effect.
      *
@@ -25,7 +32,20 @@ public class AggroPulseEffect extends CombatEffect {
      * @param y world y-coordinate of the effect center
      */
     public AggroPulseEffect(float x, float y) {
-        super(x, y, 0.5f);
+        init(x, y);
+    }
+
+    /**
+     * Starts the aggro pulse at the given position.
+     *
+     * @param x world x-coordinate of the effect center
+     * @param y world y-coordinate of the effect center
+     * @return this effect
+     */
+    public AggroPulseEffect init(float x, float y) {
+        start(x, y, 0.5f);
+        spawned = false;
+        return this;
     }
     /**
      * Spawns the aggro pulse particle burst.
@@ -46,8 +66,6 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
 
                 float speed = MathUtils.random(280, 350);
 
-                Color waveColor = new Color(0.85f, 0.95f, 1.0f, 0.5f);
-
                 float startOffset = 15f;
                 float startX = x + MathUtils.cosDeg(angle) * startOffset;
                 float startY = y + MathUtils.sinDeg(angle) * startOffset;
@@ -55,7 +73,7 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
                 ps.spawn(
                         startX,
                         startY,
-                        waveColor,
+                        WAVE_COLOR,
                         MathUtils.cosDeg(angle) * speed,
                         MathUtils.sinDeg(angle) * speed,
                         MathUtils.random(15, 25),
@@ -71,11 +89,11 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
      * <p>
      * This effect does not use shape rendering.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
 
     @Override
-    public void renderShape(ShapeRenderer sr) {}
+    public void renderShape(EffectBatcher sr) {}
     /**
      * Renders sprite-based visuals for this effect.
      * <p>
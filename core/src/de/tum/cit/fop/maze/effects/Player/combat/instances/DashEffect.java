@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -14,18 +14,27 @@
  * It is purely visual and does not affect movement or combat logic.
  */
 public class DashEffect extends CombatEffect {
+    /** Particle capacity, enough for the highest dash level. */
+    private static final int MAX_PARTICLES = 20;
+
     /** Number of particles used by the dash effect. */
-    private final int particleCount;
-    private final float[] particlesX;
-    private final float[] particlesY;
-    private final float[] particlesVX;
-    private final float[] particlesVY;
-    private final float[] particlesLife;
-
-    private final Color effectColor;
-    private final boolean hasShockwave;
+    private int particleCount;
+    private final float[] particlesX = new float[MAX_PARTICLES];
+    private final float[] particlesY = new float[MAX_PARTICLES];
+    private final float[] particlesVX = new float[MAX_PARTICLES];
+    private final float[] particlesVY = new float[MAX_PARTICLES];
+    private final float[] particlesLife = new float[MAX_PARTICLES];
+
+    private final Color effectColor = new Color();
+    private boolean hasShockwave;
     private float shockwaveRadius = 0f;
-    private final float maxShockwaveRadius;
+    private float maxShockwaveRadius;
+
+    /**
+     * Creates an unstarted dash effect for pooling.
+     */
+    public DashEffect() {
+    }
 
     /**
      * Creates a dash effect with default visual level.
@@ -47,32 +56,39 @@ public DashEffect(float x, float y, float directionAngle) {
      * @param level          dash level used to scale visual intensity
      */
     public DashEffect(float x, float y, float directionAngle, int level) {
-        super(x, y, 0.5f);
+        init(x, y, directionAngle, level);
+    }
 
+    /**
+     * Starts the dash effect.
+     *
+     * @param x              world x-coordinate of the dash origin
+     * @param y              world y-coordinate of the dash origin
+     * @param directionAngle dash direction angle in degrees
+     * @param level          dash level used to scale visual intensity
+     * @return this effect
+     */
+    public DashEffect init(float x, float y, float directionAngle, int level) {
+        start(x, y, 0.5f);
+        shockwaveRadius = 0f;
 
         if (level >= 5) {
             this.particleCount = 20;
-            this.effectColor = new Color(1f, 0.85f, 0.2f, 1f);
+            this.effectColor.set(1f, 0.85f, 0.2f, 1f);
             this.hasShockwave = true;
             this.maxShockwaveRadius = 40f;
         } else if (level >= 3) {
             this.particleCount = 12;
-            this.effectColor = new Color(0.2f, 1f, 1f, 1f);
+            this.effectColor.set(0.2f, 1f, 1f, 1f);
             this.hasShockwave = true;
             this.maxShockwaveRadius = 25f;
         } else {
             this.particleCount = 8;
-            this.effectColor = new Color(0.9f, 0.9f, 0.9f, 1f);
+            this.effectColor.set(0.9f, 0.9f, 0.9f, 1f);
             this.hasShockwave = false;
             this.maxShockwaveRadius = 0f;
         }
 
-        particlesX = new float[particleCount];
-        particlesY = new float[particleCount];
-        particlesVX = new float[particleCount];
-        particlesVY = new float[particleCount];
-        particlesLife = new float[particleCount];
-
         float rad = directionAngle * MathUtils.degRad;
         float backAngle = rad + MathUtils.PI;
 
@@ -88,6 +104,7 @@ public DashEffect(float x, float y, float directionAngle, int level) {
             particlesVY[i] = MathUtils.sin(backAngle + spread) * speed;
             particlesLife[i] = MathUtils.random(0.3f, 0.5f);
         }
+        return this;
     }
     /**
      * Updates dash particle movement and shockwave expansion.
@@ -115,10 +132,10 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
      * <p>
      * Includes trailing particles and an optional shockwave.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
 
         for (int i = 0; i < particleCount; i++) {
             if (particlesLife[i] > 0) {
@@ -3,7 +3,7 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -28,11 +28,40 @@ public class FloatingTextEffect extends CombatEffect {
      * @param font  font used for rendering
      */
     public FloatingTextEffect(float x, float y, String text, Color color, BitmapFont font) {
-        super(x, y, 1.0f);
+        init(x, y, text, color, font);
+    }
+
+    /**
+     * Creates an unstarted floating text for pooling.
+     */
+    public FloatingTextEffect() {
+    }
+
+    /**
+     * Starts the floating text.
+     *
+     * @param x     initial world x-coordinate of the text
+     * @param y     initial world y-coordinate of the text
+     * @param text  text content to display
+     * @param color text color
+     * @param font  font used for rendering
+     * @return this effect
+     */
+    public FloatingTextEffect init(float x, float y, String text, Color color, BitmapFont font) {
+        start(x, y, 1.0f);
         this.text = text;
         this.color = color;
         this.font = font;
         this.targetScale = font.getData().scaleX;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        text = null;
+        color = null;
+        font = null;
     }
     /**
      * Sets the target font scale used when rendering the text.
@@ -57,10 +86,10 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
      * <p>
      * This effect does not use shape rendering.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
     }
     /**
      * Renders the floating text using a bitmap font.
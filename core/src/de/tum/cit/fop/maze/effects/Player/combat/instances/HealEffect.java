@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -16,6 +16,12 @@
 public class HealEffect extends CombatEffect {
 
     private float spawnTimer = 0f;
+
+    /**
+     * Creates an unstarted healing effect for pooling.
+     */
+    public HealEffect() {
+    }
     /**
      * Creates a healing combat effect at the given position.
      *
@@ -23,7 +29,20 @@ public class HealEffect extends CombatEffect {
      * @param y world y-coordinate of the healing effect
      */
     public HealEffect(float x, float y) {
-        super(x, y, 1.0f); // 持续1秒
+        init(x, y);
+    }
+
+    /**
+     * Starts the healing effect at the given position.
+     *
+     * @param x world x-coordinate of the healing effect
+     * @param y world y-coordinate of the healing effect
+     * @return this effect
+     */
+    public HealEffect init(float x, float y) {
+        start(x, y, 1.0f); // 持续1秒
+        spawnTimer = 0f;
+        return this;
     }
     /**
      * Updates the healing effect and periodically spawns healing particles.
@@ -59,10 +78,10 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
      * <p>
      * This effect does not use shape rendering.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
     }
     /**
      * Renders sprite-based visuals.
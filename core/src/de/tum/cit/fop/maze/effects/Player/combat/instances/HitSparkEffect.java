@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -17,6 +17,14 @@ public class HitSparkEffect extends CombatEffect {
     /** Base size of the hit spark visual. */
     private final float size;
     private boolean particlesSpawned = false;
+    private final Color sparkColor = new Color();
+
+    /**
+     * Creates an unstarted hit spark for pooling.
+     */
+    public HitSparkEffect() {
+        this.size = 20f;
+    }
     /**
      * Creates a hit spark effect at the given position.
      *
@@ -24,8 +32,21 @@ public class HitSparkEffect extends CombatEffect {
      * @param y world y-coordinate of the hit location
      */
     public HitSparkEffect(float x, float y) {
-        super(x, y, 0.15f);
-        this.size = 20f;
+        this();
+        init(x, y);
+    }
+
+    /**
+     * Starts the hit spark at the given position.
+     *
+     * @param x world x-coordinate of the hit location
+     * @param y world y-coordinate of the hit location
+     * @return this effect
+     */
+    public HitSparkEffect init(float x, float y) {
+        start(x, y, 0.15f);
+        particlesSpawned = false;
+        return this;
     }
     /**
      * Spawns hit spark particles once at the beginning of the effect.
@@ -38,9 +59,10 @@ protected void onUpdate(float delta, CombatParticleSystem particleSystem) {
         if (!particlesSpawned) {
             particlesSpawned = true;
             for (int i = 0; i < 5; i++) {
+                sparkColor.set(1f, MathUtils.random(0.5f, 1f), 0f, 1f);
                 particleSystem.spawn(
                         x, y,
-                        new Color(1f, MathUtils.random(0.5f, 1f), 0f, 1f),
+                        sparkColor,
                         MathUtils.random(-150, 150),
                         MathUtils.random(-150, 150),
                         MathUtils.random(3, 6),
@@ -56,10 +78,10 @@ protected void onUpdate(float delta, CombatParticleSystem particleSystem) {
      * <p>
      * Draws a fading cross and a small central flash to represent impact.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
         float alpha = 1.0f - (timer / maxDuration);
         sr.setColor(1f, 1f, 0.7f, alpha);
         float s = size * (0.8f + 0.2f * (timer / maxDuration));
@@ -1,8 +1,8 @@
 package de.tum.cit.fop.maze.effects.Player.combat.instances;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -13,9 +13,15 @@
  */
 public class MagicCircleEffect extends CombatEffect {
     /** Radius of the magic circle. */
-    private final float radius;
+    private float radius;
     /** Current rotation angle of the inner glyphs (degrees). */
     private float rotation = 0f;
+
+    /**
+     * Creates an unstarted magic circle for pooling.
+     */
+    public MagicCircleEffect() {
+    }
     /**
      * Creates a magic circle effect.
      *
@@ -25,8 +31,23 @@ public class MagicCircleEffect extends CombatEffect {
      * @param duration total duration of the effect (seconds)
      */
     public MagicCircleEffect(float x, float y, float radius, float duration) {
-        super(x, y, duration);
+        init(x, y, radius, duration);
+    }
+
+    /**
+     * Starts the magic circle.
+     *
+     * @param x        world x-coordinate of the circle center
+     * @param y        world y-coordinate of the circle center
+     * @param radius   radius of the magic circle
+     * @param duration total duration of the effect (seconds)
+     * @return this effect
+     */
+    public MagicCircleEffect init(float x, float y, float radius, float duration) {
+        start(x, y, duration);
         this.radius = radius;
+        this.rotation = 0f;
+        return this;
     }
     /**
      * Updates the rotation of the magic circle glyphs.
@@ -44,10 +65,10 @@ protected void onUpdate(float delta, CombatParticleSystem particleSystem) {
      * Includes outer rings, rotating triangular glyphs,
      * and a pulsing central core.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
         float alpha = 1.0f;
         if (timer < 0.2f) alpha = timer / 0.2f;
         if (timer > maxDuration - 0.2f) alpha = (maxDuration - timer) / 0.2f;
@@ -67,14 +88,14 @@ public void renderShape(ShapeRenderer sr) {
     /**
      * Draws a rotating triangular glyph inside the magic circle.
      *
-     * @param sr          shape renderer
+     * @param sr          effect batcher
      * @param cx          center x-coordinate
      * @param cy          center y-coordinate
      * @param r           radius of the triangle
      * @param angleOffset rotation offset in degrees
      * @param alpha       transparency value
      */
-    private void drawRotatingTriangle(ShapeRenderer sr, float cx, float cy, float r, float angleOffset, float alpha) {
+    private void drawRotatingTriangle(EffectBatcher sr, float cx, float cy, float r, float angleOffset, float alpha) {
         float x1 = cx + r * MathUtils.cosDeg(angleOffset);
         float y1 = cy + r * MathUtils.sinDeg(angleOffset);
         float x2 = cx + r * MathUtils.cosDeg(angleOffset + 120);
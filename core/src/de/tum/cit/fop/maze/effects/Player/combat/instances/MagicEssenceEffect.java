@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -16,9 +16,16 @@
 
 public class MagicEssenceEffect extends CombatEffect {
     /** Target position that the magic essence moves toward. */
-    private final float targetX, targetY;
-    private final float startX, startY;
+    private float targetX, targetY;
+    private float startX, startY;
     private final Color color = new Color(0.7f, 0.3f, 1f, 1f);
+    private static final Color TRAIL_COLOR = new Color(0.8f, 0.5f, 1f, 0.8f);
+
+    /**
+     * Creates an unstarted magic essence for pooling.
+     */
+    public MagicEssenceEffect() {
+    }
     /**
      * Creates a magic essence effect that moves from a source to a target.
      *
@@ -28,11 +35,25 @@ public class MagicEssenceEffect extends CombatEffect {
      * @param targetY target world y-coordinate
      */
     public MagicEssenceEffect(float startX, float startY, float targetX, float targetY) {
-        super(startX, startY, 0.6f);
+        init(startX, startY, targetX, targetY);
+    }
+
+    /**
+     * Starts the essence moving from a source to a target.
+     *
+     * @param startX starting world x-coordinate
+     * @param startY starting world y-coordinate
+     * @param targetX target world x-coordinate
+     * @param targetY target world y-coordinate
+     * @return this effect
+     */
+    public MagicEssenceEffect init(float startX, float startY, float targetX, float targetY) {
+        start(startX, startY, 0.6f);
         this.startX = startX;
         this.startY = startY;
         this.targetX = targetX;
         this.targetY = targetY;
+        return this;
     }
     /**
      * Updates the movement of the magic essence and spawns trailing particles.
@@ -53,7 +74,7 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
             ps.spawn(
                     x + MathUtils.random(-3, 3),
                     y + MathUtils.random(-3, 3),
-                    new Color(0.8f, 0.5f, 1f, 0.8f),
+                    TRAIL_COLOR,
                     0, 0,
                     3, 0.3f, false, false
             );
@@ -64,10 +85,10 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
      * <p>
      * Draws a glowing outer core and a bright inner core.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
         sr.setColor(color);
         sr.circle(x, y, 5);
         sr.setColor(1f, 1f, 1f, 0.8f);
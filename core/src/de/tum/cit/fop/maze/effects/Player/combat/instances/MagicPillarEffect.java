@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
 /**
@@ -15,9 +15,10 @@
  */
 public class MagicPillarEffect extends CombatEffect {
     /** Radius of the pillar's base area. */
-    private final float radius;
+    private float radius;
     /** Visual height of the magic pillar in world units. */
     private final float height = 600f;
+    private static final Color PARTICLE_COLOR = new Color(0.8f, 0.2f, 1f, 1f);
     /**
      * Creates a magic pillar effect at the given position.
      *
@@ -26,8 +27,27 @@ public class MagicPillarEffect extends CombatEffect {
      * @param radius radius of the pillar's area of effect
      */
     public MagicPillarEffect(float x, float y, float radius) {
-        super(x, y, 0.6f);
+        init(x, y, radius);
+    }
+
+    /**
+     * Creates an unstarted magic pillar for pooling.
+     */
+    public MagicPillarEffect() {
+    }
+
+    /**
+     * Starts the magic pillar at the given position.
+     *
+     * @param x      world x-coordinate of the pillar center
+     * @param y      world y-coordinate of the pillar base
+     * @param radius radius of the pillar's area of effect
+     * @return this effect
+     */
+    public MagicPillarEffect init(float x, float y, float radius) {
+        start(x, y, 0.6f);
         this.radius = radius;
+        return this;
     }
     /**
      * Updates the magic pillar effect and spawns rising magic particles.
@@ -50,7 +70,7 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
 
                 ps.spawn(
                         px, py,
-                        new Color(0.8f, 0.2f, 1f, 1f),
+                        PARTICLE_COLOR,
                         0, MathUtils.random(200, 400),
                         MathUtils.random(4, 8),
                         0.5f,
@@ -65,11 +85,11 @@ protected void onUpdate(float delta, CombatParticleSystem ps) {
      * Includes a wide outer column, a brighter inner core,
      * and an expanding ground wave at the base.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
 
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
         float alpha = 1.0f - (timer / maxDuration);
         sr.setColor(0.6f, 0f, 0.8f, alpha * 0.5f);
         sr.rect(x - radius, y, radius * 2, height);
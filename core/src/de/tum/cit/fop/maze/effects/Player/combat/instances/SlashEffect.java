@@ -1,14 +1,11 @@
 package de.tum.cit.fop.maze.effects.Player.combat.instances;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatEffect;
 import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
-
-import java.util.ArrayList;
-import java.util.List;
 /**
  * Combat effect representing a melee slash arc.
  * <p>
@@ -18,15 +15,26 @@
  */
 
 public class SlashEffect extends CombatEffect {
+    private static final int SEGMENTS = 12;
+
     /** Direction angle of the slash in degrees. */
-    private final float rotation;
+    private float rotation;
     /** Visual level of the slash effect (clamped between 1 and 3). */
-    private final int level;
-    private final Color coreColor;
-    private final Color glowColor;
+    private int level;
+    private final Color coreColor = new Color();
+    private final Color glowColor = new Color();
     /** Precomputed points defining the curved slash arc. */
-    private final List<Vector2> arcPoints = new ArrayList<>();
+    private final Vector2[] arcPoints = new Vector2[SEGMENTS + 1];
     private float shockwaveRadius = 0f;
+
+    /**
+     * Creates an unstarted slash for pooling.
+     */
+    public SlashEffect() {
+        for (int i = 0; i < arcPoints.length; i++) {
+            arcPoints[i] = new Vector2();
+        }
+    }
     /**
      * Creates a slash combat effect.
      *
@@ -36,23 +44,38 @@ public class SlashEffect extends CombatEffect {
      * @param level    visual level of the slash effect (1–3)
      */
     public SlashEffect(float x, float y, float rotation, int level) {
-        super(x, y, 0.2f);
+        this();
+        init(x, y, rotation, level);
+    }
+
+    /**
+     * Starts the slash.
+     *
+     * @param x        world x-coordinate of the slash origin
+     * @param y        world y-coordinate of the slash origin
+     * @param rotation direction angle of the slash in degrees
+     * @param level    visual level of the slash effect (1–3)
+     * @return this effect
+     */
+    public SlashEffect init(float x, float y, float rotation, int level) {
+        start(x, y, 0.2f);
         this.rotation = rotation;
         this.level = MathUtils.clamp(level, 1, 3);
+        this.shockwaveRadius = 0f;
 
         if (this.level == 1) {
-            this.coreColor = new Color(1f, 1f, 1f, 0.9f);
-            this.glowColor = new Color(0.8f, 0.8f, 1f, 0.3f);
+            this.coreColor.set(1f, 1f, 1f, 0.9f);
+            this.glowColor.set(0.8f, 0.8f, 1f, 0.3f);
         } else if (this.level == 2) {
-            this.coreColor = new Color(1f, 0.9f, 0.2f, 0.9f);
-            this.glowColor = new Color(1f, 0.5f, 0f, 0.5f);
+            this.coreColor.set(1f, 0.9f, 0.2f, 0.9f);
+            this.glowColor.set(1f, 0.5f, 0f, 0.5f);
         } else {
-            this.coreColor = new Color(0.2f, 1f, 1f, 0.9f);
-            this.glowColor = new Color(0f, 0.5f, 1f, 0.6f);
+            this.coreColor.set(0.2f, 1f, 1f, 0.9f);
+            this.glowColor.set(0f, 0.5f, 1f, 0.6f);
         }
 
         float radius = (level == 3) ? 75f : 55f; // 半径
-        int segments = 12;
+        int segments = SEGMENTS;
         float sweepAngle = 120f;
         float startAngle = rotation - sweepAngle / 2f;
 
@@ -62,8 +85,9 @@ public SlashEffect(float x, float y, float rotation, int level) {
             float r = radius + MathUtils.sin(progress * MathUtils.PI) * 8f;
             float px = x + MathUtils.cosDeg(angle) * r;
             float py = y + MathUtils.sinDeg(angle) * r;
-            arcPoints.add(new Vector2(px, py));
+            arcPoints[i].set(px, py);
         }
+        return this;
     }
     /**
      * Updates the slash effect.
@@ -107,20 +131,20 @@ private void spawnSpark(CombatParticleSystem ps) {
      * The arc consists of a glowing outer trail and a brighter inner core.
      * Level 3 additionally renders a radial shockwave effect.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
 
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
         float p = timer / maxDuration;
         float alpha = 1f - p;
         if (alpha <= 0) return;
 
-        for (int i = 0; i < arcPoints.size() - 1; i++) {
-            Vector2 p1 = arcPoints.get(i);
-            Vector2 p2 = arcPoints.get(i + 1);
+        for (int i = 0; i < arcPoints.length - 1; i++) {
+            Vector2 p1 = arcPoints[i];
+            Vector2 p2 = arcPoints[i + 1];
 
-            float progress = (float) i / (arcPoints.size() - 1);
+            float progress = (float) i / (arcPoints.length - 1);
             float thicknessFactor = MathUtils.sin(progress * MathUtils.PI);
 
             float baseWidth = (level == 3) ? 10f : 6f;
@@ -3,6 +3,7 @@
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.entities.enemy.EnemyBoba.BobaBullet;
 import de.tum.cit.fop.maze.game.GameConstants;
 
@@ -136,8 +137,24 @@ public void render(SpriteBatch batch) {
         } else {
             trailSystem.render(batch);
         }
+    }
+
+    /**
+     * Renders the shape-based bullet effects, the particles and, without
+     * a bullet texture, the fallback bullet shapes, into the current
+     * effect layer.
+     *
+     * @param batcher effect batcher between begin and end
+     */
+    public void renderShapes(EffectBatcher batcher) {
+        if (!isEnabled) return;
 
-        particlePool.render(batch);
+        if (renderMode == RenderMode.MANAGED) {
+            for (BobaBullet bullet : managedBullets) {
+                bulletRenderer.renderShape(bullet, batcher);
+            }
+        }
+        particlePool.renderShapes(batcher);
     }
 
 
@@ -5,7 +5,7 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.entities.enemy.EnemyBoba.BobaBullet;
 import de.tum.cit.fop.maze.game.GameConstants;
 /**
@@ -20,13 +20,10 @@ public class BobaBulletRenderer {
     private float effectIntensity = 1.0f;
     /** Texture region used to render bullet sprites. */
     private TextureRegion bulletTexture;
-    /** Shape renderer used as a fallback when texture rendering fails. */
-    private final ShapeRenderer shapeRenderer;
     /**
      * Creates a new bullet renderer and loads required resources.
      */
     public BobaBulletRenderer() {
-        shapeRenderer = new ShapeRenderer();
         loadTexture();
     }
 
@@ -58,14 +55,14 @@ private void loadTexture() {
      * Renders a single bullet instance.
      * <p>
      * The bullet is rendered using a texture sprite when available.
-     * If the texture cannot be loaded, a simple geometric fallback
-     * rendering is used instead.
+     * If the texture cannot be loaded, nothing is drawn here and the
+     * geometric fallback is drawn by {@link #renderShape}.
      *
      * @param bullet the bullet to render
      * @param batch  the sprite batch used for rendering
      */
     public void render(BobaBullet bullet, SpriteBatch batch) {
-        if (bullet == null || !bullet.isActive()) return;
+        if (bullet == null || !bullet.isActive() || bulletTexture == null) return;
 
         float x = bullet.getRealX() * GameConstants.CELL_SIZE;
         float y = bullet.getRealY() * GameConstants.CELL_SIZE;
@@ -77,34 +74,38 @@ public void render(BobaBullet bullet, SpriteBatch batch) {
         float scaleY = bullet.getScaleY() * effectIntensity;
         float rotation = bullet.getRotation();
 
-        if (bulletTexture != null) {
-            batch.setColor(1f, 1f, 1f, 1f);
-
-            float centerX = x + GameConstants.CELL_SIZE / 2f;
-            float centerY = y + GameConstants.CELL_SIZE / 2f;
-
-            batch.draw(
-                    bulletTexture,
-                    centerX - radius, centerY - radius,
-                    radius, radius,
-                    size, size,
-                    scaleX, scaleY,
-                    rotation
-            );
-        } else {
-            batch.end();
-            shapeRenderer.setProjectionMatrix(batch.getProjectionMatrix());
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-            float centerX = x + GameConstants.CELL_SIZE / 2f;
-            float centerY = y + GameConstants.CELL_SIZE / 2f;
-
-            shapeRenderer.setColor(Color.ORANGE);
-            shapeRenderer.circle(centerX, centerY, radius * Math.min(scaleX, scaleY));
-
-            shapeRenderer.end();
-            batch.begin();
-        }
+        batch.setColor(1f, 1f, 1f, 1f);
+
+        float centerX = x + GameConstants.CELL_SIZE / 2f;
+        float centerY = y + GameConstants.CELL_SIZE / 2f;
+
+        batch.draw(
+                bulletTexture,
+                centerX - radius, centerY - radius,
+                radius, radius,
+                size, size,
+                scaleX, scaleY,
+                rotation
+        );
+    }
+
+    /**
+     * Draws the geometric fallback for a bullet when the texture could
+     * not be loaded; does nothing otherwise.
+     *
+     * @param bullet  the bullet to render
+     * @param batcher effect batcher between begin and end
+     */
+    public void renderShape(BobaBullet bullet, EffectBatcher batcher) {
+        if (bullet == null || !bullet.isActive() || bulletTexture != null) return;
+
+        float radius = GameConstants.CELL_SIZE * 0.25f;
+        float scale = Math.min(bullet.getScaleX(), bullet.getScaleY()) * effectIntensity;
+        float centerX = bullet.getRealX() * GameConstants.CELL_SIZE + GameConstants.CELL_SIZE / 2f;
+        float centerY = bullet.getRealY() * GameConstants.CELL_SIZE + GameConstants.CELL_SIZE / 2f;
+
+        batcher.setColor(Color.ORANGE);
+        batcher.circle(centerX, centerY, radius * scale);
     }
 
     /**
@@ -119,7 +120,6 @@ public void setEffectIntensity(float intensity) {
      * Releases all rendering resources used by this renderer.
      */
     public void dispose() {
-        if (shapeRenderer != null) shapeRenderer.dispose();
         if (bulletTexture != null && bulletTexture.getTexture() != null) {
             bulletTexture.getTexture().dispose();
         }
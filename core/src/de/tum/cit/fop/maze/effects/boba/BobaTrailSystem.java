@@ -1,9 +1,8 @@
 package de.tum.cit.fop.maze.effects.boba;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
+import de.tum.cit.fop.maze.effects.EffectBudget;
+import de.tum.cit.fop.maze.effects.particle.TrailBuffer;
 import de.tum.cit.fop.maze.entities.enemy.EnemyBoba.BobaBullet;
 import de.tum.cit.fop.maze.game.GameConstants;
 
@@ -13,49 +12,43 @@
  * This system attaches fading trail points to active {@link BobaBullet}
  * instances and updates them over time to create a motion blur effect.
  * It is intended for internal use by bullet effect managers.
+ * <p>
+ * Trails live in a {@link TrailBuffer}; every tracked bullet holds a slot
+ * of it (see {@link BobaBullet#getTrailSlot()}). A point stores its base
+ * size in {@code data}; its alpha is the remaining lifetime and its size
+ * shrinks by 5% per 60 Hz frame of age.
  */
 public class BobaTrailSystem {
 
-    private static class TrailPoint {
-        Vector2 position;
-        float size;
-        float alpha;
-        float lifetime;
-
-        TrailPoint(Vector2 pos, float size, float lifetime) {
-            this.position = new Vector2(pos);
-            this.size = size;
-            this.alpha = 0.8f;
-            this.lifetime = lifetime;
-        }
+    /** Maximum number of bullets with a trail; further bullets fly without one. */
+    private static final int MAX_TRAILS = 512;
+    /** Maximum points per trail, the upper bound for {@link #setIntensity(float)}. */
+    private static final int TRAIL_LENGTH = 32;
 
-        void update(float delta) {
-            lifetime -= delta;
-            alpha = Math.max(0, lifetime);
-            size *= 0.95f;
-        }
-    }
-    /** Mapping between bullets and their corresponding trail points. */
-    private ObjectMap<BobaBullet, Array<TrailPoint>> bulletTrails;
+    private final TrailBuffer trails = new TrailBuffer(MAX_TRAILS, TRAIL_LENGTH);
+    /** Tracked bullet per trail slot. */
+    private final BobaBullet[] bullets = new BobaBullet[MAX_TRAILS];
+    /** Trail clock in seconds; restarts whenever no points are left. */
+    private float clock = 0f;
     /** Intensity factor controlling trail size and density. */
     private float trailIntensity = 0.7f;
     private float trailLifetime = 0.5f;
     private int maxPointsPerBullet = 15;
-    /**
-     * Creates a new trail system.
-     */
-    public BobaTrailSystem() {
-        bulletTrails = new ObjectMap<>();
-    }
+    /** Total trail points across bullets; trail length per bullet follows the quality tier. */
+    private final EffectBudget.Allowance allowance =
+            EffectBudget.getInstance().register("boba trails", 1500);
     /**
      * Starts tracking a bullet to generate trail effects.
      *
      * @param bullet the bullet to track
      */
     public void trackBullet(BobaBullet bullet) {
-        if (bullet == null || bulletTrails.containsKey(bullet)) return;
+        if (bullet == null || bullet.getTrailSlot() >= 0) return;
 
-        bulletTrails.put(bullet, new Array<TrailPoint>());
+        int slot = trails.acquire();
+        if (slot < 0) return;
+        bullets[slot] = bullet;
+        bullet.setTrailSlot(slot);
     }
     /**
      * Stops tracking a bullet and removes its trail.
@@ -66,7 +59,11 @@ public void trackBullet(BobaBullet bullet) {
     public void untrackBullet(BobaBullet bullet) {
         if (bullet == null) return;
 
-        bulletTrails.remove(bullet);
+        int slot = bullet.getTrailSlot();
+        if (slot < 0 || bullets[slot] != bullet) return;
+        trails.release(slot);
+        bullets[slot] = null;
+        bullet.setTrailSlot(-1);
     }
     /**
      * Updates all trail points for tracked bullets.
@@ -75,37 +72,26 @@ public void untrackBullet(BobaBullet bullet) {
      */
 
     public void update(float delta) {
-        for (ObjectMap.Entry<BobaBullet, Array<TrailPoint>> entry : bulletTrails.entries()) {
-            BobaBullet bullet = entry.key;
-            Array<TrailPoint> trail = entry.value;
+        if (trails.size() == 0) clock = 0f;
+        clock += delta;
 
-            if (bullet.isActive()) {
-                Vector2 currentPos = new Vector2(bullet.getRealX(), bullet.getRealY());
-                addTrailPoint(bullet, currentPos);
-            }
+        int maxPoints = Math.min(TRAIL_LENGTH, allowance.scaleTrail(maxPointsPerBullet));
+        float baseSize = GameConstants.CELL_SIZE * 0.15f * trailIntensity;
+        float expired = clock - trailLifetime;
 
-            for (int i = trail.size - 1; i >= 0; i--) {
-                TrailPoint point = trail.get(i);
-                point.update(delta);
+        for (int slot = 0; slot < MAX_TRAILS; slot++) {
+            BobaBullet bullet = bullets[slot];
+            if (bullet == null) continue;
 
-                if (point.lifetime <= 0) {
-                    trail.removeIndex(i);
+            if (bullet.isActive()) {
+                trails.trim(slot, maxPoints - 1);
+                if (allowance.trySpawn()) {
+                    trails.append(slot, bullet.getRealX(), bullet.getRealY(), clock, baseSize);
                 }
             }
+            trails.expire(slot, expired);
         }
-    }
-
-    private void addTrailPoint(BobaBullet bullet, Vector2 position) {
-        Array<TrailPoint> trail = bulletTrails.get(bullet);
-        if (trail == null) return;
-
-        if (trail.size >= maxPointsPerBullet) {
-            trail.removeIndex(0);
-        }
-
-        float baseSize = GameConstants.CELL_SIZE * 0.15f * trailIntensity;
-        TrailPoint point = new TrailPoint(position, baseSize, trailLifetime);
-        trail.add(point);
+        allowance.report(trails.size());
     }
     /**
      * Renders all active bullet trails.
@@ -128,7 +114,13 @@ public void setIntensity(float intensity) {
      * Removes all trail data for all bullets.
      */
     public void clearAllTrails() {
-        bulletTrails.clear();
+        for (int slot = 0; slot < MAX_TRAILS; slot++) {
+            if (bullets[slot] != null) {
+                bullets[slot].setTrailSlot(-1);
+                bullets[slot] = null;
+            }
+        }
+        trails.clear();
     }
     /**
      * Returns the total number of active trail points.
@@ -136,11 +128,7 @@ public void clearAllTrails() {
      * @return active trail point count
      */
     public int getActiveParticleCount() {
-        int count = 0;
-        for (Array<TrailPoint> trail : bulletTrails.values()) {
-            count += trail.size;
-        }
-        return count;
+        return trails.size();
     }
 
     public void resetStats() {
@@ -151,4 +139,4 @@ public void resetStats() {
     public void dispose() {
         clearAllTrails();
     }
-}
\ No newline at end of file
+}
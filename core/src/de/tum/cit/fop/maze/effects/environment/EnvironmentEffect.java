@@ -1,7 +1,7 @@
 package de.tum.cit.fop.maze.effects.environment;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 /**
  * Base class for all environment-related visual effects.
  * <p>
@@ -57,9 +57,9 @@ public void update(float delta, EnvironmentParticleSystem ps) {
     /**
      * Renders shape-based visuals of the effect.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
-    public abstract void renderShape(ShapeRenderer sr);
+    public abstract void renderShape(EffectBatcher sr);
 
     /**
      * Renders sprite-based visuals of the effect.
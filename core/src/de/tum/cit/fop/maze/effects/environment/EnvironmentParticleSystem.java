@@ -1,9 +1,9 @@
 package de.tum.cit.fop.maze.effects.environment;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.utils.Array;
-import java.util.Iterator;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
+import de.tum.cit.fop.maze.effects.EffectBudget;
+import de.tum.cit.fop.maze.effects.particle.ParticleEngine;
 
 /**
  * Generic particle system for environment-related visual effects.
@@ -21,82 +21,43 @@ public enum Shape {
         CIRCLE,
         TRIANGLE
     }
+    /** Maximum number of live particles per system. */
+    public static final int CAPACITY = 4096;
+
+    private final ParticleEngine engine = new ParticleEngine(CAPACITY);
+    private final EffectBudget.Allowance allowance;
+
     /**
-     * Data container representing a single environment particle.
-     * <p>
-     * Stores position, movement, lifetime, and rendering parameters.
+     * Creates a particle system with its own effect budget entry.
+     *
+     * @param budgetName name of the budget entry, shared by systems with the same name
      */
-    public static class EnvParticle {
-        /** World x-coordinate of the particle. */
-        public float x, y;
-        /** Velocity of the particle. */
-        public float vx, vy;
-        /** Remaining lifetime of the particle. */
-        public float life, maxLife;
-        /** Visual size of the particle. */
-        public float size;
-        /** Base color of the particle. */
-        public Color color = new Color();
-        /** Whether gravity affects the particle. */
-        public boolean gravity = false;
-        /** Whether friction is applied to the particle. */
-        public boolean friction = false;
-        /** Shape used to render the particle. */
-        public Shape shape = Shape.RECTANGLE;
-        /**
-         * Updates particle movement and lifetime.
-         *
-         * @param dt time elapsed since last frame (seconds)
-         */
-        public void update(float dt) {
-            x += vx * dt;
-            y += vy * dt;
-            if (gravity) vy -= 800f * dt;
-            if (friction) { vx *= 0.95f; vy *= 0.95f; }
-            life -= dt;
-        }
+    public EnvironmentParticleSystem(String budgetName) {
+        this.allowance = EffectBudget.getInstance().register(budgetName, CAPACITY);
+    }
+
+    /**
+     * Creates a particle system on the shared environment budget entry.
+     */
+    public EnvironmentParticleSystem() {
+        this("environment particles");
     }
-    /** List of active environment particles. */
-    private Array<EnvParticle> particles = new Array<>();
     /**
      * Updates all active particles and removes expired ones.
      *
      * @param delta time elapsed since last frame (seconds)
      */
     public void update(float delta) {
-        Iterator<EnvParticle> it = particles.iterator();
-        while (it.hasNext()) {
-            EnvParticle p = it.next();
-            p.update(delta);
-            if (p.life <= 0) it.remove();
-        }
+        engine.update(delta);
+        allowance.report(engine.size());
     }
     /**
      * Renders all active particles using shape rendering.
      *
-     * @param sr shape renderer
+     * @param sr effect batcher
      */
-    public void render(ShapeRenderer sr) {
-        for (EnvParticle p : particles) {
-            float alpha = p.life / p.maxLife;
-            sr.setColor(p.color.r, p.color.g, p.color.b, alpha);
-
-            switch (p.shape) {
-                case CIRCLE:
-                    sr.circle(p.x, p.y, p.size / 2);
-                    break;
-                case TRIANGLE:
-                    float half = p.size / 2;
-                    sr.triangle(p.x, p.y + half,
-                            p.x - half, p.y - half,
-                            p.x + half, p.y - half);
-                    break;
-                case RECTANGLE:
-                default:
-                    sr.rect(p.x - p.size/2, p.y - p.size/2, p.size, p.size);
-                    break;
-            }
-        }
+    public void render(EffectBatcher sr) {
+        engine.render(sr);
     }
 
     /**
@@ -114,17 +75,23 @@ public void render(ShapeRenderer sr) {
      * @param shape    rendering shape of the particle
      */
     public void spawn(float x, float y, Color c, float vx, float vy, float size, float life, boolean gravity, boolean friction, Shape shape) {
-        EnvParticle p = new EnvParticle();
-        p.x = x; p.y = y;
-        p.vx = vx; p.vy = vy;
-        p.color.set(c);
-        p.maxLife = life;
-        p.life = life;
-        p.size = size;
-        p.gravity = gravity;
-        p.friction = friction;
-        p.shape = shape;
-        particles.add(p);
+        byte engineShape;
+        switch (shape) {
+            case CIRCLE:
+                engineShape = ParticleEngine.SHAPE_CIRCLE;
+                break;
+            case TRIANGLE:
+                engineShape = ParticleEngine.SHAPE_TRIANGLE;
+                break;
+            default:
+                engineShape = ParticleEngine.SHAPE_RECT;
+                break;
+        }
+        if (!allowance.trySpawn()) return;
+        int i = engine.spawn(x, y, vx, vy, size, allowance.scaleLife(life), c.r, c.g, c.b, 1f, engineShape);
+        if (i < 0) return;
+        if (gravity) engine.ay[i] = -800f;
+        if (friction) engine.drag[i] = 0.95f;
     }
 
     /**
@@ -137,6 +104,6 @@ public void spawn(float x, float y, Color c, float vx, float vy, float size, flo
      * Removes all active particles.
      */
     public void clear() {
-        particles.clear();
+        engine.clear();
     }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package de.tum.cit.fop.maze.effects.environment.items;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentEffect;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentParticleSystem;
 import de.tum.cit.fop.maze.utils.Logger;
@@ -31,7 +29,7 @@ public class ItemEffectManager {
      */
     public ItemEffectManager() {
         this.effects = new Array<>();
-        this.particleSystem = new EnvironmentParticleSystem();
+        this.particleSystem = new EnvironmentParticleSystem("item particles");
     }
 
 
@@ -103,25 +101,22 @@ public void update(float delta) {
 
     /**
      * Renders all shape-based visuals for item effects.
+     * <p>
+     * The batcher must be between {@link EffectBatcher#begin} and
+     * {@link EffectBatcher#end}.
      *
-     * @param sr the shape renderer
+     * @param sr the effect batcher
      */
-    public void renderShapes(ShapeRenderer sr) {
+    public void renderShapes(EffectBatcher sr) {
         if (sr == null) {
-            Logger.warning("ShapeRenderer is null, cannot render item effect shapes");
+            Logger.warning("EffectBatcher is null, cannot render item effect shapes");
             return;
         }
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        sr.begin(ShapeRenderer.ShapeType.Filled);
 
         for (EnvironmentEffect effect : effects) {
             effect.renderShape(sr);
         }
         particleSystem.render(sr);
-
-        sr.end();
     }
 
     /**
@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentEffect;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentParticleSystem;
 /**
@@ -51,10 +51,10 @@ protected void onUpdate(float delta, EnvironmentParticleSystem ps) {
     /**
      * Renders a brief warning shape before the geyser activates.
      *
-     * @param sr the shape renderer
+     * @param sr the effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
         if (timer < 0.2f) {
             sr.setColor(1f, 0.2f, 0.2f, (0.2f - timer) * 2f); // 淡红 -> 透明
             sr.circle(x, y, 20);
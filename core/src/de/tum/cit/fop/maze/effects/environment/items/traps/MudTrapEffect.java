@@ -2,8 +2,8 @@
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentEffect;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentParticleSystem;
 /**
@@ -54,10 +54,10 @@ protected void onUpdate(float delta, EnvironmentParticleSystem ps) {
      * <p>
      * This effect does not use shape rendering.
      *
-     * @param sr the shape renderer
+     * @param sr the effect batcher
      */
     @Override
-    public void renderShape(ShapeRenderer sr) {
+    public void renderShape(EffectBatcher sr) {
     }
     /**
      * Renders sprite-based visuals for the mud trap effect.
@@ -1,10 +1,8 @@
 package de.tum.cit.fop.maze.effects.environment.items.traps;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentEffect;
 import de.tum.cit.fop.maze.effects.environment.EnvironmentParticleSystem;
 import de.tum.cit.fop.maze.utils.Logger;
@@ -27,7 +25,7 @@ public class TrapEffectManager {
      */
     public TrapEffectManager() {
         this.effects = new Array<>();
-        this.particleSystem = new EnvironmentParticleSystem();
+        this.particleSystem = new EnvironmentParticleSystem("trap particles");
     }
 
     /**
@@ -85,26 +83,23 @@ public void update(float delta) {
 
     /**
      * Renders all shape-based visuals for trap effects.
+     * <p>
+     * The batcher must be between {@link EffectBatcher#begin} and
+     * {@link EffectBatcher#end}.
      *
-     * @param sr the shape renderer
+     * @param sr the effect batcher
      */
-    public void renderShapes(ShapeRenderer sr) {
+    public void renderShapes(EffectBatcher sr) {
         if (sr == null) {
-            Logger.warning("ShapeRenderer is null, cannot render trap effect shapes");
+            Logger.warning("EffectBatcher is null, cannot render trap effect shapes");
             return;
         }
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        sr.begin(ShapeRenderer.ShapeType.Filled);
 
         for (EnvironmentEffect effect : effects) {
             effect.renderShape(sr);
         }
 
         particleSystem.render(sr);
-
-        sr.end();
     }
     /**
      * Renders all sprite-based visuals for trap effects.
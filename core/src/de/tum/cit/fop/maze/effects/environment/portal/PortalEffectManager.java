@@ -6,6 +6,7 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.particle.PortalParticleEmitter;
 import de.tum.cit.fop.maze.game.GameConstants;
 
 /**
@@ -35,7 +36,7 @@ public enum PortalOwner {
 
 
     private State currentState = State.IDLE;
-    private PortalParticlePool particlePool;
+    private PortalParticleEmitter particlePool;
     private Texture glowTexture;
 
     private float timer = 0f;
@@ -48,7 +49,7 @@ public enum PortalOwner {
      * Creates a portal effect manager for door-based portals.
      */
     public PortalEffectManager() {
-        this.particlePool = new PortalParticlePool();
+        this.particlePool = new PortalParticleEmitter();
         createGlowTexture();
     }
     /**
@@ -58,7 +59,7 @@ public PortalEffectManager() {
      */
     public PortalEffectManager(PortalOwner owner) {
         this.owner = owner;
-        this.particlePool = new PortalParticlePool();
+        this.particlePool = new PortalParticleEmitter();
         createGlowTexture();
     }
 
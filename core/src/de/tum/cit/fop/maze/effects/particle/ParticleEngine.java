@@ -0,0 +1,217 @@
+package de.tum.cit.fop.maze.effects.particle;
+
+import de.tum.cit.fop.maze.effects.EffectBatcher;
+/**
+ * Fixed-capacity particle store shared by all particle emitters.
+ * <p>
+ * Particles are kept as a structure of arrays: every attribute lives in
+ * its own primitive array and particle {@code i} is index {@code i} in
+ * each of them. Live particles are always packed into
+ * {@code [0, size())}; an expired particle is replaced by the last one
+ * (swap-remove), so updating is a single linear pass and neither spawning
+ * nor expiring allocates. When the store is full, new particles are
+ * dropped.
+ * <p>
+ * Every particle moves linearly with a constant acceleration, a per-update
+ * velocity damping and a size growth rate, and fades out with its
+ * remaining lifetime. Emitters with other motion, such as the portal
+ * spirals, interpret the arrays themselves (see {@link PortalParticleEmitter}).
+ * The arrays are public for emitters that render particles themselves;
+ * only indices below {@link #size()} hold live particles.
+ */
+public class ParticleEngine {
+
+    /** Shapes drawn by {@link #render(EffectBatcher)}. */
+    public static final byte SHAPE_RECT = 0;
+    /** A square with a thin cross through it, used for sparks. */
+    public static final byte SHAPE_SPARK = 1;
+    public static final byte SHAPE_CIRCLE = 2;
+    public static final byte SHAPE_TRIANGLE = 3;
+
+    /** Position. */
+    public final float[] x, y;
+    /** Velocity per second. */
+    public final float[] vx, vy;
+    /** Acceleration per second squared. */
+    public final float[] ax, ay;
+    /** Velocity multiplier applied on every update, 1 for none. */
+    public final float[] drag;
+    /** Remaining and initial lifetime in seconds. */
+    public final float[] life, maxLife;
+    /** Size and its change per second. */
+    public final float[] size, growth;
+    /** Color; alpha is multiplied by the remaining lifetime fraction. */
+    public final float[] r, g, b, a;
+    /** Free value for emitters. */
+    public final float[] data;
+    /** Shape drawn by {@link #render(EffectBatcher)}. */
+    public final byte[] shape;
+
+    private final int capacity;
+    private int count = 0;
+    private float minSize = 0f;
+
+    /**
+     * @param capacity maximum number of live particles
+     */
+    public ParticleEngine(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        ax = new float[capacity];
+        ay = new float[capacity];
+        drag = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new float[capacity];
+        growth = new float[capacity];
+        r = new float[capacity];
+        g = new float[capacity];
+        b = new float[capacity];
+        a = new float[capacity];
+        data = new float[capacity];
+        shape = new byte[capacity];
+    }
+
+    /**
+     * Sets the size particles stop shrinking at.
+     *
+     * @param minSize lower bound for particle sizes
+     */
+    public void setMinSize(float minSize) {
+        this.minSize = minSize;
+    }
+
+    /**
+     * Adds a particle that moves linearly. Acceleration, drag, growth and
+     * the free value start neutral and can be set on the returned index.
+     *
+     * @return index of the new particle, or -1 if the store is full
+     */
+    public int spawn(float px, float py, float pvx, float pvy, float psize, float plife,
+                     float cr, float cg, float cb, float ca, byte pshape) {
+        if (count == capacity) return -1;
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        ax[i] = 0f;
+        ay[i] = 0f;
+        drag[i] = 1f;
+        life[i] = plife;
+        maxLife[i] = plife;
+        size[i] = psize;
+        growth[i] = 0f;
+        r[i] = cr;
+        g[i] = cg;
+        b[i] = cb;
+        a[i] = ca;
+        data[i] = 0f;
+        shape[i] = pshape;
+        return i;
+    }
+
+    /**
+     * Advances all particles and removes expired ones.
+     *
+     * @param delta time elapsed since last frame (seconds)
+     */
+    public void update(float delta) {
+        int i = 0;
+        while (i < count) {
+            float l = life[i] - delta;
+            if (l <= 0f) {
+                remove(i);
+                continue;
+            }
+            life[i] = l;
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            vx[i] = (vx[i] + ax[i] * delta) * drag[i];
+            vy[i] = (vy[i] + ay[i] * delta) * drag[i];
+            float s = size[i] + growth[i] * delta;
+            size[i] = s < minSize ? minSize : s;
+            i++;
+        }
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        ax[i] = ax[last];
+        ay[i] = ay[last];
+        drag[i] = drag[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        growth[i] = growth[last];
+        r[i] = r[last];
+        g[i] = g[last];
+        b[i] = b[last];
+        a[i] = a[last];
+        data[i] = data[last];
+        shape[i] = shape[last];
+    }
+
+    /**
+     * Draws all particles with their shape. The batcher must be between
+     * {@link EffectBatcher#begin} and {@link EffectBatcher#end}.
+     *
+     * @param sr effect batcher used for drawing particles
+     */
+    public void render(EffectBatcher sr) {
+        for (int i = 0; i < count; i++) {
+            sr.setColor(r[i], g[i], b[i], a[i] * (life[i] / maxLife[i]));
+            float px = x[i];
+            float py = y[i];
+            float s = size[i];
+            float half = s / 2f;
+            switch (shape[i]) {
+                case SHAPE_CIRCLE:
+                    sr.circle(px, py, half);
+                    break;
+                case SHAPE_TRIANGLE:
+                    sr.triangle(px, py + half, px - half, py - half, px + half, py - half);
+                    break;
+                case SHAPE_SPARK:
+                    sr.rect(px - half, py - half, s, s);
+                    if (s > 4) {
+                        sr.rectLine(px - s, py, px + s, py, 1);
+                        sr.rectLine(px, py - s, px, py + s, 1);
+                    }
+                    break;
+                default:
+                    sr.rect(px - half, py - half, s, s);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @return number of live particles
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return maximum number of live particles
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all particles.
+     */
+    public void clear() {
+        count = 0;
+    }
+}
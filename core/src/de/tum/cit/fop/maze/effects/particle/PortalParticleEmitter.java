@@ -0,0 +1,184 @@
+package de.tum.cit.fop.maze.effects.particle;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.EffectBudget;
+/**
+ * Spiral (tornado-like) particles rising from a portal center.
+ * <p>
+ * The particles live in a {@link ParticleEngine} in portal-local
+ * coordinates: {@code x} is the spiral angle, {@code y} the height above
+ * the center, {@code size} the spiral radius and {@code data} the visual
+ * scale. The engine advances them linearly; the world position is derived
+ * from the current portal center when rendering, so particles follow a
+ * moving portal.
+ */
+public class PortalParticleEmitter {
+
+    private static final int CAPACITY = 512;
+    private static final float ANGULAR_SPEED = 8.0f;
+    private static final float RADIUS_SHRINK = 10.0f;
+    private static final float MIN_RADIUS = 5f;
+
+    private final ParticleEngine engine = new ParticleEngine(CAPACITY);
+    private final EffectBudget.Allowance allowance =
+            EffectBudget.getInstance().register("portal particles", CAPACITY);
+    private Texture trailTexture;
+    private float centerX, centerY;
+
+    private final Color startColor = new Color(0.2f, 0.8f, 1.0f, 1f); // 亮青色
+    private final Color endColor = new Color(0.1f, 0.1f, 0.9f, 0f);   // 深蓝透明
+    /**
+     * Creates a new emitter and the trail texture used for rendering.
+     */
+    public PortalParticleEmitter() {
+        engine.setMinSize(MIN_RADIUS);
+        createTrailTexture();
+    }
+
+    /**
+     * Generates a vertical gradient texture used for particle trails.
+     * <p>
+     * The texture fades out toward its edges to create
+     * a smooth glowing trail effect when rendered with additive blending.
+     */
+    private void createTrailTexture() {
+        int width = 8;
+        int height = 32;
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                float distY = Math.abs(y - height / 2f) / (height / 2f); // 0(中心) -> 1(两端)
+                float distX = Math.abs(x - width / 2f) / (width / 2f);
+
+                float alpha = (1.0f - distY) * (1.0f - distX);
+                alpha = MathUtils.clamp(alpha, 0f, 1f);
+
+                pixmap.setColor(1, 1, 1, alpha);
+                pixmap.drawPixel(x, y);
+            }
+        }
+        trailTexture = new Texture(pixmap);
+        pixmap.dispose();
+    }
+
+    /**
+     * Spawns a small burst of spiral particles around a portal center.
+     *
+     * @param centerX    portal center x-coordinate
+     * @param centerY    portal center y-coordinate
+     * @param baseRadius base radius of the particle spiral
+     */
+    public void spawnTornadoParticles(float centerX, float centerY, float baseRadius) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        int count = allowance.scaleCount(MathUtils.random(3, 6));
+
+        for (int n = 0; n < count; n++) {
+            if (!allowance.trySpawn()) return;
+            float angle = MathUtils.random(0f, 360f) * MathUtils.degreesToRadians;
+            float radius = baseRadius * MathUtils.random(0.5f, 1.5f);
+            float speed = MathUtils.random(100f, 200f);
+            float life = allowance.scaleLife(MathUtils.random(0.8f, 1.2f));
+
+            int i = engine.spawn(angle, 0f, ANGULAR_SPEED, speed, radius, life,
+                    1f, 1f, 1f, 1f, ParticleEngine.SHAPE_RECT);
+            if (i < 0) return;
+            engine.growth[i] = -RADIUS_SHRINK;
+            engine.data[i] = MathUtils.random(0.6f, 1.2f);
+        }
+    }
+
+    /**
+     * Updates all particles and removes expired ones.
+     *
+     * @param delta   time elapsed since last frame
+     * @param centerX portal center x-coordinate
+     * @param centerY portal center y-coordinate
+     */
+    public void update(float delta, float centerX, float centerY) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        engine.update(delta);
+        allowance.report(engine.size());
+    }
+
+    /**
+     * Renders all particles using additive blending.
+     *
+     * @param batch sprite batch used for rendering
+     */
+    public void render(SpriteBatch batch) {
+        int count = engine.size();
+        if (count == 0) return;
+
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        float oldColor = batch.getPackedColor();
+
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+
+        float[] angles = engine.x;
+        float[] heights = engine.y;
+        float[] rises = engine.vy;
+        float[] radii = engine.size;
+        float[] scales = engine.data;
+        int texWidth = trailTexture.getWidth();
+        int texHeight = trailTexture.getHeight();
+
+        for (int i = 0; i < count; i++) {
+            float progress = 1f - engine.life[i] / engine.maxLife[i];
+
+            batch.setColor(
+                    MathUtils.lerp(startColor.r, endColor.r, progress),
+                    MathUtils.lerp(startColor.g, endColor.g, progress),
+                    MathUtils.lerp(startColor.b, endColor.b, progress),
+                    (1.0f - progress)
+            );
+
+            float cos = MathUtils.cos(angles[i]);
+            float sin = MathUtils.sin(angles[i]);
+            float radius = radii[i];
+            float px = centerX + cos * radius;
+            float py = centerY + sin * radius * 0.3f + heights[i];
+
+            // Direction of motion along the spiral.
+            float shrink = radius > MIN_RADIUS ? -RADIUS_SHRINK : 0f;
+            float dx = -sin * radius * ANGULAR_SPEED + cos * shrink;
+            float dy = (cos * radius * ANGULAR_SPEED + sin * shrink) * 0.3f + rises[i];
+            float rotation = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees - 90;
+
+            float scale = scales[i];
+            float width = 8f * scale * (1f - progress);
+            float height = 30f * scale;
+
+            batch.draw(trailTexture,
+                    px - width / 2, py - height / 2,
+                    width / 2, height / 2,
+                    width, height,
+                    1f, 1f,
+                    rotation,
+                    0, 0, texWidth, texHeight, false, false
+            );
+        }
+
+        batch.setPackedColor(oldColor);
+        batch.setBlendFunction(srcFunc, dstFunc);
+    }
+
+    /**
+     * @return number of live particles
+     */
+    public int getActiveCount() {
+        return engine.size();
+    }
+
+    public void dispose() {
+        if (trailTexture != null) trailTexture.dispose();
+    }
+}
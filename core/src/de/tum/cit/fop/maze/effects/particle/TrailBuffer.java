@@ -0,0 +1,205 @@
+package de.tum.cit.fop.maze.effects.particle;
+/**
+ * Fixed-capacity store for motion trails of many entities.
+ * <p>
+ * Each tracked entity owns a slot, acquired with {@link #acquire()} and
+ * kept for its lifetime; the slot id is stable and is what owners store
+ * on the entity instead of looking trails up in a map. A slot is a ring
+ * of {@code length} points in primitive arrays: point {@code k} of slot
+ * {@code s} lives at index {@code s * length + k}. Points are appended at
+ * the tail and expire from the head, both in O(1), and nothing is
+ * allocated after construction. A full ring overwrites its oldest point.
+ * <p>
+ * Points carry the time they were added rather than a remaining
+ * lifetime, so expiring and fading need no per-point update: owners keep
+ * a clock, pass it to {@link #append} and derive a point's age from it.
+ */
+public class TrailBuffer {
+
+    /** Point position. */
+    public final float[] x, y;
+    /** Owner clock value when the point was added. */
+    public final float[] time;
+    /** Free value for owners. */
+    public final float[] data;
+
+    private final int slots;
+    private final int length;
+    private final int[] head;
+    private final int[] count;
+    private final boolean[] used;
+    private final int[] freeSlots;
+    private int freeCount;
+    private int points = 0;
+
+    /**
+     * @param slots  maximum number of tracked entities
+     * @param length maximum points per trail
+     */
+    public TrailBuffer(int slots, int length) {
+        this.slots = slots;
+        this.length = length;
+        x = new float[slots * length];
+        y = new float[slots * length];
+        time = new float[slots * length];
+        data = new float[slots * length];
+        head = new int[slots];
+        count = new int[slots];
+        used = new boolean[slots];
+        freeSlots = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            freeSlots[i] = slots - 1 - i;
+        }
+        freeCount = slots;
+    }
+
+    /**
+     * Reserves an empty trail.
+     *
+     * @return slot id, or -1 if all slots are taken
+     */
+    public int acquire() {
+        if (freeCount == 0) return -1;
+        int slot = freeSlots[--freeCount];
+        used[slot] = true;
+        head[slot] = 0;
+        count[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * Drops a trail and frees its slot.
+     *
+     * @param slot slot id from {@link #acquire()}
+     */
+    public void release(int slot) {
+        if (slot < 0 || !used[slot]) return;
+        points -= count[slot];
+        count[slot] = 0;
+        used[slot] = false;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * @param slot slot id
+     * @return whether the slot is held by an entity
+     */
+    public boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    /**
+     * Appends a point to a trail, overwriting its oldest point when full.
+     *
+     * @return array index of the new point
+     */
+    public int append(int slot, float px, float py, float ptime, float pdata) {
+        if (count[slot] == length) {
+            dropOldest(slot);
+        }
+        int i = index(slot, count[slot]);
+        count[slot]++;
+        points++;
+        x[i] = px;
+        y[i] = py;
+        time[i] = ptime;
+        data[i] = pdata;
+        return i;
+    }
+
+    /**
+     * Removes points added before a given time. Points are appended in
+     * time order, so only the head of the ring is inspected.
+     *
+     * @param slot   slot id
+     * @param before owner clock value; older points are removed
+     */
+    public void expire(int slot, float before) {
+        while (count[slot] > 0 && time[slot * length + head[slot]] <= before) {
+            dropOldest(slot);
+        }
+    }
+
+    /**
+     * Removes the oldest points until at most {@code maxPoints} remain.
+     *
+     * @param slot      slot id
+     * @param maxPoints number of points to keep
+     */
+    public void trim(int slot, int maxPoints) {
+        while (count[slot] > Math.max(0, maxPoints)) {
+            dropOldest(slot);
+        }
+    }
+
+    private void dropOldest(int slot) {
+        head[slot] = head[slot] + 1 == length ? 0 : head[slot] + 1;
+        count[slot]--;
+        points--;
+    }
+
+    /**
+     * @param slot slot id
+     * @return number of points in the trail
+     */
+    public int count(int slot) {
+        return count[slot];
+    }
+
+    /**
+     * Returns the array index of a point, counting from the oldest.
+     *
+     * @param slot slot id
+     * @param k    point number, 0 for the oldest
+     * @return index into the point arrays
+     */
+    public int index(int slot, int k) {
+        int i = head[slot] + k;
+        if (i >= length) i -= length;
+        return slot * length + i;
+    }
+
+    /**
+     * @return total number of points over all trails
+     */
+    public int size() {
+        return points;
+    }
+
+    /**
+     * @return maximum number of tracked entities
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * @return maximum points per trail
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Removes all points and keeps the slots held.
+     */
+    public void clearPoints() {
+        for (int s = 0; s < slots; s++) {
+            head[s] = 0;
+            count[s] = 0;
+        }
+        points = 0;
+    }
+
+    /**
+     * Removes all points and frees all slots.
+     */
+    public void clear() {
+        clearPoints();
+        freeCount = 0;
+        for (int s = slots - 1; s >= 0; s--) {
+            used[s] = false;
+            freeSlots[freeCount++] = s;
+        }
+    }
+}
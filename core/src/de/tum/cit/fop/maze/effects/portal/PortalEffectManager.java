@@ -6,6 +6,7 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.effects.particle.PortalParticleEmitter;
 import de.tum.cit.fop.maze.game.GameConstants;
 
 /**
@@ -29,7 +30,7 @@ public enum PortalOwner {
 
 
     private State currentState = State.IDLE;
-    private PortalParticlePool particlePool;
+    private PortalParticleEmitter particlePool;
     private Texture glowTexture;
 
     private float timer = 0f;
@@ -43,7 +44,7 @@ public enum PortalOwner {
      */
 
     public PortalEffectManager() {
-        this.particlePool = new PortalParticlePool();
+        this.particlePool = new PortalParticleEmitter();
         createGlowTexture();
     }
     /**
@@ -54,7 +55,7 @@ public PortalEffectManager() {
 
     public PortalEffectManager(PortalOwner owner) {
         this.owner = owner;
-        this.particlePool = new PortalParticlePool();
+        this.particlePool = new PortalParticleEmitter();
         createGlowTexture();
     }
 
@@ -300,6 +300,13 @@ public void renderPortalBack(SpriteBatch batch) {
         );
     }
 
+    /**
+     * @return the side of the wall the door opens to
+     */
+    public DoorDirection getDirection() {
+        return direction;
+    }
+
     @Override
     public String getPositionString() {
         return "(" + x + ", " + y + ", " + direction + ")";
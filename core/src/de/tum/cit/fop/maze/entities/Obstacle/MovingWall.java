@@ -213,6 +213,32 @@ public void update(float delta, GameManager gm) {
         }
     }
 
+    public int getStartX() { return startX; }
+    public int getStartY() { return startY; }
+    public int getEndX() { return endX; }
+    public int getEndY() { return endY; }
+    /** @return whether the wall is moving from start towards end */
+    public boolean isForward() { return forward; }
+
+    /**
+     * Places the wall on a cell of its track when restoring a saved world.
+     * Any movement in progress is dropped.
+     *
+     * @param cx      grid x-position on the track
+     * @param cy      grid y-position on the track
+     * @param forward whether the wall moves towards its end position
+     */
+    public void restorePosition(int cx, int cy, boolean forward) {
+        this.x = cx;
+        this.y = cy;
+        this.worldX = cx;
+        this.worldY = cy;
+        this.targetX = cx;
+        this.targetY = cy;
+        this.isMoving = false;
+        this.forward = forward;
+    }
+
     /**
      * Checks whether this wall occupies the given grid cell,
      * including its current movement target.
@@ -20,6 +20,7 @@
 import de.tum.cit.fop.maze.abilities.AbilityManager;
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.entities.*;
 import de.tum.cit.fop.maze.entities.boss.config.*;
 import de.tum.cit.fop.maze.entities.enemy.Enemy;
@@ -35,7 +36,6 @@
 import de.tum.cit.fop.maze.utils.CameraManager;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 /**
  * Main screen responsible for handling the entire boss fight.
  * <p>
@@ -212,7 +212,18 @@ private static class BossAOE {
      * @param game main game instance
      */
     public BossFightScreen(MazeRunnerGame game) {
+        this(game, new BossPhasePreloader());
+    }
+    /**
+     * Creates the boss fight screen using phase mazes that are already
+     * being generated, typically by {@link BossLoadingScreen}.
+     *
+     * @param game main game instance
+     * @param phasePreloader preloader providing the phase mazes
+     */
+    public BossFightScreen(MazeRunnerGame game, BossPhasePreloader phasePreloader) {
         this.game = game;
+        this.phasePreloader = phasePreloader;
     }
     /**
      * Initializes all boss fight resources and prepares
@@ -284,6 +295,7 @@ public void show() {
         aoeTimers.clear();
         aoeCycleTime = 0f;
 
+        phasePreloader.start();
         preloadInitialMaze();
 
     }
@@ -544,15 +556,15 @@ && shouldRenderGameplay()) {
 
             batch.end();
 
+            EffectBatcher effects = EffectBatcher.getInstance();
+            effects.begin(cam.combined);
+            if (gameManager.getBobaBulletEffectManager() != null) {
+                gameManager.getBobaBulletEffectManager().renderShapes(effects);
+            }
             if (gameManager.getCombatEffectManager() != null) {
-                Gdx.gl.glEnable(GL20.GL_BLEND);
-                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-                shapeRenderer.setProjectionMatrix(cam.combined);
-                shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-                gameManager.getCombatEffectManager().renderShapes(shapeRenderer);
-                shapeRenderer.end();
+                gameManager.getCombatEffectManager().renderShapes(effects);
             }
+            effects.end();
             Gdx.gl.glDisable(GL20.GL_STENCIL_TEST);
 
 
@@ -1014,8 +1026,7 @@ private void triggerPhaseShake() {
 private boolean mazePreloaded = false;
     private boolean mazePaused = true;
 
-private final Map<Integer, BossPhasePreloadData> phaseCache =
-        new ConcurrentHashMap<>();
+    private final BossPhasePreloader phasePreloader;
 
     private void preloadInitialMaze() {
 
@@ -1028,7 +1039,12 @@ private void preloadInitialMaze() {
             );
 
     gameManager = new GameManager(dc,game.isTwoPlayerMode());
-    gameManager.resetGame();
+    BossPhasePreloadData preload = phasePreloader.get(pendingInitialPhase.index);
+    if (preload != null) {
+        gameManager.resetGame(preload.maze);
+    } else {
+        gameManager.resetGame();
+    }
     gameManager.respawnPlayersTogetherForBoss();
     player = gameManager.getPlayer();
 
@@ -1079,7 +1095,7 @@ private void applyPhase(BossMazeConfig.Phase phase) {
                         phase
                 );
 
-        BossPhasePreloadData preload = phaseCache.get(phase.index);
+        BossPhasePreloadData preload = phasePreloader.get(phase.index);
 
         if (preload != null) {
             gameManager.rebuildMazeForBossWithPrebuilt(dc, preload.maze);
@@ -1178,6 +1194,7 @@ public void hide() {
 
     @Override
     public void dispose() {
+        phasePreloader.cancel();
         batch.dispose();
         shapeRenderer.dispose();
         if (gameManager != null) {
@@ -19,29 +19,23 @@
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
-import de.tum.cit.fop.maze.entities.boss.config.BossDifficultyFactory;
-import de.tum.cit.fop.maze.entities.boss.config.BossMazeConfig;
-import de.tum.cit.fop.maze.entities.boss.config.BossMazeConfigLoader;
-import de.tum.cit.fop.maze.game.DifficultyConfig;
-import de.tum.cit.fop.maze.maze.MazeGenerator;
 import de.tum.cit.fop.maze.screen.MenuScreen;
 import de.tum.cit.fop.maze.utils.BlockingInputProcessor;
-
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 /**
  * Loading screen displayed before the boss fight starts.
  * <p>
  * This screen is responsible for asynchronously loading
- * boss-related assets and pre-generating maze data for
- * all boss phases before entering the fight.
+ * boss-related assets and starting the {@link BossPhasePreloader}
+ * that pre-generates the phase mazes. The fight starts once the
+ * assets and the first phase are ready; later phases keep
+ * generating in the background.
  */
 public class BossLoadingScreen implements Screen {
 
     private final MazeRunnerGame game;
     private final AssetManager assets;
     private final SpriteBatch batch;
+    private final BossPhasePreloader phasePreloader = new BossPhasePreloader();
 
     private BitmapFont font;
 
@@ -69,7 +63,7 @@ public void show() {
         showTime = TimeUtils.millis();
         font = game.getSkin().getFont("default-font");
         queueBossAssets();
-        preloadAllPhasesAsync();
+        phasePreloader.start();
         Gdx.input.setInputProcessor(new BlockingInputProcessor());
     }
 
@@ -110,18 +104,20 @@ public void render(float delta) {
         assets.update();
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+            phasePreloader.cancel();
             game.setScreen(new MenuScreen(game));
             return;
         }
 
         boolean ready =
                 assets.isFinished()
+                        && (phasePreloader.isPhaseReady(0) || phasePreloader.hasFailed())
                         && TimeUtils.timeSinceMillis(showTime) > MIN_SHOW_TIME_MS;
 
         if (ready && !finished) {
             finished = true;
             AudioManager.getInstance().stopMusic();
-            game.setScreen(new BossFightScreen(game));
+            game.setScreen(new BossFightScreen(game, phasePreloader));
             return;
         }
 
@@ -142,7 +138,8 @@ public void render(float delta) {
         float w = Gdx.graphics.getWidth();
         float h = Gdx.graphics.getHeight();
 
-        int percent = MathUtils.floor(assets.getProgress() * 100f);
+        float progress = (assets.getProgress() + phasePreloader.getProgress()) * 0.5f;
+        int percent = MathUtils.floor(progress * 100f);
         font.setColor(Color.WHITE);
         font.getData().setScale(0.9f);
         font.draw(
@@ -172,45 +169,6 @@ public void render(float delta) {
         font.getData().setScale(1f);
     }
 
-    private final Map<Integer, BossPhasePreloadData> phaseCache =
-            Collections.synchronizedMap(new HashMap<>());
-
-
-    private void preloadAllPhasesAsync() {
-
-        new Thread(() -> {
-
-            BossMazeConfig config =
-                    BossMazeConfigLoader.loadOne("story_file/boss/boss_phases.json");
-
-            MazeGenerator generator = new MazeGenerator();
-
-            for (int i = 0; i < 3; i++) {
-
-                BossMazeConfig.Phase phase = config.phases.get(i);
-
-                DifficultyConfig dc =
-                        BossDifficultyFactory.create(config.base, phase);
-
-                int[][] maze = generator.generateMaze(dc);
-
-                BossPhasePreloadData data = new BossPhasePreloadData();
-                data.maze = maze;
-                data.phase = phase;
-
-                phaseCache.put(i, data);
-
-                Gdx.app.log(
-                        "BOSS_PRELOAD",
-                        "Phase " + i + " maze ready (" +
-                                dc.mazeWidth + "x" + dc.mazeHeight + ")"
-                );
-            }
-
-        }, "BossPhasePreloader").start();
-
-    }
-
     @Override public void resize(int w, int h) {}
     @Override public void pause() {}
     @Override public void resume() {}
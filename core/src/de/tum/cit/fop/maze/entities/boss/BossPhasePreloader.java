@@ -0,0 +1,135 @@
+package de.tum.cit.fop.maze.entities.boss;
+
+import com.badlogic.gdx.Gdx;
+import de.tum.cit.fop.maze.entities.boss.config.BossDifficultyFactory;
+import de.tum.cit.fop.maze.entities.boss.config.BossMazeConfig;
+import de.tum.cit.fop.maze.entities.boss.config.BossMazeConfigLoader;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.maze.MazeGenerator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+/**
+ * Generates the mazes of all boss phases on a background thread.
+ * <p>
+ * The preloader is started by {@link BossLoadingScreen} and handed to
+ * {@link BossFightScreen}, so the mazes built while the loading screen
+ * is shown are the ones the fight uses. Phases are generated in order,
+ * which means later phases are prepared while earlier ones are played.
+ * <p>
+ * Readiness and progress can be polled from the render thread; results
+ * are published per phase as soon as they are generated.
+ */
+public class BossPhasePreloader {
+
+    /** Boss phase configuration shared by the loading and fight screens. */
+    public static final String DEFAULT_CONFIG = "story_file/boss/boss_phases.json";
+    /** Number of phases {@link BossMazeConfigLoader} indexes. */
+    public static final int DEFAULT_PHASE_COUNT = 3;
+
+    private static final String TAG = "BOSS_PRELOAD";
+
+    private final String configPath;
+    private final int phaseCount;
+    private final AtomicReferenceArray<BossPhasePreloadData> phases;
+
+    private volatile int readyCount = 0;
+    private volatile boolean failed = false;
+    private volatile boolean cancelled = false;
+    private Thread worker;
+
+    public BossPhasePreloader() {
+        this(DEFAULT_CONFIG, DEFAULT_PHASE_COUNT);
+    }
+
+    /**
+     * @param configPath internal path of the boss phase configuration
+     * @param phaseCount number of phases to generate
+     */
+    public BossPhasePreloader(String configPath, int phaseCount) {
+        this.configPath = configPath;
+        this.phaseCount = phaseCount;
+        this.phases = new AtomicReferenceArray<>(phaseCount);
+    }
+
+    /**
+     * Starts generating the phase mazes. Calling it again has no effect.
+     */
+    public synchronized void start() {
+        if (worker != null) return;
+        worker = new Thread(this::generateAll, "BossPhasePreloader");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void generateAll() {
+        try {
+            BossMazeConfig config = BossMazeConfigLoader.loadOne(configPath);
+            MazeGenerator generator = new MazeGenerator();
+
+            for (int i = 0; i < phaseCount && !cancelled; i++) {
+                BossMazeConfig.Phase phase = config.phases.get(i);
+                DifficultyConfig dc = BossDifficultyFactory.create(config.base, phase);
+
+                BossPhasePreloadData data = new BossPhasePreloadData();
+                data.maze = generator.generateMaze(dc);
+                data.phase = phase;
+
+                phases.set(i, data);
+                readyCount = i + 1;
+
+                Gdx.app.log(TAG, "Phase " + i + " maze ready (" + dc.mazeWidth + "x" + dc.mazeHeight + ")");
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            Gdx.app.error(TAG, "Boss phase preload failed", e);
+        }
+    }
+
+    /**
+     * @param index phase index
+     * @return whether the maze of the phase has been generated
+     */
+    public boolean isPhaseReady(int index) {
+        return index >= 0 && index < phaseCount && phases.get(index) != null;
+    }
+
+    /**
+     * Returns the preloaded data of a phase without waiting.
+     *
+     * @param index phase index
+     * @return the data, or {@code null} if the phase is not ready yet
+     */
+    public BossPhasePreloadData get(int index) {
+        if (index < 0 || index >= phaseCount) return null;
+        return phases.get(index);
+    }
+
+    /**
+     * @return whether all phases are ready
+     */
+    public boolean isFinished() {
+        return readyCount >= phaseCount;
+    }
+
+    /**
+     * @return whether generation stopped because of an error; callers
+     *         should then generate missing phases themselves
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * @return fraction of phases that are ready, from 0 to 1
+     */
+    public float getProgress() {
+        return phaseCount == 0 ? 1f : (float) readyCount / phaseCount;
+    }
+
+    /**
+     * Stops generating further phases. Already generated phases stay available.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+}
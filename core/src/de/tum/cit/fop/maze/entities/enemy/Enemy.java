@@ -315,6 +315,19 @@ protected void pickRandomDir() {
      * @return {@code true} if the enemy is dead
      */
     public boolean isDead() { return !active; }
+    /**
+     * @return remaining hit points
+     */
+    public int getHp() { return hp; }
+    /**
+     * Sets the remaining hit points when restoring a saved world, without
+     * hit feedback. Values of zero or less are ignored.
+     *
+     * @param hp saved hit points
+     */
+    public void restoreHp(int hp) {
+        if (hp > 0) this.hp = hp;
+    }
     /**
      * @return enemy world x-position
      */
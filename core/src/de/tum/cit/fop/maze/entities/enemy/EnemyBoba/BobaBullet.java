@@ -35,6 +35,8 @@ public enum BobaState {
 
     private float wobbleTime = 0f;
     private boolean managedByEffectManager = false;
+    /** Slot of this bullet in the trail store, or -1 while it has no trail. */
+    private int trailSlot = -1;
     private float popTimer = 0f;
     private final float POP_DURATION = 0.15f;
     /**
@@ -210,4 +212,14 @@ public float getWobbleOffsetY() {
      * @param managed managed state
      */
     public void setManagedByEffectManager(boolean managed) { this.managedByEffectManager = managed; }
+    /**
+     * @return slot of this bullet's trail, or -1 if it has none
+     */
+    public int getTrailSlot() { return trailSlot; }
+    /**
+     * Sets the slot of this bullet's trail. Used by the trail system.
+     *
+     * @param slot trail slot, or -1 for none
+     */
+    public void setTrailSlot(int slot) { this.trailSlot = slot; }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
 import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.game.FlowField;
 import de.tum.cit.fop.maze.game.GameConstants;
 import de.tum.cit.fop.maze.game.GameManager;
 import de.tum.cit.fop.maze.utils.Logger;
@@ -369,6 +370,16 @@ private void chasePlayer(float delta, GameManager gm, Player player) {
 
         if (isMoving) return;
 
+        int dir = gm.getFlowField(player, 1).getNextDirection(x, y);
+        if (dir >= 0) {
+            int nx = x + FlowField.DX[dir];
+            int ny = y + FlowField.DY[dir];
+            if (gm.isEnemyValidMove(nx, ny)) {
+                startMoveTo(nx, ny);
+                return;
+            }
+        }
+
         int dx = Integer.compare(player.getX(), x);
         int dy = Integer.compare(player.getY(), y);
 
@@ -9,6 +9,7 @@
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
 import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.game.FlowField;
 import de.tum.cit.fop.maze.game.GameConstants;
 import de.tum.cit.fop.maze.game.GameManager;
 /**
@@ -136,12 +137,8 @@ protected boolean canMoveTo(int targetX, int targetY, GameManager gm) {
                 if (!gm.isEnemyValidMove(checkX, checkY)) {
                     return false;
                 }
-                for (Enemy other : gm.getEnemies()) {
-                    if (other != this && other instanceof EnemyE04_CrystallizedCaramelShell) {
-                        if (other.occupiesCell(checkX, checkY)) {
-                            return false;
-                        }
-                    }
+                if (gm.isCellOccupiedByShell(checkX, checkY, this)) {
+                    return false;
                 }
             }
         }
@@ -372,6 +369,15 @@ public void drawShape(ShapeRenderer shapeRenderer) {}
 
     private void chaseTarget(GameManager gm, Player target) {
         if (isMoving) return;
+        int dir = gm.getFlowField(target, GRID_SIZE).getNextDirection(x, y);
+        if (dir >= 0) {
+            int fx = x + FlowField.DX[dir];
+            int fy = y + FlowField.DY[dir];
+            if (canMoveTo(fx, fy, gm)) {
+                startMoveTo(fx, fy);
+                return;
+            }
+        }
         int dx = Integer.compare(target.getX(), x);
         int dy = Integer.compare(target.getY(), y);
         if (Math.abs(dx) > Math.abs(dy)) dy = 0;
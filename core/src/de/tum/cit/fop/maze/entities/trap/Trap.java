@@ -61,6 +61,15 @@ protected boolean hasEffectManager() {
     public boolean isActive() {
         return active;
     }
+    /**
+     * Sets whether the trap is active, e.g. a mine that already exploded.
+     *
+     * @param active new state
+     */
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+    }
     /**
      * Traps are not passable.
      *
@@ -0,0 +1,230 @@
+package de.tum.cit.fop.maze.game;
+
+import de.tum.cit.fop.maze.entities.GameObject;
+import de.tum.cit.fop.maze.entities.Obstacle.MovingWall;
+import de.tum.cit.fop.maze.entities.enemy.EnemyE04_CrystallizedCaramelShell;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+/**
+ * Cell-indexed occupancy index for grid entities, keyed by maze coordinates.
+ *
+ * <p>Every registered entity is stored in the buckets of all cells its
+ * footprint may cover, separately per {@link Layer}. Cell queries then only
+ * look at the few entities of one bucket instead of scanning whole entity
+ * lists.
+ *
+ * <p>The index is a candidate filter: a footprint may be larger than the
+ * cells an entity really blocks (for example a {@link MovingWall} is also
+ * registered on its neighbouring cells). Callers confirm candidates with
+ * the entity's own position or occupancy check.
+ *
+ * <p>{@link GameManager} keeps the index in sync on spawn, removal and after
+ * each entity update via {@link #add}, {@link #remove} and {@link #update}.
+ */
+public class EntityGrid {
+
+    /**
+     * Independent entity categories stored in the grid.
+     */
+    public enum Layer { ENEMY, TRAP, DOOR, OBSTACLE, KEY, HEART, TREASURE }
+
+    private static final int MAX_FOOTPRINT = 5;
+    private static final int LAYERS = Layer.values().length;
+
+    /**
+     * Cells an entity is currently registered in.
+     */
+    private static final class Entry {
+        final Layer layer;
+        final int[] cells = new int[MAX_FOOTPRINT];
+        int count;
+
+        Entry(Layer layer) {
+            this.layer = layer;
+        }
+    }
+
+    private int width, height;
+    private GameObject[][][] buckets = new GameObject[LAYERS][0][];
+    private int[][] counts = new int[LAYERS][0];
+
+    private final Map<GameObject, Entry> entries = new IdentityHashMap<>();
+    private final int[] scratch = new int[MAX_FOOTPRINT];
+
+    /**
+     * Removes all entities and resizes the grid to the given maze size.
+     *
+     * @param width  maze width in cells
+     * @param height maze height in cells
+     */
+    public void reset(int width, int height) {
+        if (width != this.width || height != this.height) {
+            this.width = width;
+            this.height = height;
+            buckets = new GameObject[LAYERS][width * height][];
+            counts = new int[LAYERS][width * height];
+            entries.clear();
+            return;
+        }
+
+        for (Map.Entry<GameObject, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            int l = entry.layer.ordinal();
+            for (int i = 0; i < entry.count; i++) {
+                int cell = entry.cells[i];
+                GameObject[] bucket = buckets[l][cell];
+                if (bucket != null) Arrays.fill(bucket, null);
+                counts[l][cell] = 0;
+            }
+        }
+        entries.clear();
+    }
+
+    /**
+     * Registers an entity in a layer. Re-adding an entity moves it.
+     *
+     * @param layer  layer to store the entity in
+     * @param object entity to register
+     */
+    public void add(Layer layer, GameObject object) {
+        if (object == null) return;
+        Entry entry = entries.get(object);
+        if (entry != null && entry.layer != layer) {
+            remove(object);
+            entry = null;
+        }
+        if (entry == null) {
+            entry = new Entry(layer);
+            entries.put(object, entry);
+        } else {
+            unlink(object, entry);
+        }
+        entry.count = footprint(object, entry.cells);
+        link(object, entry);
+    }
+
+    /**
+     * Unregisters an entity.
+     *
+     * @param object entity to remove
+     */
+    public void remove(GameObject object) {
+        if (object == null) return;
+        Entry entry = entries.remove(object);
+        if (entry != null) unlink(object, entry);
+    }
+
+    /**
+     * Re-indexes an entity after it may have moved.
+     * Does nothing if its footprint did not change or it is not registered.
+     *
+     * @param object entity to update
+     */
+    public void update(GameObject object) {
+        Entry entry = entries.get(object);
+        if (entry == null) return;
+
+        int n = footprint(object, scratch);
+        if (n == entry.count) {
+            boolean same = true;
+            for (int i = 0; i < n && same; i++) same = scratch[i] == entry.cells[i];
+            if (same) return;
+        }
+
+        unlink(object, entry);
+        System.arraycopy(scratch, 0, entry.cells, 0, n);
+        entry.count = n;
+        link(object, entry);
+    }
+
+    /**
+     * Returns the number of candidates registered at a cell.
+     *
+     * @param layer layer to query
+     * @param x     cell x
+     * @param y     cell y
+     * @return candidate count, 0 if the cell is outside the grid
+     */
+    public int count(Layer layer, int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return 0;
+        return counts[layer.ordinal()][y * width + x];
+    }
+
+    /**
+     * Returns a candidate registered at a cell.
+     *
+     * @param layer layer to query
+     * @param x     cell x
+     * @param y     cell y
+     * @param index candidate index, {@code 0 <= index < count(layer, x, y)}
+     * @return candidate entity
+     */
+    public GameObject get(Layer layer, int x, int y, int index) {
+        return buckets[layer.ordinal()][y * width + x][index];
+    }
+
+    private int footprint(GameObject o, int[] out) {
+        int x = o.getX();
+        int y = o.getY();
+        int n = 0;
+
+        if (o instanceof EnemyE04_CrystallizedCaramelShell) {
+            n = put(out, n, x, y);
+            n = put(out, n, x + 1, y);
+            n = put(out, n, x, y + 1);
+            n = put(out, n, x + 1, y + 1);
+        } else if (o instanceof MovingWall) {
+            n = put(out, n, x, y);
+            n = put(out, n, x + 1, y);
+            n = put(out, n, x - 1, y);
+            n = put(out, n, x, y + 1);
+            n = put(out, n, x, y - 1);
+        } else {
+            n = put(out, n, x, y);
+        }
+        return n;
+    }
+
+    private int put(int[] out, int n, int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return n;
+        out[n] = y * width + x;
+        return n + 1;
+    }
+
+    private void link(GameObject object, Entry entry) {
+        int l = entry.layer.ordinal();
+        for (int i = 0; i < entry.count; i++) {
+            int cell = entry.cells[i];
+            GameObject[] bucket = buckets[l][cell];
+            int c = counts[l][cell];
+            if (bucket == null) {
+                bucket = new GameObject[2];
+                buckets[l][cell] = bucket;
+            } else if (c == bucket.length) {
+                bucket = Arrays.copyOf(bucket, c * 2);
+                buckets[l][cell] = bucket;
+            }
+            bucket[c] = object;
+            counts[l][cell] = c + 1;
+        }
+    }
+
+    private void unlink(GameObject object, Entry entry) {
+        int l = entry.layer.ordinal();
+        for (int i = 0; i < entry.count; i++) {
+            int cell = entry.cells[i];
+            GameObject[] bucket = buckets[l][cell];
+            int c = counts[l][cell];
+            for (int j = 0; j < c; j++) {
+                if (bucket[j] == object) {
+                    bucket[j] = bucket[c - 1];
+                    bucket[c - 1] = null;
+                    counts[l][cell] = c - 1;
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package de.tum.cit.fop.maze.game;
+/**
+ * Fixed-timestep driver for a {@link GameManager}.
+ *
+ * <p>Every tick advances the simulation by the same delta, independent of
+ * the real frame time, so two runs with the same seed and the same number
+ * of ticks produce the same world. Used by the headless simulation mode
+ * (see {@link SimulationMode}) for profiling and regression checks.
+ */
+public class FixedStepSimulation {
+
+    /** Default simulation step of 60 ticks per second. */
+    public static final float DEFAULT_STEP = 1f / 60f;
+
+    private final GameManager gameManager;
+    private final float step;
+    private float accumulator = 0f;
+    private long ticks = 0;
+
+    /**
+     * @param gameManager game to drive
+     * @param step        simulation delta per tick in seconds
+     */
+    public FixedStepSimulation(GameManager gameManager, float step) {
+        if (gameManager == null) {
+            throw new IllegalArgumentException("gameManager must not be null");
+        }
+        this.gameManager = gameManager;
+        this.step = step;
+    }
+
+    /**
+     * Creates a new headless game for the given configuration.
+     * Enables {@link SimulationMode} with the given seed if needed.
+     *
+     * @param config        difficulty configuration
+     * @param twoPlayerMode whether both players are spawned
+     * @param seed          random seed of the run
+     * @return freshly reset game manager
+     */
+    public static GameManager createHeadlessGame(DifficultyConfig config, boolean twoPlayerMode, long seed) {
+        if (SimulationMode.isHeadless()) {
+            SimulationMode.reseed(seed);
+        } else {
+            SimulationMode.enableHeadless(seed);
+        }
+        GameManager gm = new GameManager(config, twoPlayerMode);
+        gm.resetGame();
+        return gm;
+    }
+
+    /**
+     * Advances the simulation by exactly one step.
+     */
+    public void tick() {
+        gameManager.update(step);
+        ticks++;
+    }
+
+    /**
+     * Advances the simulation by a number of steps.
+     *
+     * @param count number of ticks
+     */
+    public void run(int count) {
+        for (int i = 0; i < count; i++) tick();
+    }
+
+    /**
+     * Accumulates real time and runs as many whole steps as fit into it.
+     *
+     * @param realDelta elapsed real time in seconds
+     * @return number of ticks executed
+     */
+    public int advance(float realDelta) {
+        accumulator += realDelta;
+        int executed = 0;
+        while (accumulator >= step) {
+            accumulator -= step;
+            tick();
+            executed++;
+        }
+        return executed;
+    }
+
+    public GameManager getGameManager() { return gameManager; }
+    public float getStep() { return step; }
+    public long getTicks() { return ticks; }
+}
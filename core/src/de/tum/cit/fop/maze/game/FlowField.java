@@ -0,0 +1,160 @@
+package de.tum.cit.fop.maze.game;
+
+import java.util.Arrays;
+/**
+ * Breadth-first distance field towards a single target cell.
+ *
+ * <p>Distances are measured in 4-neighbour steps over maze path cells.
+ * For bodies larger than one cell (for example the 2×2 crystallized shell)
+ * the field is built over anchor (bottom-left) positions whose whole body
+ * fits on path cells, seeded with every anchor whose body covers the target.
+ *
+ * <p>Only the static maze is considered. Dynamic blockers such as traps or
+ * other enemies are left to the caller, which validates the proposed step
+ * as before.
+ *
+ * <p>The field is not repaired incrementally: whenever the target enters
+ * a new cell or the maze is replaced, {@link #update} reruns the full BFS
+ * over the whole grid, O(width × height). Between those moves queries are
+ * O(1). The cost thus scales with how often the target changes cell, not
+ * with the number of enemies reading the field. Buffers are reused, so
+ * recomputing does not allocate.
+ */
+public class FlowField {
+
+    /** Step offsets in the order UP, DOWN, LEFT, RIGHT. */
+    public static final int[] DX = {0, 0, -1, 1};
+    public static final int[] DY = {1, -1, 0, 0};
+
+    /** Distance of unreachable cells. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int bodySize;
+
+    private int[][] maze;
+    private int width, height;
+    private int targetX = Integer.MIN_VALUE, targetY = Integer.MIN_VALUE;
+
+    private int[] dist = new int[0];
+    private int[] queue = new int[0];
+
+    /**
+     * @param bodySize edge length of the moving body in cells
+     */
+    public FlowField(int bodySize) {
+        this.bodySize = Math.max(1, bodySize);
+    }
+
+    /**
+     * Makes sure the field points to the given target on the given maze.
+     * Reruns the full BFS if the target cell or the maze changed.
+     *
+     * @param maze maze grid, {@code maze[y][x] == 1} for path cells
+     * @param tx   target cell x
+     * @param ty   target cell y
+     */
+    public void update(int[][] maze, int tx, int ty) {
+        if (maze == null || maze.length == 0) return;
+        if (maze == this.maze && tx == targetX && ty == targetY) return;
+
+        if (maze != this.maze) {
+            this.maze = maze;
+            height = maze.length;
+            width = maze[0].length;
+            if (dist.length < width * height) {
+                dist = new int[width * height];
+                queue = new int[width * height];
+            }
+        }
+        targetX = tx;
+        targetY = ty;
+        compute();
+    }
+
+    /**
+     * Forces a full recomputation on the next {@link #update}.
+     */
+    public void invalidate() {
+        maze = null;
+    }
+
+    /**
+     * @param x anchor x
+     * @param y anchor y
+     * @return steps to the target, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int x, int y) {
+        if (maze == null || x < 0 || y < 0 || x >= width || y >= height) return UNREACHABLE;
+        return dist[y * width + x];
+    }
+
+    /**
+     * Returns the direction that brings a body at the given anchor closest
+     * to the target, preferring the dominant axis on ties.
+     *
+     * @param x anchor x
+     * @param y anchor y
+     * @return index into {@link #DX}/{@link #DY}, or -1 if no step gets closer
+     */
+    public int getNextDirection(int x, int y) {
+        int here = getDistance(x, y);
+        if (here == UNREACHABLE || here == 0) return -1;
+
+        boolean horizontalFirst = Math.abs(targetX - x) > Math.abs(targetY - y);
+        int best = -1;
+        int bestDist = here;
+        for (int i = 0; i < 4; i++) {
+            int d = horizontalFirst ? (i + 2) & 3 : i;
+            int nd = getDistance(x + DX[d], y + DY[d]);
+            if (nd < bestDist) {
+                bestDist = nd;
+                best = d;
+            }
+        }
+        return best;
+    }
+
+    private void compute() {
+        int cells = width * height;
+        Arrays.fill(dist, 0, cells, UNREACHABLE);
+
+        int head = 0, tail = 0;
+        for (int oy = 0; oy < bodySize; oy++) {
+            for (int ox = 0; ox < bodySize; ox++) {
+                int ax = targetX - ox;
+                int ay = targetY - oy;
+                if (!fits(ax, ay)) continue;
+                int idx = ay * width + ax;
+                if (dist[idx] == 0) continue;
+                dist[idx] = 0;
+                queue[tail++] = idx;
+            }
+        }
+
+        while (head < tail) {
+            int idx = queue[head++];
+            int cx = idx % width;
+            int cy = idx / width;
+            int nd = dist[idx] + 1;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int n = ny * width + nx;
+                if (dist[n] != UNREACHABLE || !fits(nx, ny)) continue;
+                dist[n] = nd;
+                queue[tail++] = n;
+            }
+        }
+    }
+
+    private boolean fits(int ax, int ay) {
+        if (ax < 0 || ay < 0 || ax + bodySize > width || ay + bodySize > height) return false;
+        for (int y = ay; y < ay + bodySize; y++) {
+            for (int x = ax; x < ax + bodySize; x++) {
+                if (maze[y][x] != 1) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,7 +1,9 @@
 package de.tum.cit.fop.maze.game;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
 import de.tum.cit.fop.maze.abilities.Ability;
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
@@ -24,8 +26,12 @@
 import de.tum.cit.fop.maze.game.achievement.AchievementManager;
 import de.tum.cit.fop.maze.game.achievement.CareerData;
 import de.tum.cit.fop.maze.game.event.GameEventSource;
+import de.tum.cit.fop.maze.game.replay.InputRecorder;
 import de.tum.cit.fop.maze.game.save.GameSaveData;
 import de.tum.cit.fop.maze.game.save.PlayerSaveData;
+import de.tum.cit.fop.maze.game.save.WorldDelta;
+import de.tum.cit.fop.maze.game.save.WorldJournal;
+import de.tum.cit.fop.maze.game.save.WorldSaveData;
 import de.tum.cit.fop.maze.game.score.*;
 import de.tum.cit.fop.maze.input.PlayerInputHandler;
 import de.tum.cit.fop.maze.maze.MazeGenerator;
@@ -114,8 +120,17 @@ public void setAutoSaveEnabled(boolean enabled) {
 
     private Compass compass;
     private final MazeGenerator generator = new MazeGenerator();
+    private final LevelPlanner levelPlanner = new LevelPlanner(generator);
+    private final LevelPrefetcher levelPrefetcher = new LevelPrefetcher();
+    private final WorldJournal worldJournal = new WorldJournal();
+    private int[][] prebuiltLevelMaze;
+    /** Whether this manager runs without visual systems, see {@link SimulationMode}. */
+    private final boolean headless = SimulationMode.isHeadless();
     private KeyEffectManager keyEffectManager;
     private final PlayerInputHandler inputHandler;
+    private InputRecorder inputRecorder;
+    /** Frame time not yet simulated while recording, see {@link #update(float)}. */
+    private float recordedTime = 0f;
 
     private ItemEffectManager itemEffectManager;
     private TrapEffectManager trapEffectManager;
@@ -130,6 +145,11 @@ public void setAutoSaveEnabled(boolean enabled) {
     private Map<String, Float> gameVariables;
 
     private final List<Key> keys = new ArrayList<>();
+    private final EntityGrid entityGrid = new EntityGrid();
+    /** Chase fields per player (P1, P2) and body size (1×1, 2×2). */
+    private final FlowField[] flowFields = {
+            new FlowField(1), new FlowField(2), new FlowField(1), new FlowField(2)
+    };
     private boolean keyProcessed = false;
 
     private boolean pendingReset = false;
@@ -174,6 +194,9 @@ public GameManager(DifficultyConfig difficultyConfig, boolean twoPlayerMode, Cha
             throw new IllegalArgumentException("difficultyConfig must not be null");
         }
         this.difficultyConfig = difficultyConfig;
+        if (headless) {
+            generator.setSeed(SimulationMode.getSeed());
+        }
 
         GameEventSource eventSource = GameEventSource.getInstance();
         eventSource.clearListeners();
@@ -202,6 +225,21 @@ public GameManager(DifficultyConfig difficultyConfig, boolean twoPlayerMode) {
         this(difficultyConfig, twoPlayerMode, null);
     }
 
+    /**
+     * Resets the game like {@link #resetGame()}, but places the level on a
+     * maze that was already generated, e.g. by the boss phase preloader.
+     *
+     * @param prebuiltMaze maze to use; it is copied, not modified
+     */
+    public void resetGame(int[][] prebuiltMaze) {
+        prebuiltLevelMaze = prebuiltMaze;
+        try {
+            resetGame();
+        } finally {
+            prebuiltLevelMaze = null;
+        }
+    }
+
     public void resetGame() {
         if (restoreLock) {
             Logger.error("⛔ resetGame blocked during restore");
@@ -224,8 +262,10 @@ public void resetGame() {
             Logger.info("🆕 New Game Strategy: Auto-Assigned to " + this.currentSaveTarget);
         }
 
+        LevelPlan plan = null;
         if (!restoringFromSave) {
-            maze = generator.generateMaze(difficultyConfig);
+            plan = takeLevelPlan();
+            maze = plan.maze;
         } else {
             if (maze == null && gameSaveData.maze != null) {
                 maze = deepCopyMaze(gameSaveData.maze);
@@ -248,18 +288,17 @@ public void resetGame() {
         }
         keys.clear();
         players.clear();
+        rebuildEntityGrid();
 
         if (!restoringFromSave) {
-            int[] spawn1 = randomEmptyCell();
-            Player p1 = new Player(spawn1[0], spawn1[1], this, Player.PlayerIndex.P1);
+            IntArray spawns = plan.playerSpawns;
+            Player p1 = new Player(spawns.get(0), spawns.get(1), this, Player.PlayerIndex.P1);
             p1.setMaxLives(difficultyConfig.initialLives);
             p1.setLives(difficultyConfig.initialLives);
             players.add(p1);
 
             if (twoPlayerMode) {
-                int[] spawn2 = findNearbySpawn(p1);
-                if (spawn2 == null) spawn2 = spawn1;
-                Player p2 = new Player(spawn2[0], spawn2[1], this, Player.PlayerIndex.P2);
+                Player p2 = new Player(spawns.get(2), spawns.get(3), this, Player.PlayerIndex.P2);
                 p2.setMaxLives(difficultyConfig.initialLives);
                 p2.setLives(difficultyConfig.initialLives);
                 players.add(p2);
@@ -272,7 +311,7 @@ public void resetGame() {
 
         syncSinglePlayerRef();
         cat = null;
-        if (difficultyConfig.difficulty == Difficulty.HARD) {
+        if (difficultyConfig.difficulty == Difficulty.HARD && !headless) {
             fogSystem = new FogSystem();
         } else {
             fogSystem = null;
@@ -290,12 +329,15 @@ public void resetGame() {
         float px = player.getX() * GameConstants.CELL_SIZE;
         float py = player.getY() * GameConstants.CELL_SIZE;
 
-        playerSpawnPortal = new PortalEffectManager(PortalEffectManager.PortalOwner.PLAYER);
-        playerSpawnPortal.startPlayerSpawnEffect(px, py);
+        if (!headless) {
+            playerSpawnPortal = new PortalEffectManager(PortalEffectManager.PortalOwner.PLAYER);
+            playerSpawnPortal.startPlayerSpawnEffect(px, py);
+        }
+        for (DynamicObstacle o : obstacles) entityGrid.remove(o);
         obstacles = new ArrayList<>();
 
         if (!restoringFromSave) {
-            generateLevel();
+            applyLevelPlan(plan);
         } else {
         }
 
@@ -305,15 +347,21 @@ public void resetGame() {
         bullets.clear();
         bobaBulletEffectManager.clearAllBullets(false);
 
-        keyEffectManager = new KeyEffectManager();
-        itemEffectManager = new ItemEffectManager();
-        trapEffectManager = new TrapEffectManager();
-        combatEffectManager = new CombatEffectManager();
+        if (!headless) {
+            keyEffectManager = new KeyEffectManager();
+            itemEffectManager = new ItemEffectManager();
+            trapEffectManager = new TrapEffectManager();
+            combatEffectManager = new CombatEffectManager();
+        }
 
         levelTransitionInProgress = false;
         currentExitDoor = null;
         levelTransitionTimer = 0f;
 
+        if (!restoringFromSave && prebuiltLevelMaze == null) {
+            prefetchNextLevel();
+        }
+
         Logger.gameEvent("Game reset complete");
     }
 
@@ -380,28 +428,16 @@ public boolean canPlayerMoveTo(int x, int y) {
             return false;
         }
 
-        for (Enemy enemy : enemies) {
-            if (enemy instanceof EnemyE04_CrystallizedCaramelShell) {
-                EnemyE04_CrystallizedCaramelShell shell = (EnemyE04_CrystallizedCaramelShell) enemy;
-                if (shell.isActive() && shell.occupiesCell(x, y)) {
-                    return false;
-                }
-            }
+        if (isCellOccupiedByShell(x, y, null)) {
+            return false;
         }
 
-        for (ExitDoor door : exitDoors) {
-            if (door.getX() == x && door.getY() == y) {
-                return !door.isLocked();
-            }
+        ExitDoor door = getExitDoorAt(x, y);
+        if (door != null) {
+            return !door.isLocked();
         }
 
-        for (DynamicObstacle o : obstacles) {
-            if (o instanceof MovingWall mw) {
-                if (mw.occupiesCell(x, y)) return false;
-            } else {
-                if (o.getX() == x && o.getY() == y) return false;
-            }
-        }
+        if (isObstacleAt(x, y)) return false;
         return maze[y][x] == 1;
     }
     /**
@@ -411,9 +447,31 @@ public boolean canPlayerMoveTo(int x, int y) {
      * updating players, enemies, traps, effects, input handling, auto-saving,
      * and level transitions.
      *
+     * <p>While an {@link InputRecorder} is attached, the frame time is
+     * accumulated and simulated in whole {@link InputRecorder#STEP} ticks,
+     * so a recording does not depend on the frame rate. At most
+     * {@link InputRecorder#MAX_TICKS_PER_FRAME} ticks run per frame.
+     *
      * @param delta time elapsed since the last frame (in seconds)
      */
     public void update(float delta) {
+        InputRecorder recorder = inputRecorder;
+        if (recorder == null) {
+            updateFrame(delta);
+            return;
+        }
+        recordedTime = Math.min(recordedTime + delta, InputRecorder.STEP * InputRecorder.MAX_TICKS_PER_FRAME);
+        while (recordedTime >= InputRecorder.STEP && inputRecorder == recorder) {
+            recordedTime -= InputRecorder.STEP;
+            try {
+                updateFrame(InputRecorder.STEP);
+            } finally {
+                recorder.endTick(InputRecorder.STEP);
+            }
+        }
+    }
+
+    private void updateFrame(float delta) {
         if (hitStopTimer > 0) {
             hitStopTimer -= delta;
 
@@ -491,6 +549,7 @@ public void update(float delta) {
             Enemy e = enemyIterator.next();
             e.update(delta, this);
             e.setGameManager(this);
+            entityGrid.update(e);
             if (e.isDead() || !e.isActive()) {
                 if (e.isDead()) {
                     EnemyTier tier = EnemyTier.E01;
@@ -511,6 +570,7 @@ public void update(float delta) {
                     }
                 }
                 enemyIterator.remove();
+                entityGrid.remove(e);
             }
         }
 
@@ -522,6 +582,7 @@ public void update(float delta) {
         updateBullets(delta);
         for (DynamicObstacle o : obstacles) {
             o.update(delta, this);
+            entityGrid.update(o);
         }
         bobaBulletEffectManager.addBullets(bullets);
         bobaBulletEffectManager.update(delta);
@@ -870,12 +931,17 @@ private void handleKeyLogic() {
     }
 
     public boolean isExitDoorAt(int x, int y) {
-        for (ExitDoor door : exitDoors) {
+        return getExitDoorAt(x, y) != null;
+    }
+
+    private ExitDoor getExitDoorAt(int x, int y) {
+        for (int i = 0, n = entityGrid.count(EntityGrid.Layer.DOOR, x, y); i < n; i++) {
+            ExitDoor door = (ExitDoor) entityGrid.get(EntityGrid.Layer.DOOR, x, y, i);
             if (door.getX() == x && door.getY() == y) {
-                return true;
+                return door;
             }
         }
-        return false;
+        return null;
     }
 
     public boolean isLevelCompletedPendingSettlement() {
@@ -927,9 +993,8 @@ private void checkAutoPickup() {
             int px = p.getX();
             int py = p.getY();
 
-            Iterator<Key> keyIterator = keys.iterator();
-            while (keyIterator.hasNext()) {
-                Key key = keyIterator.next();
+            for (int i = entityGrid.count(EntityGrid.Layer.KEY, px, py) - 1; i >= 0; i--) {
+                Key key = (Key) entityGrid.get(EntityGrid.Layer.KEY, px, py, i);
                 if (!key.isActive()) continue;
 
                 if (key.getX() == px && key.getY() == py) {
@@ -941,7 +1006,8 @@ private void checkAutoPickup() {
                     }
 
                     key.onInteract(p);
-                    keyIterator.remove();
+                    keys.remove(key);
+                    entityGrid.remove(key);
                     onKeyCollected();
 
                     if (combatEffectManager != null) {
@@ -952,9 +1018,8 @@ private void checkAutoPickup() {
                 }
             }
 
-            Iterator<Heart> heartIterator = hearts.iterator();
-            while (heartIterator.hasNext()) {
-                Heart h = heartIterator.next();
+            for (int i = entityGrid.count(EntityGrid.Layer.HEART, px, py) - 1; i >= 0; i--) {
+                Heart h = (Heart) entityGrid.get(EntityGrid.Layer.HEART, px, py, i);
                 if (!h.isActive()) continue;
 
                 if (h.getX() == px && h.getY() == py) {
@@ -973,7 +1038,8 @@ private void checkAutoPickup() {
                         combatEffectManager.spawnScoreText(fx, fy + 30, ScoreConstants.SCORE_HEART);
                     }
 
-                    heartIterator.remove();
+                    hearts.remove(h);
+                    entityGrid.remove(h);
                 }
             }
 
@@ -994,9 +1060,8 @@ private void checkAutoPickup() {
                 }
             }
 
-            Iterator<Treasure> treasureIterator = treasures.iterator();
-            while (treasureIterator.hasNext()) {
-                Treasure t = treasureIterator.next();
+            for (int i = entityGrid.count(EntityGrid.Layer.TREASURE, px, py) - 1; i >= 0; i--) {
+                Treasure t = (Treasure) entityGrid.get(EntityGrid.Layer.TREASURE, px, py, i);
                 if (!t.isInteractable()) continue;
 
                 if (t.getX() == px && t.getY() == py) {
@@ -1014,25 +1079,271 @@ private void checkAutoPickup() {
                         combatEffectManager.spawnScoreText(fx, fy + 30, ScoreConstants.SCORE_TREASURE);
                     }
 
-                    treasureIterator.remove();
+                    treasures.remove(t);
+                    entityGrid.remove(t);
                 }
             }
         }
     }
 
-    private void generateLevel() {
-        if (exitDoors.isEmpty()) {
-            generateExitDoors();
+    /**
+     * Returns the plan for the level being started: a plan on the prebuilt
+     * maze if one was given, the prefetched one when it matches the current
+     * doors and configuration, otherwise a plan made synchronously.
+     */
+    private LevelPlan takeLevelPlan() {
+        IntArray doorCells = getExitDoorCells();
+        if (prebuiltLevelMaze != null) {
+            levelPrefetcher.cancel();
+            return levelPlanner.plan(difficultyConfig, deepCopyMaze(prebuiltLevelMaze),
+                    twoPlayerMode, doorCells, random.nextLong());
+        }
+        LevelPlan plan = levelPrefetcher.take(difficultyConfig, twoPlayerMode, doorCells);
+        if (plan == null) {
+            plan = levelPlanner.plan(difficultyConfig, twoPlayerMode, doorCells, random.nextLong());
+        }
+        return plan;
+    }
+
+    /**
+     * Starts planning the following level in the background. The current
+     * exit doors are kept by the next reset, so the plan is made around them.
+     */
+    private void prefetchNextLevel() {
+        levelPrefetcher.prefetch(difficultyConfig, twoPlayerMode, getExitDoorCells(), random.nextLong());
+    }
+
+    private IntArray getExitDoorCells() {
+        IntArray cells = new IntArray(exitDoors.size() * 2);
+        for (ExitDoor door : exitDoors) {
+            if (door != null) cells.add(door.getX(), door.getY());
+        }
+        return cells;
+    }
+
+    /**
+     * Creates the doors, enemies, traps and items of a {@link LevelPlan}.
+     * Players are created by {@link #resetGame()} before this is called.
+     */
+    private void applyLevelPlan(LevelPlan plan) {
+        if (!plan.keepsDoors) {
+            for (ExitDoor door : exitDoors) entityGrid.remove(door);
+            exitDoors.clear();
+            IntArray doors = plan.doors;
+            for (int i = 0; i < doors.size; i += 3) {
+                ExitDoor door = new ExitDoor(doors.get(i), doors.get(i + 1),
+                        ExitDoor.DoorDirection.values()[doors.get(i + 2)]);
+                exitDoors.add(door);
+                entityGrid.add(EntityGrid.Layer.DOOR, door);
+            }
+        }
+
+        IntArray enemyCells = plan.enemies;
+        for (int i = 0; i < enemyCells.size; i += 3) {
+            Enemy enemy = createEnemy(enemyCells.get(i), enemyCells.get(i + 1), enemyCells.get(i + 2));
+            if (enemy != null) addEnemy(enemy);
+        }
+
+        IntArray trapCells = plan.traps;
+        for (int i = 0; i < trapCells.size; i += 3) {
+            Trap trap = createTrap(trapCells.get(i), trapCells.get(i + 1), trapCells.get(i + 2));
+            if (trap != null) addTrap(trap);
+        }
+
+        for (int i = 0; i < plan.hearts.size; i += 2) {
+            addHeart(new Heart(plan.hearts.get(i), plan.hearts.get(i + 1)));
+        }
+        for (int i = 0; i < plan.treasures.size; i += 2) {
+            Treasure treasure = new Treasure(plan.treasures.get(i), plan.treasures.get(i + 1));
+            treasures.add(treasure);
+            entityGrid.add(EntityGrid.Layer.TREASURE, treasure);
+        }
+        for (int i = 0; i < plan.keys.size; i += 2) {
+            Key key = new Key(plan.keys.get(i), plan.keys.get(i + 1), this);
+            keys.add(key);
+            entityGrid.add(EntityGrid.Layer.KEY, key);
+        }
+
+        for (DynamicObstacle o : obstacles) entityGrid.remove(o);
+        obstacles.clear();
+        int[] w = plan.movingWall;
+        MovingWall wall = new MovingWall(w[0], w[1], w[2], w[3], MovingWall.WallType.SINGLE);
+        obstacles.add(wall);
+        entityGrid.add(EntityGrid.Layer.OBSTACLE, wall);
+    }
+
+    private Enemy createEnemy(int type, int x, int y) {
+        return switch (type) {
+            case LevelPlan.ENEMY_E01 -> new EnemyE01_CorruptedPearl(x, y);
+            case LevelPlan.ENEMY_E02 -> new EnemyE02_SmallCoffeeBean(x, y);
+            case LevelPlan.ENEMY_E03 -> new EnemyE03_CaramelJuggernaut(x, y);
+            case LevelPlan.ENEMY_E04 -> new EnemyE04_CrystallizedCaramelShell(x, y);
+            default -> null;
+        };
+    }
+
+    private static int enemyType(Enemy enemy) {
+        if (enemy instanceof EnemyE01_CorruptedPearl) return LevelPlan.ENEMY_E01;
+        if (enemy instanceof EnemyE02_SmallCoffeeBean) return LevelPlan.ENEMY_E02;
+        if (enemy instanceof EnemyE03_CaramelJuggernaut) return LevelPlan.ENEMY_E03;
+        if (enemy instanceof EnemyE04_CrystallizedCaramelShell) return LevelPlan.ENEMY_E04;
+        return 0;
+    }
+
+    private Trap createTrap(int type, int x, int y) {
+        return switch (type) {
+            case LevelPlan.TRAP_T01 -> new TrapT01_Geyser(x, y, 3f);
+            case LevelPlan.TRAP_T02 -> new TrapT02_PearlMine(x, y, this);
+            case LevelPlan.TRAP_T03 -> new TrapT03_TeaShards(x, y);
+            case LevelPlan.TRAP_T04 -> new TrapT04_Mud(x, y);
+            default -> null;
+        };
+    }
+
+    private static int trapType(Trap trap) {
+        if (trap instanceof TrapT01_Geyser) return LevelPlan.TRAP_T01;
+        if (trap instanceof TrapT02_PearlMine) return LevelPlan.TRAP_T02;
+        if (trap instanceof TrapT03_TeaShards) return LevelPlan.TRAP_T03;
+        if (trap instanceof TrapT04_Mud) return LevelPlan.TRAP_T04;
+        return 0;
+    }
+
+    /**
+     * Captures the entities of the level into a world snapshot.
+     *
+     * @param world snapshot to fill
+     * @return the captured entities per kind ordinal, in row order, used to
+     *         match them between autosaves
+     */
+    private Object[][] captureWorld(WorldSaveData world) {
+        Object[][] refs = new Object[WorldSaveData.Kind.values().length][];
+        IntArray rows = new IntArray();
+        List<Object> captured = new ArrayList<>();
+
+        for (Enemy e : enemies) {
+            int type = enemyType(e);
+            if (type == 0 || e.isDead()) continue;
+            rows.add(type, e.getX(), e.getY(), e.getHp());
+            captured.add(e);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.ENEMY, rows, captured);
+
+        for (Trap t : traps) {
+            int type = trapType(t);
+            if (type == 0) continue;
+            rows.add(type, t.getX(), t.getY(), t.isActive() ? 1 : 0);
+            captured.add(t);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.TRAP, rows, captured);
+
+        for (Heart h : hearts) {
+            if (!h.isActive()) continue;
+            rows.add(h.getX(), h.getY());
+            captured.add(h);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.HEART, rows, captured);
+
+        for (Treasure t : treasures) {
+            if (!t.isInteractable()) continue;
+            rows.add(t.getX(), t.getY());
+            captured.add(t);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.TREASURE, rows, captured);
+
+        for (Key k : keys) {
+            if (k.isCollected()) continue;
+            rows.add(k.getX(), k.getY());
+            captured.add(k);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.KEY, rows, captured);
+
+        for (ExitDoor d : exitDoors) {
+            rows.add(d.getX(), d.getY(), d.getDirection().ordinal(), d.isLocked() ? 1 : 0);
+            captured.add(d);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.DOOR, rows, captured);
+
+        for (DynamicObstacle o : obstacles) {
+            if (!(o instanceof MovingWall w)) continue;
+            rows.add(w.getStartX(), w.getStartY(), w.getEndX(), w.getEndY());
+            rows.add(w.getX(), w.getY(), w.isForward() ? 1 : 0);
+            captured.add(w);
+        }
+        storeRows(world, refs, WorldSaveData.Kind.WALL, rows, captured);
+        return refs;
+    }
+
+    private static void storeRows(WorldSaveData world, Object[][] refs, WorldSaveData.Kind kind,
+                                  IntArray rows, List<Object> captured) {
+        world.setRows(kind, rows.toArray());
+        refs[kind.ordinal()] = captured.toArray();
+        rows.clear();
+        captured.clear();
+    }
+
+    /**
+     * Rebuilds the entities of the level from a world snapshot instead of
+     * generating them. Rows with unknown types are skipped.
+     *
+     * @param world saved world
+     */
+    private void restoreWorld(WorldSaveData world) {
+        int[] r = world.rows(WorldSaveData.Kind.DOOR);
+        ExitDoor.DoorDirection[] directions = ExitDoor.DoorDirection.values();
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.DOOR.stride) {
+            if (r[i + 2] < 0 || r[i + 2] >= directions.length) continue;
+            ExitDoor door = new ExitDoor(r[i], r[i + 1], directions[r[i + 2]]);
+            if (r[i + 3] == 0) door.unlock();
+            exitDoors.add(door);
+            entityGrid.add(EntityGrid.Layer.DOOR, door);
+        }
+
+        r = world.rows(WorldSaveData.Kind.ENEMY);
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.ENEMY.stride) {
+            Enemy enemy = createEnemy(r[i], r[i + 1], r[i + 2]);
+            if (enemy == null) continue;
+            enemy.restoreHp(r[i + 3]);
+            addEnemy(enemy);
+        }
+
+        r = world.rows(WorldSaveData.Kind.TRAP);
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.TRAP.stride) {
+            Trap trap = createTrap(r[i], r[i + 1], r[i + 2]);
+            if (trap == null) continue;
+            if (r[i + 3] == 0) trap.setActive(false);
+            addTrap(trap);
+        }
+
+        r = world.rows(WorldSaveData.Kind.HEART);
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.HEART.stride) {
+            addHeart(new Heart(r[i], r[i + 1]));
+        }
+
+        r = world.rows(WorldSaveData.Kind.TREASURE);
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.TREASURE.stride) {
+            Treasure treasure = new Treasure(r[i], r[i + 1]);
+            treasures.add(treasure);
+            entityGrid.add(EntityGrid.Layer.TREASURE, treasure);
+        }
+
+        r = world.rows(WorldSaveData.Kind.KEY);
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.KEY.stride) {
+            Key key = new Key(r[i], r[i + 1], this);
+            keys.add(key);
+            entityGrid.add(EntityGrid.Layer.KEY, key);
+        }
+
+        r = world.rows(WorldSaveData.Kind.WALL);
+        for (int i = 0; i < r.length; i += WorldSaveData.Kind.WALL.stride) {
+            MovingWall wall = new MovingWall(r[i], r[i + 1], r[i + 2], r[i + 3], MovingWall.WallType.SINGLE);
+            wall.restorePosition(r[i + 4], r[i + 5], r[i + 6] != 0);
+            obstacles.add(wall);
+            entityGrid.add(EntityGrid.Layer.OBSTACLE, wall);
         }
-        generateEnemies();
-        generateTraps();
-        generateHearts();
-        generateTreasures();
-        generateKeys();
-        generateMovingWalls();
     }
 
     private void generateMovingWalls() {
+        for (DynamicObstacle o : obstacles) entityGrid.remove(o);
         obstacles.clear();
         int sx, sy, ex, ey;
         do {
@@ -1044,6 +1355,7 @@ private void generateMovingWalls() {
 
         MovingWall wall = new MovingWall(sx, sy, ex, ey, MovingWall.WallType.SINGLE);
         obstacles.add(wall);
+        entityGrid.add(EntityGrid.Layer.OBSTACLE, wall);
     }
 
     public boolean isEnemyValidMove(int x, int y) {
@@ -1053,12 +1365,11 @@ public boolean isEnemyValidMove(int x, int y) {
         if (maze[y][x] == 0) {
             return false;
         }
-        for (ExitDoor door : exitDoors) {
-            if (door.getX() == x && door.getY() == y) {
-                return false;
-            }
+        if (isExitDoorAt(x, y)) {
+            return false;
         }
-        for (var trap : traps) {
+        for (int i = 0, n = entityGrid.count(EntityGrid.Layer.TRAP, x, y); i < n; i++) {
+            Trap trap = (Trap) entityGrid.get(EntityGrid.Layer.TRAP, x, y, i);
             if (trap.getX() == x && trap.getY() == y && !trap.isPassable()) {
                 return false;
             }
@@ -1076,8 +1387,8 @@ private boolean isWalkableLine(int sx, int sy, int ex, int ey) {
     /** @return all active enemies in the current level */
     public List<Enemy> getEnemiesAt(int x, int y) {
         List<Enemy> result = new ArrayList<>();
-        for (Enemy enemy : enemies) {
-            if (enemy == null) continue;
+        for (int i = 0, n = entityGrid.count(EntityGrid.Layer.ENEMY, x, y); i < n; i++) {
+            Enemy enemy = (Enemy) entityGrid.get(EntityGrid.Layer.ENEMY, x, y, i);
             if (enemy.isDead()) continue;
             if (enemy.getX() == x && enemy.getY() == y) {
                 result.add(enemy);
@@ -1094,7 +1405,9 @@ private void generateKeys() {
                 x = random.nextInt(difficultyConfig.mazeWidth);
                 y = random.nextInt(difficultyConfig.mazeHeight);
             } while (getMazeCell(x, y) != 1 || isOccupied(x, y) || isExitDoorAt(x, y));
-            keys.add(new Key(x, y, this));
+            Key key = new Key(x, y, this);
+            keys.add(key);
+            entityGrid.add(EntityGrid.Layer.KEY, key);
         }
     }
 
@@ -1102,25 +1415,115 @@ private boolean isOccupied(int x, int y) {
         for (Player p : players) {
             if (p != null && p.getX() == x && p.getY() == y) return true;
         }
-        for (Enemy e : enemies) {
-            if (e.isActive() && e.getX() == x && e.getY() == y) return true;
-        }
-        for (Treasure t : treasures) {
-            if (t.isActive() && t.getX() == x && t.getY() == y) return true;
-        }
-        for (Heart h : hearts) {
-            if (h.isActive() && h.getX() == x && h.getY() == y) return true;
+        return hasActiveAt(EntityGrid.Layer.ENEMY, x, y)
+                || hasActiveAt(EntityGrid.Layer.TREASURE, x, y)
+                || hasActiveAt(EntityGrid.Layer.HEART, x, y)
+                || hasActiveAt(EntityGrid.Layer.KEY, x, y)
+                || hasActiveAt(EntityGrid.Layer.TRAP, x, y);
+    }
+
+    private boolean hasActiveAt(EntityGrid.Layer layer, int x, int y) {
+        for (int i = 0, n = entityGrid.count(layer, x, y); i < n; i++) {
+            GameObject o = entityGrid.get(layer, x, y, i);
+            if (o.isActive() && o.getX() == x && o.getY() == y) return true;
         }
-        for (Key k : keys) {
-            if (k.isActive() && k.getX() == x && k.getY() == y) return true;
+        return false;
+    }
+
+    private boolean isObstacleAt(int x, int y) {
+        for (int i = 0, n = entityGrid.count(EntityGrid.Layer.OBSTACLE, x, y); i < n; i++) {
+            DynamicObstacle o = (DynamicObstacle) entityGrid.get(EntityGrid.Layer.OBSTACLE, x, y, i);
+            if (o instanceof MovingWall mw) {
+                if (mw.occupiesCell(x, y)) return true;
+            } else {
+                if (o.getX() == x && o.getY() == y) return true;
+            }
         }
-        for (Trap trap : traps) {
-            if (trap.isActive() && trap.getX() == x && trap.getY() == y) return true;
+        return false;
+    }
+
+    /**
+     * Checks whether an active crystallized shell other than {@code self} covers a cell.
+     *
+     * @param x    cell x
+     * @param y    cell y
+     * @param self shell to ignore, may be {@code null}
+     * @return true if another active shell occupies the cell
+     */
+    public boolean isCellOccupiedByShell(int x, int y, Enemy self) {
+        for (int i = 0, n = entityGrid.count(EntityGrid.Layer.ENEMY, x, y); i < n; i++) {
+            GameObject o = entityGrid.get(EntityGrid.Layer.ENEMY, x, y, i);
+            if (o == self || !(o instanceof EnemyE04_CrystallizedCaramelShell shell)) continue;
+            if (shell.isActive() && shell.occupiesCell(x, y)) return true;
         }
         return false;
     }
 
+    /**
+     * Rebuilds the entity grid from the current entity lists.
+     *
+     * <p>Must be called after entity lists were modified in bulk without
+     * going through the spawn methods of this class.
+     */
+    public void rebuildEntityGrid() {
+        if (maze == null) return;
+        entityGrid.reset(maze[0].length, maze.length);
+        for (Enemy e : enemies) entityGrid.add(EntityGrid.Layer.ENEMY, e);
+        for (Trap t : traps) entityGrid.add(EntityGrid.Layer.TRAP, t);
+        for (ExitDoor d : exitDoors) entityGrid.add(EntityGrid.Layer.DOOR, d);
+        for (DynamicObstacle o : obstacles) entityGrid.add(EntityGrid.Layer.OBSTACLE, o);
+        for (Key k : keys) entityGrid.add(EntityGrid.Layer.KEY, k);
+        for (Heart h : hearts) entityGrid.add(EntityGrid.Layer.HEART, h);
+        for (Treasure t : treasures) entityGrid.add(EntityGrid.Layer.TREASURE, t);
+    }
+
+    /**
+     * Returns the shared distance field leading to a player.
+     * The field is refreshed only when the player changed cell or the maze changed.
+     *
+     * @param target   player to chase
+     * @param bodySize edge length of the chasing body, 1 or 2
+     * @return up-to-date flow field towards the player's cell
+     */
+    public FlowField getFlowField(Player target, int bodySize) {
+        int slot = (target.getPlayerIndex() == Player.PlayerIndex.P2 ? 2 : 0) + (bodySize > 1 ? 1 : 0);
+        FlowField field = flowFields[slot];
+        field.update(maze, target.getX(), target.getY());
+        return field;
+    }
+
+    /**
+     * Adds an enemy to the level.
+     *
+     * @param enemy enemy to spawn
+     */
+    public void addEnemy(Enemy enemy) {
+        enemies.add(enemy);
+        entityGrid.add(EntityGrid.Layer.ENEMY, enemy);
+    }
+
+    /**
+     * Adds a heart pickup to the level.
+     *
+     * @param heart heart to spawn
+     */
+    public void addHeart(Heart heart) {
+        hearts.add(heart);
+        entityGrid.add(EntityGrid.Layer.HEART, heart);
+    }
+
+    /**
+     * Adds a trap to the level as-is, without attaching the trap effect manager.
+     *
+     * @param trap trap to spawn
+     */
+    public void spawnTrap(Trap trap) {
+        traps.add(trap);
+        entityGrid.add(EntityGrid.Layer.TRAP, trap);
+    }
+
     private void generateExitDoors() {
+        for (ExitDoor door : exitDoors) entityGrid.remove(door);
         exitDoors.clear();
         for (int i = 0; i < difficultyConfig.exitCount; i++) {
             int[] p = randomWallCell();
@@ -1132,6 +1535,7 @@ private void generateExitDoors() {
             ExitDoor.DoorDirection direction = determineDoorDirection(p[0], p[1]);
             ExitDoor door = new ExitDoor(p[0], p[1], direction);
             exitDoors.add(door);
+            entityGrid.add(EntityGrid.Layer.DOOR, door);
             Logger.debug("ExitDoor created at (" + p[0] + ", " + p[1] + ") facing " + direction);
         }
     }
@@ -1203,19 +1607,19 @@ private int[] randomWallCell() {
     private void generateEnemies() {
         for (int i = 0; i < difficultyConfig.enemyE01PearlCount; i++) {
             int[] p = randomEmptyCell();
-            enemies.add(new EnemyE01_CorruptedPearl(p[0], p[1]));
+            addEnemy(new EnemyE01_CorruptedPearl(p[0], p[1]));
         }
         for (int i = 0; i < difficultyConfig.enemyE02CoffeeBeanCount; i++) {
             int[] p = randomEmptyCell();
-            enemies.add(new EnemyE02_SmallCoffeeBean(p[0], p[1]));
+            addEnemy(new EnemyE02_SmallCoffeeBean(p[0], p[1]));
         }
         for (int i = 0; i < difficultyConfig.enemyE03CaramelCount; i++) {
             int[] p = randomEmptyCell();
-            enemies.add(new EnemyE03_CaramelJuggernaut(p[0], p[1]));
+            addEnemy(new EnemyE03_CaramelJuggernaut(p[0], p[1]));
         }
         for (int i = 0; i < difficultyConfig.enemyE04ShellCount; i++) {
             int[] p = randomE04SpawnCell();
-            enemies.add(new EnemyE04_CrystallizedCaramelShell(p[0], p[1]));
+            addEnemy(new EnemyE04_CrystallizedCaramelShell(p[0], p[1]));
         }
     }
 
@@ -1245,7 +1649,7 @@ private void generateHearts() {
         int count = 10;
         for (int i = 0; i < count; i++) {
             int[] p = randomEmptyCell();
-            hearts.add(new Heart(p[0], p[1]));
+            addHeart(new Heart(p[0], p[1]));
         }
     }
 
@@ -1259,7 +1663,9 @@ private void generateTreasures() {
             int tx = p[0];
             int ty = p[1];
             if (isOccupied(tx, ty)) continue;
-            treasures.add(new Treasure(tx, ty));
+            Treasure treasure = new Treasure(tx, ty);
+            treasures.add(treasure);
+            entityGrid.add(EntityGrid.Layer.TREASURE, treasure);
             spawned++;
         }
     }
@@ -1330,10 +1736,12 @@ public int getMazeCell(int x, int y) {
     public List<Key> getKeys() { return keys; }
     public int getCurrentLevel() { return currentLevel; }
     public boolean isTwoPlayerMode() { return twoPlayerMode; }
+    public DifficultyConfig getDifficultyConfig() { return difficultyConfig; }
     public Compass getCompass() { return compass; }
 
     @Override
     public void onMoveInput(Player.PlayerIndex index, int dx, int dy) {
+        if (inputRecorder != null) inputRecorder.recordMove(index, dx, dy);
         Player p = getPlayerByIndex(index);
         if (p == null) return;
         p.updateDirection(dx, dy);
@@ -1363,6 +1771,7 @@ public float getMoveDelayMultiplier() {
 
     @Override
     public boolean onAbilityInput(Player.PlayerIndex index, int slot) {
+        if (inputRecorder != null) inputRecorder.recordAbility(index, slot);
         if (levelTransitionInProgress) return false;
         Player p = getPlayerByIndex(index);
         if (p == null || p.isDead()) return false;
@@ -1372,6 +1781,7 @@ public boolean onAbilityInput(Player.PlayerIndex index, int slot) {
 
     @Override
     public void onInteractInput(Player.PlayerIndex index) {
+        if (inputRecorder != null) inputRecorder.recordInteract(index);
         if (levelTransitionInProgress) return;
         Player p = getPlayerByIndex(index);
         if (p == null || p.isDead()) return;
@@ -1416,6 +1826,7 @@ public PlayerInputHandler getInputHandler() {
     }
 
     public void dispose() {
+        levelPrefetcher.dispose();
         if (player != null && !player.isDead()) {
             saveGameProgress();
         }
@@ -1469,20 +1880,9 @@ public boolean isPlayerDead() {
     public boolean isObstacleValidMove(int nx, int ny) {
         if (nx < 0 || ny < 0 || ny >= maze.length || nx >= maze[0].length) return false;
         if (maze[ny][nx] == 0) return false;
-        for (ExitDoor door : exitDoors) {
-            if (door.getX() == nx && door.getY() == ny) return false;
-        }
-        for (Enemy e : enemies) {
-            if (e.isActive() && e.getX() == nx && e.getY() == ny) return false;
-        }
-        for (DynamicObstacle o : obstacles) {
-            if (o instanceof MovingWall mw) {
-                if (mw.occupiesCell(nx, ny)) return false;
-            } else {
-                if (o.getX() == nx && o.getY() == ny) return false;
-            }
-        }
-        return true;
+        if (isExitDoorAt(nx, ny)) return false;
+        if (hasActiveAt(EntityGrid.Layer.ENEMY, nx, ny)) return false;
+        return !isObstacleAt(nx, ny);
     }
 
     public List<DynamicObstacle> getObstacles() { return obstacles; }
@@ -1500,11 +1900,58 @@ public void saveGameProgress() {
             return;
         }
 
+        WorldSaveData world = new WorldSaveData();
+        world.snapshotId = WorldSaveData.nextSnapshotId();
+        Object[][] worldRefs = captureSaveState(world);
+
+        StorageManager storage = StorageManager.getInstance();
+
+        if (currentSaveTarget != null) {
+            if (currentSaveTarget == StorageManager.SaveTarget.AUTO) {
+                WorldDelta delta = worldJournal.record(world, worldRefs, maze);
+                if (delta != null && storage.appendAutoJournal(gameSaveData, delta)) {
+                    Logger.debug("Auto save journaled (entry " + delta.sequence + ")");
+                } else {
+                    storage.saveAuto(gameSaveData);
+                    worldJournal.rebase(world, worldRefs, maze);
+                    Logger.info("⚠️ Saved to TEMP/AUTO (Slots full)");
+                }
+            }
+            else {
+                storage.saveGameToSlot(currentSaveTarget.getSlotIndex(), gameSaveData);
+                Logger.info("✅ Game saved to: " + currentSaveTarget);
+            }
+        } else {
+            Logger.error("⚠️ Save Failed: No target slot bound!");
+        }
+    }
+
+    /**
+     * Captures the current game state without writing it to storage.
+     * Used to record the starting point of input replays.
+     *
+     * @return an independent copy of the current state
+     */
+    public GameSaveData captureSaveData() {
+        WorldSaveData world = new WorldSaveData();
+        world.snapshotId = WorldSaveData.nextSnapshotId();
+        captureSaveState(world);
+        return gameSaveData.snapshot();
+    }
+
+    /**
+     * Fills {@link #gameSaveData} with the current world, players and score.
+     *
+     * @return entity references of the captured world
+     */
+    private Object[][] captureSaveState(WorldSaveData world) {
         if (gameSaveData == null) {
             gameSaveData = new GameSaveData();
         }
+        Object[][] worldRefs = captureWorld(world);
 
-        gameSaveData.maze = deepCopyMaze(maze);
+        gameSaveData.maze = maze;
+        gameSaveData.world = world;
         gameSaveData.currentLevel = currentLevel;
         gameSaveData.difficulty = difficultyConfig.difficulty.name();
         gameSaveData.twoPlayerMode = twoPlayerMode;
@@ -1534,22 +1981,7 @@ public void saveGameProgress() {
             int currentTotal = scoreManager.getCurrentScore();
             gameSaveData.score = Math.max(0, currentTotal - currentFinal);
         }
-
-
-        StorageManager storage = StorageManager.getInstance();
-
-        if (currentSaveTarget != null) {
-            if (currentSaveTarget == StorageManager.SaveTarget.AUTO) {
-                storage.saveAuto(gameSaveData);
-                Logger.info("⚠️ Saved to TEMP/AUTO (Slots full)");
-            }
-            else {
-                storage.saveGameToSlot(currentSaveTarget.getSlotIndex(), gameSaveData);
-                Logger.info("✅ Game saved to: " + currentSaveTarget);
-            }
-        } else {
-            Logger.error("⚠️ Save Failed: No target slot bound!");
-        }
+        return worldRefs;
     }
 
     private int[][] deepCopyMaze(int[][] src) {
@@ -1582,6 +2014,17 @@ private int calculateTheoreticalMaxScore() {
     }
 
     public GameSaveData getGameSaveData() { return gameSaveData; }
+
+    /**
+     * Attaches an input recorder, or detaches it with {@code null}.
+     *
+     * @param recorder recorder that receives every input and tick
+     */
+    public void setInputRecorder(InputRecorder recorder) {
+        this.inputRecorder = recorder;
+        this.recordedTime = 0f;
+    }
+    public InputRecorder getInputRecorder() { return inputRecorder; }
     public ScoreManager getScoreManager() { return scoreManager; }
     public AchievementManager getAchievementManager() { return achievementManager; }
 
@@ -1647,7 +2090,7 @@ public void setMouseTargetTile(int x, int y) {
     public int getMouseTileY() { return mouseTileY; }
 
     private void handleEnemyDrop(Enemy enemy) {
-        if (Math.random() <= 1.00) {
+        if (MathUtils.random() <= 1.00f) {
             int x = enemy.getX();
             int y = enemy.getY();
             HeartContainer container = new HeartContainer(x, y);
@@ -1725,7 +2168,7 @@ private void applyTreasureBuff(Player player) {
         if (!player.hasBuffManaEfficiency()) dropPool.add(2);
 
         if (!dropPool.isEmpty()) {
-            int choice = dropPool.get((int)(Math.random() * dropPool.size()));
+            int choice = dropPool.get(MathUtils.random(dropPool.size() - 1));
             switch (choice) {
                 case 0 -> { player.activateAttackBuff(); Logger.gameEvent("💥 Treasure Buff: Attack +50%"); }
                 case 1 -> { player.activateRegenBuff(); Logger.gameEvent("❤️ Treasure Buff: Regeneration"); }
@@ -1794,7 +2237,7 @@ private void addTrap(Trap trap) {
         if (trap != null && trapEffectManager != null) {
             trap.setEffectManager(trapEffectManager);
         }
-        traps.add(trap);
+        spawnTrap(trap);
     }
 
     private void buildWorldFromRestore(GameSaveData data) {
@@ -1822,6 +2265,7 @@ private void buildWorldFromRestore(GameSaveData data) {
         obstacles.clear();
         players.clear();
         bullets.clear();
+        rebuildEntityGrid();
 
         Player p1 = null;
         if (data.players.containsKey(Player.PlayerIndex.P1.name())) {
@@ -1855,26 +2299,33 @@ private void buildWorldFromRestore(GameSaveData data) {
         }
 
         syncSinglePlayerRef();
-        generateExitDoors();
-        generateEnemies();
-        generateTraps();
-        generateHearts();
-        generateTreasures();
-        generateKeys();
-        generateMovingWalls();
+        worldJournal.invalidate();
+        if (!isNewLevelTransition && data.world != null) {
+            restoreWorld(data.world);
+        } else {
+            generateExitDoors();
+            generateEnemies();
+            generateTraps();
+            generateHearts();
+            generateTreasures();
+            generateKeys();
+            generateMovingWalls();
+        }
 
         if (difficultyConfig.difficulty == Difficulty.HARD) {
-            fogSystem = new FogSystem();
+            fogSystem = headless ? null : new FogSystem();
             cat = new CatFollower(player, this);
         } else {
             fogSystem = null;
             cat = null;
         }
 
-        keyEffectManager     = new KeyEffectManager();
-        itemEffectManager    = new ItemEffectManager();
-        trapEffectManager    = new TrapEffectManager();
-        combatEffectManager  = new CombatEffectManager();
+        if (!headless) {
+            keyEffectManager     = new KeyEffectManager();
+            itemEffectManager    = new ItemEffectManager();
+            trapEffectManager    = new TrapEffectManager();
+            combatEffectManager  = new CombatEffectManager();
+        }
         bobaBulletEffectManager.clearAllBullets(false);
 
         if (player != null) {
@@ -1922,6 +2373,7 @@ public void rebuildMazeForBoss(DifficultyConfig dc) {
         exitDoors.clear();
         bullets.clear();
         bobaBulletEffectManager.clearAllBullets(false);
+        rebuildEntityGrid();
 
         generateExitDoors();
         generateEnemies();
@@ -1950,6 +2402,7 @@ public void rebuildMazeForBossWithPrebuilt(DifficultyConfig dc, int[][] prebuilt
         keys.clear();
         obstacles.clear();
         exitDoors.clear();
+        rebuildEntityGrid();
 
         generateExitDoors();
         generateEnemies();
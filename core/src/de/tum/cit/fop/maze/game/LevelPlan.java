@@ -0,0 +1,50 @@
+package de.tum.cit.fop.maze.game;
+
+import com.badlogic.gdx.utils.IntArray;
+/**
+ * Maze and entity placement of a level, prepared without creating any
+ * entity.
+ *
+ * <p>A plan only holds cell coordinates, so it can be built on a worker
+ * thread by {@link LevelPlanner}. {@link GameManager} later turns it into
+ * entities on the render thread, where textures may be loaded.
+ *
+ * <p>Placements are packed into {@link IntArray}s: spawns as {@code x, y}
+ * pairs, typed placements as {@code type, x, y} triples.
+ */
+public class LevelPlan {
+
+    /** Enemy types in {@link #enemies}. */
+    public static final int ENEMY_E01 = 1, ENEMY_E02 = 2, ENEMY_E03 = 3, ENEMY_E04 = 4;
+    /** Trap types in {@link #traps}. */
+    public static final int TRAP_T01 = 1, TRAP_T02 = 2, TRAP_T03 = 3, TRAP_T04 = 4;
+
+    public final DifficultyConfig config;
+    public final int[][] maze;
+    /**
+     * Whether the plan keeps the current exit doors instead of placing new ones.
+     * {@link #doors} is empty in that case.
+     */
+    public final boolean keepsDoors;
+
+    /** Player spawns as {@code x, y} pairs, P1 first. */
+    public final IntArray playerSpawns = new IntArray(4);
+    /** Exit doors as {@code x, y, direction ordinal} triples. */
+    public final IntArray doors = new IntArray();
+    public final IntArray enemies = new IntArray();
+    public final IntArray traps = new IntArray();
+    /** Hearts as {@code x, y} pairs. */
+    public final IntArray hearts = new IntArray();
+    /** Treasures as {@code x, y} pairs. */
+    public final IntArray treasures = new IntArray();
+    /** Keys as {@code x, y} pairs. */
+    public final IntArray keys = new IntArray();
+    /** Moving wall path as {@code startX, startY, endX, endY}. */
+    public final int[] movingWall = new int[4];
+
+    LevelPlan(DifficultyConfig config, int[][] maze, boolean keepsDoors) {
+        this.config = config;
+        this.maze = maze;
+        this.keepsDoors = keepsDoors;
+    }
+}
@@ -0,0 +1,365 @@
+package de.tum.cit.fop.maze.game;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import de.tum.cit.fop.maze.entities.ExitDoor;
+import de.tum.cit.fop.maze.maze.MazeGenerator;
+import de.tum.cit.fop.maze.utils.Logger;
+
+import java.util.Arrays;
+
+import static de.tum.cit.fop.maze.maze.MazeGenerator.BORDER_THICKNESS;
+/**
+ * Builds {@link LevelPlan}s: generates the maze and places players, doors,
+ * enemies, traps and items using the same rules and order as
+ * {@link GameManager}'s level generation.
+ *
+ * <p>Placement only works on cell coordinates and a private occupancy
+ * grid, so planning needs no entity, texture or GL context and can run on
+ * a worker thread. All randomness comes from the seed passed to
+ * {@link #plan}, which makes a plan reproducible.
+ *
+ * <p>A planner keeps a {@link MazeGenerator} and scratch grids between
+ * calls and is not thread-safe; use one planner per thread.
+ */
+public class LevelPlanner {
+
+    private static final int HEART_COUNT = 10;
+    private static final int TREASURE_COUNT = 10;
+    private static final int TREASURE_ATTEMPTS = 200;
+    private static final int KEY_ATTEMPTS = 10000;
+
+    private static final int OCCUPIED = 1;
+    private static final int SHELL = 2;
+    private static final int DOOR = 4;
+
+    private static final int[][] NEARBY_OFFSETS = {
+            {-1, -1}, {0, -1}, {1, -1},
+            {-1,  0},          {1,  0},
+            {-1,  1}, {0,  1}, {1,  1}
+    };
+
+    private final MazeGenerator generator;
+    private final RandomXS128 random = new RandomXS128();
+
+    private int[][] maze;
+    private int width;
+    private int height;
+    private byte[] cells = new byte[0];
+
+    public LevelPlanner() {
+        this(new MazeGenerator());
+    }
+
+    /**
+     * @param generator maze generator used only by this planner
+     */
+    public LevelPlanner(MazeGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Plans a complete level.
+     *
+     * @param config        difficulty configuration of the level
+     * @param twoPlayerMode whether a spawn for P2 is planned
+     * @param keptDoors     cells of exit doors that stay in place as
+     *                      {@code x, y} pairs, or {@code null} to place new doors
+     * @param seed          seed for the maze and all placements
+     * @return the plan
+     */
+    public LevelPlan plan(DifficultyConfig config, boolean twoPlayerMode, IntArray keptDoors, long seed) {
+        return plan(config, generator.generateMaze(config, seed), twoPlayerMode, keptDoors, seed);
+    }
+
+    /**
+     * Plans a level on a maze that was generated elsewhere, such as a
+     * preloaded boss phase.
+     *
+     * @param config        difficulty configuration of the level
+     * @param maze          maze grid, owned by the returned plan
+     * @param twoPlayerMode whether a spawn for P2 is planned
+     * @param keptDoors     cells of exit doors that stay in place as
+     *                      {@code x, y} pairs, or {@code null} to place new doors
+     * @param seed          seed for all placements
+     * @return the plan
+     */
+    public LevelPlan plan(DifficultyConfig config, int[][] maze, boolean twoPlayerMode, IntArray keptDoors, long seed) {
+        boolean keepsDoors = keptDoors != null && keptDoors.size > 0;
+        LevelPlan plan = new LevelPlan(config, maze, keepsDoors);
+        random.setSeed(seed);
+        begin(plan.maze);
+
+        if (keepsDoors) {
+            for (int i = 0; i < keptDoors.size; i += 2) {
+                mark(keptDoors.get(i), keptDoors.get(i + 1), DOOR);
+            }
+        }
+
+        int[] spawn1 = randomEmptyCell();
+        addPlayer(plan, spawn1);
+        if (twoPlayerMode) {
+            int[] spawn2 = findNearbySpawn(spawn1[0], spawn1[1]);
+            addPlayer(plan, spawn2 != null ? spawn2 : spawn1);
+        }
+
+        if (!keepsDoors) {
+            planExitDoors(plan, config.exitCount);
+        }
+        planEnemies(plan, config);
+        planTraps(plan, config);
+        for (int i = 0; i < HEART_COUNT; i++) {
+            addCell(plan.hearts, randomEmptyCell());
+        }
+        planTreasures(plan);
+        planKeys(plan, config);
+        planMovingWall(plan, config);
+        return plan;
+    }
+
+    private void begin(int[][] maze) {
+        this.maze = maze;
+        this.height = maze.length;
+        this.width = maze[0].length;
+        int size = width * height;
+        if (cells.length < size) {
+            cells = new byte[size];
+        } else {
+            Arrays.fill(cells, 0, size, (byte) 0);
+        }
+    }
+
+    private void addPlayer(LevelPlan plan, int[] p) {
+        plan.playerSpawns.add(p[0], p[1]);
+        mark(p[0], p[1], OCCUPIED);
+    }
+
+    private void planExitDoors(LevelPlan plan, int exitCount) {
+        for (int i = 0; i < exitCount; i++) {
+            int[] p = randomWallCell();
+            int attempts = 0;
+            while (!isValidDoorPosition(p[0], p[1]) && attempts < 50) {
+                p = randomWallCell();
+                attempts++;
+            }
+            plan.doors.add(p[0], p[1], determineDoorDirection(p[0], p[1]).ordinal());
+            mark(p[0], p[1], DOOR);
+        }
+    }
+
+    private void planEnemies(LevelPlan plan, DifficultyConfig config) {
+        addTyped(plan.enemies, LevelPlan.ENEMY_E01, config.enemyE01PearlCount);
+        addTyped(plan.enemies, LevelPlan.ENEMY_E02, config.enemyE02CoffeeBeanCount);
+        addTyped(plan.enemies, LevelPlan.ENEMY_E03, config.enemyE03CaramelCount);
+        for (int i = 0; i < config.enemyE04ShellCount; i++) {
+            int[] p = randomE04SpawnCell(plan);
+            plan.enemies.add(LevelPlan.ENEMY_E04, p[0], p[1]);
+            mark(p[0], p[1], OCCUPIED);
+            for (int dy = 0; dy < 2; dy++) {
+                for (int dx = 0; dx < 2; dx++) {
+                    mark(p[0] + dx, p[1] + dy, SHELL);
+                }
+            }
+        }
+    }
+
+    private void planTraps(LevelPlan plan, DifficultyConfig config) {
+        addTyped(plan.traps, LevelPlan.TRAP_T01, config.trapT01GeyserCount);
+        addTyped(plan.traps, LevelPlan.TRAP_T02, config.trapT02PearlMineCount);
+        addTyped(plan.traps, LevelPlan.TRAP_T03, config.trapT03TeaShardCount);
+        addTyped(plan.traps, LevelPlan.TRAP_T04, config.trapT04MudTileCount);
+    }
+
+    private void addTyped(IntArray target, int type, int count) {
+        for (int i = 0; i < count; i++) {
+            int[] p = randomEmptyCell();
+            target.add(type, p[0], p[1]);
+            mark(p[0], p[1], OCCUPIED);
+        }
+    }
+
+    private void addCell(IntArray target, int[] p) {
+        target.add(p[0], p[1]);
+        mark(p[0], p[1], OCCUPIED);
+    }
+
+    private void planTreasures(LevelPlan plan) {
+        int spawned = 0;
+        int attempts = 0;
+        while (spawned < TREASURE_COUNT && attempts < TREASURE_ATTEMPTS) {
+            attempts++;
+            int[] p = randomEmptyCell();
+            if (has(p[0], p[1], OCCUPIED)) continue;
+            addCell(plan.treasures, p);
+            spawned++;
+        }
+    }
+
+    private void planKeys(LevelPlan plan, DifficultyConfig config) {
+        for (int i = 0; i < config.keyCount; i++) {
+            int x = 0, y = 0;
+            boolean found = false;
+            for (int attempt = 0; attempt < KEY_ATTEMPTS && !found; attempt++) {
+                x = random.nextInt(config.mazeWidth);
+                y = random.nextInt(config.mazeHeight);
+                found = isPath(x, y) && !has(x, y, OCCUPIED | DOOR);
+            }
+            if (!found) {
+                Logger.warning("Key placement fallback used");
+                int[] p = randomEmptyCell();
+                x = p[0];
+                y = p[1];
+            }
+            addCell(plan.keys, new int[]{x, y});
+        }
+    }
+
+    private void planMovingWall(LevelPlan plan, DifficultyConfig config) {
+        int sx, sy;
+        do {
+            sx = random.nextInt(config.mazeWidth - 10);
+            sy = random.nextInt(config.mazeHeight);
+        } while (!isWalkableLine(sx, sy, sx + 5));
+        plan.movingWall[0] = sx;
+        plan.movingWall[1] = sy;
+        plan.movingWall[2] = sx + 5;
+        plan.movingWall[3] = sy;
+    }
+
+    private int[] randomEmptyCell() {
+        int x, y;
+        int attempts = 0;
+        do {
+            x = randomRange(1, width - 2);
+            y = randomRange(1, height - 2);
+            attempts++;
+            if (attempts > 500) {
+                return new int[]{width / 2, height / 2};
+            }
+        } while (!canPlayerMoveTo(x, y) || has(x, y, OCCUPIED));
+        return new int[]{x, y};
+    }
+
+    private int[] findNearbySpawn(int px, int py) {
+        for (int[] o : NEARBY_OFFSETS) {
+            int nx = px + o[0];
+            int ny = py + o[1];
+            if (canPlayerMoveTo(nx, ny) && !has(nx, ny, OCCUPIED)) {
+                return new int[]{nx, ny};
+            }
+        }
+        Logger.warning("No nearby spawn found for P2, fallback to random");
+        return null;
+    }
+
+    private int[] randomE04SpawnCell(LevelPlan plan) {
+        int minX = BORDER_THICKNESS;
+        int maxX = width - BORDER_THICKNESS - 2;
+        int minY = BORDER_THICKNESS;
+        int maxY = height - BORDER_THICKNESS - 2;
+        IntArray spawns = plan.playerSpawns;
+
+        for (int attempt = 0; attempt < 500; attempt++) {
+            int x = (maxX > minX) ? randomRange(minX, maxX) : randomRange(1, width - 3);
+            int y = (maxY > minY) ? randomRange(minY, maxY) : randomRange(1, height - 3);
+
+            boolean clear = true;
+            for (int dy = 0; dy < 3 && clear; dy++) {
+                for (int dx = 0; dx < 3; dx++) {
+                    if (maze[y + dy][x + dx] != 1) {
+                        clear = false;
+                        break;
+                    }
+                }
+            }
+            if (!clear) continue;
+
+            boolean overlapsPlayer = false;
+            for (int i = 0; i < spawns.size; i += 2) {
+                int px = spawns.get(i);
+                int py = spawns.get(i + 1);
+                if (px >= x && px <= x + 1 && py >= y && py <= y + 1) {
+                    overlapsPlayer = true;
+                    break;
+                }
+            }
+            if (overlapsPlayer) continue;
+            return new int[]{x, y};
+        }
+        Logger.warning("E04 spawn fallback used (Map too crowded?)");
+        return new int[]{spawns.get(0), spawns.get(1)};
+    }
+
+    private int[] randomWallCell() {
+        for (int attempt = 0; attempt < 1000; attempt++) {
+            int x = BORDER_THICKNESS + random.nextInt(width - BORDER_THICKNESS * 2);
+            int y = BORDER_THICKNESS + random.nextInt(height - BORDER_THICKNESS * 2);
+
+            if (maze[y][x] != 0) continue;
+            if (has(x, y, DOOR)) continue;
+            if (!hasAdjacentPath(x, y)) continue;
+            return new int[]{x, y};
+        }
+        return new int[]{BORDER_THICKNESS, BORDER_THICKNESS};
+    }
+
+    private boolean isValidDoorPosition(int x, int y) {
+        return maze[y][x] == 0 && hasAdjacentPath(x, y);
+    }
+
+    private boolean hasAdjacentPath(int x, int y) {
+        return isPath(x, y + 1) || isPath(x, y - 1) || isPath(x - 1, y) || isPath(x + 1, y);
+    }
+
+    private ExitDoor.DoorDirection determineDoorDirection(int x, int y) {
+        ExitDoor.DoorDirection[] possible = new ExitDoor.DoorDirection[4];
+        int count = 0;
+        if (isPath(x, y + 1)) possible[count++] = ExitDoor.DoorDirection.UP;
+        if (isPath(x, y - 1)) possible[count++] = ExitDoor.DoorDirection.DOWN;
+        if (isPath(x - 1, y)) possible[count++] = ExitDoor.DoorDirection.LEFT;
+        if (isPath(x + 1, y)) possible[count++] = ExitDoor.DoorDirection.RIGHT;
+
+        if (count > 0) {
+            return possible[random.nextInt(count)];
+        }
+        if (y >= height - 3) return ExitDoor.DoorDirection.DOWN;
+        if (y <= 2) return ExitDoor.DoorDirection.UP;
+        if (x >= width - 3) return ExitDoor.DoorDirection.LEFT;
+        if (x <= 2) return ExitDoor.DoorDirection.RIGHT;
+        return ExitDoor.DoorDirection.UP;
+    }
+
+    /**
+     * Same rule as {@link GameManager#canPlayerMoveTo(int, int)} for a fresh
+     * level: shells and (locked) exit doors block, otherwise path cells are free.
+     */
+    private boolean canPlayerMoveTo(int x, int y) {
+        if (x < 0 || y < 0 || y >= height || x >= width) return false;
+        if (has(x, y, SHELL | DOOR)) return false;
+        return maze[y][x] == 1;
+    }
+
+    private boolean isWalkableLine(int sx, int sy, int ex) {
+        for (int x = sx; x <= ex; x++) {
+            if (!isPath(x, sy)) return false;
+        }
+        return true;
+    }
+
+    private boolean isPath(int x, int y) {
+        return x >= 0 && y >= 0 && y < height && x < width && maze[y][x] == 1;
+    }
+
+    private boolean has(int x, int y, int flags) {
+        return x >= 0 && y >= 0 && y < height && x < width && (cells[y * width + x] & flags) != 0;
+    }
+
+    private void mark(int x, int y, int flag) {
+        if (x < 0 || y < 0 || y >= height || x >= width) return;
+        cells[y * width + x] |= flag;
+    }
+
+    private int randomRange(int start, int end) {
+        return start + random.nextInt(end - start + 1);
+    }
+}
@@ -0,0 +1,127 @@
+package de.tum.cit.fop.maze.game;
+
+import com.badlogic.gdx.utils.IntArray;
+import de.tum.cit.fop.maze.utils.Logger;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+/**
+ * Plans the next level on a background thread while the current one is played.
+ *
+ * <p>{@link GameManager} requests a plan right after a level starts and
+ * takes it at the next reset, so the level switch only creates entities
+ * from a finished {@link LevelPlan} instead of generating the maze and
+ * searching for spawn cells on the render thread.
+ *
+ * <p>A prefetched plan is only handed out if it was made for the same
+ * configuration, player mode and kept exit doors as the reset asking for
+ * it; otherwise it is dropped and the caller plans synchronously. The seed
+ * is chosen by the caller on the game thread, so prefetching does not
+ * change which levels a seeded run produces.
+ *
+ * <p>All methods must be called from the game thread.
+ */
+public class LevelPrefetcher {
+
+    private static final long IDLE_TIMEOUT_SECONDS = 30;
+
+    private final LevelPlanner planner = new LevelPlanner();
+    private final ThreadPoolExecutor executor;
+
+    private Future<LevelPlan> pending;
+    private DifficultyConfig pendingConfig;
+    private boolean pendingTwoPlayerMode;
+    private final IntArray pendingDoors = new IntArray();
+
+    public LevelPrefetcher() {
+        executor = new ThreadPoolExecutor(1, 1, IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "LevelPrefetch-Thread");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Starts planning a level in the background, replacing any earlier request.
+     *
+     * @param config        difficulty configuration of the level
+     * @param twoPlayerMode whether a spawn for P2 is planned
+     * @param keptDoors     exit door cells that stay in place as {@code x, y}
+     *                      pairs, empty to place new doors
+     * @param seed          seed for the maze and placements
+     */
+    public void prefetch(DifficultyConfig config, boolean twoPlayerMode, IntArray keptDoors, long seed) {
+        if (executor.isShutdown()) return;
+        cancel();
+        pendingConfig = config;
+        pendingTwoPlayerMode = twoPlayerMode;
+        pendingDoors.clear();
+        pendingDoors.addAll(keptDoors);
+
+        IntArray doors = new IntArray(keptDoors);
+        pending = executor.submit(() -> planner.plan(config, twoPlayerMode, doors, seed));
+    }
+
+    /**
+     * Returns the prefetched plan if it matches the request, waiting for it
+     * if planning has not finished yet.
+     *
+     * @param config        difficulty configuration of the level
+     * @param twoPlayerMode whether the level has two players
+     * @param keptDoors     exit door cells that stay in place
+     * @return the matching plan, or {@code null} if there is none
+     */
+    public LevelPlan take(DifficultyConfig config, boolean twoPlayerMode, IntArray keptDoors) {
+        Future<LevelPlan> future = pending;
+        if (future == null) return null;
+        boolean matches = pendingConfig == config
+                && pendingTwoPlayerMode == twoPlayerMode
+                && pendingDoors.equals(keptDoors);
+        pending = null;
+        pendingConfig = null;
+        if (!matches) {
+            future.cancel(false);
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Logger.warning("Level prefetch failed: " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * @return true if a plan has been requested and is ready to be taken
+     */
+    public boolean isReady() {
+        return pending != null && pending.isDone();
+    }
+
+    /**
+     * Drops the pending request, if any.
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+            pendingConfig = null;
+        }
+    }
+
+    /**
+     * Drops the pending request and stops the worker thread.
+     */
+    public void dispose() {
+        cancel();
+        executor.shutdownNow();
+    }
+}
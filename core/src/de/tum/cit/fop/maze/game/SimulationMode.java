@@ -0,0 +1,85 @@
+package de.tum.cit.fop.maze.game;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+/**
+ * Global switch for running the game simulation without a window.
+ *
+ * <p>In headless mode {@link GameManager} skips purely visual systems
+ * (fog shader, effect managers, spawn portal), persistence is disabled,
+ * and the shared {@link MathUtils#random} generator is seeded so that a
+ * run is reproducible.
+ *
+ * <p>The mode must be enabled before any {@link GameManager} is created
+ * and is meant for tools such as the simulation tick benchmark.
+ */
+public final class SimulationMode {
+
+    private static boolean headless = false;
+    private static long seed = 0L;
+
+    private SimulationMode() {}
+
+    /**
+     * Enables headless mode and seeds the shared random generator.
+     *
+     * @param seed random seed of the run
+     */
+    public static void enableHeadless(long seed) {
+        headless = true;
+        reseed(seed);
+    }
+
+    /**
+     * Re-seeds the shared random generator, e.g. before each measured run.
+     *
+     * @param seed random seed
+     */
+    public static void reseed(long seed) {
+        SimulationMode.seed = seed;
+        MathUtils.random.setSeed(seed);
+    }
+
+    /**
+     * Captures the exact state of the shared random generator, e.g. when
+     * an input recording starts in the middle of a run.
+     *
+     * @return the two state words, see {@link #setRandomState(long, long)}
+     */
+    public static long[] getRandomState() {
+        RandomXS128 random = sharedRandom();
+        return new long[]{random.getState(0), random.getState(1)};
+    }
+
+    /**
+     * Restores a state captured by {@link #getRandomState()} without
+     * changing the run's seed.
+     *
+     * @param state0 first state word
+     * @param state1 second state word
+     */
+    public static void setRandomState(long state0, long state1) {
+        sharedRandom().setState(state0, state1);
+    }
+
+    private static RandomXS128 sharedRandom() {
+        if (!(MathUtils.random instanceof RandomXS128 random)) {
+            throw new IllegalStateException("MathUtils.random is not a RandomXS128");
+        }
+        return random;
+    }
+
+    /**
+     * @return true if the game runs without rendering, audio output and persistence
+     */
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * @return seed of the current run
+     */
+    public static long getSeed() {
+        return seed;
+    }
+}
@@ -193,7 +193,7 @@ public void onLevelFinished(int levelNumber) {
             }
         }
 
-        saveCareerSync();
+        saveCareer();
     }
     /**
      * Marks the story PV as watched and unlocks the corresponding achievement.
@@ -205,7 +205,7 @@ public void onPVWatched() {
         if (!careerData.hasWatchedPV) {
             careerData.hasWatchedPV = true;
             unlock(AchievementType.ACH_01_TRAINING);
-            saveCareerSync();
+            saveCareer();
         }
     }
     /**
@@ -252,10 +252,4 @@ private void saveCareer() {
             storageManager.saveCareer(careerData);
         }
     }
-
-    private void saveCareerSync() {
-        if (storageManager != null) {
-            storageManager.saveCareerSync(careerData);
-        }
-    }
 }
\ No newline at end of file
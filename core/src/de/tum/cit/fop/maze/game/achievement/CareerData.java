@@ -60,4 +60,29 @@ public class CareerData {
      * Set of unlocked achievement identifiers.
      */
     public HashSet<String> unlockedAchievements = new HashSet<>();
+
+    /**
+     * Creates a detached copy for saving in the background.
+     *
+     * <p>The copy shares no mutable state with this instance, so it can be
+     * encoded on the save thread while the game keeps updating this one.
+     *
+     * @return a snapshot of the current values
+     */
+    public CareerData snapshot() {
+        CareerData copy = new CareerData();
+        copy.totalKills_E01 = totalKills_E01;
+        copy.totalKills_E02 = totalKills_E02;
+        copy.totalKills_E03 = totalKills_E03;
+        copy.totalDashKills_E04 = totalDashKills_E04;
+        copy.totalKills_Global = totalKills_Global;
+        copy.totalHeartsCollected = totalHeartsCollected;
+        copy.collectedBuffTypes = collectedBuffTypes != null ? new HashSet<>(collectedBuffTypes) : new HashSet<>();
+        copy.hasWatchedPV = hasWatchedPV;
+        copy.hasHealedOnce = hasHealedOnce;
+        copy.hasClearedHardMode = hasClearedHardMode;
+        copy.hasKilledBoss = hasKilledBoss;
+        copy.unlockedAchievements = unlockedAchievements != null ? new HashSet<>(unlockedAchievements) : new HashSet<>();
+        return copy;
+    }
 }
\ No newline at end of file
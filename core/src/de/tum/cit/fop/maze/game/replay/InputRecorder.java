@@ -0,0 +1,174 @@
+package de.tum.cit.fop.maze.game.replay;
+
+import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.game.FixedStepSimulation;
+import de.tum.cit.fop.maze.game.GameManager;
+import de.tum.cit.fop.maze.game.SimulationMode;
+import de.tum.cit.fop.maze.game.save.BinarySaveCodec;
+import de.tum.cit.fop.maze.utils.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+/**
+ * Records the inputs a {@link GameManager} receives into an
+ * {@link InputReplay}.
+ *
+ * <p>Attached with {@link GameManager#setInputRecorder(InputRecorder)},
+ * the recorder sees every move, ability and interact call, whether it came
+ * from a screen or from the manager's own input handler. While it is
+ * attached, {@link GameManager#update(float)} simulates in fixed
+ * {@link #STEP} ticks regardless of the frame delta and closes a tick
+ * after each. Inputs of a tick are replayed before its update. As every
+ * tick has the same delta, idle ticks cost nothing in the recording.
+ *
+ * <p>Recording captures the current world as the start save and the exact
+ * state of the shared random generator, which playback restores, so
+ * playback starts from the same state. The generator is not re-seeded,
+ * so starting a recording does not change the game being recorded.
+ * State that saves do not hold, such as AI timers, starts fresh in
+ * playback, so a replay matches its live session closely but not exactly;
+ * two playbacks of the same replay always match.
+ *
+ * <p>Used on the game thread only.
+ */
+public class InputRecorder {
+
+    /** Simulation step of recorded runs: 60 ticks per second. */
+    public static final float STEP = FixedStepSimulation.DEFAULT_STEP;
+    /** Ticks simulated at most per frame; slower frames drop the rest. */
+    public static final int MAX_TICKS_PER_FRAME = 4;
+
+    private final long seed;
+    private final long[] randomState;
+    private final String difficulty;
+    private final boolean twoPlayerMode;
+    private final byte[] startSave;
+
+    private final ByteArrayOutputStream stream = new ByteArrayOutputStream(4096);
+    private byte[] events = new byte[16];
+    private int eventCount = 0;
+    private int idle = 0;
+    private int lastDeltaBits = Float.floatToRawIntBits(Float.NaN);
+    private int tickCount = 0;
+
+    private InputRecorder(long seed, String difficulty, boolean twoPlayerMode, byte[] startSave) {
+        this.seed = seed;
+        this.randomState = SimulationMode.getRandomState();
+        this.difficulty = difficulty;
+        this.twoPlayerMode = twoPlayerMode;
+        this.startSave = startSave;
+    }
+
+    /**
+     * Starts recording a running game from its current state.
+     *
+     * @param gameManager game to record
+     * @return the attached recorder
+     * @throws IOException if the current state cannot be captured
+     */
+    public static InputRecorder start(GameManager gameManager) throws IOException {
+        byte[] startSave = new BinarySaveCodec().encode(gameManager.captureSaveData());
+        InputRecorder recorder = new InputRecorder(SimulationMode.getSeed(),
+                gameManager.getDifficultyConfig().difficulty.name(),
+                gameManager.isTwoPlayerMode(), startSave);
+        gameManager.setInputRecorder(recorder);
+        Logger.info("Input recording started");
+        return recorder;
+    }
+
+    /**
+     * Starts recording a game that was just created by
+     * {@link de.tum.cit.fop.maze.game.FixedStepSimulation#createHeadlessGame}
+     * with the given seed. Playback regenerates the level from the seed.
+     *
+     * @param gameManager freshly reset headless game
+     * @param seed        seed the game was created with
+     * @return the attached recorder
+     */
+    public static InputRecorder startFromSeed(GameManager gameManager, long seed) {
+        InputRecorder recorder = new InputRecorder(seed,
+                gameManager.getDifficultyConfig().difficulty.name(),
+                gameManager.isTwoPlayerMode(), null);
+        gameManager.setInputRecorder(recorder);
+        return recorder;
+    }
+
+    /**
+     * Detaches the recorder and returns what was recorded.
+     *
+     * @param gameManager game the recorder is attached to
+     * @return the replay
+     */
+    public InputReplay stop(GameManager gameManager) {
+        if (gameManager.getInputRecorder() == this) {
+            gameManager.setInputRecorder(null);
+        }
+        if (eventCount > 0) endTick(Float.intBitsToFloat(lastDeltaBits));
+        Logger.info("Input recording stopped after " + tickCount + " ticks (" + stream.size() + " bytes)");
+        return new InputReplay(seed, randomState, difficulty, twoPlayerMode, tickCount, startSave, stream.toByteArray());
+    }
+
+    /**
+     * @return number of ticks recorded so far
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public void recordMove(Player.PlayerIndex index, int dx, int dy) {
+        addEvent(InputReplay.encodeEvent(InputReplay.EVENT_MOVE, index, InputReplay.encodeDirection(dx, dy)));
+    }
+
+    public void recordAbility(Player.PlayerIndex index, int slot) {
+        addEvent(InputReplay.encodeEvent(InputReplay.EVENT_ABILITY, index, slot));
+    }
+
+    public void recordInteract(Player.PlayerIndex index) {
+        addEvent(InputReplay.encodeEvent(InputReplay.EVENT_INTERACT, index, 0));
+    }
+
+    private void addEvent(int event) {
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, eventCount * 2);
+        }
+        events[eventCount++] = (byte) event;
+    }
+
+    /**
+     * Closes the current tick.
+     *
+     * @param delta delta the tick was updated with, {@link #STEP} for
+     *              ticks run by {@link GameManager#update(float)}
+     */
+    public void endTick(float delta) {
+        tickCount++;
+        int deltaBits = Float.floatToRawIntBits(delta);
+        boolean deltaChanged = deltaBits != lastDeltaBits;
+        if (eventCount == 0 && !deltaChanged) {
+            idle++;
+            return;
+        }
+
+        writeVarInt(idle);
+        writeVarInt(eventCount << 1 | (deltaChanged ? 1 : 0));
+        if (deltaChanged) {
+            stream.write(deltaBits >>> 24);
+            stream.write(deltaBits >>> 16);
+            stream.write(deltaBits >>> 8);
+            stream.write(deltaBits);
+            lastDeltaBits = deltaBits;
+        }
+        stream.write(events, 0, eventCount);
+        eventCount = 0;
+        idle = 0;
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            stream.write(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        stream.write(value);
+    }
+}
@@ -0,0 +1,265 @@
+package de.tum.cit.fop.maze.game.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import de.tum.cit.fop.maze.entities.Player;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+/**
+ * A recorded sequence of gameplay inputs, one entry per simulation tick.
+ *
+ * <p>File layout (big-endian):
+ * <pre>
+ * int    magic "MZRP"
+ * short  version
+ * long   random seed the level was generated with
+ * long   random generator state word 0 at the first tick
+ * long   random generator state word 1 at the first tick
+ * string difficulty
+ * bool   two-player mode
+ * int    tick count
+ * int    start save length, then the save as written by
+ *        {@link de.tum.cit.fop.maze.game.save.BinarySaveCodec}; 0 if the
+ *        run starts from a freshly generated level
+ * int    tick stream length, then the tick stream
+ * </pre>
+ *
+ * <p>The tick stream only stores ticks that carry inputs or change the
+ * frame delta. Each such tick is written as
+ * <pre>
+ * varint idle ticks since the previous record, repeating the last delta
+ * varint event count &lt;&lt; 1 | delta changed
+ * float  delta, if changed
+ * byte   per event: type (bits 6-7), player (bit 5), argument (bits 0-4)
+ * </pre>
+ * Ticks after the last record are idle. Recorded games advance in fixed
+ * steps (see {@link InputRecorder#STEP}), so the delta is written once and
+ * only ticks with inputs produce records; a tick with one input after
+ * fewer than 128 idle ticks takes three bytes. A held direction repeats
+ * once per grid step, about every fifth tick, so an hour of constant
+ * movement takes on the order of 130 KB.
+ * {@link de.tum.cit.fop.maze.tools.benchmark.ReplayBenchmark} reports the
+ * measured size of a scripted session.
+ *
+ * @see InputRecorder
+ * @see ReplayPlayer
+ */
+public class InputReplay {
+
+    /** "MZRP" */
+    public static final int MAGIC = 0x4D5A5250;
+    public static final short VERSION = 2;
+
+    static final int EVENT_MOVE = 0;
+    static final int EVENT_ABILITY = 1;
+    static final int EVENT_INTERACT = 2;
+
+    /** Random seed the level is generated with when there is no start save. */
+    public final long seed;
+    /** Difficulty name of the run. */
+    public final String difficulty;
+    /** Whether the run has two players. */
+    public final boolean twoPlayerMode;
+    /** Number of recorded ticks. */
+    public final int tickCount;
+
+    /** State of the shared random generator at the first tick. */
+    final long[] randomState;
+    final byte[] startSave;
+    final byte[] ticks;
+
+    InputReplay(long seed, long[] randomState, String difficulty, boolean twoPlayerMode, int tickCount,
+                byte[] startSave, byte[] ticks) {
+        this.seed = seed;
+        this.randomState = randomState;
+        this.difficulty = difficulty;
+        this.twoPlayerMode = twoPlayerMode;
+        this.tickCount = tickCount;
+        this.startSave = startSave;
+        this.ticks = ticks;
+    }
+
+    /**
+     * @return whether playback restores a captured world instead of
+     *         generating a level from the seed
+     */
+    public boolean hasStartSave() {
+        return startSave != null;
+    }
+
+    /**
+     * @return size of the tick stream in bytes
+     */
+    public int getStreamSize() {
+        return ticks.length;
+    }
+
+    /**
+     * Writes the replay.
+     *
+     * @param out target stream
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeLong(randomState[0]);
+        out.writeLong(randomState[1]);
+        out.writeUTF(difficulty);
+        out.writeBoolean(twoPlayerMode);
+        out.writeInt(tickCount);
+        out.writeInt(startSave != null ? startSave.length : 0);
+        if (startSave != null) out.write(startSave);
+        out.writeInt(ticks.length);
+        out.write(ticks);
+    }
+
+    /**
+     * Reads a replay written by {@link #write(DataOutputStream)}.
+     *
+     * @param in source stream
+     * @return the replay
+     * @throws IOException if the data is not a supported replay
+     */
+    public static InputReplay read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an input replay");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = in.readLong();
+        long[] randomState = {in.readLong(), in.readLong()};
+        String difficulty = in.readUTF();
+        boolean twoPlayerMode = in.readBoolean();
+        int tickCount = in.readInt();
+        int saveLength = in.readInt();
+        byte[] startSave = null;
+        if (saveLength > 0) {
+            startSave = new byte[saveLength];
+            in.readFully(startSave);
+        }
+        byte[] ticks = new byte[in.readInt()];
+        in.readFully(ticks);
+        return new InputReplay(seed, randomState, difficulty, twoPlayerMode, tickCount, startSave, ticks);
+    }
+
+    /**
+     * Writes the replay to a file.
+     *
+     * @param file target file
+     * @throws IOException if writing fails
+     */
+    public void save(FileHandle file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param file replay file
+     * @return the replay
+     * @throws IOException if the file cannot be read or is not a replay
+     */
+    public static InputReplay load(FileHandle file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            return read(in);
+        }
+    }
+
+    static int encodeEvent(int type, Player.PlayerIndex index, int argument) {
+        return type << 6 | index.ordinal() << 5 | (argument & 0x1F);
+    }
+
+    static int encodeDirection(int dx, int dy) {
+        return (Integer.signum(dx) + 1) * 3 + Integer.signum(dy) + 1;
+    }
+
+    /**
+     * Receives the inputs of a tick during playback.
+     */
+    interface Sink {
+        void move(Player.PlayerIndex index, int dx, int dy);
+        void ability(Player.PlayerIndex index, int slot);
+        void interact(Player.PlayerIndex index);
+    }
+
+    /**
+     * Reads the tick stream in order.
+     */
+    class Cursor {
+        private int position = 0;
+        private int tick = 0;
+        private int idle = -1;
+        private float delta = 1f / 60f;
+
+        /**
+         * @return whether ticks remain
+         */
+        boolean hasNext() {
+            return tick < tickCount;
+        }
+
+        /**
+         * Passes the inputs of the next tick to the sink.
+         *
+         * @return the frame delta of the tick
+         */
+        float next(Sink sink) throws IOException {
+            tick++;
+            if (idle < 0) {
+                if (position >= ticks.length) return delta;
+                idle = readVarInt();
+            }
+            if (idle > 0) {
+                idle--;
+                return delta;
+            }
+            idle = -1;
+
+            int head = readVarInt();
+            if ((head & 1) != 0) {
+                delta = Float.intBitsToFloat(readInt());
+            }
+            for (int i = head >>> 1; i > 0; i--) {
+                if (position >= ticks.length) throw new IOException("Truncated replay");
+                int event = ticks[position++] & 0xFF;
+                Player.PlayerIndex index = Player.PlayerIndex.values()[event >>> 5 & 1];
+                int argument = event & 0x1F;
+                switch (event >>> 6) {
+                    case EVENT_MOVE -> sink.move(index, argument / 3 - 1, argument % 3 - 1);
+                    case EVENT_ABILITY -> sink.ability(index, argument);
+                    case EVENT_INTERACT -> sink.interact(index);
+                    default -> throw new IOException("Unknown replay event " + event);
+                }
+            }
+            return delta;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                if (position >= ticks.length) throw new IOException("Truncated replay");
+                int b = ticks[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("Malformed replay varint");
+        }
+
+        private int readInt() throws IOException {
+            if (position + 4 > ticks.length) throw new IOException("Truncated replay");
+            int value = (ticks[position] & 0xFF) << 24 | (ticks[position + 1] & 0xFF) << 16
+                    | (ticks[position + 2] & 0xFF) << 8 | (ticks[position + 3] & 0xFF);
+            position += 4;
+            return value;
+        }
+    }
+}
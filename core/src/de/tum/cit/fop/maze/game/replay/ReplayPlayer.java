@@ -0,0 +1,160 @@
+package de.tum.cit.fop.maze.game.replay;
+
+import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.game.Difficulty;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.game.FixedStepSimulation;
+import de.tum.cit.fop.maze.game.GameManager;
+import de.tum.cit.fop.maze.game.SimulationMode;
+import de.tum.cit.fop.maze.game.save.BinarySaveCodec;
+import de.tum.cit.fop.maze.game.save.GameSaveData;
+import de.tum.cit.fop.maze.game.save.StorageManager;
+
+import java.io.IOException;
+/**
+ * Plays an {@link InputReplay} back into a {@link GameManager} without
+ * rendering.
+ *
+ * <p>Each {@link #tick()} passes the recorded inputs of one tick to the
+ * game's input callbacks and then updates it with the recorded delta, so
+ * playback runs as fast as the simulation allows.
+ *
+ * <p>Playback requires {@link SimulationMode}, which keeps it from writing
+ * saves. The mode is process-wide, so it is enabled by the tool's entry
+ * point, such as the headless simulation launcher, never by the player.
+ */
+public class ReplayPlayer implements InputReplay.Sink {
+
+    private final GameManager gameManager;
+    private final InputReplay.Cursor cursor;
+    private int tick = 0;
+
+    /**
+     * Creates a game in the state the replay starts from.
+     *
+     * @param replay replay to play
+     * @throws IOException if the start save cannot be decoded
+     * @throws IllegalStateException if {@link SimulationMode} is not enabled
+     */
+    public ReplayPlayer(InputReplay replay) throws IOException {
+        if (!SimulationMode.isHeadless()) {
+            throw new IllegalStateException("Replay playback requires SimulationMode");
+        }
+        this.gameManager = createGame(replay);
+        this.cursor = replay.new Cursor();
+    }
+
+    private static GameManager createGame(InputReplay replay) throws IOException {
+        GameManager gm = restoreStart(replay);
+        SimulationMode.setRandomState(replay.randomState[0], replay.randomState[1]);
+        return gm;
+    }
+
+    private static GameManager restoreStart(InputReplay replay) throws IOException {
+        DifficultyConfig config = DifficultyConfig.of(Difficulty.valueOf(replay.difficulty));
+        if (!replay.hasStartSave()) {
+            return FixedStepSimulation.createHeadlessGame(config, replay.twoPlayerMode, replay.seed);
+        }
+
+        GameSaveData data = new BinarySaveCodec().decode(replay.startSave);
+        GameManager gm = new GameManager(config, data.twoPlayerMode);
+        // A slot target keeps player positions; AUTO restores respawn them randomly.
+        gm.restoreFromSaveData(data, StorageManager.SaveTarget.fromSlot(1));
+        if (gm.getPlayers().isEmpty()) {
+            gm.resetGame();
+        }
+        gm.applyRestoreIfNeeded();
+        return gm;
+    }
+
+    /**
+     * @return the game being played
+     */
+    public GameManager getGameManager() {
+        return gameManager;
+    }
+
+    /**
+     * @return number of ticks played
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return whether all recorded ticks were played
+     */
+    public boolean isFinished() {
+        return !cursor.hasNext();
+    }
+
+    /**
+     * Plays one tick.
+     *
+     * @return false if the replay has ended
+     * @throws IOException if the tick stream is corrupt
+     */
+    public boolean tick() throws IOException {
+        if (!cursor.hasNext()) return false;
+        float delta = cursor.next(this);
+        gameManager.update(delta);
+        tick++;
+        return true;
+    }
+
+    /**
+     * Plays all remaining ticks.
+     *
+     * @throws IOException if the tick stream is corrupt
+     */
+    public void runToEnd() throws IOException {
+        while (tick()) {
+            // keep playing
+        }
+    }
+
+    /**
+     * @return checksum of the current game state
+     * @see #stateChecksum(GameManager)
+     */
+    public long stateChecksum() {
+        return stateChecksum(gameManager);
+    }
+
+    /**
+     * Hashes level, score and player state, for comparing a live run with
+     * its playbacks.
+     *
+     * @param gm game to hash
+     * @return checksum of the game state
+     */
+    public static long stateChecksum(GameManager gm) {
+        long h = gm.getCurrentLevel();
+        if (gm.getScoreManager() != null) {
+            h = h * 31 + gm.getScoreManager().getCurrentScore();
+        }
+        for (Player p : gm.getPlayers()) {
+            h = h * 31 + p.getX();
+            h = h * 31 + p.getY();
+            h = h * 31 + p.getLives();
+            h = h * 31 + Float.floatToIntBits(p.getMana());
+        }
+        h = h * 31 + gm.getEnemies().size();
+        return h;
+    }
+
+    @Override
+    public void move(Player.PlayerIndex index, int dx, int dy) {
+        gameManager.onMoveInput(index, dx, dy);
+    }
+
+    @Override
+    public void ability(Player.PlayerIndex index, int slot) {
+        gameManager.onAbilityInput(index, slot);
+    }
+
+    @Override
+    public void interact(Player.PlayerIndex index) {
+        gameManager.onInteractInput(index);
+    }
+}
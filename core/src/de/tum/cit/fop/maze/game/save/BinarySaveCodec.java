@@ -0,0 +1,475 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+/**
+ * Compact, versioned binary save format.
+ *
+ * <p>Layout (big-endian, strings as modified UTF-8):
+ * <pre>
+ * int    magic "MZSV"
+ * short  version
+ * byte   body encoding (0 plain, 1 deflated)
+ * body:
+ * int    currentLevel, score
+ * string difficulty
+ * bool   twoPlayerMode
+ * int    levelBaseScore, levelPenalty, sessionDamageTaken
+ * byte   maze encoding (0 none, 1 bit-packed, 2 raw ints)
+ *        int height, int width, then one bit per cell with every row
+ *        padded to whole bytes, or per-row lengths and raw cells
+ * int    player count, per player: id, position, lives, mana, flag bits,
+ *        ability levels and tagged ability state values
+ * int    session kill count, per entry: enemy type, kills
+ * int    achievement count, per entry: achievement id
+ * bool   world present (version 2+), then long snapshot id and per
+ *        entity kind an int count followed by the row ints
+ * </pre>
+ *
+ * <p>Mazes containing only walls and paths are stored as one bit per cell;
+ * any other cell value falls back to raw ints, so encoding is lossless.
+ * Byte-aligned rows keep the repeating corridor pattern visible to the
+ * deflater. Files are recognized by their magic number, see
+ * {@link #isBinary(byte[])}.
+ */
+public class BinarySaveCodec implements SaveCodec {
+
+    /** "MZSV" */
+    public static final int MAGIC = 0x4D5A5356;
+    public static final short VERSION = 2;
+
+    private final boolean compress;
+
+    private static final byte MAZE_NONE = 0;
+    private static final byte MAZE_BITS = 1;
+    private static final byte MAZE_RAW = 2;
+
+    private static final byte BODY_PLAIN = 0;
+    private static final byte BODY_DEFLATED = 1;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_INT = 1;
+    private static final byte VALUE_FLOAT = 2;
+    private static final byte VALUE_BOOLEAN = 3;
+    private static final byte VALUE_STRING = 4;
+    private static final byte VALUE_LONG = 5;
+    private static final byte VALUE_DOUBLE = 6;
+
+    private static final int FLAG_HAS_KEY = 1;
+    private static final int FLAG_BUFF_ATTACK = 1 << 1;
+    private static final int FLAG_BUFF_REGEN = 1 << 2;
+    private static final int FLAG_BUFF_MANA = 1 << 3;
+
+    /**
+     * Creates a codec writing deflated records.
+     */
+    public BinarySaveCodec() {
+        this(true);
+    }
+
+    /**
+     * @param compress whether the record body is deflated; decoding
+     *                 accepts both
+     */
+    public BinarySaveCodec(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * @param bytes file content
+     * @return whether the content starts with this format's magic number
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes.length >= 4
+                && ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF)) == MAGIC;
+    }
+
+    @Override
+    public byte[] encode(GameSaveData data) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(estimateSize(data));
+        DataOutputStream header = new DataOutputStream(baos);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.writeByte(compress ? BODY_DEFLATED : BODY_PLAIN);
+        header.flush();
+
+        Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        try {
+            DataOutputStream out = new DataOutputStream(compress
+                    ? new DeflaterOutputStream(baos, deflater, 4096)
+                    : baos);
+            writeBody(out, data);
+            out.close();
+        } finally {
+            if (deflater != null) deflater.end();
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public GameSaveData decode(byte[] bytes) throws IOException {
+        if (bytes.length == 0) return null;
+        ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+        DataInputStream header = new DataInputStream(bais);
+
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a binary save");
+        }
+        short version = header.readShort();
+        if (version > VERSION) {
+            throw new IOException("Unsupported binary save version " + version);
+        }
+        byte body = header.readByte();
+        if (body != BODY_PLAIN && body != BODY_DEFLATED) {
+            throw new IOException("Unknown save body encoding " + body);
+        }
+
+        Inflater inflater = body == BODY_DEFLATED ? new Inflater() : null;
+        try {
+            DataInputStream in = new DataInputStream(inflater != null
+                    ? new InflaterInputStream(bais, inflater, 4096)
+                    : bais);
+            return readBody(in, version);
+        } catch (EOFException e) {
+            throw new IOException("Truncated binary save", e);
+        } finally {
+            if (inflater != null) inflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] bytes) throws IOException {
+        if (!isBinary(bytes) || bytes.length < 7 || bytes[6] != BODY_DEFLATED) return bytes;
+
+        Inflater inflater = new Inflater();
+        try (InflaterInputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(bytes, 7, bytes.length - 7), inflater, 4096)) {
+            byte[] body = in.readAllBytes();
+            byte[] plain = new byte[7 + body.length];
+            System.arraycopy(bytes, 0, plain, 0, 6);
+            plain[6] = BODY_PLAIN;
+            System.arraycopy(body, 0, plain, 7, body.length);
+            return plain;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeBody(DataOutputStream out, GameSaveData data) throws IOException {
+        out.writeInt(data.currentLevel);
+        out.writeInt(data.score);
+        writeString(out, data.difficulty);
+        out.writeBoolean(data.twoPlayerMode);
+        out.writeInt(data.levelBaseScore);
+        out.writeInt(data.levelPenalty);
+        out.writeInt(data.sessionDamageTaken);
+
+        writeMaze(out, data.maze);
+
+        Map<String, PlayerSaveData> players = data.players;
+        out.writeInt(players == null ? 0 : players.size());
+        if (players != null) {
+            for (Map.Entry<String, PlayerSaveData> e : players.entrySet()) {
+                writeString(out, e.getKey());
+                writePlayer(out, e.getValue());
+            }
+        }
+
+        writeIntMap(out, data.sessionKills);
+
+        out.writeInt(data.newAchievements == null ? 0 : data.newAchievements.size());
+        if (data.newAchievements != null) {
+            for (String id : data.newAchievements) writeString(out, id);
+        }
+
+        writeWorld(out, data.world);
+    }
+
+    private static GameSaveData readBody(DataInputStream in, short version) throws IOException {
+        GameSaveData data = new GameSaveData();
+        data.currentLevel = in.readInt();
+        data.score = in.readInt();
+        data.difficulty = readString(in);
+        data.twoPlayerMode = in.readBoolean();
+        data.levelBaseScore = in.readInt();
+        data.levelPenalty = in.readInt();
+        data.sessionDamageTaken = in.readInt();
+
+        data.maze = readMaze(in);
+
+        int playerCount = in.readInt();
+        for (int i = 0; i < playerCount; i++) {
+            String id = readString(in);
+            data.players.put(id, readPlayer(in));
+        }
+
+        data.sessionKills = readIntMap(in);
+
+        int achievementCount = in.readInt();
+        data.newAchievements = new HashSet<>();
+        for (int i = 0; i < achievementCount; i++) {
+            data.newAchievements.add(readString(in));
+        }
+
+        if (version >= 2) {
+            data.world = readWorld(in);
+        }
+        return data;
+    }
+
+    private static int estimateSize(GameSaveData data) {
+        int cells = 0;
+        if (data.maze != null && data.maze.length > 0) {
+            cells = data.maze.length * data.maze[0].length;
+        }
+        int worldInts = 0;
+        if (data.world != null) {
+            for (WorldSaveData.Kind kind : WorldSaveData.Kind.values()) worldInts += data.world.rows(kind).length;
+        }
+        return 512 + cells / 8 + worldInts * 4;
+    }
+
+    private static void writeMaze(DataOutputStream out, int[][] maze) throws IOException {
+        if (maze == null || maze.length == 0) {
+            out.writeByte(MAZE_NONE);
+            return;
+        }
+        int height = maze.length;
+        int width = maze[0].length;
+        boolean packable = true;
+        for (int[] row : maze) {
+            if (row.length != width) {
+                packable = false;
+                break;
+            }
+            for (int cell : row) {
+                if (cell != 0 && cell != 1) {
+                    packable = false;
+                    break;
+                }
+            }
+            if (!packable) break;
+        }
+
+        if (packable) {
+            out.writeByte(MAZE_BITS);
+            out.writeInt(height);
+            out.writeInt(width);
+            byte[] rowBits = new byte[(width + 7) >>> 3];
+            for (int[] row : maze) {
+                Arrays.fill(rowBits, (byte) 0);
+                for (int x = 0; x < width; x++) {
+                    if (row[x] == 1) rowBits[x >>> 3] |= (byte) (1 << (x & 7));
+                }
+                out.write(rowBits);
+            }
+        } else {
+            out.writeByte(MAZE_RAW);
+            out.writeInt(height);
+            for (int[] row : maze) {
+                out.writeInt(row.length);
+                for (int cell : row) out.writeInt(cell);
+            }
+        }
+    }
+
+    private static int[][] readMaze(DataInputStream in) throws IOException {
+        byte mode = in.readByte();
+        switch (mode) {
+            case MAZE_NONE:
+                return null;
+            case MAZE_BITS: {
+                int height = in.readInt();
+                int width = in.readInt();
+                if (height < 0 || width < 0) throw new IOException("Invalid maze size");
+                int[][] maze = new int[height][width];
+                byte[] rowBits = new byte[(width + 7) >>> 3];
+                for (int y = 0; y < height; y++) {
+                    in.readFully(rowBits);
+                    int[] row = maze[y];
+                    for (int x = 0; x < width; x++) {
+                        row[x] = (rowBits[x >>> 3] >>> (x & 7)) & 1;
+                    }
+                }
+                return maze;
+            }
+            case MAZE_RAW: {
+                int height = in.readInt();
+                int[][] maze = new int[height][];
+                for (int y = 0; y < height; y++) {
+                    int[] row = new int[in.readInt()];
+                    for (int x = 0; x < row.length; x++) row[x] = in.readInt();
+                    maze[y] = row;
+                }
+                return maze;
+            }
+            default:
+                throw new IOException("Unknown maze encoding " + mode);
+        }
+    }
+
+    private static void writeWorld(DataOutputStream out, WorldSaveData world) throws IOException {
+        out.writeBoolean(world != null);
+        if (world == null) return;
+        out.writeLong(world.snapshotId);
+        for (WorldSaveData.Kind kind : WorldSaveData.Kind.values()) {
+            int[] rows = world.rows(kind);
+            out.writeInt(rows.length);
+            for (int v : rows) out.writeInt(v);
+        }
+    }
+
+    private static WorldSaveData readWorld(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) return null;
+        WorldSaveData world = new WorldSaveData();
+        world.snapshotId = in.readLong();
+        for (WorldSaveData.Kind kind : WorldSaveData.Kind.values()) {
+            int length = in.readInt();
+            if (length < 0 || length % kind.stride != 0) {
+                throw new IOException("Invalid " + kind + " rows in world snapshot");
+            }
+            int[] rows = new int[length];
+            for (int i = 0; i < length; i++) rows[i] = in.readInt();
+            world.setRows(kind, rows);
+        }
+        return world;
+    }
+
+    private static void writePlayer(DataOutputStream out, PlayerSaveData p) throws IOException {
+        out.writeInt(p.x);
+        out.writeInt(p.y);
+        out.writeInt(p.lives);
+        out.writeInt(p.maxLives);
+        out.writeInt(p.mana);
+        int flags = 0;
+        if (p.hasKey) flags |= FLAG_HAS_KEY;
+        if (p.buffAttack) flags |= FLAG_BUFF_ATTACK;
+        if (p.buffRegen) flags |= FLAG_BUFF_REGEN;
+        if (p.buffManaEfficiency) flags |= FLAG_BUFF_MANA;
+        out.writeByte(flags);
+
+        writeIntMap(out, p.abilityLevels);
+
+        Map<String, Map<String, Object>> states = p.abilityStates;
+        out.writeInt(states == null ? 0 : states.size());
+        if (states != null) {
+            for (Map.Entry<String, Map<String, Object>> e : states.entrySet()) {
+                writeString(out, e.getKey());
+                Map<String, Object> state = e.getValue();
+                out.writeInt(state == null ? 0 : state.size());
+                if (state == null) continue;
+                for (Map.Entry<String, Object> v : state.entrySet()) {
+                    writeString(out, v.getKey());
+                    writeValue(out, v.getValue());
+                }
+            }
+        }
+    }
+
+    private static PlayerSaveData readPlayer(DataInputStream in) throws IOException {
+        PlayerSaveData p = new PlayerSaveData();
+        p.x = in.readInt();
+        p.y = in.readInt();
+        p.lives = in.readInt();
+        p.maxLives = in.readInt();
+        p.mana = in.readInt();
+        int flags = in.readByte();
+        p.hasKey = (flags & FLAG_HAS_KEY) != 0;
+        p.buffAttack = (flags & FLAG_BUFF_ATTACK) != 0;
+        p.buffRegen = (flags & FLAG_BUFF_REGEN) != 0;
+        p.buffManaEfficiency = (flags & FLAG_BUFF_MANA) != 0;
+
+        p.abilityLevels = readIntMap(in);
+
+        int abilityCount = in.readInt();
+        for (int i = 0; i < abilityCount; i++) {
+            String ability = readString(in);
+            int size = in.readInt();
+            Map<String, Object> state = new HashMap<>();
+            for (int j = 0; j < size; j++) {
+                String key = readString(in);
+                state.put(key, readValue(in));
+            }
+            p.abilityStates.put(ability, state);
+        }
+        return p;
+    }
+
+    private static void writeIntMap(DataOutputStream out, Map<String, Integer> map) throws IOException {
+        out.writeInt(map == null ? 0 : map.size());
+        if (map == null) return;
+        for (Map.Entry<String, Integer> e : map.entrySet()) {
+            writeString(out, e.getKey());
+            out.writeInt(e.getValue() == null ? 0 : e.getValue());
+        }
+    }
+
+    private static HashMap<String, Integer> readIntMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        HashMap<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, in.readInt());
+        }
+        return map;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof Integer) {
+            out.writeByte(VALUE_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Float) {
+            out.writeByte(VALUE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Long) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Number) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else {
+            out.writeByte(VALUE_STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case VALUE_NULL: return null;
+            case VALUE_INT: return in.readInt();
+            case VALUE_FLOAT: return in.readFloat();
+            case VALUE_BOOLEAN: return in.readBoolean();
+            case VALUE_STRING: return in.readUTF();
+            case VALUE_LONG: return in.readLong();
+            case VALUE_DOUBLE: return in.readDouble();
+            default: throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) out.writeUTF(s);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,459 @@
+package de.tum.cit.fop.maze.game.save;
+
+import de.tum.cit.fop.maze.utils.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+/**
+ * Keeps all saves in one container file instead of one file per save.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * header   int magic "MZSC", short version, short reserved,
+ *          int entry capacity, padded to 128 bytes
+ * table    one 128 byte entry per save: used flag, meta flag, two-player
+ *          flag, name length, name, payload offset and length, CRC32 of
+ *          the payload, write time, slot, level, score, difficulty,
+ *          sequence number and CRC32 of the entry
+ * payloads starting at the first 4 KiB boundary after the table
+ * </pre>
+ *
+ * <p>The header and table are memory-mapped, so listing saves and reading
+ * their metadata never touches the payloads. Payloads are mapped on
+ * demand and checksummed in place.
+ *
+ * <p>Entries in use are never rewritten. A write puts the new payload
+ * into free space, fills a free entry and forces both to disk while the
+ * entry is still unused; setting its used flag is then the single byte
+ * that switches the save over, and only after that is forced are the
+ * entries it replaces released. Each entry carries a checksum over all
+ * fields but the used flag. On open, entries that fail their checksum are
+ * dropped, and when an interrupted update left two entries with the same
+ * name, the one with the higher sequence number wins. A save is therefore
+ * either the old or the new version, never a mix. Every update needs one
+ * free entry beyond those in use. Free space is found between live
+ * payloads; the file never shrinks.
+ *
+ * <p>All methods are synchronized; the store is used from the game thread
+ * and the save threads.
+ */
+public class ContainerSaveStore implements SaveStore {
+
+    /** "MZSC" */
+    public static final int MAGIC = 0x4D5A5343;
+    public static final short VERSION = 2;
+
+    private static final int HEADER_SIZE = 128;
+    private static final int ENTRY_SIZE = 128;
+    private static final int PAGE_SIZE = 4096;
+    private static final int MAX_NAME_LENGTH = 48;
+    private static final int MAX_DIFFICULTY_LENGTH = 23;
+
+    private static final int USED = 0;
+    private static final int HAS_META = 1;
+    private static final int TWO_PLAYER = 2;
+    private static final int NAME_LENGTH = 3;
+    private static final int NAME = 4;
+    private static final int OFFSET = 52;
+    private static final int LENGTH = 60;
+    private static final int CRC = 64;
+    private static final int SAVED_AT = 68;
+    private static final int SLOT = 76;
+    private static final int LEVEL = 80;
+    private static final int SCORE = 84;
+    private static final int DIFFICULTY_LENGTH = 88;
+    private static final int DIFFICULTY = 89;
+    private static final int SEQUENCE = 112;
+    private static final int ENTRY_CRC = 124;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer table;
+    private final int capacity;
+    private final long dataStart;
+    /** Sequence number for the next committed entry. */
+    private long nextSequence = 1;
+
+    private ContainerSaveStore(FileChannel channel, MappedByteBuffer table, int capacity) {
+        this.channel = channel;
+        this.table = table;
+        this.capacity = capacity;
+        this.dataStart = dataStart(capacity);
+        recover();
+    }
+
+    /**
+     * Opens a container, creating it if it does not exist. An existing
+     * container keeps the capacity it was created with.
+     *
+     * @param file     container file
+     * @param capacity number of table entries for a new container
+     * @return the opened store
+     * @throws IOException if the file cannot be opened or is no container
+     */
+    public static ContainerSaveStore open(File file, int capacity) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(capacity);
+                header.position(HEADER_SIZE).flip();
+                channel.write(header, 0);
+                channel.write(ByteBuffer.wrap(new byte[1]), dataStart(capacity) - 1);
+                channel.force(true);
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                channel.read(header, 0);
+                header.flip();
+                if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                    throw new IOException("Not a save container: " + file);
+                }
+                short version = header.getShort();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported save container version " + version);
+                }
+                header.getShort();
+                capacity = header.getInt();
+                if (capacity <= 0 || channel.size() < dataStart(capacity)) {
+                    throw new IOException("Truncated save container: " + file);
+                }
+            }
+            MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_WRITE, 0, dataStart(capacity));
+            return new ContainerSaveStore(channel, table, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long dataStart(int capacity) {
+        long tableEnd = HEADER_SIZE + (long) capacity * ENTRY_SIZE;
+        return (tableEnd + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+    }
+
+    /**
+     * @return number of table entries
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized boolean exists(String name) {
+        return find(name) >= 0;
+    }
+
+    @Override
+    public synchronized byte[] read(String name) throws IOException {
+        int entry = find(name);
+        if (entry < 0) return null;
+        ByteBuffer payload = mapPayload(entry);
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public synchronized void write(String name, byte[] bytes, String backupName, SaveSlotMeta meta) throws IOException {
+        long savedAt = meta != null && meta.savedAt > 0 ? meta.savedAt : System.currentTimeMillis();
+        write(name, bytes, backupName, meta, savedAt);
+    }
+
+    private void write(String name, byte[] bytes, String backupName, SaveSlotMeta meta, long savedAt) throws IOException {
+        byte[] nameBytes = encodeName(name);
+        byte[] backupBytes = backupName != null ? encodeName(backupName) : null;
+
+        long offset = allocate(bytes.length);
+        ByteBuffer payload = ByteBuffer.wrap(bytes);
+        while (payload.hasRemaining()) {
+            channel.write(payload, offset + payload.position());
+        }
+        channel.force(false);
+
+        int current = find(name);
+        if (backupBytes != null && current >= 0) {
+            commit(stage(current, backupBytes), current, find(backupName));
+            current = -1;
+        }
+
+        int entry = stage(-1, nameBytes);
+        int base = entryBase(entry);
+        table.putLong(base + OFFSET, offset);
+        table.putInt(base + LENGTH, bytes.length);
+        table.putInt(base + CRC, crc(ByteBuffer.wrap(bytes)));
+        table.putLong(base + SAVED_AT, savedAt);
+        putMeta(base, meta);
+        commit(entry, current);
+    }
+
+    @Override
+    public synchronized void copy(String from, String to) throws IOException {
+        if (find(from) < 0) throw new IOException("No save " + from);
+        write(to, read(from), null, readMeta(from), lastModified(from));
+    }
+
+    @Override
+    public synchronized void move(String from, String to) throws IOException {
+        int entry = find(from);
+        if (entry < 0) throw new IOException("No save " + from);
+        commit(stage(entry, encodeName(to)), entry, find(to));
+    }
+
+    @Override
+    public synchronized boolean delete(String name) {
+        int entry = find(name);
+        if (entry < 0) return false;
+        deleteEntry(entry);
+        table.force();
+        return true;
+    }
+
+    @Override
+    public synchronized long lastModified(String name) {
+        int entry = find(name);
+        return entry < 0 ? 0L : table.getLong(entryBase(entry) + SAVED_AT);
+    }
+
+    @Override
+    public synchronized SaveRecord.Status verify(String name) {
+        int entry = find(name);
+        if (entry < 0) return SaveRecord.Status.MISSING;
+        try {
+            ByteBuffer payload = mapPayload(entry);
+            if (crc(payload.duplicate()) != table.getInt(entryBase(entry) + CRC)) {
+                return SaveRecord.Status.CORRUPT;
+            }
+            return SaveRecord.verify(payload);
+        } catch (IOException e) {
+            return SaveRecord.Status.CORRUPT;
+        }
+    }
+
+    @Override
+    public boolean keepsMetadata() {
+        return true;
+    }
+
+    @Override
+    public synchronized SaveSlotMeta readMeta(String name) {
+        int entry = find(name);
+        if (entry < 0) return null;
+        int base = entryBase(entry);
+        if (table.get(base + HAS_META) == 0) return null;
+
+        SaveSlotMeta meta = new SaveSlotMeta();
+        meta.slot = table.getInt(base + SLOT);
+        meta.currentLevel = table.getInt(base + LEVEL);
+        meta.score = table.getInt(base + SCORE);
+        meta.twoPlayerMode = table.get(base + TWO_PLAYER) != 0;
+        meta.savedAt = table.getLong(base + SAVED_AT);
+        byte[] difficulty = new byte[table.get(base + DIFFICULTY_LENGTH)];
+        table.get(base + DIFFICULTY, difficulty);
+        meta.difficulty = new String(difficulty, StandardCharsets.UTF_8);
+        return meta;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            table.force();
+            channel.close();
+        } catch (IOException e) {
+            Logger.warning("Failed to close save container: " + e.getMessage());
+        }
+    }
+
+    private int entryBase(int entry) {
+        return HEADER_SIZE + entry * ENTRY_SIZE;
+    }
+
+    private boolean isUsed(int entry) {
+        return table.get(entryBase(entry) + USED) != 0;
+    }
+
+    private int find(String name) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        for (int entry = 0; entry < capacity; entry++) {
+            int base = entryBase(entry);
+            if (!isUsed(entry) || table.get(base + NAME_LENGTH) != nameBytes.length) continue;
+            boolean match = true;
+            for (int i = 0; i < nameBytes.length && match; i++) {
+                match = table.get(base + NAME + i) == nameBytes[i];
+            }
+            if (match) return entry;
+        }
+        return -1;
+    }
+
+    private boolean sameName(int a, int b) {
+        int baseA = entryBase(a);
+        int baseB = entryBase(b);
+        int length = table.get(baseA + NAME_LENGTH);
+        if (table.get(baseB + NAME_LENGTH) != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (table.get(baseA + NAME + i) != table.get(baseB + NAME + i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops entries that fail their checksum and, where an interrupted
+     * update left two entries with the same name, the older one.
+     */
+    private void recover() {
+        boolean changed = false;
+        for (int entry = 0; entry < capacity; entry++) {
+            if (!isUsed(entry)) continue;
+            int base = entryBase(entry);
+            if (table.getInt(base + ENTRY_CRC) != entryCrc(entry)) {
+                Logger.warning("Dropping damaged save container entry " + entry);
+                deleteEntry(entry);
+                changed = true;
+                continue;
+            }
+            nextSequence = Math.max(nextSequence, table.getLong(base + SEQUENCE) + 1);
+        }
+        for (int entry = 0; entry < capacity; entry++) {
+            for (int other = entry + 1; other < capacity && isUsed(entry); other++) {
+                if (!isUsed(other) || !sameName(entry, other)) continue;
+                boolean newer = table.getLong(entryBase(other) + SEQUENCE) > table.getLong(entryBase(entry) + SEQUENCE);
+                deleteEntry(newer ? entry : other);
+                changed = true;
+            }
+        }
+        if (changed) table.force();
+    }
+
+    private int freeEntry() throws IOException {
+        for (int entry = 0; entry < capacity; entry++) {
+            if (!isUsed(entry)) return entry;
+        }
+        throw new IOException("Save container is full (" + capacity + " entries)");
+    }
+
+    /**
+     * Prepares an unused entry with the given name, copying all other
+     * fields from a source entry or clearing them.
+     *
+     * @param source entry to copy, or -1
+     * @return the staged entry
+     */
+    private int stage(int source, byte[] nameBytes) throws IOException {
+        int entry = freeEntry();
+        int base = entryBase(entry);
+        for (int i = 0; i < ENTRY_SIZE; i++) {
+            table.put(base + i, source >= 0 ? table.get(entryBase(source) + i) : 0);
+        }
+        table.put(base + USED, (byte) 0);
+        setName(entry, nameBytes);
+        return entry;
+    }
+
+    /**
+     * Seals a staged entry, forces it to disk, switches it on and then
+     * releases the entries it replaces.
+     *
+     * @param entry   staged entry
+     * @param retired entries to release, -1 for none
+     */
+    private void commit(int entry, int... retired) {
+        int base = entryBase(entry);
+        table.putLong(base + SEQUENCE, nextSequence++);
+        table.putInt(base + ENTRY_CRC, entryCrc(entry));
+        table.force();
+        table.put(base + USED, (byte) 1);
+        table.force();
+        for (int old : retired) {
+            deleteEntry(old);
+        }
+        table.force();
+    }
+
+    /**
+     * @return CRC32 over all fields of an entry except its used flag
+     */
+    private int entryCrc(int entry) {
+        int base = entryBase(entry);
+        ByteBuffer fields = table.duplicate();
+        fields.limit(base + ENTRY_CRC).position(base + HAS_META);
+        return crc(fields);
+    }
+
+    private void deleteEntry(int entry) {
+        if (entry >= 0) table.put(entryBase(entry) + USED, (byte) 0);
+    }
+
+    private void setName(int entry, byte[] nameBytes) {
+        int base = entryBase(entry);
+        table.put(base + NAME_LENGTH, (byte) nameBytes.length);
+        table.put(base + NAME, nameBytes);
+    }
+
+    private void putMeta(int base, SaveSlotMeta meta) {
+        table.put(base + HAS_META, (byte) (meta != null ? 1 : 0));
+        if (meta == null) return;
+        table.put(base + TWO_PLAYER, (byte) (meta.twoPlayerMode ? 1 : 0));
+        table.putInt(base + SLOT, meta.slot);
+        table.putInt(base + LEVEL, meta.currentLevel);
+        table.putInt(base + SCORE, meta.score);
+        byte[] difficulty = meta.difficulty != null ? meta.difficulty.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = Math.min(difficulty.length, MAX_DIFFICULTY_LENGTH);
+        table.put(base + DIFFICULTY_LENGTH, (byte) length);
+        table.put(base + DIFFICULTY, difficulty, 0, length);
+    }
+
+    private static byte[] encodeName(String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0 || bytes.length > MAX_NAME_LENGTH) {
+            throw new IOException("Invalid save name for container: " + name);
+        }
+        return bytes;
+    }
+
+    private ByteBuffer mapPayload(int entry) throws IOException {
+        int base = entryBase(entry);
+        long offset = table.getLong(base + OFFSET);
+        int length = table.getInt(base + LENGTH);
+        if (offset < dataStart || length < 0 || offset + length > channel.size()) {
+            throw new IOException("Save container entry out of bounds");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+
+    /**
+     * Finds the first gap between live payloads that fits the given
+     * length, or the end of the file.
+     */
+    private long allocate(int length) {
+        List<long[]> used = new ArrayList<>();
+        for (int entry = 0; entry < capacity; entry++) {
+            int base = entryBase(entry);
+            if (table.get(base + USED) == 0) continue;
+            used.add(new long[]{table.getLong(base + OFFSET), table.getInt(base + LENGTH)});
+        }
+        used.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        long cursor = dataStart;
+        for (long[] range : used) {
+            if (range[0] - cursor >= length) return cursor;
+            cursor = Math.max(cursor, range[0] + range[1]);
+        }
+        return cursor;
+    }
+
+    private static int crc(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
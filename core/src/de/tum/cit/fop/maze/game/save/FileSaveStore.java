@@ -0,0 +1,86 @@
+package de.tum.cit.fop.maze.game.save;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+/**
+ * Stores every save as its own local file. Metadata is kept by the slot
+ * index of {@link StorageManager}.
+ */
+public class FileSaveStore implements SaveStore {
+
+    private FileHandle getFile(String name) {
+        return Gdx.files.local(name);
+    }
+
+    @Override
+    public boolean exists(String name) {
+        return getFile(name).exists();
+    }
+
+    @Override
+    public byte[] read(String name) throws IOException {
+        FileHandle file = getFile(name);
+        if (!file.exists()) return null;
+        try {
+            return file.readBytes();
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to read " + name, e);
+        }
+    }
+
+    @Override
+    public void write(String name, byte[] bytes, String backupName, SaveSlotMeta meta) throws IOException {
+        PersistenceService.commit(name, bytes, backupName);
+    }
+
+    @Override
+    public void copy(String from, String to) throws IOException {
+        try {
+            getFile(from).copyTo(getFile(to));
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to copy " + from, e);
+        }
+    }
+
+    @Override
+    public void move(String from, String to) throws IOException {
+        try {
+            getFile(from).moveTo(getFile(to));
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to move " + from, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String name) {
+        FileHandle file = getFile(name);
+        return file.exists() && file.delete();
+    }
+
+    @Override
+    public long lastModified(String name) {
+        FileHandle file = getFile(name);
+        return file.exists() ? file.lastModified() : 0L;
+    }
+
+    @Override
+    public SaveRecord.Status verify(String name) {
+        return SaveRecord.verify(getFile(name));
+    }
+
+    @Override
+    public boolean keepsMetadata() {
+        return false;
+    }
+
+    @Override
+    public SaveSlotMeta readMeta(String name) {
+        return null;
+    }
+
+    @Override
+    public void close() {
+    }
+}
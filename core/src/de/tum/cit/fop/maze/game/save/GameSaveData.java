@@ -17,7 +17,13 @@
  */
 public class GameSaveData {
 
-    /** The maze layout of the current level. */
+    /**
+     * The maze layout of the current level.
+     *
+     * <p>Maze grids are never modified after generation; a new level gets
+     * a new array. Saves and snapshots may therefore share the grid with
+     * the running game instead of copying it.
+     */
     public int[][] maze;
     /** The current level number. */
     public int currentLevel = 1;
@@ -55,6 +61,12 @@ public class GameSaveData {
     /** Total damage taken by the player in the current session. */
     public int sessionDamageTaken = 0;
 
+    /**
+     * Entities of the current level, or null for saves written before world
+     * snapshots existed and for level transitions, which generate a new world.
+     */
+    public WorldSaveData world;
+
     /**
      * Creates a new empty {@code GameSaveData} instance with default values.
      */
@@ -98,6 +110,46 @@ public GameSaveData(GameSaveData other) {
         if (other.newAchievements != null) {
             this.newAchievements = new HashSet<>(other.newAchievements);
         }
+
+        if (other.world != null) {
+            this.world = other.world.snapshot();
+        }
+    }
+
+    /**
+     * Creates a detached copy for saving in the background.
+     *
+     * <p>Unlike the copy constructor this shares the maze grid, which is
+     * never modified in place, and copies the players, so taking a snapshot
+     * costs a few small allocations instead of serializing the save.
+     *
+     * @return a snapshot of the current values
+     */
+    public GameSaveData snapshot() {
+        GameSaveData copy = new GameSaveData();
+        copy.maze = maze;
+        copy.currentLevel = currentLevel;
+        copy.score = score;
+        copy.difficulty = difficulty;
+        copy.twoPlayerMode = twoPlayerMode;
+        copy.levelBaseScore = levelBaseScore;
+        copy.levelPenalty = levelPenalty;
+        copy.sessionDamageTaken = sessionDamageTaken;
+        if (players != null) {
+            for (Map.Entry<String, PlayerSaveData> e : players.entrySet()) {
+                copy.players.put(e.getKey(), e.getValue() != null ? e.getValue().snapshot() : null);
+            }
+        }
+        if (sessionKills != null) {
+            copy.sessionKills.putAll(sessionKills);
+        }
+        if (newAchievements != null) {
+            copy.newAchievements.addAll(newAchievements);
+        }
+        if (world != null) {
+            copy.world = world.snapshot();
+        }
+        return copy;
     }
 
     /**
@@ -0,0 +1,76 @@
+package de.tum.cit.fop.maze.game.save;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+/**
+ * The original save format: {@link GameSaveData} as JSON text, optionally
+ * GZIP-compressed.
+ *
+ * <p>Decoding accepts both compressed and plain JSON regardless of how
+ * the codec was created.
+ */
+public class JsonSaveCodec implements SaveCodec {
+
+    private final boolean compress;
+
+    /**
+     * @param compress whether encoded saves are GZIP-compressed
+     */
+    public JsonSaveCodec(boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public byte[] encode(GameSaveData data) throws IOException {
+        byte[] json = createJson().toJson(data).getBytes(StandardCharsets.UTF_8);
+        if (!compress) return json;
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
+            gzos.write(json);
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public GameSaveData decode(byte[] bytes) throws IOException {
+        String jsonStr = isGzip(bytes)
+                ? new String(gunzip(bytes), StandardCharsets.UTF_8)
+                : new String(bytes, StandardCharsets.UTF_8);
+        if (jsonStr.isBlank()) return null;
+        return createJson().fromJson(GameSaveData.class, jsonStr);
+    }
+
+    @Override
+    public byte[] decompress(byte[] bytes) throws IOException {
+        return isGzip(bytes) ? gunzip(bytes) : bytes;
+    }
+
+    /**
+     * @param bytes file content
+     * @return whether the content starts with the GZIP magic number
+     */
+    public static boolean isGzip(byte[] bytes) {
+        return bytes.length >= 2 && (bytes[0] & 0xFF) == 0x1F && (bytes[1] & 0xFF) == 0x8B;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzis.readAllBytes();
+        }
+    }
+
+    private static Json createJson() {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        json.setUsePrototypes(false);
+        return json;
+    }
+}
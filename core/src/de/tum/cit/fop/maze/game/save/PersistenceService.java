@@ -0,0 +1,198 @@
+package de.tum.cit.fop.maze.game.save;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import de.tum.cit.fop.maze.game.SimulationMode;
+import de.tum.cit.fop.maze.utils.Logger;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+/**
+ * Write-behind persistence for small settings and progress files.
+ *
+ * <p>Writes are registered under a key, usually the file name, and run on
+ * a background thread after a short debounce window. A key that is written
+ * again before its window ends only replaces the pending write, so a burst
+ * of changes results in a single file write. Files are committed by writing
+ * a temporary file and moving it over the target.
+ *
+ * <p>Callers capture the state to write on the game thread, e.g. with a
+ * snapshot or by encoding it, and pass it in the {@link Write}. Pending
+ * writes are flushed by {@link #flush()} when the game is disposed.
+ *
+ * <p>In headless mode nothing is written.
+ */
+public final class PersistenceService {
+
+    /** Delay between the first change of a key and its write. */
+    public static final long DEBOUNCE_MILLIS = 500L;
+    private static final long FLUSH_TIMEOUT_SECONDS = 10L;
+
+    /**
+     * A deferred write, run on the persistence thread.
+     */
+    @FunctionalInterface
+    public interface Write {
+        /**
+         * Performs the write.
+         *
+         * @throws IOException if writing fails
+         */
+        void run() throws IOException;
+    }
+
+    /**
+     * Encodes the captured state of a file.
+     */
+    @FunctionalInterface
+    public interface Encoder {
+        /**
+         * @return the file content
+         * @throws IOException if the state cannot be encoded
+         */
+        byte[] encode() throws IOException;
+    }
+
+    private static PersistenceService instance;
+
+    private final ScheduledExecutorService executor;
+    private final ConcurrentHashMap<String, Write> pending = new ConcurrentHashMap<>();
+
+    private PersistenceService() {
+        ScheduledThreadPoolExecutor exec = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "PersistenceService-Thread");
+            t.setDaemon(true);
+            return t;
+        });
+        exec.setRemoveOnCancelPolicy(true);
+        this.executor = exec;
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    /**
+     * @return the shared persistence service
+     */
+    public static synchronized PersistenceService getInstance() {
+        if (instance == null) {
+            instance = new PersistenceService();
+        }
+        return instance;
+    }
+
+    /**
+     * Schedules a write, replacing a pending write of the same key.
+     *
+     * @param key   identifies what is written, usually the file name
+     * @param write the write to run
+     */
+    public void schedule(String key, Write write) {
+        if (SimulationMode.isHeadless()) return;
+        if (pending.put(key, write) == null) {
+            executor.schedule(() -> runPending(key), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Schedules an atomic write of a local file, replacing a pending write
+     * of the same file.
+     *
+     * @param fileName local file name
+     * @param encoder  produces the file content on the persistence thread
+     */
+    public void scheduleFile(String fileName, Encoder encoder) {
+        schedule(fileName, () -> commit(fileName, encoder.encode()));
+    }
+
+    /**
+     * Runs the pending write of one key now and waits for it and for any
+     * write already in progress, so that the file can be read back. Must be
+     * called before reading a file that is written through this service.
+     *
+     * @param key key of the write
+     */
+    public void flush(String key) {
+        await(executor.submit(() -> runPending(key)));
+    }
+
+    /**
+     * Runs all pending writes now and waits for them to finish.
+     */
+    public void flush() {
+        await(executor.submit(() -> {
+            for (String key : pending.keySet()) runPending(key);
+        }));
+    }
+
+    /**
+     * @return whether any write is waiting for its debounce window
+     */
+    public boolean hasPendingWrites() {
+        return !pending.isEmpty();
+    }
+
+    private void runPending(String key) {
+        Write write = pending.remove(key);
+        if (write == null) return;
+        try {
+            write.run();
+        } catch (Exception e) {
+            Logger.error("Failed to write " + key + ": " + e.getMessage());
+        }
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            Logger.warning("Persistence flush did not complete: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces a local file by writing a temporary file next to it and
+     * moving it over the target, so a crash never leaves a partial file.
+     *
+     * @param fileName local file name
+     * @param bytes    new content
+     * @throws IOException if the file cannot be written
+     */
+    public static void commit(String fileName, byte[] bytes) throws IOException {
+        commit(fileName, bytes, null);
+    }
+
+    /**
+     * Like {@link #commit(String, byte[])}, but first moves the current file
+     * to a backup once the new content is safely in the temporary file.
+     *
+     * @param fileName       local file name
+     * @param bytes          new content
+     * @param backupFileName where the current file is kept, or null for none
+     * @throws IOException if the file cannot be written
+     */
+    public static void commit(String fileName, byte[] bytes, String backupFileName) throws IOException {
+        FileHandle tmpFile = Gdx.files.local(fileName + ".tmp");
+        try {
+            if (tmpFile.exists()) tmpFile.delete();
+            tmpFile.writeBytes(bytes, false);
+            FileHandle target = Gdx.files.local(fileName);
+            if (backupFileName != null && target.exists()) {
+                target.moveTo(Gdx.files.local(backupFileName));
+            }
+            tmpFile.moveTo(target);
+        } catch (RuntimeException e) {
+            if (tmpFile.exists()) {
+                try {
+                    tmpFile.delete();
+                } catch (Exception cleanupEx) {
+                    Logger.warning("Failed to cleanup temp file: " + cleanupEx.getMessage());
+                }
+            }
+            throw new IOException("Failed to write " + fileName, e);
+        }
+    }
+}
@@ -41,4 +41,34 @@ public class PlayerSaveData {
     public Map<String, Map<String, Object>> abilityStates = new HashMap<>();
 
     public Map<String, Integer> abilityLevels = new HashMap<>();
+
+    /**
+     * Creates a detached copy for saving in the background.
+     *
+     * <p>Maps are copied; their values are boxed primitives and strings,
+     * which are immutable and therefore shared.
+     *
+     * @return a snapshot of the current values
+     */
+    public PlayerSaveData snapshot() {
+        PlayerSaveData copy = new PlayerSaveData();
+        copy.x = x;
+        copy.y = y;
+        copy.lives = lives;
+        copy.maxLives = maxLives;
+        copy.mana = mana;
+        copy.hasKey = hasKey;
+        copy.buffAttack = buffAttack;
+        copy.buffRegen = buffRegen;
+        copy.buffManaEfficiency = buffManaEfficiency;
+        if (abilityStates != null) {
+            for (Map.Entry<String, Map<String, Object>> e : abilityStates.entrySet()) {
+                copy.abilityStates.put(e.getKey(), e.getValue() != null ? new HashMap<>(e.getValue()) : null);
+            }
+        }
+        if (abilityLevels != null) {
+            copy.abilityLevels.putAll(abilityLevels);
+        }
+        return copy;
+    }
 }
@@ -0,0 +1,39 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.io.IOException;
+/**
+ * Converts {@link GameSaveData} to and from the bytes stored in a save file.
+ *
+ * @see JsonSaveCodec
+ * @see BinarySaveCodec
+ */
+public interface SaveCodec {
+    /**
+     * Encodes save data.
+     *
+     * @param data the save data
+     * @return encoded bytes
+     * @throws IOException if the data cannot be encoded
+     */
+    byte[] encode(GameSaveData data) throws IOException;
+    /**
+     * Decodes save data.
+     *
+     * @param bytes encoded bytes
+     * @return the decoded save data, or null if the input is empty
+     * @throws IOException if the bytes are not a valid save
+     */
+    GameSaveData decode(byte[] bytes) throws IOException;
+    /**
+     * Undoes the compression of encoded save data, so that decompressing
+     * and decoding can run as separate stages. The result is accepted by
+     * {@link #decode(byte[])}.
+     *
+     * @param bytes encoded bytes
+     * @return the same save in uncompressed form
+     * @throws IOException if the bytes cannot be decompressed
+     */
+    default byte[] decompress(byte[] bytes) throws IOException {
+        return bytes;
+    }
+}
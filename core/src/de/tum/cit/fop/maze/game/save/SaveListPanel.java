@@ -109,12 +109,12 @@ private void rebuild() {
         Table listContent = new Table();
         listContent.top().pad(20);
 
-        GameSaveData autoData = storage.loadAutoSave();
+        SaveSlotMeta autoData = storage.getSlotMeta(StorageManager.SaveTarget.AUTO.getSlotIndex());
         listContent.add(createSaveCard("AUTO SAVE", -1, autoData, true))
                 .width(1000).padBottom(20).row();
 
-        for (int i = 1; i <= StorageManager.MAX_SAVE_SLOTS; i++) {
-            GameSaveData data = storage.loadGameFromSlot(i);
+        for (int i = 1; i <= storage.getSlotCount(); i++) {
+            SaveSlotMeta data = storage.getSlotMeta(i);
             listContent.add(createSaveCard("SAVE SLOT " + i, i, data, false))
                     .width(1000).padBottom(20).row();
         }
@@ -136,7 +136,7 @@ private void rebuild() {
         add(footer).bottom().padBottom(40);
     }
 
-    private Table createSaveCard(String title, int slotId, GameSaveData data, boolean isAuto) {
+    private Table createSaveCard(String title, int slotId, SaveSlotMeta data, boolean isAuto) {
         Table card = new Table();
         boolean exists = (data != null);
 
@@ -207,9 +207,7 @@ class LoadDialog extends Dialog {
             protected void result(Object object) {
                 if ((Boolean) object) {
                     if (slotId == -1) {
-                        GameSaveData auto = storage.loadAutoSave();
-                        if (auto != null) {
-                            storage.saveAuto(auto);
+                        if (storage.hasAutoSave()) {
                             game.loadGame();
                         }
                     } else {
@@ -0,0 +1,144 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+/**
+ * A save being loaded on the load thread of {@link StorageManager}.
+ *
+ * <p>Loading runs through the stages of {@link Stage} and stops at
+ * {@link Stage#READY}; rebuilding the world from the result needs the GL
+ * context and is left to the render thread. Stage, progress and result
+ * can be polled from the render thread every frame.
+ */
+public class SaveLoadTask {
+
+    /**
+     * Loading stages in the order they are entered.
+     */
+    public enum Stage {
+        /** Waiting for the load thread. */
+        QUEUED(0f, "Queued"),
+        /** Waiting for queued saves, so the newest state is read. */
+        WAITING_FOR_SAVES(0.05f, "Finishing saves"),
+        /** Reading and verifying the save record. */
+        READING(0.15f, "Reading save"),
+        /** Inflating the save body. */
+        DECOMPRESSING(0.35f, "Decompressing"),
+        /** Decoding the save data. */
+        PARSING(0.55f, "Parsing save"),
+        /** Applying the auto save journal. */
+        REPLAYING(0.8f, "Replaying journal"),
+        /** Loaded; the world can be rebuilt. */
+        READY(0.9f, "Rebuilding world"),
+        /** Loading failed with an error. */
+        FAILED(1f, "Failed"),
+        /** Loading was cancelled. */
+        CANCELLED(0f, "Cancelled");
+
+        /** Progress when the stage is entered, from 0 to 1. */
+        public final float progress;
+        /** Short description for loading screens. */
+        public final String label;
+
+        Stage(float progress, String label) {
+            this.progress = progress;
+            this.label = label;
+        }
+    }
+
+    private final String description;
+    private volatile Stage stage = Stage.QUEUED;
+    private volatile GameSaveData result;
+    private volatile boolean cancelled = false;
+    private volatile Future<?> future;
+
+    SaveLoadTask(String description) {
+        this.description = description;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Enters a stage on the load thread.
+     *
+     * @throws CancellationException if the task was cancelled
+     */
+    void enter(Stage next) {
+        if (cancelled) throw new CancellationException(description);
+        stage = next;
+    }
+
+    void complete(GameSaveData data) {
+        if (cancelled) return;
+        result = data;
+        stage = Stage.READY;
+    }
+
+    void fail() {
+        stage = cancelled ? Stage.CANCELLED : Stage.FAILED;
+    }
+
+    /**
+     * @return what is being loaded
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the current stage
+     */
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * @return progress of the load, from 0 to 1
+     */
+    public float getProgress() {
+        return stage.progress;
+    }
+
+    /**
+     * @return whether loading finished, failed or was cancelled
+     */
+    public boolean isDone() {
+        Stage s = stage;
+        return s == Stage.READY || s == Stage.FAILED || s == Stage.CANCELLED;
+    }
+
+    /**
+     * @return the loaded save, or null while loading, if nothing was found
+     *         or if loading failed
+     */
+    public GameSaveData getResult() {
+        return result;
+    }
+
+    /**
+     * @return whether loading failed with an error
+     */
+    public boolean hasFailed() {
+        return stage == Stage.FAILED;
+    }
+
+    /**
+     * Stops loading at the next stage boundary. A task still waiting for
+     * the load thread never runs.
+     */
+    public void cancel() {
+        cancelled = true;
+        Future<?> f = future;
+        if (f != null) f.cancel(false);
+        if (!isDone()) stage = Stage.CANCELLED;
+    }
+
+    /**
+     * @return whether {@link #cancel()} was called
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
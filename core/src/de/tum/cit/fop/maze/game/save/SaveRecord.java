@@ -0,0 +1,180 @@
+package de.tum.cit.fop.maze.game.save;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+/**
+ * Integrity envelope around an encoded save.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * int    magic "MZRC"
+ * short  version
+ * int    payload length
+ * int    CRC32 of the payload
+ * bytes  payload, as produced by a {@link SaveCodec}
+ * </pre>
+ *
+ * <p>{@link #verify(FileHandle)} checks a file against its header and
+ * checksum without decoding the save, which keeps validating all slots at
+ * startup cheap. Files written before the envelope existed are reported as
+ * {@link Status#LEGACY} and read as they are.
+ */
+public final class SaveRecord {
+
+    /** "MZRC" */
+    public static final int MAGIC = 0x4D5A5243;
+    public static final short VERSION = 1;
+    /** Size of the header in bytes. */
+    public static final int HEADER_SIZE = 14;
+
+    /** Result of {@link #verify(FileHandle)}. */
+    public enum Status {
+        /** Header and checksum match. */
+        VALID,
+        /** No envelope; written by an older version and not verifiable. */
+        LEGACY,
+        /** Truncated, checksum mismatch or unsupported version. */
+        CORRUPT,
+        /** The file does not exist. */
+        MISSING;
+
+        /** @return whether the file can be loaded */
+        public boolean isUsable() {
+            return this == VALID || this == LEGACY;
+        }
+    }
+
+    private SaveRecord() {}
+
+    /**
+     * Wraps an encoded save in a record.
+     *
+     * @param payload encoded save
+     * @return header followed by the payload
+     */
+    public static byte[] wrap(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putInt(payload.length);
+        buffer.putInt(crc(payload, 0, payload.length));
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    /**
+     * Returns the verified payload of a record, or the bytes themselves for
+     * content without an envelope.
+     *
+     * @param bytes file content
+     * @return the encoded save
+     * @throws IOException if the record is truncated or its checksum fails
+     */
+    public static byte[] unwrap(byte[] bytes) throws IOException {
+        if (!isRecord(bytes)) return bytes;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.getInt();
+        short version = buffer.getShort();
+        if (version > VERSION) {
+            throw new IOException("Unsupported save record version " + version);
+        }
+        int length = buffer.getInt();
+        int crc = buffer.getInt();
+        if (length < 0 || length != bytes.length - HEADER_SIZE) {
+            throw new IOException("Save record length mismatch");
+        }
+        if (crc(bytes, HEADER_SIZE, length) != crc) {
+            throw new IOException("Save record checksum mismatch");
+        }
+        byte[] payload = new byte[length];
+        System.arraycopy(bytes, HEADER_SIZE, payload, 0, length);
+        return payload;
+    }
+
+    /**
+     * @param bytes file content
+     * @return whether the content starts with the record magic number
+     */
+    public static boolean isRecord(byte[] bytes) {
+        return bytes.length >= 4
+                && ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF)) == MAGIC;
+    }
+
+    /**
+     * Checks a save file against its header and checksum. The payload is
+     * streamed through the checksum, never decoded.
+     *
+     * @param file save file
+     * @return the file status
+     */
+    public static Status verify(FileHandle file) {
+        if (!file.exists()) return Status.MISSING;
+        long fileLength = file.length();
+        if (fileLength == 0) return Status.CORRUPT;
+
+        try (DataInputStream in = new DataInputStream(file.read())) {
+            if (fileLength < 4 || in.readInt() != MAGIC) return Status.LEGACY;
+            if (fileLength < HEADER_SIZE) return Status.CORRUPT;
+            if (in.readShort() > VERSION) return Status.CORRUPT;
+            int length = in.readInt();
+            int crc = in.readInt();
+            if (length < 0 || length != fileLength - HEADER_SIZE) return Status.CORRUPT;
+            return crc(in, length) == crc ? Status.VALID : Status.CORRUPT;
+        } catch (Exception e) {
+            return Status.CORRUPT;
+        }
+    }
+
+    /**
+     * Checks a record held in a buffer, e.g. a mapped region, against its
+     * header and checksum. The buffer position is not changed.
+     *
+     * @param record the remaining bytes of the buffer
+     * @return the record status
+     */
+    public static Status verify(ByteBuffer record) {
+        ByteBuffer buffer = record.slice();
+        int size = buffer.remaining();
+        if (size == 0) return Status.CORRUPT;
+        if (size < 4 || buffer.getInt(0) != MAGIC) return Status.LEGACY;
+        if (size < HEADER_SIZE) return Status.CORRUPT;
+        if (buffer.getShort(4) > VERSION) return Status.CORRUPT;
+        int length = buffer.getInt(6);
+        int crc = buffer.getInt(10);
+        if (length < 0 || length != size - HEADER_SIZE) return Status.CORRUPT;
+        buffer.position(HEADER_SIZE);
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer);
+        return (int) checksum.getValue() == crc ? Status.VALID : Status.CORRUPT;
+    }
+
+    /**
+     * @param bytes  data
+     * @param offset start of the range
+     * @param length length of the range
+     * @return CRC32 of the range
+     */
+    public static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static int crc(InputStream in, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        int remaining = length;
+        while (remaining > 0) {
+            int n = in.read(buffer, 0, Math.min(buffer.length, remaining));
+            if (n < 0) throw new IOException("Truncated save record");
+            crc.update(buffer, 0, n);
+            remaining -= n;
+        }
+        return (int) crc.getValue();
+    }
+}
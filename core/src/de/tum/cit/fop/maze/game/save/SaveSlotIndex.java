@@ -0,0 +1,25 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.util.HashMap;
+/**
+ * Persistent index of {@link SaveSlotMeta} entries, mapped by save file name.
+ *
+ * <p>Managed by {@link StorageManager}; screens should use
+ * {@link StorageManager#getSlotMeta(int)} instead of reading it directly.
+ */
+public class SaveSlotIndex {
+    /** Metadata of existing saves, mapped by save file name. */
+    public HashMap<String, SaveSlotMeta> slots = new HashMap<>();
+
+    /**
+     * Creates a copy for writing in the background. Entries are replaced,
+     * never modified, so they are shared.
+     *
+     * @return a snapshot of the index
+     */
+    public SaveSlotIndex snapshot() {
+        SaveSlotIndex copy = new SaveSlotIndex();
+        copy.slots = new HashMap<>(slots);
+        return copy;
+    }
+}
@@ -0,0 +1,46 @@
+package de.tum.cit.fop.maze.game.save;
+
+/**
+ * Summary of a single save file, used to list save slots without
+ * parsing the full {@link GameSaveData}.
+ *
+ * <p>Entries are kept up to date by {@link StorageManager} whenever a
+ * save is written or deleted, and persisted together in a small index
+ * file next to the saves.
+ */
+public class SaveSlotMeta {
+    /** Slot index, or -1 for the auto save. */
+    public int slot;
+    /** The current level number of the save. */
+    public int currentLevel = 1;
+    /** The total accumulated score of the save. */
+    public int score = 0;
+    /** The difficulty setting of the save. */
+    public String difficulty = "NORMAL";
+    /** Whether the save is a two-player game. */
+    public boolean twoPlayerMode = false;
+    /** Time the save was written, in milliseconds since the epoch. */
+    public long savedAt = 0L;
+
+    /**
+     * Creates an empty entry, used by deserialization.
+     */
+    public SaveSlotMeta() {
+    }
+
+    /**
+     * Creates an entry describing the given save data.
+     *
+     * @param slot slot index, or -1 for the auto save
+     * @param data save data to summarize
+     * @param savedAt time the save was written
+     */
+    public SaveSlotMeta(int slot, GameSaveData data, long savedAt) {
+        this.slot = slot;
+        this.currentLevel = data.currentLevel;
+        this.score = data.score;
+        this.difficulty = data.difficulty;
+        this.twoPlayerMode = data.twoPlayerMode;
+        this.savedAt = savedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.io.IOException;
+/**
+ * Storage backend for game saves, addressed by save file name.
+ *
+ * <p>Backups and set-aside copies are stored under their own names, e.g.
+ * {@code save_slot_1.json.gz.bak}, so every backend supports the same
+ * rotation without knowing about it.
+ *
+ * @see FileSaveStore
+ * @see ContainerSaveStore
+ */
+public interface SaveStore {
+    /**
+     * @param name save name
+     * @return whether a save of that name exists
+     */
+    boolean exists(String name);
+
+    /**
+     * Reads a save.
+     *
+     * @param name save name
+     * @return the stored bytes, or null if the save does not exist
+     * @throws IOException if the save cannot be read
+     */
+    byte[] read(String name) throws IOException;
+
+    /**
+     * Replaces a save so that a crash leaves either the old or the new
+     * content.
+     *
+     * @param name       save name
+     * @param bytes      new content
+     * @param backupName where the current save is kept, or null for none
+     * @param meta       summary of the save, or null if unknown
+     * @throws IOException if the save cannot be written
+     */
+    void write(String name, byte[] bytes, String backupName, SaveSlotMeta meta) throws IOException;
+
+    /**
+     * Copies a save, replacing the target.
+     *
+     * @param from source name
+     * @param to   target name
+     * @throws IOException if the save cannot be copied
+     */
+    void copy(String from, String to) throws IOException;
+
+    /**
+     * Renames a save, replacing the target.
+     *
+     * @param from source name
+     * @param to   target name
+     * @throws IOException if the save cannot be renamed
+     */
+    void move(String from, String to) throws IOException;
+
+    /**
+     * @param name save name
+     * @return whether a save was deleted
+     */
+    boolean delete(String name);
+
+    /**
+     * @param name save name
+     * @return time the save was written, or 0 if it does not exist
+     */
+    long lastModified(String name);
+
+    /**
+     * Checks a save against its record header and checksum without
+     * decoding it.
+     *
+     * @param name save name
+     * @return the save status
+     */
+    SaveRecord.Status verify(String name);
+
+    /**
+     * @return whether {@link #readMeta(String)} is authoritative, so no
+     *         separate slot index is needed
+     */
+    boolean keepsMetadata();
+
+    /**
+     * Reads the summary stored with a save.
+     *
+     * @param name save name
+     * @return a new summary, or null if the save does not exist or the
+     *         backend keeps no metadata
+     */
+    SaveSlotMeta readMeta(String name);
+
+    /**
+     * Releases the backend. Pending writes must be finished first.
+     */
+    void close();
+}
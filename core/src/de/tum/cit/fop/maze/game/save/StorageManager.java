@@ -4,15 +4,21 @@
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
+import de.tum.cit.fop.maze.game.SimulationMode;
 import de.tum.cit.fop.maze.game.achievement.CareerData;
 import de.tum.cit.fop.maze.utils.Logger;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 /**
@@ -21,12 +27,17 @@
  * <p>This class provides functionality for:
  * <ul>
  *   <li>Saving and loading game progress (auto save and manual slots)</li>
- *   <li>Managing multiple save slots</li>
+ *   <li>Managing multiple save slots and a metadata index for listing them</li>
  *   <li>Saving and loading career-wide achievement data</li>
  *   <li>Supporting optional compression and asynchronous saving</li>
+ *   <li>Loading saves in stages on a background thread</li>
+ *   <li>Checksumming saves and keeping a last-known-good copy of each</li>
  * </ul>
  *
- * <p>The manager uses local file storage and is implemented as a singleton.
+ * <p>Game saves go through a {@link SaveStore}: one local file per save by
+ * default, or a single memory-mapped container, see
+ * {@link #setSaveBackend(SaveBackend, int)}. Other files are always local
+ * files. The manager is implemented as a singleton.
  */
 public class StorageManager {
 
@@ -78,9 +89,27 @@ public static SaveTarget fromSlot(int slot) {
         }
     }
 
+    /**
+     * Storage backends for game saves.
+     */
+    public enum SaveBackend {
+        /** One local file per save, with a JSON slot index. */
+        FILES,
+        /** All saves in one memory-mapped container with a slot table. */
+        CONTAINER
+    }
+
+    /** Number of save slots until another count is configured. */
     public static final int MAX_SAVE_SLOTS = 5;
+    private static final String CONTAINER_FILE = "saves.mzc";
     private static final String AUTO_SAVE_FILE = "save_auto.json.gz";
     private static final String SAVE_SLOT_PATTERN = "save_slot_%d.json.gz";
+    private static final String SLOT_INDEX_FILE = "save_index.json";
+    private static final String AUTO_JOURNAL_FILE = "save_auto.journal";
+    /** Suffix of the last-known-good copy kept next to every save. */
+    private static final String BACKUP_SUFFIX = ".bak";
+    /** Suffix under which unrecoverable saves are set aside. */
+    private static final String CORRUPT_SUFFIX = ".corrupt";
 
 
     private static StorageManager instance;
@@ -103,20 +132,50 @@ public static StorageManager getInstance() {
     private static final String CAREER_FILE_NAME_LEGACY = "career_data.json";
 
 
-    private final ExecutorService saveExecutor;
+    /** Number of save threads; saves of different files run in parallel. */
+    private static final int SAVE_THREADS = 3;
 
+    /** Save threads; all writes of one file go to the same thread, in order. */
+    private final ExecutorService[] saveExecutors = new ExecutorService[SAVE_THREADS];
 
-    private final ConcurrentLinkedQueue<Future<?>> pendingSaves = new ConcurrentLinkedQueue<>();
+
+    private final ConcurrentLinkedQueue<SaveTask> pendingSaves = new ConcurrentLinkedQueue<>();
+
+    /** Latest queued save per file; an older one still queued is cancelled. */
+    private final ConcurrentHashMap<String, Future<?>> queuedSaves = new ConcurrentHashMap<>();
+
+    private final ExecutorService loadExecutor;
 
     private boolean compressionEnabled = true;
 
 
     private boolean asyncEnabled = true;
 
+    private boolean binarySavesEnabled = true;
+    private final BinarySaveCodec binaryCodec = new BinarySaveCodec();
+    private final JsonSaveCodec jsonCodec = new JsonSaveCodec(true);
+
+    private SaveSlotIndex slotIndex;
+
+    private final SaveStore fileStore = new FileSaveStore();
+    private SaveStore store = fileStore;
+    private int slotCount = MAX_SAVE_SLOTS;
+
+    /** World snapshot id of the last full auto save written by this process. */
+    private long autoSnapshotId;
+
     private StorageManager() {
 
-        this.saveExecutor = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "StorageManager-SaveThread");
+        for (int i = 0; i < SAVE_THREADS; i++) {
+            String name = "StorageManager-SaveThread-" + i;
+            saveExecutors[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        this.loadExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "StorageManager-LoadThread");
             t.setDaemon(true);
             return t;
         });
@@ -139,18 +198,91 @@ private Json createJson() {
     }
 
     private String getSlotFileName(int slot) {
-        if (slot < 1 || slot > MAX_SAVE_SLOTS) {
+        if (slot < 1 || slot > slotCount) {
             throw new IllegalArgumentException("Invalid save slot: " + slot);
         }
         return String.format(SAVE_SLOT_PATTERN, slot);
     }
 
-    private FileHandle getSaveSlotFile(int slot) {
-        return getFile(getSlotFileName(slot));
+    private int getSlotOfFile(String fileName) {
+        if (AUTO_SAVE_FILE.equals(fileName)) return SaveTarget.AUTO.getSlotIndex();
+        for (int i = 1; i <= slotCount; i++) {
+            if (getSlotFileName(i).equals(fileName)) return i;
+        }
+        return 0;
     }
 
-    private FileHandle getAutoSaveFile() {
-        return getFile(AUTO_SAVE_FILE);
+    /**
+     * @return number of manual save slots
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Selects where game saves are stored and how many manual slots exist.
+     * Pending saves are finished first. Saves missing in the new backend
+     * are copied over from the current one.
+     *
+     * <p>The container scales to hundreds of slots; its table is sized for
+     * every slot with its backup and set-aside copy, plus the free entry an
+     * update needs, when it is created.
+     *
+     * @param backend   the storage backend
+     * @param slotCount number of manual save slots
+     */
+    public void setSaveBackend(SaveBackend backend, int slotCount) {
+        if (slotCount < 1) {
+            throw new IllegalArgumentException("Invalid save slot count: " + slotCount);
+        }
+        flushAllSaves();
+
+        SaveStore next = fileStore;
+        if (backend == SaveBackend.CONTAINER) {
+            try {
+                int entries = (slotCount + 1) * 3 + 1;
+                ContainerSaveStore container = ContainerSaveStore.open(getFile(CONTAINER_FILE).file(), entries);
+                if (container.getCapacity() < entries) {
+                    Logger.warning("Save container holds " + container.getCapacity() + " entries, fewer than "
+                            + slotCount + " slots may need");
+                }
+                next = container;
+            } catch (IOException e) {
+                Logger.error("Failed to open save container, keeping current backend: " + e.getMessage());
+                return;
+            }
+        }
+
+        if (next != store) {
+            migrateSaves(next, Math.min(this.slotCount, slotCount));
+            if (store != fileStore) store.close();
+            store = next;
+        }
+        this.slotCount = slotCount;
+        slotIndex = null;
+        Logger.info("Save backend: " + backend + ", " + slotCount + " slots");
+    }
+
+    private void migrateSaves(SaveStore target, int slots) {
+        migrateSave(target, SaveTarget.AUTO.getSlotIndex(), AUTO_SAVE_FILE);
+        for (int i = 1; i <= slots; i++) {
+            migrateSave(target, i, getSlotFileName(i));
+        }
+    }
+
+    private void migrateSave(SaveStore target, int slot, String fileName) {
+        if (!store.exists(fileName) || target.exists(fileName)) return;
+        try {
+            SaveSlotMeta meta = getSlotMeta(slot);
+            if (meta == null) {
+                GameSaveData data = loadGameInternal(fileName);
+                if (data == null) return;
+                meta = new SaveSlotMeta(slot, data, store.lastModified(fileName));
+            }
+            target.write(fileName, store.read(fileName), null, meta);
+        } catch (IOException e) {
+            Logger.error("Failed to move " + fileName + " to the new save backend: " + e.getMessage());
+        }
     }
     /**
      * Determines the best save slot to use for starting a new game.
@@ -162,8 +294,8 @@ private FileHandle getAutoSaveFile() {
      * @return the recommended save slot index
      */
     public int getBestSlotForNewGame() {
-        for (int i = 1; i <= MAX_SAVE_SLOTS; i++) {
-            if (!getSaveSlotFile(i).exists()) {
+        for (int i = 1; i <= slotCount; i++) {
+            if (!hasSaveInSlot(i)) {
                 return i;
             }
         }
@@ -172,19 +304,19 @@ public int getBestSlotForNewGame() {
         int minLevel = Integer.MAX_VALUE;
         long oldestTime = Long.MAX_VALUE;
 
-        for (int i = 1; i <= MAX_SAVE_SLOTS; i++) {
-            GameSaveData data = loadGameFromSlot(i);
-            FileHandle file = getSaveSlotFile(i);
+        for (int i = 1; i <= slotCount; i++) {
+            SaveSlotMeta meta = getSlotMeta(i);
+            long lastModified = store.lastModified(getSlotFileName(i));
 
-            if (data == null) return i;
+            if (meta == null) return i;
 
-            if (data.currentLevel < minLevel) {
-                minLevel = data.currentLevel;
-                oldestTime = file.lastModified();
+            if (meta.currentLevel < minLevel) {
+                minLevel = meta.currentLevel;
+                oldestTime = lastModified;
                 bestSlot = i;
-            } else if (data.currentLevel == minLevel) {
-                if (file.lastModified() < oldestTime) {
-                    oldestTime = file.lastModified();
+            } else if (meta.currentLevel == minLevel) {
+                if (lastModified < oldestTime) {
+                    oldestTime = lastModified;
                     bestSlot = i;
                 }
             }
@@ -201,10 +333,15 @@ public int getBestSlotForNewGame() {
      * @return formatted timestamp string
      */
     public String getSlotLastModifiedTime(int slotIndex) {
-        FileHandle file = (slotIndex == -1) ? getAutoSaveFile() : getSaveSlotFile(slotIndex);
-        if (!file.exists()) return "Unknown";
-
-        long lastModified = file.lastModified();
+        SaveSlotMeta meta = getSlotMeta(slotIndex);
+        long lastModified;
+        if (meta != null && meta.savedAt > 0) {
+            lastModified = meta.savedAt;
+        } else {
+            String fileName = (slotIndex == -1) ? AUTO_SAVE_FILE : getSlotFileName(slotIndex);
+            if (!store.exists(fileName)) return "Unknown";
+            lastModified = store.lastModified(fileName);
+        }
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
         return sdf.format(new Date(lastModified));
     }
@@ -227,6 +364,7 @@ public void saveGameToSlot(int slot, GameSaveData data) {
             writeJsonSafelySync(fileName, data, compressionEnabled);
             Logger.info("Game saved to slot " + slot);
         }
+        updateSlotIndex(slot, fileName, data);
     }
     /**
      * Saves game data to the automatic save slot.
@@ -238,9 +376,132 @@ public void saveAuto(GameSaveData data) {
 
         if (asyncEnabled) {
             writeJsonSafelyAsync(AUTO_SAVE_FILE, data, compressionEnabled);
+            submitSave(AUTO_SAVE_FILE, false, this::deleteAutoJournal);
         } else {
             writeJsonSafelySync(AUTO_SAVE_FILE, data, compressionEnabled);
+            deleteAutoJournal();
+        }
+        autoSnapshotId = data.world != null ? data.world.snapshotId : 0L;
+        updateSlotIndex(SaveTarget.AUTO.getSlotIndex(), AUTO_SAVE_FILE, data);
+    }
+
+    /**
+     * Appends the changes since the last auto save to the auto save journal
+     * instead of rewriting the whole save.
+     *
+     * <p>Only possible while the auto save on disk is the snapshot the delta
+     * was recorded against; otherwise nothing is written and the caller
+     * must fall back to {@link #saveAuto(GameSaveData)}.
+     *
+     * @param data  current save data; maze and world are not written
+     * @param delta world changes since the previous auto save
+     * @return true if the entry was written or queued
+     */
+    public boolean appendAutoJournal(GameSaveData data, WorldDelta delta) {
+        if (data == null || delta == null) return false;
+        if (autoSnapshotId == 0L || delta.snapshotId != autoSnapshotId) return false;
+        if (SimulationMode.isHeadless()) return true;
+
+        GameSaveData progress = data.snapshot();
+        progress.maze = null;
+        progress.world = null;
+
+        if (asyncEnabled) {
+            submitSave(AUTO_SAVE_FILE, false, () -> writeJournalEntry(progress, delta));
+        } else {
+            writeJournalEntry(progress, delta);
         }
+        updateSlotIndex(SaveTarget.AUTO.getSlotIndex(), AUTO_SAVE_FILE, data);
+        return true;
+    }
+
+    /**
+     * Writes one journal entry: an int length and the CRC32 of the entry
+     * body, followed by the delta and the binary-encoded save without maze
+     * and world.
+     */
+    private void writeJournalEntry(GameSaveData progress, WorldDelta delta) {
+        try {
+            byte[] encoded = binaryCodec.encode(progress);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(encoded.length + 256);
+            DataOutputStream out = new DataOutputStream(baos);
+            out.writeInt(0);
+            out.writeInt(0);
+            delta.write(out);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+            out.flush();
+
+            byte[] entry = baos.toByteArray();
+            int length = entry.length - 8;
+            putInt(entry, 0, length);
+            putInt(entry, 4, SaveRecord.crc(entry, 8, length));
+            getFile(AUTO_JOURNAL_FILE).writeBytes(entry, true);
+        } catch (Exception e) {
+            Logger.error("Failed to append auto save journal: " + e.getMessage());
+        }
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Replays the auto save journal onto the loaded auto save. Entries of
+     * another snapshot, out of sequence, truncated by a crash or failing
+     * their checksum end the replay; everything before them is kept.
+     */
+    private GameSaveData replayAutoJournal(GameSaveData base) {
+        if (base == null || base.world == null) return base;
+        FileHandle file = getFile(AUTO_JOURNAL_FILE);
+        if (!file.exists()) return base;
+
+        GameSaveData result = base;
+        int applied = 0;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(file.readBytes()))) {
+            while (in.available() >= 8) {
+                int length = in.readInt();
+                int crc = in.readInt();
+                if (length <= 0 || length > in.available()) break;
+                byte[] entry = new byte[length];
+                in.readFully(entry);
+                if (SaveRecord.crc(entry, 0, length) != crc) break;
+
+                DataInputStream entryIn = new DataInputStream(new ByteArrayInputStream(entry));
+                WorldDelta delta = WorldDelta.read(entryIn);
+                if (delta.snapshotId != base.world.snapshotId || delta.sequence != applied) break;
+                byte[] encoded = new byte[entryIn.readInt()];
+                entryIn.readFully(encoded);
+                GameSaveData progress = binaryCodec.decode(encoded);
+                if (progress == null) break;
+
+                WorldSaveData world = result.world.snapshot();
+                delta.applyTo(world);
+                progress.maze = result.maze;
+                progress.world = world;
+                result = progress;
+                applied++;
+            }
+        } catch (Exception e) {
+            Logger.warning("Auto save journal ends with an unreadable entry: " + e.getMessage());
+        }
+        if (applied > 0) {
+            Logger.info("Replayed " + applied + " auto save journal entries");
+        }
+        return result;
+    }
+
+    private void deleteBackup(String fileName) {
+        store.delete(fileName + BACKUP_SUFFIX);
+    }
+
+    private void deleteAutoJournal() {
+        if (SimulationMode.isHeadless()) return;
+        FileHandle journal = getFile(AUTO_JOURNAL_FILE);
+        if (journal.exists()) journal.delete();
     }
     /**
      * Saves game data to the automatic save slot.
@@ -271,37 +532,191 @@ public GameSaveData loadGameFromSlot(int slot) {
      */
     public boolean hasSaveInSlot(int slot) {
         String fileName = getSlotFileName(slot);
-        return getFile(fileName).exists();
+        return store.exists(fileName);
     }
 
     public boolean[] getSaveSlotStates() {
-        boolean[] result = new boolean[MAX_SAVE_SLOTS + 1];
-        for (int i = 1; i <= MAX_SAVE_SLOTS; i++) {
+        boolean[] result = new boolean[slotCount + 1];
+        for (int i = 1; i <= slotCount; i++) {
             result[i] = hasSaveInSlot(i);
         }
         return result;
     }
 
-    private GameSaveData loadGameInternal(String fileName) {
-        FileHandle file = getFile(fileName);
-        boolean isCompressed = fileName.endsWith(".gz");
+    /**
+     * Returns the metadata of a save without loading the save itself.
+     *
+     * <p>The returned entry is owned by the index and must not be modified.
+     *
+     * @param slot the slot index, or -1 for the auto save
+     * @return the metadata, or null if the slot is empty
+     */
+    public SaveSlotMeta getSlotMeta(int slot) {
+        String fileName = (slot == SaveTarget.AUTO.getSlotIndex()) ? AUTO_SAVE_FILE : getSlotFileName(slot);
+        SaveSlotIndex index = getSlotIndex();
+        if (store.keepsMetadata()) return store.readMeta(fileName);
+        return index.slots.get(fileName);
+    }
 
-        if (!file.exists()) return null;
+    private SaveSlotIndex getSlotIndex() {
+        if (slotIndex == null) {
+            slotIndex = loadSlotIndex();
+        }
+        return slotIndex;
+    }
 
-        try {
-            String jsonStr;
+    /**
+     * Loads the slot index and reconciles it with the save files on disk.
+     * Saves without an entry, e.g. written by an older version, are parsed
+     * once to create one. Backends that keep metadata themselves only get
+     * their saves validated.
+     */
+    private SaveSlotIndex loadSlotIndex() {
+        SaveSlotIndex index = null;
+        FileHandle file = getFile(SLOT_INDEX_FILE);
+        if (!store.keepsMetadata() && file.exists()) {
+            try {
+                index = createJson().fromJson(SaveSlotIndex.class, file.readString());
+            } catch (Exception e) {
+                Logger.warning("Failed to read save index, rebuilding: " + e.getMessage());
+            }
+        }
+        if (index == null) index = new SaveSlotIndex();
+        if (index.slots == null) index.slots = new java.util.HashMap<>();
 
-            if (isCompressed) {
-                byte[] compressed = file.readBytes();
-                jsonStr = decompressData(compressed);
+        validateSaveFile(index, AUTO_SAVE_FILE);
+        for (int i = 1; i <= slotCount; i++) {
+            validateSaveFile(index, getSlotFileName(i));
+        }
+        if (store.keepsMetadata()) return index;
+
+        boolean changed = reconcileSlotIndex(index, SaveTarget.AUTO.getSlotIndex(), AUTO_SAVE_FILE);
+        for (int i = 1; i <= slotCount; i++) {
+            changed |= reconcileSlotIndex(index, i, getSlotFileName(i));
+        }
+        if (changed) {
+            writeJsonSafelySync(SLOT_INDEX_FILE, index, false);
+            Logger.info("Save index rebuilt");
+        }
+        return index;
+    }
+
+    /**
+     * Checks a save against its record header and checksum without decoding
+     * it. A damaged save, or one lost between rotation and commit, is
+     * replaced by its last-known-good copy; a damaged save without usable
+     * copy is set aside so the slot shows as empty. Either way the index
+     * entry is dropped and rebuilt from the file.
+     */
+    private void validateSaveFile(SaveSlotIndex index, String fileName) {
+        SaveRecord.Status status = store.verify(fileName);
+        if (status.isUsable()) return;
+
+        String backup = fileName + BACKUP_SUFFIX;
+        if (status == SaveRecord.Status.MISSING && !store.exists(backup)) return;
+
+        try {
+            if (status == SaveRecord.Status.CORRUPT) {
+                store.move(fileName, fileName + CORRUPT_SUFFIX);
+            }
+            if (store.verify(backup).isUsable()) {
+                store.copy(backup, fileName);
+                Logger.warning("Restored " + fileName + " from its last-known-good copy");
             } else {
-                jsonStr = file.readString();
+                Logger.error("Save " + fileName + " is damaged and has no usable copy");
             }
+        } catch (IOException e) {
+            Logger.error("Failed to recover " + fileName + ": " + e.getMessage());
+        }
+        index.slots.remove(fileName);
+    }
 
-            if (jsonStr == null || jsonStr.isBlank()) return null;
+    private boolean reconcileSlotIndex(SaveSlotIndex index, int slot, String fileName) {
+        if (!store.exists(fileName)) {
+            return index.slots.remove(fileName) != null;
+        }
+        if (index.slots.containsKey(fileName)) {
+            return false;
+        }
+        GameSaveData data = loadGameInternal(fileName);
+        if (data == null) return false;
+        index.slots.put(fileName, new SaveSlotMeta(slot, data, store.lastModified(fileName)));
+        return true;
+    }
 
-            Json json = createJson();
-            GameSaveData data = json.fromJson(GameSaveData.class, jsonStr);
+    private void updateSlotIndex(int slot, String fileName, GameSaveData data) {
+        if (SimulationMode.isHeadless() || store.keepsMetadata()) return;
+        getSlotIndex().slots.put(fileName, new SaveSlotMeta(slot, data, System.currentTimeMillis()));
+        writeSlotIndex();
+    }
+
+    private void removeFromSlotIndex(String fileName) {
+        if (store.keepsMetadata()) return;
+        if (getSlotIndex().slots.remove(fileName) != null) {
+            writeSlotIndex();
+        }
+    }
+
+    /**
+     * Writes the slot index. An asynchronous write first waits for the
+     * saves queued before it. Entries whose latest save was superseded,
+     * failed or did not finish in time are left out, so the index never
+     * describes a save that is not on disk; such slots are rebuilt from
+     * their files when the index is next loaded.
+     */
+    private void writeSlotIndex() {
+        if (asyncEnabled) {
+            if (SimulationMode.isHeadless()) return;
+            SaveSlotIndex indexCopy = slotIndex.snapshot();
+            SaveTask[] earlier = pendingSaves.toArray(new SaveTask[0]);
+            submitSave(SLOT_INDEX_FILE, true, () -> {
+                indexCopy.slots.keySet().removeAll(awaitSaves(earlier));
+                writeJsonSafelySync(SLOT_INDEX_FILE, indexCopy, false);
+            });
+        } else {
+            writeJsonSafelySync(SLOT_INDEX_FILE, slotIndex, false);
+        }
+    }
+
+    /**
+     * Loads a save, falling back to its last-known-good copy if the save is
+     * missing, fails its checksum or cannot be decoded.
+     */
+    private GameSaveData loadGameInternal(String fileName) {
+        return loadGameInternal(store, fileName, null);
+    }
+
+    private GameSaveData loadGameInternal(SaveStore source, String fileName, SaveLoadTask task) {
+        GameSaveData data = readSave(source, fileName, task);
+        if (data != null) return data;
+
+        if (!source.exists(fileName + BACKUP_SUFFIX)) return null;
+        data = readSave(source, fileName + BACKUP_SUFFIX, task);
+        if (data != null) {
+            Logger.warning("Loaded last-known-good copy of " + fileName);
+        }
+        return data;
+    }
+
+    /**
+     * Reads, decompresses and decodes a save, reporting each stage to the
+     * task if one is given.
+     */
+    private GameSaveData readSave(SaveStore source, String fileName, SaveLoadTask task) {
+        if (!source.exists(fileName)) return null;
+
+        try {
+            advance(task, SaveLoadTask.Stage.READING);
+            byte[] bytes = source.read(fileName);
+            if (bytes == null || bytes.length == 0) return null;
+            bytes = SaveRecord.unwrap(bytes);
+            SaveCodec codec = BinarySaveCodec.isBinary(bytes) ? binaryCodec : jsonCodec;
+
+            advance(task, SaveLoadTask.Stage.DECOMPRESSING);
+            bytes = codec.decompress(bytes);
+
+            advance(task, SaveLoadTask.Stage.PARSING);
+            GameSaveData data = codec.decode(bytes);
 
             if (data != null) {
                 if (data.currentLevel < 1) {
@@ -316,6 +731,8 @@ private GameSaveData loadGameInternal(String fileName) {
 
             return data;
 
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             Logger.error("Failed to load save: " + fileName);
             e.printStackTrace();
@@ -323,6 +740,104 @@ private GameSaveData loadGameInternal(String fileName) {
         }
     }
 
+    private static void advance(SaveLoadTask task, SaveLoadTask.Stage stage) {
+        if (task != null) task.enter(stage);
+    }
+
+    /**
+     * Loads the most appropriate game save on the load thread, see
+     * {@link #loadGame()}.
+     *
+     * @return the running load
+     */
+    public SaveLoadTask loadGameAsync() {
+        return startLoad("latest save", this::loadGame);
+    }
+
+    /**
+     * Loads a save slot on the load thread.
+     *
+     * @param slot the slot index
+     * @return the running load
+     */
+    public SaveLoadTask loadGameFromSlotAsync(int slot) {
+        String fileName = getSlotFileName(slot);
+        return startLoad("slot " + slot, task -> loadGameInternal(store, fileName, task));
+    }
+
+    private SaveLoadTask startLoad(String description, Function<SaveLoadTask, GameSaveData> load) {
+        SaveLoadTask task = new SaveLoadTask(description);
+        task.setFuture(loadExecutor.submit(() -> runLoad(task, load)));
+        return task;
+    }
+
+    private void runLoad(SaveLoadTask task, Function<SaveLoadTask, GameSaveData> load) {
+        try {
+            task.enter(SaveLoadTask.Stage.WAITING_FOR_SAVES);
+            awaitQueuedSaves();
+            task.complete(load.apply(task));
+        } catch (CancellationException e) {
+            task.fail();
+            Logger.info("Loading " + task.getDescription() + " cancelled");
+        } catch (Exception e) {
+            task.fail();
+            Logger.error("Failed to load " + task.getDescription() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the saves queued so far without taking them off the queue,
+     * so a load reads what was saved before it.
+     */
+    private void awaitQueuedSaves() {
+        awaitSaves(pendingSaves.toArray(new SaveTask[0]));
+    }
+
+    /**
+     * Waits for the given saves.
+     *
+     * @param tasks saves in submission order
+     * @return files whose latest save among the tasks was cancelled,
+     *         failed or did not finish in time
+     */
+    private static Set<String> awaitSaves(SaveTask[] tasks) {
+        Set<String> unwritten = new HashSet<>();
+        for (SaveTask task : tasks) {
+            try {
+                task.get(10, TimeUnit.SECONDS);
+                unwritten.remove(task.file);
+                continue;
+            } catch (CancellationException e) {
+                // Superseded by a later save of the same file.
+            } catch (Exception e) {
+                Logger.warning("Save task failed: " + e.getMessage());
+            }
+            unwritten.add(task.file);
+        }
+        return unwritten;
+    }
+
+    private byte[] serialize(Object data, boolean useCompression) throws IOException {
+        if (data instanceof GameSaveData save) {
+            SaveCodec codec = binarySavesEnabled
+                    ? (useCompression ? binaryCodec : new BinarySaveCodec(false))
+                    : new JsonSaveCodec(useCompression);
+            return SaveRecord.wrap(codec.encode(save));
+        }
+        String jsonStr = createJson().toJson(data);
+        return useCompression ? compressData(jsonStr) : jsonStr.getBytes("UTF-8");
+    }
+
+    /**
+     * Selects the format used for new game saves. Existing saves are read
+     * in either format.
+     *
+     * @param enabled true for {@link BinarySaveCodec}, false for JSON
+     */
+    public void setBinarySavesEnabled(boolean enabled) {
+        this.binarySavesEnabled = enabled;
+    }
+
     public void setCompressionEnabled(boolean enabled) {
         this.compressionEnabled = enabled;
     }
@@ -344,6 +859,8 @@ public boolean waitForAllSaves(long timeout, TimeUnit unit) {
             if (future != null) {
                 try {
                     future.get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                } catch (CancellationException e) {
+                    // Superseded by a later save of the same file.
                 } catch (Exception e) {
                     Logger.warning("Save task failed: " + e.getMessage());
                 }
@@ -381,61 +898,80 @@ private String decompressData(byte[] compressed) throws IOException {
         }
     }
 
-    private void writeJsonSafelySync(String fileName, Object data, boolean useCompression) {
-        if (data == null) return;
-        FileHandle tmpFile = null;
+    /**
+     * @return false if the data could not be written
+     */
+    private boolean writeJsonSafelySync(String fileName, Object data, boolean useCompression) {
+        if (data == null || SimulationMode.isHeadless()) return true;
         try {
-            FileHandle oldTmpFile = getFile(fileName + ".tmp");
-            if (oldTmpFile.exists()) {
-                try {
-                    oldTmpFile.delete();
-                } catch (Exception e) {
-                    Logger.warning("Failed to delete old temp file: " + e.getMessage());
-                }
-            }
-
-            Json json = createJson();
-            String jsonStr = json.toJson(data);
-
-            tmpFile = getFile(fileName + ".tmp");
-            if (useCompression) {
-                byte[] compressed = compressData(jsonStr);
-                tmpFile.writeBytes(compressed, false);
+            byte[] bytes = serialize(data, useCompression);
+            if (data instanceof GameSaveData save) {
+                String backup = store.verify(fileName).isUsable() ? fileName + BACKUP_SUFFIX : null;
+                SaveSlotMeta meta = new SaveSlotMeta(getSlotOfFile(fileName), save, System.currentTimeMillis());
+                store.write(fileName, bytes, backup, meta);
             } else {
-                tmpFile.writeString(jsonStr, false);
+                PersistenceService.commit(fileName, bytes);
             }
-
-            FileHandle targetFile = getFile(fileName);
-            tmpFile.moveTo(targetFile);
-            tmpFile = null;
-
         } catch (Exception e) {
             Logger.error("Failed to save data to " + fileName + ": " + e.getMessage());
             e.printStackTrace();
-
-            if (tmpFile != null && tmpFile.exists()) {
-                try {
-                    tmpFile.delete();
-                } catch (Exception cleanupEx) {
-                    Logger.warning("Failed to cleanup temp file: " + cleanupEx.getMessage());
-                }
-            }
+            return false;
         }
+        return true;
     }
 
     private void writeJsonSafelyAsync(String fileName, Object data, boolean useCompression) {
-        if (data == null) return;
+        if (data == null || SimulationMode.isHeadless()) return;
+
+        Object dataCopy = snapshot(data);
+
+        submitSave(fileName, true, () -> {
+            if (!writeJsonSafelySync(fileName, dataCopy, useCompression)) {
+                throw new IllegalStateException("Failed to save " + fileName);
+            }
+        });
+    }
+
+    /**
+     * A queued write and the file it belongs to.
+     */
+    private static final class SaveTask extends FutureTask<Void> {
+        final String file;
 
-        Object dataCopy = deepCopy(data);
+        SaveTask(String file, Runnable task) {
+            super(task, null);
+            this.file = file;
+        }
+    }
 
-        Future<?> future = saveExecutor.submit(() -> {
-            writeJsonSafelySync(fileName, dataCopy, useCompression);
+    /**
+     * Runs a write on the save thread of its file, after all previously
+     * submitted writes of that file. Writes of other files may run
+     * concurrently on the other save threads.
+     *
+     * @param file      file the write belongs to
+     * @param supersede whether the write replaces the whole file; a
+     *                  replacing write of the same file that has not
+     *                  started yet is then cancelled
+     * @param task      the write
+     */
+    private void submitSave(String file, boolean supersede, Runnable task) {
+        SaveTask future = new SaveTask(file, task);
+        if (supersede) {
+            Future<?> previous = queuedSaves.put(file, future);
+            if (previous != null && previous.cancel(false)) {
+                Logger.debug("Superseded queued save of " + file);
+            }
+        }
+        saveExecutors[Math.floorMod(file.hashCode(), SAVE_THREADS)].execute(() -> {
+            future.run();
+            if (supersede) queuedSaves.remove(file, future);
         });
 
         pendingSaves.offer(future);
 
         while (!pendingSaves.isEmpty()) {
-            Future<?> first = pendingSaves.peek();
+            SaveTask first = pendingSaves.peek();
             if (first.isDone()) {
                 pendingSaves.poll();
             } else {
@@ -444,6 +980,17 @@ private void writeJsonSafelyAsync(String fileName, Object data, boolean useCompr
         }
     }
 
+    /**
+     * Captures the state to be written by the save thread. Known save types
+     * provide a cheap snapshot; encoding happens later on the save thread.
+     */
+    private Object snapshot(Object data) {
+        if (data instanceof GameSaveData save) return save.snapshot();
+        if (data instanceof CareerData career) return career.snapshot();
+        if (data instanceof SaveSlotIndex index) return index.snapshot();
+        return deepCopy(data);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T deepCopy(T obj) {
         try {
@@ -463,13 +1010,17 @@ private <T> T deepCopy(T obj) {
      * @return loaded game save data, or null if none exist
      */
     public GameSaveData loadGame() {
-        GameSaveData auto = loadAutoSave();
+        return loadGame(null);
+    }
+
+    private GameSaveData loadGame(SaveLoadTask task) {
+        GameSaveData auto = loadAutoSave(task);
         if (auto != null) {
             Logger.info("Loaded auto save");
             return auto;
         }
 
-        GameSaveData slot1 = loadGameFromSlot(1);
+        GameSaveData slot1 = loadGameInternal(store, getSlotFileName(1), task);
         if (slot1 != null) {
             Logger.info("Loaded save from slot 1");
             return slot1;
@@ -478,7 +1029,7 @@ public GameSaveData loadGame() {
         FileHandle legacy = getFile(SAVE_FILE_NAME);
         if (legacy.exists()) {
             Logger.warning("Legacy save detected");
-            return loadGameInternal(SAVE_FILE_NAME);
+            return loadGameInternal(fileStore, SAVE_FILE_NAME, task);
         }
 
         Logger.info("No save file found");
@@ -488,9 +1039,9 @@ public GameSaveData loadGame() {
      * Deletes all save files, including legacy saves.
      */
     public void deleteSave() {
-        for (int i = 1; i <= MAX_SAVE_SLOTS; i++) {
-            FileHandle slot = getFile(getSlotFileName(i));
-            if (slot.exists()) slot.delete();
+        for (int i = 1; i <= slotCount; i++) {
+            store.delete(getSlotFileName(i));
+            deleteBackup(getSlotFileName(i));
         }
 
         FileHandle legacy = getFile(SAVE_FILE_NAME);
@@ -499,6 +1050,10 @@ public void deleteSave() {
         FileHandle legacyRaw = getFile(SAVE_FILE_NAME_LEGACY);
         if (legacyRaw.exists()) legacyRaw.delete();
 
+        for (int i = 1; i <= slotCount; i++) {
+            removeFromSlotIndex(getSlotFileName(i));
+        }
+
         Logger.info("All save files deleted.");
     }
     /**
@@ -508,7 +1063,7 @@ public void deleteSave() {
      */
     public boolean hasAnySave() {
         if (hasAutoSave()) return true;
-        for (int i = 1; i <= MAX_SAVE_SLOTS; i++) {
+        for (int i = 1; i <= slotCount; i++) {
             if (hasSaveInSlot(i)) return true;
         }
         return getFile(SAVE_FILE_NAME).exists();
@@ -519,23 +1074,24 @@ public boolean hasAnySave() {
      * @param data the career data to save
      */
     public void saveCareer(CareerData data) {
+        if (data == null || SimulationMode.isHeadless()) return;
         if (asyncEnabled) {
-            writeJsonSafelyAsync(CAREER_FILE_NAME, data, compressionEnabled);
-            Logger.debug("Career data queued for async save.");
+            CareerData copy = data.snapshot();
+            boolean useCompression = compressionEnabled;
+            PersistenceService.getInstance().scheduleFile(CAREER_FILE_NAME, () -> serialize(copy, useCompression));
+            Logger.debug("Career data queued for write-behind save.");
         } else {
             writeJsonSafelySync(CAREER_FILE_NAME, data, compressionEnabled);
         }
     }
 
-    public void saveCareerSync(CareerData data) {
-        writeJsonSafelySync(CAREER_FILE_NAME, data, compressionEnabled);
-    }
     /**
      * Loads career-wide progression data.
      *
      * @return loaded career data, or a new instance if none exists
      */
     public CareerData loadCareer() {
+        PersistenceService.getInstance().flush(CAREER_FILE_NAME);
         FileHandle file = getFile(CAREER_FILE_NAME);
         boolean isCompressed = true;
 
@@ -605,14 +1161,16 @@ private FileHandle getFile(String fileName) {
      * @return true if deletion was successful
      */
     public boolean deleteSaveSlot(int slot) {
-        if (slot < 1 || slot > MAX_SAVE_SLOTS) {
+        if (slot < 1 || slot > slotCount) {
             Logger.warning("Attempted to delete invalid save slot: " + slot);
             return false;
         }
 
-        FileHandle file = getFile(getSlotFileName(slot));
-        if (file.exists()) {
-            boolean success = file.delete();
+        String fileName = getSlotFileName(slot);
+        deleteBackup(fileName);
+        removeFromSlotIndex(fileName);
+        if (store.exists(fileName)) {
+            boolean success = store.delete(fileName);
             if (success) {
                 Logger.info("Save slot " + slot + " deleted.");
             } else {
@@ -626,25 +1184,39 @@ public boolean deleteSaveSlot(int slot) {
     }
 
     public GameSaveData loadAutoSave() {
-        return loadGameInternal(AUTO_SAVE_FILE);
+        return loadAutoSave(null);
+    }
+
+    private GameSaveData loadAutoSave(SaveLoadTask task) {
+        GameSaveData data = loadGameInternal(store, AUTO_SAVE_FILE, task);
+        if (data == null) return null;
+        advance(task, SaveLoadTask.Stage.REPLAYING);
+        return replayAutoJournal(data);
     }
 
     public boolean hasAutoSave() {
-        return getFile(AUTO_SAVE_FILE).exists();
+        return store.exists(AUTO_SAVE_FILE);
     }
 
     public void deleteAutoSave() {
-        FileHandle f = getFile(AUTO_SAVE_FILE);
-        if (f.exists()) f.delete();
+        store.delete(AUTO_SAVE_FILE);
+        deleteBackup(AUTO_SAVE_FILE);
+        deleteAutoJournal();
+        autoSnapshotId = 0L;
+        removeFromSlotIndex(AUTO_SAVE_FILE);
     }
 
     public void saveGameSync(GameSaveData data) {
         if (data == null) return;
+        flushAllSaves();
         writeJsonSafelySync(AUTO_SAVE_FILE, data, compressionEnabled);
+        deleteAutoJournal();
+        autoSnapshotId = data.world != null ? data.world.snapshotId : 0L;
+        updateSlotIndex(SaveTarget.AUTO.getSlotIndex(), AUTO_SAVE_FILE, data);
     }
 
     public int getFirstEmptySlot() {
-        for (int i = 1; i <= MAX_SAVE_SLOTS; i++) {
+        for (int i = 1; i <= slotCount; i++) {
             if (!hasSaveInSlot(i)) return i;
         }
         return -1;
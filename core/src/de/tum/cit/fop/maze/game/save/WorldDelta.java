@@ -0,0 +1,130 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+/**
+ * Changes to a {@link WorldSaveData} between two autosaves, as recorded in
+ * the autosave journal.
+ *
+ * <p>For every {@link WorldSaveData.Kind} that changed, {@link #ops} holds
+ * one int array:
+ * <pre>
+ * removedCount, removed row indices...,
+ * changedCount, (row index, new row values)...,
+ * addedCount,   new row values...
+ * </pre>
+ * Indices refer to the rows before the delta. Applying a delta keeps the
+ * surviving rows in order and appends the added rows.
+ *
+ * @see WorldJournal
+ */
+public class WorldDelta {
+
+    /** Id of the snapshot this delta continues. */
+    public long snapshotId;
+    /** Position in the journal, starting at 0 after each snapshot. */
+    public int sequence;
+    /** Operations per kind ordinal, null where the kind is unchanged. */
+    public int[][] ops = new int[WorldSaveData.Kind.values().length][];
+
+    /**
+     * @return whether no entity changed
+     */
+    public boolean isEmpty() {
+        for (int[] op : ops) {
+            if (op != null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Applies this delta to a snapshot, replacing the changed row arrays.
+     *
+     * @param world snapshot to update
+     * @throws IOException if the delta does not fit the snapshot
+     */
+    public void applyTo(WorldSaveData world) throws IOException {
+        for (WorldSaveData.Kind kind : WorldSaveData.Kind.values()) {
+            int[] op = ops[kind.ordinal()];
+            if (op != null) world.setRows(kind, apply(kind.stride, world.rows(kind), op));
+        }
+    }
+
+    private static int[] apply(int stride, int[] rows, int[] op) throws IOException {
+        try {
+            int count = rows.length / stride;
+            boolean[] removed = new boolean[count];
+            int[] result = rows.clone();
+
+            int p = 0;
+            int removedCount = op[p++];
+            for (int i = 0; i < removedCount; i++) removed[op[p++]] = true;
+
+            int changedCount = op[p++];
+            for (int i = 0; i < changedCount; i++) {
+                int row = op[p++];
+                System.arraycopy(op, p, result, row * stride, stride);
+                p += stride;
+            }
+
+            int addedCount = op[p++];
+            int[] out = new int[(count - removedCount + addedCount) * stride];
+            int o = 0;
+            for (int row = 0; row < count; row++) {
+                if (removed[row]) continue;
+                System.arraycopy(result, row * stride, out, o, stride);
+                o += stride;
+            }
+            System.arraycopy(op, p, out, o, addedCount * stride);
+            return out;
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("World delta does not match snapshot", e);
+        }
+    }
+
+    /**
+     * Writes this delta to a journal entry.
+     *
+     * @param out target stream
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeLong(snapshotId);
+        out.writeInt(sequence);
+        out.writeByte(ops.length);
+        for (int[] op : ops) {
+            if (op == null) {
+                out.writeInt(-1);
+                continue;
+            }
+            out.writeInt(op.length);
+            for (int v : op) out.writeInt(v);
+        }
+    }
+
+    /**
+     * Reads a delta written by {@link #write(DataOutputStream)}.
+     *
+     * @param in source stream
+     * @return the delta
+     * @throws IOException if the data is truncated or malformed
+     */
+    public static WorldDelta read(DataInputStream in) throws IOException {
+        WorldDelta delta = new WorldDelta();
+        delta.snapshotId = in.readLong();
+        delta.sequence = in.readInt();
+        int kinds = in.readByte();
+        if (kinds != delta.ops.length) {
+            throw new IOException("Unexpected world delta kind count " + kinds);
+        }
+        for (int k = 0; k < kinds; k++) {
+            int length = in.readInt();
+            if (length < 0) continue;
+            int[] op = new int[length];
+            for (int i = 0; i < length; i++) op[i] = in.readInt();
+            delta.ops[k] = op;
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,177 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.util.IdentityHashMap;
+/**
+ * Tracks the world as last written to the autosave so that following
+ * autosaves can store a small {@link WorldDelta} instead of a full
+ * {@link WorldSaveData}.
+ *
+ * <p>Entities are matched by identity: the caller passes, for every kind,
+ * the entity objects in the same order as the rows they were captured
+ * into. A full snapshot is requested again after {@link #MAX_ENTRIES}
+ * deltas, when the maze changes, or after {@link #invalidate()}.
+ *
+ * <p>Used on the game thread only.
+ */
+public class WorldJournal {
+
+    /** Deltas recorded before the next full snapshot is forced. */
+    public static final int MAX_ENTRIES = 10;
+
+    private static final int KINDS = WorldSaveData.Kind.values().length;
+
+    private long snapshotId;
+    private Object maze;
+    private int nextSequence;
+    private final int[][] rows = new int[KINDS][];
+    private final Object[][] refs = new Object[KINDS][];
+
+    /**
+     * @return whether a snapshot was recorded that deltas can refer to
+     */
+    public boolean hasBaseline() {
+        return maze != null;
+    }
+
+    /**
+     * @return id of the snapshot deltas are currently recorded against
+     */
+    public long getSnapshotId() {
+        return snapshotId;
+    }
+
+    /**
+     * Records that a full snapshot was written.
+     *
+     * @param world the written snapshot
+     * @param refs  entity objects per kind ordinal, matching the rows
+     * @param maze  maze the snapshot belongs to
+     */
+    public void rebase(WorldSaveData world, Object[][] refs, Object maze) {
+        this.snapshotId = world.snapshotId;
+        this.maze = maze;
+        this.nextSequence = 0;
+        for (WorldSaveData.Kind kind : WorldSaveData.Kind.values()) {
+            rows[kind.ordinal()] = world.rows(kind);
+            this.refs[kind.ordinal()] = refs[kind.ordinal()].clone();
+        }
+    }
+
+    /**
+     * Forgets the baseline, so the next autosave writes a full snapshot.
+     */
+    public void invalidate() {
+        maze = null;
+        nextSequence = 0;
+        for (int k = 0; k < KINDS; k++) {
+            rows[k] = null;
+            refs[k] = null;
+        }
+    }
+
+    /**
+     * Computes the changes since the baseline and advances the baseline.
+     *
+     * @param world current world rows
+     * @param refs  entity objects per kind ordinal, matching the rows
+     * @param maze  current maze
+     * @return the delta, or null if a full snapshot must be written instead
+     */
+    public WorldDelta record(WorldSaveData world, Object[][] refs, Object maze) {
+        if (this.maze == null || this.maze != maze || nextSequence >= MAX_ENTRIES) return null;
+
+        WorldDelta delta = new WorldDelta();
+        delta.snapshotId = snapshotId;
+        delta.sequence = nextSequence++;
+        for (WorldSaveData.Kind kind : WorldSaveData.Kind.values()) {
+            int k = kind.ordinal();
+            delta.ops[k] = diff(kind.stride, k, world.rows(kind), refs[k]);
+        }
+        return delta;
+    }
+
+    /**
+     * Diffs one kind against the baseline and replaces the baseline with
+     * the rows in the order a restore will rebuild them.
+     */
+    private int[] diff(int stride, int k, int[] current, Object[] currentRefs) {
+        int[] baseRows = rows[k];
+        Object[] baseRefs = refs[k];
+        int baseCount = baseRefs.length;
+        int count = currentRefs.length;
+
+        IdentityHashMap<Object, Integer> baseIndex = new IdentityHashMap<>(baseCount * 2);
+        for (int i = 0; i < baseCount; i++) baseIndex.put(baseRefs[i], i);
+
+        int[] match = new int[count];
+        boolean[] seen = new boolean[baseCount];
+        int changed = 0;
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            Integer b = baseIndex.get(currentRefs[i]);
+            if (b == null) {
+                match[i] = -1;
+                added++;
+                continue;
+            }
+            match[i] = b;
+            seen[b] = true;
+            if (!rowEquals(baseRows, b, current, i, stride)) changed++;
+        }
+        int removed = baseCount - (count - added);
+        if (removed == 0 && changed == 0 && added == 0) return null;
+
+        int[] op = new int[3 + removed + changed * (stride + 1) + added * stride];
+        int p = 0;
+        op[p++] = removed;
+        for (int b = 0; b < baseCount; b++) {
+            if (!seen[b]) op[p++] = b;
+        }
+        op[p++] = changed;
+        for (int i = 0; i < count; i++) {
+            int b = match[i];
+            if (b < 0 || rowEquals(baseRows, b, current, i, stride)) continue;
+            op[p++] = b;
+            System.arraycopy(current, i * stride, op, p, stride);
+            p += stride;
+        }
+        op[p++] = added;
+        for (int i = 0; i < count; i++) {
+            if (match[i] >= 0) continue;
+            System.arraycopy(current, i * stride, op, p, stride);
+            p += stride;
+        }
+
+        // Survivors keep their baseline order, new entities follow.
+        int[] nextRows = new int[count * stride];
+        Object[] nextRefs = new Object[count];
+        int n = 0;
+        int[] currentIndex = new int[baseCount];
+        for (int i = 0; i < count; i++) {
+            if (match[i] >= 0) currentIndex[match[i]] = i;
+        }
+        for (int b = 0; b < baseCount; b++) {
+            if (!seen[b]) continue;
+            int i = currentIndex[b];
+            System.arraycopy(current, i * stride, nextRows, n * stride, stride);
+            nextRefs[n++] = currentRefs[i];
+        }
+        for (int i = 0; i < count; i++) {
+            if (match[i] >= 0) continue;
+            System.arraycopy(current, i * stride, nextRows, n * stride, stride);
+            nextRefs[n++] = currentRefs[i];
+        }
+        rows[k] = nextRows;
+        refs[k] = nextRefs;
+        return op;
+    }
+
+    private static boolean rowEquals(int[] a, int rowA, int[] b, int rowB, int stride) {
+        int offA = rowA * stride;
+        int offB = rowB * stride;
+        for (int i = 0; i < stride; i++) {
+            if (a[offA + i] != b[offB + i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package de.tum.cit.fop.maze.game.save;
+
+import java.util.concurrent.atomic.AtomicLong;
+/**
+ * Full snapshot of the entities in a level, stored with the save so a
+ * restore can rebuild the world exactly instead of generating it again.
+ *
+ * <p>Every entity is one fixed-width row of ints in the array of its
+ * {@link Kind}; see the kind constants for the row layouts. Enemy and trap
+ * types use the {@code ENEMY_*} and {@code TRAP_*} ids of
+ * {@link de.tum.cit.fop.maze.game.LevelPlan}.
+ *
+ * <p>Row arrays are replaced, never modified in place, so snapshots of the
+ * save may share them.
+ *
+ * @see WorldDelta
+ */
+public class WorldSaveData {
+
+    /** Entity categories and the width of their rows. */
+    public enum Kind {
+        /** type, x, y, hp */
+        ENEMY(4),
+        /** type, x, y, active (0/1) */
+        TRAP(4),
+        /** x, y */
+        HEART(2),
+        /** x, y */
+        TREASURE(2),
+        /** x, y */
+        KEY(2),
+        /** x, y, direction ordinal, locked (0/1) */
+        DOOR(4),
+        /** startX, startY, endX, endY, x, y, forward (0/1) */
+        WALL(7);
+
+        /** Number of ints per entity. */
+        public final int stride;
+
+        Kind(int stride) {
+            this.stride = stride;
+        }
+    }
+
+    private static final int[] EMPTY = new int[0];
+    private static final AtomicLong NEXT_ID = new AtomicLong(System.currentTimeMillis() << 10);
+
+    /**
+     * Identifies this snapshot; journal entries recorded against it carry
+     * the same id, so stale entries are never applied to a newer snapshot.
+     */
+    public long snapshotId;
+
+    public int[] enemies = EMPTY;
+    public int[] traps = EMPTY;
+    public int[] hearts = EMPTY;
+    public int[] treasures = EMPTY;
+    public int[] keys = EMPTY;
+    public int[] doors = EMPTY;
+    public int[] walls = EMPTY;
+
+    /**
+     * Creates an empty snapshot without an id, as used for deserialization.
+     */
+    public WorldSaveData() {
+    }
+
+    /**
+     * @return a new id, unique within this process and increasing across runs
+     */
+    public static long nextSnapshotId() {
+        return NEXT_ID.incrementAndGet();
+    }
+
+    /**
+     * @param kind entity category
+     * @return the rows of that category, never null
+     */
+    public int[] rows(Kind kind) {
+        int[] rows = switch (kind) {
+            case ENEMY -> enemies;
+            case TRAP -> traps;
+            case HEART -> hearts;
+            case TREASURE -> treasures;
+            case KEY -> keys;
+            case DOOR -> doors;
+            case WALL -> walls;
+        };
+        return rows != null ? rows : EMPTY;
+    }
+
+    /**
+     * @param kind entity category
+     * @param rows new rows of that category
+     */
+    public void setRows(Kind kind, int[] rows) {
+        if (rows == null) rows = EMPTY;
+        switch (kind) {
+            case ENEMY -> enemies = rows;
+            case TRAP -> traps = rows;
+            case HEART -> hearts = rows;
+            case TREASURE -> treasures = rows;
+            case KEY -> keys = rows;
+            case DOOR -> doors = rows;
+            case WALL -> walls = rows;
+        }
+    }
+
+    /**
+     * @param kind entity category
+     * @return number of entities of that category
+     */
+    public int count(Kind kind) {
+        return rows(kind).length / kind.stride;
+    }
+
+    /**
+     * Creates a copy sharing the row arrays, which are never modified.
+     *
+     * @return a snapshot of this world
+     */
+    public WorldSaveData snapshot() {
+        WorldSaveData copy = new WorldSaveData();
+        copy.snapshotId = snapshotId;
+        for (Kind kind : Kind.values()) copy.setRows(kind, rows(kind));
+        return copy;
+    }
+}
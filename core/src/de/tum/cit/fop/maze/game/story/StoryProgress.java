@@ -5,7 +5,9 @@
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import de.tum.cit.fop.maze.game.save.PersistenceService;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,6 +45,7 @@ private StoryProgress() {}
     public static StoryProgress load() {
         if (instance != null) return instance;
 
+        PersistenceService.getInstance().flush(FILE_NAME);
         FileHandle file = Gdx.files.local(FILE_NAME);
         Json json = new Json();
 
@@ -61,14 +64,32 @@ public static StoryProgress load() {
     }
     /**
      * Saves the current story progress to local storage.
+     *
+     * <p>A snapshot is taken here; it is encoded and written in the
+     * background by {@link PersistenceService}.
      */
     public void save() {
-        Json json = new Json();
-        json.setOutputType(JsonWriter.OutputType.json);
-        json.setUsePrototypes(false);
+        StoryProgress copy = snapshot();
+        PersistenceService.getInstance().scheduleFile(FILE_NAME, () -> {
+            Json json = new Json();
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.setUsePrototypes(false);
+            return json.prettyPrint(copy).getBytes(StandardCharsets.UTF_8);
+        });
+    }
 
-        FileHandle file = Gdx.files.local(FILE_NAME);
-        file.writeString(json.prettyPrint(this), false);
+    /**
+     * Creates a detached copy that can be encoded on the persistence thread
+     * while the game keeps updating this instance.
+     *
+     * @return a snapshot of the chapter states
+     */
+    private StoryProgress snapshot() {
+        StoryProgress copy = new StoryProgress();
+        for (Map.Entry<String, ChapterProgress> entry : chapters.entrySet()) {
+            copy.chapters.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
     }
 
 
@@ -166,8 +187,12 @@ public void markBossDefeated(int chapterId) {
      * Deletes all stored story progress and resets the singleton instance.
      */
     public static void deleteAll() {
-        FileHandle file = Gdx.files.local(FILE_NAME);
-        if (file.exists()) file.delete();
+        PersistenceService persistence = PersistenceService.getInstance();
+        persistence.schedule(FILE_NAME, () -> {
+            FileHandle file = Gdx.files.local(FILE_NAME);
+            if (file.exists()) file.delete();
+        });
+        persistence.flush(FILE_NAME);
         instance = null;
     }
 
@@ -185,5 +210,15 @@ public static class ChapterProgress {
         public boolean bossDefeated = false;
         /** Whether the chapter has been fully completed. */
         public boolean chapterFinished = false;
+
+        private ChapterProgress copy() {
+            ChapterProgress copy = new ChapterProgress();
+            copy.pvWatched = pvWatched;
+            copy.tutorialUnlocked = tutorialUnlocked;
+            copy.bossUnlocked = bossUnlocked;
+            copy.bossDefeated = bossDefeated;
+            copy.chapterFinished = chapterFinished;
+            return copy;
+        }
     }
 }
@@ -3,6 +3,7 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Preferences;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -115,9 +116,13 @@ private void loadBinding(GameAction action, int defaultKey) {
      */
 
     public void setBinding(GameAction action, int newKeyCode) {
+        putBinding(action, newKeyCode);
+        prefs.flush();
+    }
+
+    private void putBinding(GameAction action, int newKeyCode) {
         keyBindings.put(action, newKeyCode);
         prefs.putInteger(action.name(), newKeyCode);
-        prefs.flush();
     }
     /**
      * Returns the key or mouse button code bound to the given action.
@@ -173,32 +178,33 @@ public boolean isJustPressed(GameAction action) {
 
     /**
      * Resets all key bindings to their default values
-     * and overwrites any saved user preferences.
+     * and overwrites any saved user preferences with a single flush.
      */
 
     public void resetToDefaults() {
 
 
-        setBinding(GameAction.P1_MOVE_UP,    Input.Keys.W);
-        setBinding(GameAction.P1_MOVE_DOWN,  Input.Keys.S);
-        setBinding(GameAction.P1_MOVE_LEFT,  Input.Keys.A);
-        setBinding(GameAction.P1_MOVE_RIGHT, Input.Keys.D);
+        putBinding(GameAction.P1_MOVE_UP,    Input.Keys.W);
+        putBinding(GameAction.P1_MOVE_DOWN,  Input.Keys.S);
+        putBinding(GameAction.P1_MOVE_LEFT,  Input.Keys.A);
+        putBinding(GameAction.P1_MOVE_RIGHT, Input.Keys.D);
 
-        setBinding(GameAction.P1_USE_ABILITY, Input.Keys.SPACE);
-        setBinding(GameAction.P1_DASH,        Input.Keys.SHIFT_LEFT);
-        setBinding(GameAction.P1_INTERACT,    Input.Keys.E);
+        putBinding(GameAction.P1_USE_ABILITY, Input.Keys.SPACE);
+        putBinding(GameAction.P1_DASH,        Input.Keys.SHIFT_LEFT);
+        putBinding(GameAction.P1_INTERACT,    Input.Keys.E);
 
-        setBinding(GameAction.P2_MOVE_UP,    Input.Keys.UP);
-        setBinding(GameAction.P2_MOVE_DOWN,  Input.Keys.DOWN);
-        setBinding(GameAction.P2_MOVE_LEFT,  Input.Keys.LEFT);
-        setBinding(GameAction.P2_MOVE_RIGHT, Input.Keys.RIGHT);
+        putBinding(GameAction.P2_MOVE_UP,    Input.Keys.UP);
+        putBinding(GameAction.P2_MOVE_DOWN,  Input.Keys.DOWN);
+        putBinding(GameAction.P2_MOVE_LEFT,  Input.Keys.LEFT);
+        putBinding(GameAction.P2_MOVE_RIGHT, Input.Keys.RIGHT);
 
-        setBinding(GameAction.P2_USE_ABILITY, Input.Buttons.LEFT);
-        setBinding(GameAction.P2_DASH,        Input.Buttons.RIGHT);
-        setBinding(GameAction.P2_INTERACT,    Input.Keys.NUM_1);
+        putBinding(GameAction.P2_USE_ABILITY, Input.Buttons.LEFT);
+        putBinding(GameAction.P2_DASH,        Input.Buttons.RIGHT);
+        putBinding(GameAction.P2_INTERACT,    Input.Keys.NUM_1);
 
 
-        setBinding(GameAction.CONSOLE, Input.Keys.GRAVE);
+        putBinding(GameAction.CONSOLE, Input.Keys.GRAVE);
+        prefs.flush();
     }
 
 }
@@ -115,44 +115,24 @@ private TextureRegion pickStableTexture(WallGroup g) {
         return pool[r.nextInt(pool.length)];
     }
     /**
-     * Renders a continuous wall group using sliced texture regions.
-     * <p>
-     * The base texture is horizontally segmented to match the wall
-     * length while preserving visual continuity.
+     * Uses the stable boss skin of the group as slicing source.
      *
-     * @param batch sprite batch used for rendering
-     * @param g     wall group to render
+     * @param g wall group to be rendered
+     * @return boss wall texture region
      */
 
     @Override
-    public void renderWallGroup(SpriteBatch batch, WallGroup g) {
-        float cs = GameConstants.CELL_SIZE;
-        float h  = cs * BOSS_WALL_HEIGHT_MULT;
-
-        TextureRegion base = pickStableTexture(g);
-
-        float u0 = base.getU();
-        float u1 = base.getU2();
-        float v0 = base.getV();
-
-        float step = (u1 - u0) / g.length;
-
-        for (int i = 0; i < g.length; i++) {
-            TextureRegion slice = new TextureRegion(
-                    base.getTexture(),
-                    (int)((u0 + i * step) * base.getTexture().getWidth()),
-                    (int)(v0 * base.getTexture().getHeight()),
-                    (int)(step * base.getTexture().getWidth()),
-                    base.getRegionHeight()
-            );
-
-            batch.draw(
-                    slice,
-                    (g.startX + i) * cs,
-                    g.startY * cs - OVERLAP,
-                    cs,
-                    h
-            );
-        }
+    protected TextureRegion resolveWallRegion(WallGroup g) {
+        return pickStableTexture(g);
+    }
+
+    @Override
+    protected float getWallHeight() {
+        return GameConstants.CELL_SIZE * BOSS_WALL_HEIGHT_MULT;
+    }
+
+    @Override
+    protected float getWallOverlap() {
+        return OVERLAP;
     }
 }
@@ -0,0 +1,259 @@
+package de.tum.cit.fop.maze.maze;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import de.tum.cit.fop.maze.entities.GameObject;
+import de.tum.cit.fop.maze.game.GameConstants;
+import de.tum.cit.fop.maze.utils.CameraManager;
+
+import java.util.Arrays;
+import java.util.List;
+/**
+ * Depth-sorted render queue for maze walls and grid entities.
+ * <p>
+ * Static wall groups are bucketed by row once per maze, entities are
+ * culled against the camera view and counting-sorted into row buckets
+ * every frame. Rendering walks the visible rows from top to bottom so
+ * that lower rows overlap higher ones, reproducing the
+ * {@code y desc -> wall behind / entity / wall front -> priority} order
+ * without a comparator sort.
+ * <p>
+ * All buffers are reused between frames; steady-state rendering does
+ * not allocate.
+ * <p>
+ * If the renderer has a {@link StaticWallLayer}, chunks whose row band
+ * holds no queued entity are drawn from the cache when the walk enters
+ * the band, and only the remaining walls are drawn slice by slice.
+ */
+public class DepthRenderQueue {
+
+    /** Extra rows below the view: walls are 2.4 cells tall and reach upward. */
+    private static final int WALL_MARGIN_BELOW = 3;
+    /** Extra cells around the view for sprites larger than one cell. */
+    private static final int ENTITY_MARGIN = 2;
+
+    private final MazeRenderer mazeRenderer;
+
+    private MazeRenderer.WallGroup[][] wallsByRow = new MazeRenderer.WallGroup[0][];
+    private int wallRevision = -1;
+
+    private int minCol, maxCol, minRow, maxRow;
+
+    /** Baked wall layer of the current frame, or {@code null} if disabled. */
+    private StaticWallLayer staticLayer;
+
+    private GameObject[] entities = new GameObject[64];
+    private int[] priorities = new int[64];
+    private int size = 0;
+
+    private GameObject[] sorted = new GameObject[64];
+    private int[] sortedPriorities = new int[64];
+    private int[] rowStart = new int[32];
+
+    /**
+     * Creates a render queue drawing walls through the given renderer.
+     *
+     * @param mazeRenderer renderer providing wall groups and wall drawing
+     */
+    public DepthRenderQueue(MazeRenderer mazeRenderer) {
+        this.mazeRenderer = mazeRenderer;
+    }
+
+    /**
+     * Starts a new frame: refreshes wall buckets if the maze changed,
+     * rebuilds the wall depth summary, computes the visible cell window
+     * and clears queued entities.
+     *
+     * @param cameraManager camera used for culling
+     */
+    public void begin(CameraManager cameraManager) {
+        refreshWallBuckets();
+        mazeRenderer.updateEntityDepthSummary();
+
+        staticLayer = mazeRenderer.getStaticWallLayer();
+        if (staticLayer != null) staticLayer.clearDirty();
+
+        OrthographicCamera camera = cameraManager.getCamera();
+        float cs = GameConstants.CELL_SIZE;
+        float halfW = camera.viewportWidth * camera.zoom / 2f;
+        float halfH = camera.viewportHeight * camera.zoom / 2f;
+
+        minCol = (int) Math.floor((camera.position.x - halfW) / cs) - ENTITY_MARGIN;
+        maxCol = (int) Math.floor((camera.position.x + halfW) / cs) + ENTITY_MARGIN;
+        minRow = Math.max(0, (int) Math.floor((camera.position.y - halfH) / cs) - WALL_MARGIN_BELOW);
+        maxRow = (int) Math.floor((camera.position.y + halfH) / cs) + ENTITY_MARGIN;
+
+        size = 0;
+    }
+
+    /**
+     * Queues an entity if it lies inside the visible window.
+     *
+     * @param entity   entity to draw
+     * @param priority tie-breaker within a row, lower values are drawn first
+     */
+    public void add(GameObject entity, int priority) {
+        if (entity == null) return;
+        int x = entity.getX();
+        int y = entity.getY();
+        if (x < minCol || x > maxCol || y < minRow || y > maxRow) return;
+
+        if (size == entities.length) {
+            int cap = size * 2;
+            entities = Arrays.copyOf(entities, cap);
+            priorities = Arrays.copyOf(priorities, cap);
+        }
+        entities[size] = entity;
+        priorities[size] = priority;
+        size++;
+
+        if (staticLayer != null) {
+            for (int cx = x - 1; cx <= x + 2; cx++) staticLayer.markDirty(cx, y);
+        }
+    }
+
+    /**
+     * Queues every visible entity of a list.
+     *
+     * @param list       entities to draw
+     * @param priority   tie-breaker within a row
+     * @param activeOnly whether inactive entities are skipped
+     */
+    public void addAll(List<? extends GameObject> list, int priority, boolean activeOnly) {
+        if (list == null) return;
+        for (int i = 0, n = list.size(); i < n; i++) {
+            GameObject o = list.get(i);
+            if (o == null || (activeOnly && !o.isActive())) continue;
+            add(o, priority);
+        }
+    }
+
+    /**
+     * Draws the visible walls and queued entities in depth order.
+     * <p>
+     * The batch must already be started.
+     *
+     * @param batch sprite batch for rendering
+     */
+    public void render(SpriteBatch batch) {
+        int rows = maxRow - minRow + 1;
+        if (rows <= 0) return;
+        sortEntitiesByRow(rows);
+
+        for (int row = maxRow; row >= minRow; row--) {
+            int b = row - minRow;
+            boolean front = mazeRenderer.isWallInFrontOfAnyEntity(0, row);
+
+            if (staticLayer != null
+                    && (row == maxRow || (row + 1) % StaticWallLayer.CHUNK_SIZE == 0)) {
+                staticLayer.renderBand(batch, row / StaticWallLayer.CHUNK_SIZE, minCol, maxCol);
+            }
+
+            if (!front) renderWallRow(batch, row);
+            for (int i = rowStart[b]; i < rowStart[b + 1]; i++) {
+                sorted[i].drawSprite(batch);
+            }
+            if (front) renderWallRow(batch, row);
+        }
+
+        Arrays.fill(sorted, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Stable counting sort of queued entities into row buckets,
+     * followed by a stable insertion sort by priority inside each bucket.
+     */
+    private void sortEntitiesByRow(int rows) {
+        if (rowStart.length < rows + 1) rowStart = new int[rows + 1];
+        if (sorted.length < entities.length) {
+            sorted = new GameObject[entities.length];
+            sortedPriorities = new int[entities.length];
+        }
+
+        Arrays.fill(rowStart, 0, rows + 1, 0);
+        for (int i = 0; i < size; i++) {
+            rowStart[entities[i].getY() - minRow + 1]++;
+        }
+        for (int b = 0; b < rows; b++) {
+            rowStart[b + 1] += rowStart[b];
+        }
+        for (int i = 0; i < size; i++) {
+            int b = entities[i].getY() - minRow;
+            int pos = rowStart[b]++;
+            sorted[pos] = entities[i];
+            sortedPriorities[pos] = priorities[i];
+        }
+        for (int b = rows; b > 0; b--) {
+            rowStart[b] = rowStart[b - 1];
+        }
+        rowStart[0] = 0;
+
+        for (int b = 0; b < rows; b++) {
+            int from = rowStart[b];
+            int to = rowStart[b + 1];
+            for (int i = from + 1; i < to; i++) {
+                GameObject e = sorted[i];
+                int p = sortedPriorities[i];
+                int j = i - 1;
+                while (j >= from && sortedPriorities[j] > p) {
+                    sorted[j + 1] = sorted[j];
+                    sortedPriorities[j + 1] = sortedPriorities[j];
+                    j--;
+                }
+                sorted[j + 1] = e;
+                sortedPriorities[j + 1] = p;
+            }
+        }
+
+        Arrays.fill(entities, 0, size, null);
+    }
+
+    private void renderWallRow(SpriteBatch batch, int row) {
+        if (row >= wallsByRow.length) return;
+        MazeRenderer.WallGroup[] walls = wallsByRow[row];
+        for (MazeRenderer.WallGroup g : walls) {
+            if (g.startX > maxCol) break;
+            if (g.startX + g.length - 1 < minCol) continue;
+
+            if (staticLayer == null) {
+                mazeRenderer.renderWallGroup(batch, g);
+                continue;
+            }
+            for (int i = 0; i < g.length; i++) {
+                if (!staticLayer.isCached(g.startX + i, row)) {
+                    mazeRenderer.renderWallSlice(batch, g, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-buckets wall groups by row when the renderer re-analyzed the maze.
+     * Groups within a row keep their ascending {@code startX} order.
+     */
+    private void refreshWallBuckets() {
+        List<MazeRenderer.WallGroup> groups = mazeRenderer.getWallGroups();
+        if (mazeRenderer.getWallRevision() == wallRevision) return;
+        wallRevision = mazeRenderer.getWallRevision();
+
+        int rows = 0;
+        for (MazeRenderer.WallGroup g : groups) {
+            rows = Math.max(rows, g.startY + 1);
+        }
+
+        int[] counts = new int[rows];
+        for (MazeRenderer.WallGroup g : groups) {
+            counts[g.startY]++;
+        }
+
+        wallsByRow = new MazeRenderer.WallGroup[rows][];
+        for (int r = 0; r < rows; r++) {
+            wallsByRow[r] = new MazeRenderer.WallGroup[counts[r]];
+            counts[r] = 0;
+        }
+        for (MazeRenderer.WallGroup g : groups) {
+            wallsByRow[g.startY][counts[g.startY]++] = g;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package de.tum.cit.fop.maze.maze;
+/**
+ * Compact maze representation with one bit per cell.
+ * <p>
+ * Cells are stored row-major in a flat {@code long[]}; a set bit marks a
+ * path cell. A 130×130 maze takes about 2 KB instead of the ~70 KB of an
+ * {@code int[][]}, which makes the grid cheap to cache and to serialize.
+ */
+public class MazeBitGrid {
+
+    private final int width;
+    private final int height;
+    private final long[] words;
+
+    /**
+     * Creates an all-wall grid.
+     *
+     * @param width  width in cells
+     * @param height height in cells
+     */
+    public MazeBitGrid(int width, int height) {
+        this(width, height, new long[wordCount(width, height)]);
+    }
+
+    /**
+     * Wraps existing packed words.
+     *
+     * @param width  width in cells
+     * @param height height in cells
+     * @param words  packed cells, at least {@link #wordCount(int, int)} long
+     */
+    public MazeBitGrid(int width, int height, long[] words) {
+        if (width < 0 || height < 0 || words.length < wordCount(width, height)) {
+            throw new IllegalArgumentException("invalid grid size " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.words = words;
+    }
+
+    /**
+     * Number of {@code long} words needed for a grid size.
+     *
+     * @param width  width in cells
+     * @param height height in cells
+     * @return word count
+     */
+    public static int wordCount(int width, int height) {
+        return (int) (((long) width * height + 63) >>> 6);
+    }
+
+    /**
+     * Packs a maze grid.
+     *
+     * @param maze maze grid, {@code 1} for path cells
+     * @return packed grid
+     */
+    public static MazeBitGrid fromMaze(int[][] maze) {
+        int height = maze.length;
+        int width = height == 0 ? 0 : maze[0].length;
+        MazeBitGrid grid = new MazeBitGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            int[] row = maze[y];
+            int base = y * width;
+            for (int x = 0; x < width; x++) {
+                if (row[x] == 1) {
+                    int i = base + x;
+                    grid.words[i >>> 6] |= 1L << (i & 63);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Unpacks the grid into the {@code maze[y][x]} layout used by the game.
+     *
+     * @return new maze grid, {@code 1} for path cells
+     */
+    public int[][] toMaze() {
+        int[][] maze = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            int[] row = maze[y];
+            int base = y * width;
+            for (int x = 0; x < width; x++) {
+                int i = base + x;
+                row[x] = (int) ((words[i >>> 6] >>> (i & 63)) & 1L);
+            }
+        }
+        return maze;
+    }
+
+    /**
+     * @param x cell x
+     * @param y cell y
+     * @return true if the cell is a path, false for walls and out-of-range cells
+     */
+    public boolean isPath(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        int i = y * width + x;
+        return (words[i >>> 6] & (1L << (i & 63))) != 0;
+    }
+
+    /**
+     * @param x    cell x
+     * @param y    cell y
+     * @param path whether the cell becomes a path
+     */
+    public void setPath(int x, int y, boolean path) {
+        int i = y * width + x;
+        if (path) words[i >>> 6] |= 1L << (i & 63);
+        else words[i >>> 6] &= ~(1L << (i & 63));
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * @return backing words, not copied
+     */
+    public long[] getWords() { return words; }
+}
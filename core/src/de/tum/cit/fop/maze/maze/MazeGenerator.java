@@ -4,10 +4,8 @@
 import de.tum.cit.fop.maze.game.DifficultyConfig;
 import de.tum.cit.fop.maze.utils.Logger;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
-import java.util.Stack;
 /**
  * Procedural maze generator based on grouped cell carving.
  * <p>
@@ -16,6 +14,11 @@
  * <p>
  * Each walkable area consists of a fixed-size path block, ensuring
  * wider corridors and improved navigation compared to classic
+ * <p>
+ * Generation is seed-driven: the same seed and configuration always
+ * produce the same maze. DFS stack, BFS queue and visit marks are
+ * primitive scratch buffers kept by the instance and reused between
+ * calls, so one generator should not be shared between threads.
  */
 
 public class MazeGenerator {
@@ -25,13 +28,50 @@ public class MazeGenerator {
     private static final int PATH_WIDTH = 2;
     private static final int PATH_HEIGHT = 3;
     public static final int BORDER_THICKNESS = 12;
-    private final Random random = new Random();
+
+    private static final int H_STEP = PATH_WIDTH + WALL_WIDTH;
+    private static final int V_STEP = PATH_HEIGHT + WALL_HEIGHT;
+    /** DFS carving directions: up, right, down, left. */
+    private static final int[] DFS_DX = { 0, H_STEP, 0, -H_STEP };
+    private static final int[] DFS_DY = { V_STEP, 0, -V_STEP, 0 };
+    /** Neighbour block offsets checked around a wall block: down, up, left, right. */
+    private static final int[] CHECK_DX = { 0, 0, -H_STEP, H_STEP };
+    private static final int[] CHECK_DY = { -V_STEP, V_STEP, 0, 0 };
+    /** BFS directions: up, right, down, left. */
+    private static final int[] BFS_DX = { 0, 1, 0, -1 };
+    private static final int[] BFS_DY = { 1, 0, -1, 0 };
+
+    private final Random random;
+
+    private int[] dfsStack = new int[64];
+    private final int[] candidates = new int[4];
+    private int[] bfsQueue = new int[0];
+    private int[] visitMarks = new int[0];
+    private int visitMark = 0;
     /**
-     * Creates a new maze generator instance.
+     * Creates a new maze generator instance with a random seed.
      */
 
     public MazeGenerator() {
+        this.random = new Random();
+    }
+
+    /**
+     * Creates a new maze generator instance with a fixed seed.
+     *
+     * @param seed random seed
+     */
+    public MazeGenerator(long seed) {
+        this.random = new Random(seed);
+    }
 
+    /**
+     * Re-seeds the generator so that subsequent mazes are reproducible.
+     *
+     * @param seed random seed
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
     }
 
     /**
@@ -51,29 +91,11 @@ public MazeGenerator() {
      */
 
     public int[][] generateMaze(DifficultyConfig config) {
-        long startTime = System.currentTimeMillis();
-
-        int cellGroupWidth = PATH_WIDTH + WALL_WIDTH;
-        int cellGroupHeight = PATH_HEIGHT + WALL_HEIGHT;
-
-        int adjustedWidth = adjustSize(config.mazeWidth, cellGroupWidth);
-        int adjustedHeight = adjustSize(config.mazeHeight, cellGroupHeight);
+        int adjustedWidth = adjustSize(config.mazeWidth, H_STEP);
+        int adjustedHeight = adjustSize(config.mazeHeight, V_STEP);
 
         int[][] maze = new int[adjustedHeight][adjustedWidth];
 
-        for (int y = 0; y < adjustedHeight; y++) {
-            Arrays.fill(maze[y], 0);
-        }
-
-        for (int x = 0; x < adjustedWidth; x++) {
-            maze[0][x] = 0;
-            maze[adjustedHeight - 1][x] = 0;
-        }
-        for (int y = 0; y < adjustedHeight; y++) {
-            maze[y][0] = 0;
-            maze[y][adjustedWidth - 1] = 0;
-        }
-
         generatenxnPathDFS(maze);
 
 
@@ -83,12 +105,33 @@ public int[][] generateMaze(DifficultyConfig config) {
 
         cleanupSmallWalls(maze);
 
-        long endTime = System.currentTimeMillis();
-
         addOuterBorderWalls(maze);
         return maze;
     }
 
+    /**
+     * Generates a reproducible maze for the given seed.
+     *
+     * @param config difficulty configuration defining maze size
+     * @param seed   random seed
+     * @return a 2D grid where {@code 1} represents paths and {@code 0} walls
+     */
+    public int[][] generateMaze(DifficultyConfig config, long seed) {
+        random.setSeed(seed);
+        return generateMaze(config);
+    }
+
+    /**
+     * Generates a reproducible maze packed into a bit grid.
+     *
+     * @param config difficulty configuration defining maze size
+     * @param seed   random seed
+     * @return packed maze with path cells set
+     */
+    public MazeBitGrid generateBitGrid(DifficultyConfig config, long seed) {
+        return MazeBitGrid.fromMaze(generateMaze(config, seed));
+    }
+
     /**
      * Applies a thick, solid wall border around the maze.
      *
@@ -148,53 +191,41 @@ private void generatenxnPathDFS(int[][] maze) {
         int startX = BORDER_THICKNESS;
         int startY = BORDER_THICKNESS;
 
-        Stack<int[]> stack = new Stack<>();
-        stack.push(new int[]{startX, startY});
+        int[] stack = dfsStack;
+        int sp = 0;
+        stack[sp++] = startX;
+        stack[sp++] = startY;
 
         set3x3AreaAsPath(maze, startX, startY);
 
-        int horizontalStep = PATH_WIDTH + WALL_WIDTH;
-        int verticalStep = PATH_HEIGHT + WALL_HEIGHT;
-
-        int[][] directions = {
-            {0, verticalStep},
-            {horizontalStep, 0},
-            {0, -verticalStep},
-            {-horizontalStep, 0}
-        };
+        while (sp > 0) {
+            int x = stack[sp - 2];
+            int y = stack[sp - 1];
 
-        while (!stack.isEmpty()) {
-            int[] current = stack.peek();
-            int x = current[0];
-            int y = current[1];
-
-            ArrayList<int[]> unvisitedNeighbors = new ArrayList<>();
-
-            for (int[] dir : directions) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-
-                if (canCreatenxnPath(maze, nx, ny)) {
-                    int midX = x + dir[0] / 2;
-                    int midY = y + dir[1] / 2;
-                    unvisitedNeighbors.add(new int[]{nx, ny, midX, midY});
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                if (canCreatenxnPath(maze, x + DFS_DX[d], y + DFS_DY[d])) {
+                    candidates[count++] = d;
                 }
             }
 
-            if (!unvisitedNeighbors.isEmpty()) {
-                int[] neighbor = unvisitedNeighbors.get(random.nextInt(unvisitedNeighbors.size()));
-                int nx = neighbor[0];
-                int ny = neighbor[1];
-                int midX = neighbor[2];
-                int midY = neighbor[3];
+            if (count > 0) {
+                int d = candidates[random.nextInt(count)];
+                int nx = x + DFS_DX[d];
+                int ny = y + DFS_DY[d];
 
-                set3x3AreaAsPath(maze, midX, midY);
+                set3x3AreaAsPath(maze, x + DFS_DX[d] / 2, y + DFS_DY[d] / 2);
 
                 set3x3AreaAsPath(maze, nx, ny);
 
-                stack.push(new int[]{nx, ny});
+                if (sp + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                    dfsStack = stack;
+                }
+                stack[sp++] = nx;
+                stack[sp++] = ny;
             } else {
-                stack.pop();
+                sp -= 2;
             }
         }
     }
@@ -349,22 +380,14 @@ private void add3x3AdditionalPaths(int[][] maze, float chance) {
         int height = maze.length;
         int pathsAdded = 0;
 
-        int horizontalStep = PATH_WIDTH + WALL_WIDTH;
-        int verticalStep = PATH_HEIGHT + WALL_HEIGHT;
-
-        for (int y = verticalStep; y < height - verticalStep; y += verticalStep) {
-            for (int x = horizontalStep; x < width - horizontalStep; x += horizontalStep) {
+        for (int y = V_STEP; y < height - V_STEP; y += V_STEP) {
+            for (int x = H_STEP; x < width - H_STEP; x += H_STEP) {
                 if (is1x2WallArea(maze, x, y)) {
                     int adjacentPaths = 0;
 
-                    int[][] checkDirs = {
-                        {0, -verticalStep}, {0, verticalStep},
-                        {-horizontalStep, 0}, {horizontalStep, 0}
-                    };
-
-                    for (int[] dir : checkDirs) {
-                        int checkX = x + dir[0];
-                        int checkY = y + dir[1];
+                    for (int d = 0; d < 4; d++) {
+                        int checkX = x + CHECK_DX[d];
+                        int checkY = y + CHECK_DY[d];
 
                         if (checkX >= 0 && checkX < width - PATH_WIDTH &&
                             checkY >= 0 && checkY < height - PATH_HEIGHT &&
@@ -442,22 +465,14 @@ private void fix3x3MazeConnectivity(int[][] maze) {
         int width = maze[0].length;
         int height = maze.length;
 
-        int horizontalStep = PATH_WIDTH + WALL_WIDTH;
-        int verticalStep = PATH_HEIGHT + WALL_HEIGHT;
-
-        for (int y = verticalStep; y < height - verticalStep; y += verticalStep) {
-            for (int x = horizontalStep; x < width - horizontalStep; x += horizontalStep) {
+        for (int y = V_STEP; y < height - V_STEP; y += V_STEP) {
+            for (int x = H_STEP; x < width - H_STEP; x += H_STEP) {
                 if (is1x2WallArea(maze, x, y)) {
                     int connectedRegions = 0;
 
-                    int[][] checkDirs = {
-                        {0, -verticalStep}, {0, verticalStep},
-                        {-horizontalStep, 0}, {horizontalStep, 0}
-                    };
-
-                    for (int[] dir : checkDirs) {
-                        int nx = x + dir[0];
-                        int ny = y + dir[1];
+                    for (int d = 0; d < 4; d++) {
+                        int nx = x + CHECK_DX[d];
+                        int ny = y + CHECK_DY[d];
 
                         if (nx >= 0 && nx < width - PATH_WIDTH &&
                             ny >= 0 && ny < height - PATH_HEIGHT &&
@@ -525,32 +540,40 @@ private boolean isPathReachable(int[][] maze, int startX, int startY, int endX,
         int width = maze[0].length;
         int height = maze.length;
 
-        boolean[][] visited = new boolean[height][width];
-        java.util.Queue<int[]> queue = new java.util.LinkedList<>();
-
-        queue.offer(new int[]{startX, startY});
-        visited[startY][startX] = true;
+        int cells = width * height;
+        if (bfsQueue.length < cells) {
+            bfsQueue = new int[cells];
+            visitMarks = new int[cells];
+            visitMark = 0;
+        }
+        if (++visitMark == 0) {
+            Arrays.fill(visitMarks, 0);
+            visitMark = 1;
+        }
+        int[] queue = bfsQueue;
+        int head = 0, tail = 0;
 
-        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+        queue[tail++] = startY * width + startX;
+        visitMarks[startY * width + startX] = visitMark;
 
-        while (!queue.isEmpty()) {
-            int[] current = queue.poll();
-            int x = current[0];
-            int y = current[1];
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current % width;
+            int y = current / width;
 
             if (x == endX && y == endY) {
                 return true;
             }
 
-            for (int[] dir : directions) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
+            for (int d = 0; d < 4; d++) {
+                int nx = x + BFS_DX[d];
+                int ny = y + BFS_DY[d];
 
                 if (nx >= 0 && nx < width &&
                     ny >= 0 && ny < height &&
-                    !visited[ny][nx] && maze[ny][nx] == 1) {
-                    visited[ny][nx] = true;
-                    queue.offer(new int[]{nx, ny});
+                    visitMarks[ny * width + nx] != visitMark && maze[ny][nx] == 1) {
+                    visitMarks[ny * width + nx] = visitMark;
+                    queue[tail++] = ny * width + nx;
                 }
             }
         }
@@ -39,8 +39,18 @@ public class MazeRenderer {
     private TextureRegion[] wallRegions;
 
     private boolean analyzed = false;
+    private int wallRevision = 0;
     private final List<WallGroup> wallGroups = new ArrayList<>();
 
+    /** Floats per wall slice: x, y, width, height, u, v, u2, v2. */
+    static final int SLICE_STRIDE = 8;
+    /** Packed slice geometry and UVs of all wall groups, reused across mazes. */
+    private float[] sliceData = new float[0];
+
+    private final WallDepthClassifier depthClassifier = new WallDepthClassifier();
+
+    private StaticWallLayer staticLayer;
+
     /**
      * Represents a continuous horizontal wall segment.
      * <p>
@@ -50,6 +60,10 @@ public class MazeRenderer {
 
     public static class WallGroup {
         public int startX, startY, length, textureIndex;
+        /** Texture shared by all slices of this group, resolved by {@code analyze()}. */
+        Texture sliceTexture;
+        /** Offset of this group's first slice in the packed slice buffer. */
+        int sliceOffset;
         /**
          * Creates a wall segment definition.
          *
@@ -147,7 +161,94 @@ private void analyze() {
             }
         }
 
+        bakeWallSlices();
+        if (staticLayer != null) {
+            staticLayer.rebuild(wallGroups, sliceData, SLICE_STRIDE);
+        }
         analyzed = true;
+        wallRevision++;
+    }
+
+    /**
+     * Resolves every wall group into pre-sliced quads.
+     * <p>
+     * Each cell of a group shows a vertical strip of the group's texture.
+     * Positions and UVs of these strips are computed once per maze and
+     * stored in a flat float buffer so wall drawing does not allocate.
+     */
+
+    private void bakeWallSlices() {
+        int total = 0;
+        for (WallGroup g : wallGroups) total += g.length;
+        if (sliceData.length < total * SLICE_STRIDE) {
+            sliceData = new float[total * SLICE_STRIDE];
+        }
+
+        float cs = GameConstants.CELL_SIZE;
+        float h = getWallHeight();
+        float overlap = getWallOverlap();
+        TextureRegion slice = new TextureRegion();
+
+        int o = 0;
+        for (WallGroup g : wallGroups) {
+            TextureRegion base = resolveWallRegion(g);
+            Texture tex = base.getTexture();
+
+            float u0 = base.getU();
+            float u1 = base.getU2();
+            float v0 = base.getV();
+            float step = (u1 - u0) / g.length;
+
+            g.sliceTexture = tex;
+            g.sliceOffset = o;
+
+            for (int i = 0; i < g.length; i++) {
+                slice.setTexture(tex);
+                slice.setRegion(
+                        (int) ((u0 + i * step) * tex.getWidth()),
+                        (int) (v0 * tex.getHeight()),
+                        (int) (step * tex.getWidth()),
+                        base.getRegionHeight()
+                );
+
+                sliceData[o]     = (g.startX + i) * cs;
+                sliceData[o + 1] = g.startY * cs - overlap;
+                sliceData[o + 2] = cs;
+                sliceData[o + 3] = h;
+                sliceData[o + 4] = slice.getU();
+                sliceData[o + 5] = slice.getV2();
+                sliceData[o + 6] = slice.getU2();
+                sliceData[o + 7] = slice.getV();
+                o += SLICE_STRIDE;
+            }
+        }
+    }
+
+    /**
+     * Returns the texture region a wall group is sliced from.
+     *
+     * @param g wall group
+     * @return base texture region for the group
+     */
+
+    protected TextureRegion resolveWallRegion(WallGroup g) {
+        return wallRegions[g.textureIndex];
+    }
+
+    /**
+     * @return drawn height of a wall slice in world units
+     */
+
+    protected float getWallHeight() {
+        return GameConstants.CELL_SIZE * 2.4f;
+    }
+
+    /**
+     * @return downward offset of wall slices to hide floor seams
+     */
+
+    protected float getWallOverlap() {
+        return 6;
     }
 
     /**
@@ -216,76 +317,133 @@ public List<WallGroup> getWallGroups() {
         return wallGroups;
     }
 
+    /**
+     * Enables or disables the baked static wall layer.
+     * <p>
+     * When enabled, walls are additionally cached per maze chunk on the GPU
+     * so that chunks without nearby entities can be drawn with a single
+     * call. Intended for large mazes; the cache is rebuilt together with
+     * the wall groups.
+     *
+     * @param enabled true to bake walls into chunk caches
+     */
+
+    public void setStaticLayerEnabled(boolean enabled) {
+        if (enabled == (staticLayer != null)) return;
+
+        if (enabled) {
+            staticLayer = new StaticWallLayer();
+            analyzed = false;
+        } else {
+            staticLayer.dispose();
+            staticLayer = null;
+        }
+    }
 
     /**
-     * Determines whether a wall is visually in front of any entity.
+     * @return the baked static wall layer, or {@code null} if disabled
+     */
+
+    public StaticWallLayer getStaticWallLayer() {
+        return staticLayer;
+    }
+
+    /**
+     * Returns a counter that changes every time the wall groups are rebuilt.
      * <p>
-     * Used for depth-aware rendering decisions.
+     * Lets caches derived from {@link #getWallGroups()} detect a new maze.
      *
-     * @param wx wall x cell
-     * @param wy wall y cell
-     * @return true if the wall should be rendered in front
+     * @return current wall analysis revision
      */
+    public int getWallRevision() {
+        return wallRevision;
+    }
+
+
+    /**
+     * Rebuilds the per-frame entity depth summary.
+     * <p>
+     * Must be called once per frame before walls are classified with
+     * {@link #isWallInFrontOfAnyEntity(int, int)}.
+     */
+
+    public void updateEntityDepthSummary() {
+        depthClassifier.reset();
 
-    public boolean isWallInFrontOfAnyEntity(int wx, int wy) {
         var p = gameManager.getPlayer();
-        if (p != null && wy > p.getY()) return true;
+        if (p != null) depthClassifier.include(p.getY());
 
-        for (var e : gameManager.getEnemies()) {
-            if (e.isActive() && wy > e.getY()) return true;
+        var enemies = gameManager.getEnemies();
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            var e = enemies.get(i);
+            if (e.isActive()) depthClassifier.include(e.getY());
         }
 
-        for (ExitDoor d : gameManager.getExitDoors()) {
-            if (wy > d.getY()) return true;
+        List<ExitDoor> doors = gameManager.getExitDoors();
+        for (int i = 0, n = doors.size(); i < n; i++) {
+            depthClassifier.include(doors.get(i).getY());
         }
+    }
+
+    /**
+     * Determines whether a wall is visually in front of any entity.
+     * <p>
+     * Used for depth-aware rendering decisions. Reads the summary built by
+     * {@link #updateEntityDepthSummary()}, so the check is constant time.
+     *
+     * @param wx wall x cell
+     * @param wy wall y cell
+     * @return true if the wall should be rendered in front
+     */
 
-        return false;
+    public boolean isWallInFrontOfAnyEntity(int wx, int wy) {
+        return depthClassifier.isInFront(wy);
     }
 
     /**
-     * Renders a single wall group using texture slicing.
+     * Renders a single wall group from its pre-baked slices.
      *
      * @param batch sprite batch for rendering
      * @param g     wall group definition
      */
 
     public void renderWallGroup(SpriteBatch batch, WallGroup g) {
-        float cs = GameConstants.CELL_SIZE;
-        float h = cs * 2.4f;
-        int overlap = 6;
-
-        TextureRegion base = wallRegions[g.textureIndex];
-
-        float u0 = base.getU();
-        float u1 = base.getU2();
-        float v0 = base.getV();
-
-        float step = (u1 - u0) / g.length;
-
-        for (int i = 0; i < g.length; i++) {
-            TextureRegion slice = new TextureRegion(
-                    base.getTexture(),
-                    (int) ((u0 + i * step) * base.getTexture().getWidth()),
-                    (int) (v0 * base.getTexture().getHeight()),
-                    (int) (step * base.getTexture().getWidth()),
-                    base.getRegionHeight()
-            );
+        float[] d = sliceData;
+        int o = g.sliceOffset;
 
+        for (int i = 0; i < g.length; i++, o += SLICE_STRIDE) {
             batch.draw(
-                    slice,
-                    (g.startX + i) * cs,
-                    g.startY * cs - overlap,
-                    cs,
-                    h
+                    g.sliceTexture,
+                    d[o], d[o + 1], d[o + 2], d[o + 3],
+                    d[o + 4], d[o + 5], d[o + 6], d[o + 7]
             );
         }
     }
+    /**
+     * Renders a single cell slice of a wall group.
+     *
+     * @param batch sprite batch for rendering
+     * @param g     wall group definition
+     * @param index slice index within the group
+     */
+
+    public void renderWallSlice(SpriteBatch batch, WallGroup g, int index) {
+        float[] d = sliceData;
+        int o = g.sliceOffset + index * SLICE_STRIDE;
+
+        batch.draw(
+                g.sliceTexture,
+                d[o], d[o + 1], d[o + 2], d[o + 3],
+                d[o + 4], d[o + 5], d[o + 6], d[o + 7]
+        );
+    }
     /**
      * Disposes loaded texture resources.
      */
 
     public void dispose() {
         if (wallAtlas != null) wallAtlas.dispose();
+        if (staticLayer != null) staticLayer.dispose();
     }
 
 
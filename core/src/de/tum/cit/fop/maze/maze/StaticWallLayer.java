@@ -0,0 +1,185 @@
+package de.tum.cit.fop.maze.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+import java.util.List;
+/**
+ * Pre-baked wall geometry split into square maze chunks.
+ * <p>
+ * Each chunk stores its wall slices in a {@link SpriteCache}, ordered
+ * from the top row to the bottom row, so a whole chunk can be drawn with
+ * one cached draw call instead of re-submitting every slice through the
+ * {@link SpriteBatch}. The layer is rebuilt only when the maze changes.
+ * <p>
+ * A chunk may only be drawn from cache while no entity shares its row
+ * band; otherwise its walls must be interleaved with entities and are
+ * drawn dynamically. Tracking this is the job of {@link DepthRenderQueue}
+ * through {@link #clearDirty()} and {@link #markDirty(int, int)}.
+ */
+public class StaticWallLayer implements Disposable {
+
+    /** Chunk edge length in cells. */
+    public static final int CHUNK_SIZE = 16;
+
+    private SpriteCache cache;
+    private int chunksX, chunksY;
+    private int[] cacheIds = new int[0];
+    private boolean[] dirty = new boolean[0];
+
+    /**
+     * Rebuilds all chunk caches from the renderer's baked wall slices.
+     *
+     * @param groups    analyzed wall groups
+     * @param sliceData packed slice buffer of the renderer
+     * @param stride    floats per slice in {@code sliceData}
+     */
+    void rebuild(List<MazeRenderer.WallGroup> groups, float[] sliceData, int stride) {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+
+        int cols = 0, rows = 0, slices = 0;
+        for (MazeRenderer.WallGroup g : groups) {
+            cols = Math.max(cols, g.startX + g.length);
+            rows = Math.max(rows, g.startY + 1);
+            slices += g.length;
+        }
+
+        chunksX = (cols + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunksY = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        cacheIds = new int[chunksX * chunksY];
+        dirty = new boolean[chunksX * chunksY];
+        Arrays.fill(cacheIds, -1);
+        if (slices == 0) return;
+
+        MazeRenderer.WallGroup[][] byRow = new MazeRenderer.WallGroup[rows][];
+        int[] counts = new int[rows];
+        for (MazeRenderer.WallGroup g : groups) counts[g.startY]++;
+        for (int r = 0; r < rows; r++) {
+            byRow[r] = new MazeRenderer.WallGroup[counts[r]];
+            counts[r] = 0;
+        }
+        for (MazeRenderer.WallGroup g : groups) byRow[g.startY][counts[g.startY]++] = g;
+
+        cache = new SpriteCache(slices, false);
+        TextureRegion region = new TextureRegion();
+
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                int minX = cx * CHUNK_SIZE;
+                int maxX = minX + CHUNK_SIZE - 1;
+                int top = Math.min(rows - 1, (cy + 1) * CHUNK_SIZE - 1);
+                int added = 0;
+
+                cache.beginCache();
+                for (int row = top; row >= cy * CHUNK_SIZE; row--) {
+                    for (MazeRenderer.WallGroup g : byRow[row]) {
+                        for (int i = 0; i < g.length; i++) {
+                            int cellX = g.startX + i;
+                            if (cellX < minX || cellX > maxX) continue;
+
+                            int o = g.sliceOffset + i * stride;
+                            region.setTexture(g.sliceTexture);
+                            region.setRegion(sliceData[o + 4], sliceData[o + 7],
+                                    sliceData[o + 6], sliceData[o + 5]);
+                            cache.add(region, sliceData[o], sliceData[o + 1],
+                                    sliceData[o + 2], sliceData[o + 3]);
+                            added++;
+                        }
+                    }
+                }
+                int id = cache.endCache();
+                cacheIds[cy * chunksX + cx] = added > 0 ? id : -1;
+            }
+        }
+    }
+
+    /**
+     * Marks every chunk as drawable from cache for a new frame.
+     */
+    public void clearDirty() {
+        Arrays.fill(dirty, false);
+    }
+
+    /**
+     * Marks the chunk containing a cell as needing dynamic wall drawing.
+     *
+     * @param cellX x cell
+     * @param cellY y cell
+     */
+    public void markDirty(int cellX, int cellY) {
+        if (cellX < 0 || cellY < 0) return;
+        int cx = cellX / CHUNK_SIZE;
+        int cy = cellY / CHUNK_SIZE;
+        if (cx >= chunksX || cy >= chunksY) return;
+        dirty[cy * chunksX + cx] = true;
+    }
+
+    /**
+     * Checks whether the wall slice at a cell is covered by a cached chunk
+     * this frame and must therefore not be drawn dynamically.
+     *
+     * @param cellX x cell
+     * @param cellY y cell
+     * @return true if the cell's walls come from the cache
+     */
+    public boolean isCached(int cellX, int cellY) {
+        int cx = cellX / CHUNK_SIZE;
+        int cy = cellY / CHUNK_SIZE;
+        if (cx < 0 || cy < 0 || cx >= chunksX || cy >= chunksY) return false;
+        int idx = cy * chunksX + cx;
+        return cacheIds[idx] >= 0 && !dirty[idx];
+    }
+
+    /**
+     * Draws the clean chunks of one chunk row within a column range.
+     * <p>
+     * Temporarily ends the sprite batch, since the cache uses its own mesh.
+     * Nothing is flushed if no chunk in the range is drawable.
+     *
+     * @param batch  active sprite batch
+     * @param cy     chunk row index
+     * @param minCol first visible cell column
+     * @param maxCol last visible cell column
+     */
+    public void renderBand(SpriteBatch batch, int cy, int minCol, int maxCol) {
+        if (cache == null || cy < 0 || cy >= chunksY) return;
+        int cx0 = Math.max(0, minCol / CHUNK_SIZE);
+        int cx1 = Math.min(chunksX - 1, Math.max(0, maxCol) / CHUNK_SIZE);
+
+        boolean begun = false;
+        for (int cx = cx0; cx <= cx1; cx++) {
+            int idx = cy * chunksX + cx;
+            if (cacheIds[idx] < 0 || dirty[idx]) continue;
+
+            if (!begun) {
+                batch.end();
+                Gdx.gl.glEnable(GL20.GL_BLEND);
+                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                cache.setProjectionMatrix(batch.getProjectionMatrix());
+                cache.setTransformMatrix(batch.getTransformMatrix());
+                cache.begin();
+                begun = true;
+            }
+            cache.draw(cacheIds[idx]);
+        }
+
+        if (begun) {
+            cache.end();
+            batch.begin();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) cache.dispose();
+        cache = null;
+    }
+}
@@ -0,0 +1,47 @@
+package de.tum.cit.fop.maze.maze;
+/**
+ * Per-frame summary used to decide whether a wall row is drawn
+ * in front of or behind the entities.
+ * <p>
+ * A wall is in front as soon as at least one depth-relevant entity stands
+ * on a lower row. This only depends on the lowest entity row, so the
+ * summary is built once per frame in {@code O(entities)} and every wall
+ * is then classified in {@code O(1)}.
+ */
+public class WallDepthClassifier {
+
+    private int minEntityRow = Integer.MAX_VALUE;
+
+    /**
+     * Clears the summary before entities of a new frame are included.
+     */
+    public void reset() {
+        minEntityRow = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Adds an entity row to the summary.
+     *
+     * @param row grid row of the entity
+     */
+    public void include(int row) {
+        if (row < minEntityRow) minEntityRow = row;
+    }
+
+    /**
+     * Checks whether a wall on the given row is in front of any included entity.
+     *
+     * @param wallRow grid row of the wall
+     * @return true if the wall should be rendered in front
+     */
+    public boolean isInFront(int wallRow) {
+        return wallRow > minEntityRow;
+    }
+
+    /**
+     * @return lowest included entity row, or {@link Integer#MAX_VALUE} if none
+     */
+    public int getMinEntityRow() {
+        return minEntityRow;
+    }
+}
@@ -5,8 +5,11 @@
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
@@ -15,9 +18,13 @@
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextField;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.entities.*;
 import de.tum.cit.fop.maze.entities.enemy.*;
 import de.tum.cit.fop.maze.entities.trap.Trap;
@@ -27,10 +34,12 @@
 import de.tum.cit.fop.maze.game.GameConstants;
 import de.tum.cit.fop.maze.game.GameManager;
 import de.tum.cit.fop.maze.input.PlayerInputHandler;
+import de.tum.cit.fop.maze.maze.DepthRenderQueue;
 import de.tum.cit.fop.maze.maze.MazeRenderer;
 import de.tum.cit.fop.maze.tools.ButtonFactory;
 import de.tum.cit.fop.maze.ui.HUD;
 import de.tum.cit.fop.maze.utils.CameraManager;
+import de.tum.cit.fop.maze.utils.LeaderboardManager;
 import de.tum.cit.fop.maze.tools.DeveloperConsole;
 import de.tum.cit.fop.maze.input.KeyBindingManager;
 
@@ -62,6 +71,7 @@ public class EndlessScreen implements Screen, GameListener {
 
     private GameManager gm;
     private MazeRenderer maze;
+    private DepthRenderQueue renderQueue;
     private CameraManager cam;
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
@@ -98,28 +108,6 @@ public class EndlessScreen implements Screen, GameListener {
 
     private final Random randomGenerator = new Random();
 
-    enum Type { WALL_BEHIND, ENTITY, WALL_FRONT }
-
-    static class Item {
-        float y;
-        int priority;
-        Type type;
-        MazeRenderer.WallGroup wall;
-        GameObject entity;
-
-        Item(MazeRenderer.WallGroup w, Type t) {
-            wall = w;
-            y = w.startY;
-            type = t;
-        }
-
-        Item(GameObject e, int p) {
-            entity = e;
-            y = e.getY();
-            priority = p;
-            type = Type.ENTITY;
-        }
-    }
     /**
      * Strategies used to determine optimal heart spawn positions.
      */
@@ -169,6 +157,9 @@ public void show() {
         cam.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         maze = new MazeRenderer(gm, difficultyConfig);
+        maze.setStaticLayerEnabled(difficultyConfig.difficulty == Difficulty.HARD
+                || difficultyConfig.difficulty == Difficulty.ENDLESS);
+        renderQueue = new DepthRenderQueue(maze);
         hud = new HUD(gm);
 
         if (gm.getPlayer() != null) {
@@ -221,6 +212,7 @@ private void initializeEndlessMode() {
 
         gm.getExitDoors().clear();
         gm.getKeys().clear();
+        gm.rebuildEntityGrid();
 
         spawnInitialEndlessEnemies();
     }
@@ -297,21 +289,11 @@ public void render(float delta) {
 
         maze.renderFloor(batch);
 
-        List<ExitDoor> exitDoorsCopy = new ArrayList<>(gm.getExitDoors());
-        exitDoorsCopy.forEach(d -> d.renderPortalBack(batch));
+        List<ExitDoor> exitDoors = gm.getExitDoors();
+        for (ExitDoor d : exitDoors) d.renderPortalBack(batch);
 
-        List<Item> items = prepareRenderItems(exitDoorsCopy);
-        items.sort(Comparator.comparingDouble((Item i) -> -i.y)
-                .thenComparingInt(i -> i.type.ordinal())
-                .thenComparingInt(i -> i.priority));
-
-        for (Item it : items) {
-            if (it.wall != null) {
-                maze.renderWallGroup(batch, it.wall);
-            } else {
-                it.entity.drawSprite(batch);
-            }
-        }
+        queueRenderItems(exitDoors);
+        renderQueue.render(batch);
 
         if (gm.getKeyEffectManager() != null) {
             gm.getKeyEffectManager().render(batch);
@@ -326,6 +308,13 @@ public void render(float delta) {
 
         batch.end();
 
+        if (gm.getBobaBulletEffectManager() != null) {
+            EffectBatcher effects = EffectBatcher.getInstance();
+            effects.begin(cam.getCamera().combined);
+            gm.getBobaBulletEffectManager().renderShapes(effects);
+            effects.end();
+        }
+
         shapeRenderer.setProjectionMatrix(cam.getCamera().combined);
 
         for (Player p : gm.getPlayers()) {
@@ -535,7 +524,7 @@ private void spawnSmartHeart(float healthPercent) {
         if (healthPercent < 30 && randomGenerator.nextFloat() < 0.3f) {
             heart = createEnhancedHeart(pos[0], pos[1]);
         }
-        gm.getHearts().add(heart);
+        gm.addHeart(heart);
     }
     private Heart createEnhancedHeart(int x, int y) {
         Heart heart = new Heart(x, y);
@@ -749,6 +738,7 @@ private void spawnCooldownReduction(int x, int y) {
     private void cleanupExpiredItems() {
         long currentTime = System.currentTimeMillis();
         Iterator<Heart> heartIter = gm.getHearts().iterator();
+        boolean removed = false;
 
         while (heartIter.hasNext()) {
             Heart heart = heartIter.next();
@@ -760,9 +750,11 @@ private void cleanupExpiredItems() {
                 if (age > 60000) {
                     heartIter.remove();
                     heartCreationTimes.remove(heartKey);
+                    removed = true;
                 }
             }
         }
+        if (removed) gm.rebuildEntityGrid();
     }
 
     private void onEndlessWaveAdvanced() {
@@ -788,7 +780,7 @@ private void spawnEndlessPearlMine(int count) {
             TrapT02_PearlMine mine =
                     new TrapT02_PearlMine(pos[0], pos[1], gm);
 
-            gm.getTraps().add(mine);
+            gm.spawnTrap(mine);
 
             System.out.println("💣 生成 T02 Pearl Mine 于 (" + pos[0] + "," + pos[1] + ")");
         }
@@ -839,7 +831,7 @@ private void spawnHealthBasedEnemies(float healthPercent) {
 
             Enemy enemy = createEnemyBasedOnHealth(healthPercent, pos[0], pos[1]);
             if (enemy != null) {
-                gm.getEnemies().add(enemy);
+                gm.addEnemy(enemy);
             }
         }
 
@@ -1003,7 +995,7 @@ private void spawnEndlessHealthPack() {
         if (pos != null) {
             try {
                 Heart heart = new Heart(pos[0], pos[1]);
-                gm.getHearts().add(heart);
+                gm.addHeart(heart);
                 System.out.println("生成生命包于位置 (" + pos[0] + ", " + pos[1] + ")");
             } catch (Exception e) {
                 System.out.println("生成生命包失败: " + e.getMessage());
@@ -1015,7 +1007,7 @@ private void spawnInitialEndlessEnemies() {
             int[] pos = findEmptyCellForEndlessSpawn();
             if (pos != null) {
                 try {
-                    gm.getEnemies().add(new EnemyE01_CorruptedPearl(pos[0], pos[1]));
+                    gm.addEnemy(new EnemyE01_CorruptedPearl(pos[0], pos[1]));
                 } catch (Exception e) {
                     System.out.println("初始敌人生成失败: " + e.getMessage());
                 }
@@ -1073,6 +1065,44 @@ private void showEndlessGameOverScreen() {
 
         ButtonFactory bf = new ButtonFactory(game.getSkin());
 
+        LeaderboardManager leaderboard = game.getLeaderboard();
+        String difficulty = Difficulty.ENDLESS.name();
+        boolean coop = gm.isTwoPlayerMode();
+        if (leaderboard.isHighScore(finalScore, difficulty, coop)) {
+            Table inputContainer = new Table();
+            inputContainer.setBackground(createColorDrawable(new Color(0f, 0f, 0f, 0.3f)));
+            inputContainer.pad(20);
+
+            Label newRecLabel = new Label("NEW HIGH SCORE!", game.getSkin());
+            newRecLabel.setColor(Color.YELLOW);
+            inputContainer.add(newRecLabel).padBottom(15).row();
+
+            Table inputRow = new Table();
+            TextField nameInput = new TextField("", createNameFieldStyle());
+            nameInput.setMessageText("Enter Name");
+            nameInput.setMaxLength(12);
+            nameInput.setAlignment(Align.center);
+            nameInput.setTextFieldFilter((textField, c) ->
+                    Character.isLetterOrDigit(c) || c == '_' || c == ' '
+            );
+            inputRow.add(nameInput).width(300).height(50).padRight(15);
+
+            inputRow.add(bf.create("SUBMIT", () -> {
+                String name = nameInput.getText();
+                if (name == null || name.trim().isEmpty()) name = "Traveler";
+                leaderboard.addScore(name, finalScore, difficulty, coop);
+
+                inputContainer.clearChildren();
+                Label successLabel = new Label("SCORE SUBMITTED!", game.getSkin());
+                successLabel.setColor(Color.GREEN);
+                inputContainer.add(successLabel);
+            })).width(200).height(50);
+
+            inputContainer.add(inputRow);
+            root.add(inputContainer).padBottom(30).row();
+            endlessGameOverStage.setKeyboardFocus(nameInput);
+        }
+
         root.add(bf.create("try again", () -> {
             game.startNewGame(Difficulty.ENDLESS);
             game.goToGame();
@@ -1087,6 +1117,27 @@ private void showEndlessGameOverScreen() {
     }
 
 
+    private TextField.TextFieldStyle createNameFieldStyle() {
+        TextField.TextFieldStyle style = new TextField.TextFieldStyle();
+        style.font = game.getSkin().getFont("default-font");
+        if (style.font == null) style.font = new BitmapFont();
+        style.fontColor = Color.WHITE;
+        style.cursor = createColorDrawable(Color.WHITE);
+        style.cursor.setMinWidth(2);
+        style.selection = createColorDrawable(new Color(0, 0.5f, 1f, 0.5f));
+        style.background = createColorDrawable(new Color(0.15f, 0.15f, 0.18f, 1f));
+        return style;
+    }
+
+    private TextureRegionDrawable createColorDrawable(Color color) {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(color);
+        pixmap.fill();
+        TextureRegionDrawable drawable = new TextureRegionDrawable(new TextureRegion(new Texture(pixmap)));
+        pixmap.dispose();
+        return drawable;
+    }
+
     private boolean isEndlessMode() {
         return difficultyConfig.difficulty == Difficulty.ENDLESS;
     }
@@ -1239,67 +1290,22 @@ private void initPauseUI() {
         pauseUIInitialized = true;
     }
 
-    private List<Item> prepareRenderItems(List<ExitDoor> exitDoorsCopy) {
-        List<Item> items = new ArrayList<>();
-
-        for (var wg : maze.getWallGroups()) {
-            boolean front = maze.isWallInFrontOfAnyEntity(wg.startX, wg.startY);
-            items.add(new Item(wg, front ? Type.WALL_FRONT : Type.WALL_BEHIND));
-        }
+    private void queueRenderItems(List<ExitDoor> exitDoors) {
+        renderQueue.begin(cam);
 
         for (Player p : gm.getPlayers()) {
             if (!p.isDead()) {
-                items.add(new Item(p, 100));
-            }
-        }
-
-
-        List<Enemy> enemiesCopy = new ArrayList<>(gm.getEnemies());
-        enemiesCopy.forEach(e -> items.add(new Item(e, 50)));
-        List<Trap> trapsCopy = new ArrayList<>(gm.getTraps());
-        trapsCopy.forEach(t -> {
-            if (t != null && t.isActive()) {
-                items.add(new Item(t, 10));
+                renderQueue.add(p, 100);
             }
-        });
-        exitDoorsCopy.forEach(d -> items.add(new Item(d, 45)));
-
-        List<Heart> heartsCopy = new ArrayList<>(gm.getHearts());
-        heartsCopy.forEach(h -> {
-            if (h.isActive()) items.add(new Item(h, 30));
-        });
-
-        List<Treasure> treasuresCopy = new ArrayList<>(gm.getTreasures());
-        treasuresCopy.forEach(t -> items.add(new Item(t, 20)));
-        List<HeartContainer> containersCopy = new ArrayList<>(gm.getHeartContainers());
-
-        if (containersCopy.isEmpty()) {
-            System.out.println("🧡 [Render] No HeartContainer in GameManager");
-        } else {
-            System.out.println("🧡 [Render] HeartContainer count = " + containersCopy.size());
         }
 
-        containersCopy.forEach(hc -> {
-            System.out.println(
-                    "🧡 [Render] HeartContainer at (" + hc.getX() + "," + hc.getY() +
-                            "), active=" + hc.isActive()
-            );
-
-            if (hc.isActive()) {
-                items.add(new Item(hc, 30));
-                System.out.println("✅ [Render] HeartContainer ADDED to render items");
-            } else {
-                System.out.println("⚠️ [Render] HeartContainer NOT active, skipped");
-            }
-        });
-        List<Key> keysCopy = new ArrayList<>(gm.getKeys());
-        keysCopy.forEach(k -> {
-            if (k.isActive()) {
-                items.add(new Item(k, 35));
-            }
-        });
-
-        return items;
+        renderQueue.addAll(gm.getEnemies(), 50, false);
+        renderQueue.addAll(gm.getTraps(), 10, true);
+        renderQueue.addAll(exitDoors, 45, false);
+        renderQueue.addAll(gm.getHearts(), 30, true);
+        renderQueue.addAll(gm.getTreasures(), 20, false);
+        renderQueue.addAll(gm.getHeartContainers(), 30, true);
+        renderQueue.addAll(gm.getKeys(), 35, true);
     }
 
     @Override
@@ -23,6 +23,7 @@
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.audio.AudioManager;
 import de.tum.cit.fop.maze.audio.AudioType;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
 import de.tum.cit.fop.maze.effects.Player.PlayerTrailManager;
 import de.tum.cit.fop.maze.effects.fog.FogSystem;
 import de.tum.cit.fop.maze.entities.*;
@@ -42,6 +43,7 @@
 import de.tum.cit.fop.maze.game.story.StoryProgress;
 import de.tum.cit.fop.maze.input.KeyBindingManager;
 import de.tum.cit.fop.maze.input.PlayerInputHandler;
+import de.tum.cit.fop.maze.maze.DepthRenderQueue;
 import de.tum.cit.fop.maze.maze.MazeRenderer;
 import de.tum.cit.fop.maze.tools.ButtonFactory;
 import de.tum.cit.fop.maze.tools.DeveloperConsole;
@@ -78,6 +80,7 @@ public class GameScreen implements Screen, Chapter1RelicListener {
 
     private GameManager gm;
     private MazeRenderer maze;
+    private DepthRenderQueue renderQueue;
     private CameraManager cam;
     private SpriteBatch batch;
     private HUD hud;
@@ -161,31 +164,6 @@ public void onDiscard() {
 
     private final ChapterContext chapterContext;
     private BitmapFont worldHintFont;
-    /**
-     * Rendering layer type used to control draw order of walls and entities.
-     */
-    enum Type { WALL_BEHIND, ENTITY, WALL_FRONT }
-
-    static class Item {
-        float y;
-        int priority;
-        Type type;
-        MazeRenderer.WallGroup wall;
-        GameObject entity;
-
-        Item(MazeRenderer.WallGroup w, Type t) {
-            wall = w;
-            y = w.startY;
-            type = t;
-        }
-
-        Item(GameObject e, int p) {
-            entity = e;
-            y = e.getY();
-            priority = p;
-            type = Type.ENTITY;
-        }
-    }
     /**
      * Creates a new GameScreen for maze gameplay.
      *
@@ -240,6 +218,9 @@ public void show() {
         }
 
         maze = new MazeRenderer(gm, difficultyConfig);
+        maze.setStaticLayerEnabled(difficultyConfig.difficulty == Difficulty.HARD
+                || difficultyConfig.difficulty == Difficulty.ENDLESS);
+        renderQueue = new DepthRenderQueue(maze);
         cam  = new CameraManager(difficultyConfig);
 
         if (gm != null) {
@@ -382,67 +363,26 @@ public void render(float delta) {
         batch.setColor(Color.WHITE);
 
         maze.renderFloor(batch);
-        List<ExitDoor> exitDoorsCopy = new ArrayList<>(gm.getExitDoors());
-        exitDoorsCopy.forEach(d -> d.renderPortalBack(batch));
+        List<ExitDoor> exitDoors = gm.getExitDoors();
+        for (ExitDoor d : exitDoors) d.renderPortalBack(batch);
         batch.end();
 
 
-        List<Item> items = new ArrayList<>();
-        for (var wg : maze.getWallGroups()) {
-            boolean front = maze.isWallInFrontOfAnyEntity(wg.startX, wg.startY);
-            items.add(new Item(wg, front ? Type.WALL_FRONT : Type.WALL_BEHIND));
-        }
-        for (Player p : gm.getPlayers()) items.add(new Item(p, 100));
-        if (gm.getCat() != null) items.add(new Item(gm.getCat(), 95));
-        List<Enemy> enemiesCopy = new ArrayList<>(gm.getEnemies());
-        enemiesCopy.forEach(e -> items.add(new Item(e, 50)));
-        List<Trap> trapsCopy = new ArrayList<>(gm.getTraps());
-        trapsCopy.forEach(t -> { if (t.isActive() && t instanceof GameObject) items.add(new Item((GameObject)t, 15)); });
-        exitDoorsCopy.forEach(d -> items.add(new Item(d, 45)));
-        List<Heart> heartsCopy = new ArrayList<>(gm.getHearts());
-        heartsCopy.forEach(h -> { if (h.isActive()) items.add(new Item(h, 30)); });
-        List<Treasure> treasuresCopy = new ArrayList<>(gm.getTreasures());
-        treasuresCopy.forEach(t -> items.add(new Item(t, 20)));
-        List<Chapter1Relic> relicsCopy = new ArrayList<>(gm.getChapterRelics());
-        relicsCopy.forEach(r -> items.add(new Item(r, 25)));
-        List<HeartContainer> containersCopy = new ArrayList<>(gm.getHeartContainers());
-
-        if (containersCopy.isEmpty()) {
-            System.out.println("🧡 [Render] No HeartContainer in GameManager");
-        } else {
-            System.out.println("🧡 [Render] HeartContainer count = " + containersCopy.size());
-        }
-
-        containersCopy.forEach(hc -> {
-            System.out.println(
-                    "🧡 [Render] HeartContainer at (" + hc.getX() + "," + hc.getY() +
-                            "), active=" + hc.isActive()
-            );
-
-            if (hc.isActive()) {
-                items.add(new Item(hc, 30));
-                System.out.println("✅ [Render] HeartContainer ADDED to render items");
-            } else {
-                System.out.println("⚠️ [Render] HeartContainer NOT active, skipped");
-            }
-        });
-        List<DynamicObstacle> obstaclesCopy = new ArrayList<>(gm.getObstacles());
-        obstaclesCopy.forEach(o -> items.add(new Item(o, 40)));
-        List<Key> keysCopy = new ArrayList<>(gm.getKeys());
-        keysCopy.forEach(k -> { if (k.isActive()) items.add(new Item(k, 35)); });
-
-        items.sort(Comparator.comparingDouble((Item i) -> -i.y)
-                .thenComparingInt(i -> i.type.ordinal())
-                .thenComparingInt(i -> i.priority));
+        renderQueue.begin(cam);
+        renderQueue.addAll(gm.getPlayers(), 100, false);
+        renderQueue.add(gm.getCat(), 95);
+        renderQueue.addAll(gm.getEnemies(), 50, false);
+        renderQueue.addAll(gm.getTraps(), 15, true);
+        renderQueue.addAll(exitDoors, 45, false);
+        renderQueue.addAll(gm.getHearts(), 30, true);
+        renderQueue.addAll(gm.getTreasures(), 20, false);
+        renderQueue.addAll(gm.getChapterRelics(), 25, false);
+        renderQueue.addAll(gm.getHeartContainers(), 30, true);
+        renderQueue.addAll(gm.getObstacles(), 40, false);
+        renderQueue.addAll(gm.getKeys(), 35, true);
 
         batch.begin();
-        for (Item it : items) {
-            if (it.wall != null) {
-                maze.renderWallGroup(batch, it.wall);
-            } else {
-                it.entity.drawSprite(batch);
-            }
-        }
+        renderQueue.render(batch);
         batch.end();
 
         batch.begin();
@@ -461,7 +401,7 @@ public void render(float delta) {
 
 
         batch.begin();
-        exitDoorsCopy.forEach(d -> d.renderPortalFront(batch));
+        for (ExitDoor d : exitDoors) d.renderPortalFront(batch);
         if (gm.getKeyEffectManager() != null) gm.getKeyEffectManager().render(batch);
 
         if (playerTrailManager != null) {
@@ -475,18 +415,13 @@ public void render(float delta) {
         if (gm.getCombatEffectManager() != null) gm.getCombatEffectManager().renderSprites(batch);
         batch.end();
 
-        shapeRenderer.setProjectionMatrix(cam.getCamera().combined);
-        if (gm.getItemEffectManager() != null) gm.getItemEffectManager().renderShapes(shapeRenderer);
-        if (gm.getTrapEffectManager() != null) gm.getTrapEffectManager().renderShapes(shapeRenderer);
-
-        if (gm.getCombatEffectManager() != null) {
-            Gdx.gl.glEnable(Gdx.gl.GL_BLEND);
-            Gdx.gl.glBlendFunc(Gdx.gl.GL_SRC_ALPHA, Gdx.gl.GL_ONE_MINUS_SRC_ALPHA);
-
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            gm.getCombatEffectManager().renderShapes(shapeRenderer);
-            shapeRenderer.end();
-        }
+        EffectBatcher effects = EffectBatcher.getInstance();
+        effects.begin(cam.getCamera().combined);
+        if (gm.getItemEffectManager() != null) gm.getItemEffectManager().renderShapes(effects);
+        if (gm.getTrapEffectManager() != null) gm.getTrapEffectManager().renderShapes(effects);
+        gm.getBobaBulletEffectManager().renderShapes(effects);
+        if (gm.getCombatEffectManager() != null) gm.getCombatEffectManager().renderShapes(effects);
+        effects.end();
 
         batch.begin();
         batch.setColor(Color.WHITE);
@@ -12,6 +12,7 @@
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.tools.ButtonFactory;
@@ -19,18 +20,26 @@
 import de.tum.cit.fop.maze.utils.Logger;
 import de.tum.cit.fop.maze.utils.LeaderboardManager.HighScore;
 
+import java.util.List;
+
 /**
  * Screen displaying the global leaderboard.
  *
- * <p>This screen shows the highest recorded scores and allows
- * the player to return to the previous screen.
+ * <p>This screen shows the highest recorded scores one page at a time,
+ * lets the player switch between the global, difficulty and mode boards,
+ * and return to the previous screen.
  */
 public class LeaderboardScreen implements Screen {
+    private static final int PAGE_SIZE = 10;
+
     private final MazeRunnerGame game;
     private final Screen previousScreen;
     private Stage stage;
     private LeaderboardManager leaderboardManager;
     private Texture backgroundTexture;
+    private List<String> boards = List.of(LeaderboardManager.BOARD_ALL);
+    private int boardIndex = 0;
+    private int page = 0;
     /**
      * Creates the leaderboard screen.
      *
@@ -42,7 +51,8 @@ public LeaderboardScreen(MazeRunnerGame game, Screen previousScreen) {
         this.previousScreen = previousScreen;
 
         try {
-            this.leaderboardManager = new LeaderboardManager();
+            this.leaderboardManager = game.getLeaderboard();
+            this.boards = leaderboardManager.getBoards();
             if (Gdx.files.internal("imgs/menu_bg/bg_front.png").exists()) {
                 this.backgroundTexture = new Texture(Gdx.files.internal("imgs/menu_bg/bg_front.png"));
             }
@@ -55,7 +65,21 @@ public LeaderboardScreen(MazeRunnerGame game, Screen previousScreen) {
         setupUI();
     }
 
+    private void showBoard(int index, int newPage) {
+        boardIndex = (index + boards.size()) % boards.size();
+        page = newPage;
+        stage.clear();
+        setupUI();
+    }
+
     private void setupUI() {
+        String board = boards.get(boardIndex);
+        int entryCount = leaderboardManager.getEntryCount(board);
+        int pageCount = Math.max(1, (entryCount + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.max(0, Math.min(page, pageCount - 1));
+        Array<HighScore> entries = leaderboardManager.getPage(board, page, PAGE_SIZE);
+        ButtonFactory bf = new ButtonFactory(game.getSkin());
+
         Table root = new Table();
         root.setFillParent(true);
         stage.addActor(root);
@@ -63,7 +87,16 @@ private void setupUI() {
         Label title = new Label("HALL OF FAME", game.getSkin(), "title");
         title.setColor(Color.GOLD);
         title.setFontScale(1.3f);
-        root.add(title).padTop(50).padBottom(30).row();
+        root.add(title).padTop(50).padBottom(20).row();
+
+        Table boardRow = new Table();
+        boardRow.add(bf.create("<", () -> showBoard(boardIndex - 1, 0))).width(70).height(50);
+        Label boardLabel = new Label(board.replace('_', ' '), game.getSkin());
+        boardLabel.setColor(Color.CYAN);
+        boardLabel.setAlignment(Align.center);
+        boardRow.add(boardLabel).width(320);
+        boardRow.add(bf.create(">", () -> showBoard(boardIndex + 1, 0))).width(70).height(50);
+        root.add(boardRow).padBottom(20).row();
 
         Table scoreContainer = new Table();
         scoreContainer.setBackground(createColorDrawable(new Color(0.05f, 0.05f, 0.08f, 0.5f)));
@@ -78,14 +111,14 @@ private void setupUI() {
         separator.setColor(new Color(1, 1, 1, 0.3f)); // 调淡
         scoreContainer.add(separator).colspan(3).pad(15).row();
 
-        if (leaderboardManager.getScores().isEmpty()) {
+        if (entries.isEmpty()) {
             Label empty = new Label("Be the first legend!", game.getSkin());
             empty.setColor(Color.GRAY);
             empty.setFontScale(1.2f);
             scoreContainer.add(empty).colspan(3).pad(60);
         } else {
-            int rank = 1;
-            for (HighScore entry : leaderboardManager.getScores()) {
+            int rank = page * PAGE_SIZE + 1;
+            for (HighScore entry : entries) {
                 Color rankColor = Color.WHITE;
                 float fontScale = 1.1f;
 
@@ -116,9 +149,16 @@ private void setupUI() {
             }
         }
 
-        root.add(scoreContainer).width(Gdx.graphics.getWidth() * 0.85f).padBottom(50).row();
+        root.add(scoreContainer).width(Gdx.graphics.getWidth() * 0.85f).padBottom(20).row();
+
+        if (pageCount > 1) {
+            Table pageRow = new Table();
+            pageRow.add(bf.create("PREV", () -> showBoard(boardIndex, page - 1))).width(160).height(50);
+            pageRow.add(new Label((page + 1) + " / " + pageCount, game.getSkin())).width(160).align(Align.center);
+            pageRow.add(bf.create("NEXT", () -> showBoard(boardIndex, page + 1))).width(160).height(50);
+            root.add(pageRow).padBottom(20).row();
+        }
 
-        ButtonFactory bf = new ButtonFactory(game.getSkin());
         root.add(bf.create("BACK", () -> game.setScreen(previousScreen)))
                 .width(350).height(70);
     }
@@ -0,0 +1,136 @@
+package de.tum.cit.fop.maze.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.TimeUtils;
+import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.game.save.SaveLoadTask;
+import de.tum.cit.fop.maze.game.save.StorageManager;
+import de.tum.cit.fop.maze.utils.BlockingInputProcessor;
+import de.tum.cit.fop.maze.utils.TextureManager;
+/**
+ * Loading screen shown while a save is loaded in the background.
+ * <p>
+ * The screen polls a {@link SaveLoadTask} and shows its stage and
+ * progress. Once the save is loaded, the world is rebuilt on the render
+ * thread by {@link MazeRunnerGame#startLoadedGame}. ESC cancels the load
+ * and returns to the menu.
+ */
+public class SaveLoadingScreen implements Screen {
+
+    private final MazeRunnerGame game;
+    private final SpriteBatch batch;
+    private final SaveLoadTask task;
+    private final StorageManager.SaveTarget target;
+
+    private BitmapFont font;
+    private TextureRegion white;
+    private final Matrix4 projection = new Matrix4();
+
+    private long showTime;
+    private boolean rebuildShown = false;
+    private boolean finished = false;
+
+    private static final long MIN_SHOW_TIME_MS = 300;
+    /**
+     * Creates a loading screen for a running load.
+     *
+     * @param game   main game instance
+     * @param task   the running load
+     * @param target save target the loaded game continues to save to
+     */
+    public SaveLoadingScreen(MazeRunnerGame game, SaveLoadTask task, StorageManager.SaveTarget target) {
+        this.game = game;
+        this.batch = game.getSpriteBatch();
+        this.task = task;
+        this.target = target;
+    }
+
+    @Override
+    public void show() {
+        showTime = TimeUtils.millis();
+        projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        font = game.getSkin().getFont("default-font");
+        try {
+            white = game.getSkin().getRegion("white");
+        } catch (Exception ignored) {
+            white = new TextureRegion(TextureManager.getInstance().getWhitePixel());
+        }
+        Gdx.input.setInputProcessor(new BlockingInputProcessor());
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) return;
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+            finished = true;
+            task.cancel();
+            game.goToMenu();
+            return;
+        }
+
+        boolean ready = task.isDone() && TimeUtils.timeSinceMillis(showTime) > MIN_SHOW_TIME_MS;
+        // The rebuild blocks the frame, so draw its label once before it starts.
+        if (ready && rebuildShown) {
+            finished = true;
+            game.startLoadedGame(task.getResult(), target);
+            return;
+        }
+
+        SaveLoadTask.Stage stage = task.getStage();
+        if (ready) rebuildShown = true;
+
+        batch.setProjectionMatrix(projection);
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float w = Gdx.graphics.getWidth();
+        float h = Gdx.graphics.getHeight();
+        float barWidth = w * 0.6f;
+        float barHeight = 12f;
+        float barX = (w - barWidth) / 2f;
+        float barY = h * 0.45f;
+        float progress = task.getProgress();
+
+        batch.begin();
+        batch.setColor(0.2f, 0.2f, 0.2f, 0.5f);
+        batch.draw(white, barX, barY, barWidth, barHeight);
+        batch.setColor(255f / 255f, 182f / 255f, 193f / 255f, 1f);
+        batch.draw(white, barX, barY, barWidth * progress, barHeight);
+        batch.setColor(Color.WHITE);
+
+        font.setColor(Color.WHITE);
+        font.getData().setScale(0.9f);
+        font.draw(batch, "LOADING " + MathUtils.floor(progress * 100f) + "%",
+                0, h * 0.55f, w, Align.center, false);
+
+        font.setColor(1f, 1f, 1f, 0.65f);
+        font.getData().setScale(0.6f);
+        font.draw(batch, stage.label, 0, h * 0.40f, w, Align.center, false);
+
+        font.getData().setScale(0.5f);
+        font.draw(batch, "ESC  —  Return to Menu", 18f, h - 18f);
+        batch.end();
+        font.getData().setScale(1f);
+    }
+
+    @Override
+    public void resize(int w, int h) {
+        projection.setToOrtho2D(0, 0, w, h);
+    }
+
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void hide() {}
+    @Override public void dispose() {}
+}
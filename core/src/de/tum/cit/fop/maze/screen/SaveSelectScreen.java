@@ -13,7 +13,7 @@
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
-import de.tum.cit.fop.maze.game.save.GameSaveData;
+import de.tum.cit.fop.maze.game.save.SaveSlotMeta;
 import de.tum.cit.fop.maze.game.save.StorageManager;
 import de.tum.cit.fop.maze.tools.ButtonFactory;
 import de.tum.cit.fop.maze.utils.Logger;
@@ -88,8 +88,8 @@ private void setupUI() {
 
         boolean hasRecords = false;
 
-        for (int i = 1; i <= StorageManager.MAX_SAVE_SLOTS; i++) {
-            GameSaveData data = storage.loadGameFromSlot(i);
+        for (int i = 1; i <= storage.getSlotCount(); i++) {
+            SaveSlotMeta data = storage.getSlotMeta(i);
             if (data != null) {
                 Table card = createSaveCard(i, data);
                 listContent.add(card).width(cardWidth).padBottom(25).row(); // 间距 25
@@ -119,7 +119,7 @@ private void setupUI() {
     }
 
 
-    private Table createSaveCard(int slotId, GameSaveData data) {
+    private Table createSaveCard(int slotId, SaveSlotMeta data) {
         Table card = new Table();
         card.setBackground(cardBackground);
 
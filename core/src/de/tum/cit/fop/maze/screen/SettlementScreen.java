@@ -73,12 +73,13 @@ public SettlementScreen(MazeRunnerGame game, LevelResult result, GameSaveData sa
         this.game = game;
         this.result = result;
         this.saveData = saveData;
-        this.leaderboardManager = new LeaderboardManager();
+        this.leaderboardManager = game.getLeaderboard();
 
         this.displayedTotalScore = saveData.score;
         this.targetTotalScore = this.saveData.score + result.finalScore;
 
-        this.isHighScore = leaderboardManager.isHighScore((int) targetTotalScore);
+        this.isHighScore = leaderboardManager.isHighScore((int) targetTotalScore,
+                saveData.difficulty, saveData.twoPlayerMode);
 
         try {
             if (Gdx.files.internal("imgs/menu_bg/bg_front.png").exists()) {
@@ -254,7 +255,8 @@ public void clicked(InputEvent event, float x, float y) {
                     String name = nameInput.getText();
                     if (name == null || name.trim().isEmpty()) name = "Traveler";
 
-                    leaderboardManager.addScore(name, (int) targetTotalScore);
+                    leaderboardManager.addScore(name, (int) targetTotalScore,
+                            saveData.difficulty, saveData.twoPlayerMode);
 
                     scoreSubmitted = true;
                     if (game.getGameManager() != null) {
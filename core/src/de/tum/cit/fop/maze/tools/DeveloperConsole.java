@@ -13,7 +13,11 @@
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import de.tum.cit.fop.maze.effects.EffectBatcher;
+import de.tum.cit.fop.maze.effects.EffectBudget;
 import de.tum.cit.fop.maze.game.GameManager;
+import de.tum.cit.fop.maze.game.replay.InputRecorder;
+import de.tum.cit.fop.maze.game.replay.InputReplay;
 import de.tum.cit.fop.maze.entities.Player;
 import de.tum.cit.fop.maze.entities.enemy.Enemy;
 
@@ -37,6 +41,7 @@ public class DeveloperConsole {
     private Label logLabel;
     private ScrollPane scrollPane;
     private final StringBuilder logHistory = new StringBuilder();
+    private InputRecorder recorder;
 
     private Texture bgTexture;
     private Texture cursorTexture;
@@ -122,7 +127,7 @@ private void processCommand(String rawCommand) {
         try {
             switch (command) {
                 case "help":
-                    log("Available: heal [amt], give_key, kill_all, clear");
+                    log("Available: heal [amt], give_key, kill_all, record start|stop, fx [tier auto|ultra|high|medium|low], clear");
                     break;
                 case "clear":
                     logHistory.setLength(0);
@@ -186,6 +191,50 @@ private void processCommand(String rawCommand) {
                     }
                     break;
 
+                case "record":
+                    if (parts.length > 1 && parts[1].equalsIgnoreCase("start")) {
+                        if (recorder != null) {
+                            log("Already recording.");
+                        } else {
+                            recorder = InputRecorder.start(gameManager);
+                            log("Recording inputs.");
+                        }
+                    } else if (parts.length > 1 && parts[1].equalsIgnoreCase("stop")) {
+                        if (recorder == null) {
+                            log("Not recording.");
+                        } else {
+                            InputReplay replay = recorder.stop(gameManager);
+                            recorder = null;
+                            String path = "replays/replay_" + System.currentTimeMillis() + ".mzr";
+                            replay.save(Gdx.files.local(path));
+                            log("Saved " + replay.tickCount + " ticks to " + path);
+                        }
+                    } else {
+                        log("Usage: record start|stop");
+                    }
+                    break;
+
+                case "fx":
+                    EffectBudget budget = EffectBudget.getInstance();
+                    if (parts.length > 2 && parts[1].equalsIgnoreCase("tier")) {
+                        if (parts[2].equalsIgnoreCase("auto")) {
+                            budget.setOverride(null);
+                        } else {
+                            budget.setOverride(EffectBudget.Tier.valueOf(parts[2].toUpperCase()));
+                        }
+                    }
+                    log(String.format("Effect tier %s%s, avg frame %.1f ms",
+                            budget.getTier(), budget.getOverride() != null ? " (fixed)" : "",
+                            budget.getAverageFrameTime() * 1000f));
+                    for (EffectBudget.Allowance a : budget.getAllowances()) {
+                        log(String.format("  %-18s %5d/%-5d spawned %d dropped %d",
+                                a.name, a.getActive(), a.getCap(), a.getSpawned(), a.getDropped()));
+                    }
+                    EffectBatcher batcher = EffectBatcher.getInstance();
+                    log(String.format("Effect shapes: %d draw calls, %d vertices last frame",
+                            batcher.getDrawCalls(), batcher.getVertexCount()));
+                    break;
+
                 default:
                     log("Unknown command.");
                     break;
@@ -0,0 +1,89 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+/**
+ * Minimal micro-benchmark harness for headless performance checks.
+ *
+ * <p>Runs a warm-up phase followed by a measured phase and reports the
+ * average time and, when the JVM supports it, the bytes allocated per
+ * operation on the calling thread.
+ *
+ * <p>Results are meant for relative comparisons on the same machine,
+ * not as absolute numbers.
+ */
+public final class BenchmarkHarness {
+
+    private static volatile long sink;
+
+    private BenchmarkHarness() {}
+
+    /**
+     * Keeps a computed value alive so the JIT cannot eliminate the work.
+     *
+     * @param value value produced by the benchmarked operation
+     */
+    public static void consume(long value) {
+        sink += value;
+    }
+
+    /**
+     * Measures an operation.
+     *
+     * @param name       label printed with the result
+     * @param warmup     number of un-measured warm-up runs
+     * @param iterations number of measured runs
+     * @param op         operation to measure
+     * @return measured result
+     */
+    public static Result run(String name, int warmup, int iterations, Runnable op) {
+        for (int i = 0; i < warmup; i++) op.run();
+
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) op.run();
+        long elapsed = System.nanoTime() - start;
+        long bytesAfter = allocatedBytes();
+
+        long bytes = (bytesBefore < 0 || bytesAfter < 0) ? -1 : bytesAfter - bytesBefore;
+        return new Result(name, (double) elapsed / iterations,
+                bytes < 0 ? -1 : (double) bytes / iterations);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Result of a single benchmark.
+     */
+    public static final class Result {
+        public final String name;
+        public final double nanosPerOp;
+        public final double bytesPerOp;
+
+        Result(String name, double nanosPerOp, double bytesPerOp) {
+            this.name = name;
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        /**
+         * @return operations per second derived from the average time
+         */
+        public double opsPerSecond() {
+            return nanosPerOp <= 0 ? 0 : 1_000_000_000.0 / nanosPerOp;
+        }
+
+        @Override
+        public String toString() {
+            String alloc = bytesPerOp < 0 ? "n/a" : String.format("%.0f B/op", bytesPerOp);
+            return String.format("%-48s %12.1f ns/op  %12s", name, nanosPerOp, alloc);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import de.tum.cit.fop.maze.entities.boss.config.BossDifficultyFactory;
+import de.tum.cit.fop.maze.entities.boss.config.BossMazeConfig;
+import de.tum.cit.fop.maze.game.Difficulty;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.maze.MazeGenerator;
+
+import java.io.File;
+/**
+ * Measures maze generation time and allocation per difficulty and per
+ * boss phase.
+ *
+ * <p>Every operation generates one maze from a fixed seed with a reused
+ * {@link MazeGenerator}, so the remaining allocation is essentially the
+ * returned grid itself. Boss phases are read from
+ * {@code assets/story_file/boss/boss_phases.json} when it can be found
+ * from the working directory and skipped otherwise.
+ *
+ * <p>Run with {@code gradle :core:benchmark -Pbench=MazeGenerationBenchmark}.
+ */
+public final class MazeGenerationBenchmark {
+
+    private static final long SEED = 42L;
+    private static final String BOSS_CONFIG = "story_file/boss/boss_phases.json";
+
+    private MazeGenerationBenchmark() {}
+
+    public static void main(String[] args) {
+        MazeGenerator generator = new MazeGenerator(SEED);
+
+        Difficulty[] difficulties = { Difficulty.EASY, Difficulty.NORMAL, Difficulty.HARD, Difficulty.ENDLESS };
+        for (Difficulty d : difficulties) {
+            DifficultyConfig config = DifficultyConfig.of(d);
+            measure(generator, d + " " + config.mazeWidth + "x" + config.mazeHeight, config);
+        }
+
+        BossMazeConfig boss = loadBossConfig();
+        if (boss == null) {
+            System.out.println("boss phases skipped: " + BOSS_CONFIG + " not found");
+            return;
+        }
+        for (int i = 0; i < boss.phases.size; i++) {
+            DifficultyConfig config = BossDifficultyFactory.create(boss.base, boss.phases.get(i));
+            measure(generator, "BOSS phase " + i + " " + config.mazeWidth + "x" + config.mazeHeight, config);
+        }
+    }
+
+    private static void measure(MazeGenerator generator, String name, DifficultyConfig config) {
+        BenchmarkHarness.Result result = BenchmarkHarness.run(name, 20, 200,
+                () -> BenchmarkHarness.consume(generator.generateMaze(config, SEED).length));
+        System.out.println(result);
+    }
+
+    private static BossMazeConfig loadBossConfig() {
+        for (String root : new String[]{ "assets", "../assets", "." }) {
+            File file = new File(root, BOSS_CONFIG);
+            if (file.isFile()) {
+                return new Json().fromJson(BossMazeConfig.class, new FileHandle(file));
+            }
+        }
+        return null;
+    }
+}
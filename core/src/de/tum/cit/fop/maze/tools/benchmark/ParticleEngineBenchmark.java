@@ -0,0 +1,125 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import de.tum.cit.fop.maze.effects.Player.combat.CombatParticleSystem;
+
+import java.util.Iterator;
+import java.util.Random;
+/**
+ * Compares the former object-per-particle combat system against the
+ * {@link de.tum.cit.fop.maze.effects.particle.ParticleEngine} behind
+ * {@link CombatParticleSystem}.
+ *
+ * <p>Each operation is one 60 Hz frame of a steady particle population:
+ * the frame spawns as many particles as expire on average, then updates
+ * all of them. Populations go up to boss-fight levels.
+ *
+ * <p>Run with {@code gradle :core:benchmark -Pbench=ParticleEngineBenchmark}.
+ */
+public final class ParticleEngineBenchmark {
+
+    private static final int[] POPULATIONS = { 1_000, 5_000, 12_000 };
+    private static final float STEP = 1f / 60f;
+    /** Lifetimes are uniform in [0.5, 1.5), so a particle lives one second on average. */
+    private static final float MEAN_LIFE = 1f;
+
+    private ParticleEngineBenchmark() {}
+
+    public static void main(String[] args) {
+        for (int population : POPULATIONS) {
+            int spawnsPerFrame = Math.round(population * STEP / MEAN_LIFE);
+
+            LegacyParticleSystem legacy = new LegacyParticleSystem();
+            Random legacyRandom = new Random(42);
+            fill(population, (x, y, vx, vy, life) -> legacy.spawn(x, y, Color.WHITE, vx, vy, 3f, life, true, false),
+                    legacyRandom);
+            BenchmarkHarness.Result before = BenchmarkHarness.run(
+                    "objects   particles=" + population, 3000, 3000, () -> {
+                        spawn(spawnsPerFrame, (x, y, vx, vy, life) ->
+                                legacy.spawn(x, y, Color.WHITE, vx, vy, 3f, life, true, false), legacyRandom);
+                        legacy.update(STEP);
+                        BenchmarkHarness.consume(legacy.particles.size);
+                    });
+
+            CombatParticleSystem engine = new CombatParticleSystem();
+            Random engineRandom = new Random(42);
+            fill(population, (x, y, vx, vy, life) -> engine.spawn(x, y, Color.WHITE, vx, vy, 3f, life, true, false),
+                    engineRandom);
+            BenchmarkHarness.Result after = BenchmarkHarness.run(
+                    "engine    particles=" + population, 3000, 3000, () -> {
+                        spawn(spawnsPerFrame, (x, y, vx, vy, life) ->
+                                engine.spawn(x, y, Color.WHITE, vx, vy, 3f, life, true, false), engineRandom);
+                        engine.update(STEP);
+                        BenchmarkHarness.consume(engine.getActiveCount());
+                    });
+
+            System.out.println(before + String.format("  live=%d", legacy.particles.size));
+            System.out.println(after + String.format("  live=%d", engine.getActiveCount()));
+        }
+    }
+
+    private interface Spawner {
+        void spawn(float x, float y, float vx, float vy, float life);
+    }
+
+    private static void fill(int count, Spawner spawner, Random random) {
+        for (int i = 0; i < count; i++) {
+            spawner.spawn(random.nextFloat() * 1000f, random.nextFloat() * 1000f,
+                    random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f,
+                    random.nextFloat() * MEAN_LIFE);
+        }
+    }
+
+    private static void spawn(int count, Spawner spawner, Random random) {
+        for (int i = 0; i < count; i++) {
+            spawner.spawn(random.nextFloat() * 1000f, random.nextFloat() * 1000f,
+                    random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f,
+                    0.5f + random.nextFloat() * MEAN_LIFE);
+        }
+    }
+
+    /**
+     * Former behaviour: one object per particle, removed through the
+     * array iterator.
+     */
+    private static final class LegacyParticleSystem {
+        static final class Particle {
+            float x, y, vx, vy, life, maxLife, size;
+            final Color color = new Color();
+            boolean friction, gravity;
+        }
+
+        final Array<Particle> particles = new Array<>();
+
+        void update(float dt) {
+            Iterator<Particle> it = particles.iterator();
+            while (it.hasNext()) {
+                Particle p = it.next();
+                p.x += p.vx * dt;
+                p.y += p.vy * dt;
+                if (p.friction) {
+                    p.vx *= 0.90f;
+                    p.vy *= 0.90f;
+                }
+                if (p.gravity) p.vy += 400f * dt;
+                p.life -= dt;
+                if (p.life <= 0) it.remove();
+            }
+        }
+
+        void spawn(float x, float y, Color c, float vx, float vy, float size, float life,
+                   boolean friction, boolean gravity) {
+            Particle p = new Particle();
+            p.x = x; p.y = y;
+            p.vx = vx; p.vy = vy;
+            p.color.set(c);
+            p.maxLife = life;
+            p.life = life;
+            p.size = size;
+            p.friction = friction;
+            p.gravity = gravity;
+            particles.add(p);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import com.badlogic.gdx.Gdx;
+import de.tum.cit.fop.maze.entities.Player;
+import de.tum.cit.fop.maze.game.Difficulty;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.game.FixedStepSimulation;
+import de.tum.cit.fop.maze.game.GameManager;
+import de.tum.cit.fop.maze.game.replay.InputRecorder;
+import de.tum.cit.fop.maze.game.replay.InputReplay;
+import de.tum.cit.fop.maze.game.replay.ReplayPlayer;
+
+import java.io.IOException;
+import java.util.Random;
+/**
+ * Plays input replays at unlimited speed and reports ticks per second.
+ *
+ * <p>With a replay file, the file is played once. Without one, a scripted
+ * session of {@link #SCRIPTED_FRAMES} frames is recorded in simulation
+ * mode and played back twice; the state checksums of the live run and
+ * both playbacks must match. The session updates the game with jittered
+ * frame deltas and repeats a held direction once per grid step, as the
+ * input handler does, so the reported size matches a live recording. Requires a headless libGDX backend; use
+ * {@code gradle :desktop:simulate --args="replay [file]"}.
+ */
+public final class ReplayBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int SCRIPTED_FRAMES = 36000;
+    /** Frames between repeated moves, about {@code GameConstants.MOVE_DELAY_NORMAL}. */
+    private static final int MOVE_FRAMES = 5;
+    /** Relative frame time jitter of the scripted session. */
+    private static final float FRAME_JITTER = 0.15f;
+
+    private ReplayBenchmark() {}
+
+    public static void main(String[] args) {
+        if (Gdx.app == null) {
+            System.out.println("ReplayBenchmark needs a headless backend, run gradle :desktop:simulate");
+            return;
+        }
+        run(args.length > 0 ? args[0] : null);
+    }
+
+    /**
+     * Runs the benchmark and prints the results.
+     * Must be called on a thread with an initialized libGDX backend.
+     *
+     * @param path replay file relative to the working directory, or null
+     *             for a scripted run
+     */
+    public static void run(String path) {
+        try {
+            if (path != null) {
+                InputReplay replay = InputReplay.load(Gdx.files.local(path));
+                play(path, replay);
+                return;
+            }
+
+            GameManager gm = FixedStepSimulation.createHeadlessGame(
+                    DifficultyConfig.of(Difficulty.NORMAL), false, SEED);
+            InputRecorder recorder = InputRecorder.startFromSeed(gm, SEED);
+            Random script = new Random(SEED);
+            int dx = 0, dy = 0;
+            for (int i = 0; i < SCRIPTED_FRAMES; i++) {
+                if (i % 60 == 0) {
+                    int dir = script.nextInt(5);
+                    dx = dir == 1 ? 1 : dir == 2 ? -1 : 0;
+                    dy = dir == 3 ? 1 : dir == 4 ? -1 : 0;
+                }
+                if ((dx != 0 || dy != 0) && i % MOVE_FRAMES == 0) gm.onMoveInput(Player.PlayerIndex.P1, dx, dy);
+                if (i % 90 == 0) gm.onAbilityInput(Player.PlayerIndex.P1, 0);
+                float jitter = 1f + FRAME_JITTER * (2f * script.nextFloat() - 1f);
+                gm.update(FixedStepSimulation.DEFAULT_STEP * jitter);
+            }
+            long live = ReplayPlayer.stateChecksum(gm);
+            InputReplay replay = recorder.stop(gm);
+            double perHour = replay.getStreamSize() * (3600.0 / (replay.tickCount * InputRecorder.STEP));
+            System.out.println(String.format("recorded %d ticks in %d bytes (%.0f KB per hour)  state=%016x",
+                    replay.tickCount, replay.getStreamSize(), perHour / 1024, live));
+
+            long first = play("scripted", replay);
+            long second = play("scripted", replay);
+            System.out.println(first == live && second == live ? "playback deterministic" : "PLAYBACK DIVERGED");
+        } catch (IOException e) {
+            System.out.println("Replay failed: " + e.getMessage());
+        }
+    }
+
+    private static long play(String name, InputReplay replay) throws IOException {
+        ReplayPlayer player = new ReplayPlayer(replay);
+        long start = System.nanoTime();
+        player.runToEnd();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long checksum = player.stateChecksum();
+        System.out.println(String.format("replay %-20s %8d ticks  %8.3f s  %10.0f ticks/s  state=%016x",
+                name, player.getTick(), seconds, player.getTick() / seconds, checksum));
+        return checksum;
+    }
+}
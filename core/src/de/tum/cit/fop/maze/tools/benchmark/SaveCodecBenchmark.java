@@ -0,0 +1,145 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import de.tum.cit.fop.maze.game.Difficulty;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.game.save.BinarySaveCodec;
+import de.tum.cit.fop.maze.game.save.GameSaveData;
+import de.tum.cit.fop.maze.game.save.JsonSaveCodec;
+import de.tum.cit.fop.maze.game.save.PlayerSaveData;
+import de.tum.cit.fop.maze.game.save.SaveCodec;
+import de.tum.cit.fop.maze.maze.MazeGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+/**
+ * Compares save encode/decode latency and encoded size of the JSON+GZIP
+ * format and {@link BinarySaveCodec}, and the cost of capturing a save
+ * snapshot on the game thread.
+ *
+ * <p>The save is a two-player game on a generated maze of each difficulty,
+ * with ability states and session statistics filled in like a real save.
+ * File I/O is not included.
+ *
+ * <p>Run with {@code gradle :core:benchmark -Pbench=SaveCodecBenchmark}.
+ */
+public final class SaveCodecBenchmark {
+
+    private static final long SEED = 42L;
+
+    private SaveCodecBenchmark() {}
+
+    public static void main(String[] args) throws IOException {
+        SaveCodec json = new JsonSaveCodec(true);
+        SaveCodec binary = new BinarySaveCodec();
+
+        Difficulty[] difficulties = { Difficulty.EASY, Difficulty.NORMAL, Difficulty.HARD };
+        for (Difficulty d : difficulties) {
+            GameSaveData data = createSave(DifficultyConfig.of(d));
+            verifyRoundTrip(binary, data);
+
+            measure(d + " json+gzip", json, data);
+            measure(d + " binary   ", binary, data);
+            measureCapture(d.toString(), data);
+        }
+    }
+
+    /**
+     * Compares the game-thread cost of capturing a save for the save thread:
+     * the former JSON round trip against {@link GameSaveData#snapshot()}.
+     */
+    private static void measureCapture(String name, GameSaveData data) {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        json.setUsePrototypes(false);
+
+        System.out.println(BenchmarkHarness.run(name + " capture json copy", 20, 200,
+                () -> BenchmarkHarness.consume(json.fromJson(GameSaveData.class, json.toJson(data)).score)));
+        System.out.println(BenchmarkHarness.run(name + " capture snapshot ", 20, 200,
+                () -> BenchmarkHarness.consume(data.snapshot().score)));
+    }
+
+    private static void measure(String name, SaveCodec codec, GameSaveData data) throws IOException {
+        byte[] encoded = codec.encode(data);
+
+        BenchmarkHarness.Result save = BenchmarkHarness.run(name + " save", 20, 200,
+                () -> BenchmarkHarness.consume(encode(codec, data).length));
+        BenchmarkHarness.Result load = BenchmarkHarness.run(name + " load", 20, 200,
+                () -> BenchmarkHarness.consume(decode(codec, encoded).score));
+
+        System.out.println(save);
+        System.out.println(load);
+        System.out.printf("%s size %,d bytes%n", name, encoded.length);
+    }
+
+    private static byte[] encode(SaveCodec codec, GameSaveData data) {
+        try {
+            return codec.encode(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static GameSaveData decode(SaveCodec codec, byte[] bytes) {
+        try {
+            return codec.decode(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void verifyRoundTrip(SaveCodec codec, GameSaveData data) throws IOException {
+        GameSaveData copy = codec.decode(codec.encode(data));
+        if (!Arrays.deepEquals(copy.maze, data.maze)
+                || copy.score != data.score
+                || !copy.players.keySet().equals(data.players.keySet())
+                || !copy.sessionKills.equals(data.sessionKills)) {
+            throw new IllegalStateException("binary round trip mismatch");
+        }
+    }
+
+    private static GameSaveData createSave(DifficultyConfig config) {
+        GameSaveData data = new GameSaveData();
+        data.maze = new MazeGenerator(SEED).generateMaze(config, SEED);
+        data.currentLevel = 3;
+        data.score = 48_250;
+        data.difficulty = config.difficulty.name();
+        data.twoPlayerMode = true;
+        data.levelBaseScore = 1_200;
+        data.levelPenalty = 150;
+        data.sessionDamageTaken = 7;
+        data.sessionKills.put("E01", 14);
+        data.sessionKills.put("E02", 9);
+        data.sessionKills.put("E03", 3);
+        data.newAchievements.add("FIRST_BLOOD");
+
+        data.players.put("P1", createPlayer(20, 30));
+        data.players.put("P2", createPlayer(21, 30));
+        return data;
+    }
+
+    private static PlayerSaveData createPlayer(int x, int y) {
+        PlayerSaveData p = new PlayerSaveData();
+        p.x = x;
+        p.y = y;
+        p.lives = 3;
+        p.maxLives = 5;
+        p.mana = 80;
+        p.buffAttack = true;
+        for (String ability : new String[]{ "melee", "dash", "magic" }) {
+            Map<String, Object> state = new HashMap<>();
+            state.put("level", 2);
+            state.put("ready", true);
+            state.put("active", false);
+            state.put("cooldownTimer", 0.5f);
+            state.put("durationTimer", 0f);
+            p.abilityStates.put(ability, state);
+            p.abilityLevels.put(ability, 2);
+        }
+        return p;
+    }
+}
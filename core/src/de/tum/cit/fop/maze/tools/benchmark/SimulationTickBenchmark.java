@@ -0,0 +1,50 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import com.badlogic.gdx.Gdx;
+import de.tum.cit.fop.maze.game.Difficulty;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.game.FixedStepSimulation;
+import de.tum.cit.fop.maze.game.GameManager;
+/**
+ * Measures the cost of one fixed simulation tick of {@link GameManager}
+ * on EASY, NORMAL and HARD configurations.
+ *
+ * <p>Runs in headless simulation mode with a fixed seed, so the measured
+ * world is the same on every run. Requires a headless libGDX backend; use
+ * {@code gradle :desktop:simulate}, which starts one with a no-op GL.
+ */
+public final class SimulationTickBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int WARMUP_TICKS = 600;
+    private static final int MEASURED_TICKS = 3600;
+
+    private SimulationTickBenchmark() {}
+
+    public static void main(String[] args) {
+        if (Gdx.app == null) {
+            System.out.println("SimulationTickBenchmark needs a headless backend, run gradle :desktop:simulate");
+            return;
+        }
+        run();
+    }
+
+    /**
+     * Runs the benchmark for all configurations and prints the results.
+     * Must be called on a thread with an initialized libGDX backend.
+     */
+    public static void run() {
+        Difficulty[] difficulties = { Difficulty.EASY, Difficulty.NORMAL, Difficulty.HARD };
+
+        for (Difficulty d : difficulties) {
+            GameManager gm = FixedStepSimulation.createHeadlessGame(DifficultyConfig.of(d), false, SEED);
+            FixedStepSimulation sim = new FixedStepSimulation(gm, FixedStepSimulation.DEFAULT_STEP);
+
+            BenchmarkHarness.Result result = BenchmarkHarness.run(
+                    "tick " + d + " enemies=" + gm.getEnemies().size(),
+                    WARMUP_TICKS, MEASURED_TICKS, sim::tick);
+
+            System.out.println(result + String.format("  %10.0f ticks/s", result.opsPerSecond()));
+        }
+    }
+}
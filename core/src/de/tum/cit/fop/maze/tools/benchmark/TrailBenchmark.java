@@ -0,0 +1,109 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import de.tum.cit.fop.maze.effects.boba.BobaTrailSystem;
+import de.tum.cit.fop.maze.entities.enemy.EnemyBoba.BobaBullet;
+/**
+ * Compares the former map-of-arrays boba trails against the
+ * {@link de.tum.cit.fop.maze.effects.particle.TrailBuffer} behind
+ * {@link BobaTrailSystem}.
+ *
+ * <p>Each operation is one 60 Hz frame with a fixed number of tracked
+ * bullets, as in boss area-of-effect patterns; trails are already at
+ * full length, so every frame appends and expires points.
+ *
+ * <p>Run with {@code gradle :core:benchmark -Pbench=TrailBenchmark}.
+ */
+public final class TrailBenchmark {
+
+    private static final int[] BULLETS = { 50, 200, 500 };
+    private static final float STEP = 1f / 60f;
+
+    private TrailBenchmark() {}
+
+    public static void main(String[] args) {
+        for (int count : BULLETS) {
+            Array<BobaBullet> bullets = new Array<>();
+            for (int i = 0; i < count; i++) {
+                bullets.add(new BobaBullet(i % 40, i / 40f, 1f, 0.5f, 1));
+            }
+
+            LegacyTrailSystem legacy = new LegacyTrailSystem();
+            for (BobaBullet bullet : bullets) legacy.trackBullet(bullet);
+            for (int i = 0; i < 60; i++) legacy.update(STEP);
+            BenchmarkHarness.Result before = BenchmarkHarness.run(
+                    "map       bullets=" + count, 2000, 3000, () -> {
+                        legacy.update(STEP);
+                        BenchmarkHarness.consume(legacy.size());
+                    });
+
+            BobaTrailSystem trails = new BobaTrailSystem();
+            for (BobaBullet bullet : bullets) trails.trackBullet(bullet);
+            for (int i = 0; i < 60; i++) trails.update(STEP);
+            BenchmarkHarness.Result after = BenchmarkHarness.run(
+                    "ring      bullets=" + count, 2000, 3000, () -> {
+                        trails.update(STEP);
+                        BenchmarkHarness.consume(trails.getActiveParticleCount());
+                    });
+
+            System.out.println(before + String.format("  points=%d", legacy.size()));
+            System.out.println(after + String.format("  points=%d", trails.getActiveParticleCount()));
+        }
+    }
+
+    /**
+     * Former behaviour: one array per bullet in a map keyed on the bullet,
+     * one object and vector per trail point.
+     */
+    private static final class LegacyTrailSystem {
+        static final class TrailPoint {
+            Vector2 position;
+            float size;
+            float alpha;
+            float lifetime;
+
+            TrailPoint(Vector2 pos, float size, float lifetime) {
+                this.position = new Vector2(pos);
+                this.size = size;
+                this.alpha = 0.8f;
+                this.lifetime = lifetime;
+            }
+
+            void update(float delta) {
+                lifetime -= delta;
+                alpha = Math.max(0, lifetime);
+                size *= 0.95f;
+            }
+        }
+
+        final ObjectMap<BobaBullet, Array<TrailPoint>> bulletTrails = new ObjectMap<>();
+
+        void trackBullet(BobaBullet bullet) {
+            bulletTrails.put(bullet, new Array<>());
+        }
+
+        void update(float delta) {
+            for (ObjectMap.Entry<BobaBullet, Array<TrailPoint>> entry : bulletTrails.entries()) {
+                Array<TrailPoint> trail = entry.value;
+                if (entry.key.isActive()) {
+                    Vector2 currentPos = new Vector2(entry.key.getRealX(), entry.key.getRealY());
+                    if (trail.size >= 15) trail.removeIndex(0);
+                    trail.add(new TrailPoint(currentPos, 4.2f, 0.5f));
+                }
+                for (int i = trail.size - 1; i >= 0; i--) {
+                    TrailPoint point = trail.get(i);
+                    point.update(delta);
+                    if (point.lifetime <= 0) trail.removeIndex(i);
+                }
+            }
+        }
+
+        int size() {
+            int count = 0;
+            for (Array<TrailPoint> trail : bulletTrails.values()) count += trail.size;
+            return count;
+        }
+    }
+}
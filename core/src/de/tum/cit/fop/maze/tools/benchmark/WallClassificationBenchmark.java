@@ -0,0 +1,118 @@
+package de.tum.cit.fop.maze.tools.benchmark;
+
+import de.tum.cit.fop.maze.game.Difficulty;
+import de.tum.cit.fop.maze.game.DifficultyConfig;
+import de.tum.cit.fop.maze.maze.MazeGenerator;
+import de.tum.cit.fop.maze.maze.WallDepthClassifier;
+
+import java.util.Arrays;
+import java.util.Random;
+/**
+ * Compares the former per-wall entity scan against the row summary of
+ * {@link WallDepthClassifier} on EASY (50), NORMAL (80) and HARD (130) mazes.
+ *
+ * <p>Each operation classifies every wall group of the maze once, which is
+ * the per-frame work of the maze screens. Entity counts are scaled up to
+ * Endless-mode levels to show how both variants grow.
+ *
+ * <p>Run with {@code gradle :core:benchmark -Pbench=WallClassificationBenchmark}.
+ */
+public final class WallClassificationBenchmark {
+
+    private static final int[] ENTITY_COUNTS = { 10, 100, 500 };
+
+    private WallClassificationBenchmark() {}
+
+    public static void main(String[] args) {
+        Difficulty[] sizes = { Difficulty.EASY, Difficulty.NORMAL, Difficulty.HARD };
+
+        for (Difficulty d : sizes) {
+            int[][] maze = new MazeGenerator().generateMaze(DifficultyConfig.of(d));
+            int[] wallRows = collectWallGroupRows(maze);
+
+            System.out.println("== " + d + " " + maze[0].length + "x" + maze.length
+                    + ", wall groups = " + wallRows.length);
+
+            for (int entities : ENTITY_COUNTS) {
+                int[] entityRows = new int[entities];
+                boolean[] active = new boolean[entities];
+                Random r = new Random(42);
+                for (int i = 0; i < entities; i++) {
+                    entityRows[i] = r.nextInt(maze.length);
+                    active[i] = r.nextInt(10) != 0;
+                }
+
+                BenchmarkHarness.Result scan = BenchmarkHarness.run(
+                        "scan      entities=" + entities, 200, 2000,
+                        () -> BenchmarkHarness.consume(classifyByScan(wallRows, entityRows, active)));
+
+                WallDepthClassifier classifier = new WallDepthClassifier();
+                BenchmarkHarness.Result summary = BenchmarkHarness.run(
+                        "summary   entities=" + entities, 200, 2000,
+                        () -> BenchmarkHarness.consume(
+                                classifyBySummary(classifier, wallRows, entityRows, active)));
+
+                System.out.println(scan);
+                System.out.println(summary);
+            }
+        }
+    }
+
+    /**
+     * Former behaviour: every wall scans all entities until one is below it.
+     */
+    private static int classifyByScan(int[] wallRows, int[] entityRows, boolean[] active) {
+        int front = 0;
+        for (int wy : wallRows) {
+            for (int i = 0; i < entityRows.length; i++) {
+                if (active[i] && wy > entityRows[i]) {
+                    front++;
+                    break;
+                }
+            }
+        }
+        return front;
+    }
+
+    private static int classifyBySummary(WallDepthClassifier classifier,
+                                         int[] wallRows, int[] entityRows, boolean[] active) {
+        classifier.reset();
+        for (int i = 0; i < entityRows.length; i++) {
+            if (active[i]) classifier.include(entityRows[i]);
+        }
+
+        int front = 0;
+        for (int wy : wallRows) {
+            if (classifier.isInFront(wy)) front++;
+        }
+        return front;
+    }
+
+    /**
+     * Mirrors MazeRenderer's grouping: horizontal wall runs split into
+     * groups of at most five cells, one entry per group.
+     */
+    private static int[] collectWallGroupRows(int[][] maze) {
+        int count = 0;
+        int[] rows = new int[64];
+        for (int y = 0; y < maze.length; y++) {
+            int x = 0;
+            while (x < maze[y].length) {
+                if (maze[y][x] != 0) {
+                    x++;
+                    continue;
+                }
+                int len = 0;
+                while (x < maze[y].length && maze[y][x] == 0) {
+                    len++;
+                    x++;
+                }
+                for (int g = 0; g < (len + 4) / 5; g++) {
+                    if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                    rows[count++] = y;
+                }
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+}
@@ -4,24 +4,73 @@
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import de.tum.cit.fop.maze.game.SimulationMode;
+import de.tum.cit.fop.maze.game.save.PersistenceService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 /**
- * Manages the local leaderboard of high scores.
+ * Manages the local leaderboards of high scores.
+ * <p>
+ * Every submitted score is appended as one line to a score log. In memory,
+ * each board keeps its best {@value #TOP_K} entries in a bounded min-heap,
+ * so adding a score costs O(log K) regardless of how many scores were ever
+ * recorded. A score is ranked on the {@link #BOARD_ALL} board, on the board
+ * of its difficulty and on the board of its difficulty and mode, see
+ * {@link #boardOf(String, boolean)}.
  * <p>
- * Scores are stored persistently in a JSON file and kept sorted in
- * descending order. Only the top {@value #MAX_SCORES} scores are retained.
+ * Log writes run in the background through {@link PersistenceService}.
+ * When the log grows well beyond the retained entries it is compacted to
+ * them. Scores from the former {@code leaderboard.json} are imported once.
  */
 public class LeaderboardManager {
-    private static final String LEADERBOARD_FILE = "leaderboard.json";
-    private static final int MAX_SCORES = 10;
+    private static final String LEGACY_LEADERBOARD_FILE = "leaderboard.json";
+    private static final String LOG_FILE = "leaderboard.log";
+
+    /** Board ranking all scores. */
+    public static final String BOARD_ALL = "ALL";
+    /** Entries retained per board. */
+    public static final int TOP_K = 100;
+    /** Entries shown as the hall of fame, and needed to count as a high score. */
+    public static final int HALL_OF_FAME_SIZE = 10;
+
+    private static final int COMPACT_MIN_LINES = 256;
+    private static final int COMPACT_FACTOR = 2;
+
+    /** Log writes not yet on disk, shared by all instances. */
+    private static final ConcurrentLinkedQueue<LogOp> PENDING = new ConcurrentLinkedQueue<>();
+
+    /**
+     * A pending log write: entries to append, or all entries of the
+     * compacted log. Entries are copies, formatted on the persistence thread.
+     */
+    private record LogOp(boolean rewrite, List<HighScore> scores) {}
+
     /**
      * Represents a single high score entry in the leaderboard.
      * <p>
-     * Each entry consists of a player name and a score value.
-     * Entries are comparable so they can be sorted by score in descending order.
+     * Entries are comparable so they can be sorted by score in descending
+     * order; equal scores rank the earlier entry first.
      */
     public static class HighScore implements Comparable<HighScore> {
         public String name;
         public int score;
+        /** Difficulty name of the run, or null for imported entries. */
+        public String difficulty;
+        /** Whether the run was played in two-player mode. */
+        public boolean coop;
+        /** Submission time in epoch milliseconds. */
+        public long timestamp;
         /**
          * Empty constructor required for JSON deserialization.
          */
@@ -47,80 +96,323 @@ public HighScore(String name, int score) {
          */
         @Override
         public int compareTo(HighScore other) {
-            return Integer.compare(other.score, this.score);
+            int c = Integer.compare(other.score, this.score);
+            return c != 0 ? c : Long.compare(this.timestamp, other.timestamp);
+        }
+    }
+
+    /**
+     * The best {@value #TOP_K} entries of one board.
+     */
+    private static final class Board {
+        /** Root is the weakest retained entry. */
+        final PriorityQueue<HighScore> heap = new PriorityQueue<>(Comparator.reverseOrder());
+        HighScore[] sorted;
+
+        /** @return whether the entry is retained */
+        boolean offer(HighScore entry) {
+            if (heap.size() >= TOP_K) {
+                if (entry.compareTo(heap.peek()) >= 0) return false;
+                heap.poll();
+            }
+            heap.add(entry);
+            sorted = null;
+            return true;
+        }
+
+        boolean qualifies(int score, int rank) {
+            if (heap.size() < rank) return true;
+            return score > sorted()[rank - 1].score;
+        }
+
+        HighScore[] sorted() {
+            if (sorted == null) {
+                sorted = heap.toArray(new HighScore[0]);
+                Arrays.sort(sorted);
+            }
+            return sorted;
         }
     }
 
-    private Array<HighScore> scores;
+    private final Map<String, Board> boards = new LinkedHashMap<>();
+    private int logLines;
+    /** Log length at which compaction is considered next. */
+    private int compactAt = COMPACT_MIN_LINES;
     /**
      * Creates a new leaderboard manager and loads stored scores from disk.
      */
     public LeaderboardManager() {
-        scores = new Array<>();
+        boards.put(BOARD_ALL, new Board());
         load();
     }
+
     /**
-     * Adds a new score to the leaderboard.
-     * <p>
-     * The leaderboard is sorted and trimmed automatically,
-     * and the updated data is saved to disk.
+     * Returns the board ranking runs of a difficulty and mode.
+     *
+     * @param difficulty difficulty name
+     * @param coop       whether the run was played in two-player mode
+     * @return board name
+     */
+    public static String boardOf(String difficulty, boolean coop) {
+        return difficulty + (coop ? "_COOP" : "_SOLO");
+    }
+
+    /**
+     * Adds a new score to the global board only.
      *
      * @param name  the player's name
      * @param score the achieved score
      */
     public void addScore(String name, int score) {
-        scores.add(new HighScore(name, score));
-        sortAndTrim();
-        save();
+        addScore(name, score, null, false);
+    }
+    /**
+     * Adds a new score to the leaderboards and appends it to the score log.
+     *
+     * @param name       the player's name
+     * @param score      the achieved score
+     * @param difficulty difficulty name of the run, or null
+     * @param coop       whether the run was played in two-player mode
+     */
+    public void addScore(String name, int score, String difficulty, boolean coop) {
+        HighScore entry = new HighScore(sanitize(name), score);
+        entry.difficulty = difficulty;
+        entry.coop = coop;
+        entry.timestamp = System.currentTimeMillis();
+        insert(entry);
+
+        enqueue(new LogOp(false, List.of(copyOf(entry))));
+        logLines++;
+        compactIfNeeded();
     }
     /**
-     * Checks whether a given score qualifies as a high score.
+     * Checks whether a given score would enter the global hall of fame.
      *
      * @param score the score to check
-     * @return {@code true} if the score would appear in the leaderboard,
-     *         {@code false} otherwise
+     * @return {@code true} if the score would appear in the top
+     *         {@value #HALL_OF_FAME_SIZE}, {@code false} otherwise
      */
     public boolean isHighScore(int score) {
-        if (scores.size < MAX_SCORES) return true;
-        return score > scores.get(scores.size - 1).score;
+        return boards.get(BOARD_ALL).qualifies(score, HALL_OF_FAME_SIZE);
     }
     /**
-     * Returns the list of stored high scores.
+     * Checks whether a given score would enter the hall of fame of the
+     * global board, its difficulty board or its difficulty and mode board.
      *
-     * @return an array of high score entries sorted by score
+     * @param score      the score to check
+     * @param difficulty difficulty name of the run
+     * @param coop       whether the run was played in two-player mode
+     * @return {@code true} if the score would appear in any of those top lists
+     */
+    public boolean isHighScore(int score, String difficulty, boolean coop) {
+        if (isHighScore(score)) return true;
+        Board byDifficulty = boards.get(difficulty);
+        if (byDifficulty == null || byDifficulty.qualifies(score, HALL_OF_FAME_SIZE)) return true;
+        Board byMode = boards.get(boardOf(difficulty, coop));
+        return byMode == null || byMode.qualifies(score, HALL_OF_FAME_SIZE);
+    }
+    /**
+     * Returns the global hall of fame.
+     *
+     * @return the best {@value #HALL_OF_FAME_SIZE} entries sorted by score
      */
     public Array<HighScore> getScores() {
-        return scores;
+        return getPage(BOARD_ALL, 0, HALL_OF_FAME_SIZE);
+    }
+
+    /**
+     * Returns one page of a board.
+     *
+     * @param board    board name
+     * @param page     zero-based page index
+     * @param pageSize entries per page
+     * @return the entries of the page sorted by score, empty if out of range
+     */
+    public Array<HighScore> getPage(String board, int page, int pageSize) {
+        Array<HighScore> result = new Array<>(pageSize);
+        Board b = boards.get(board);
+        if (b == null || page < 0 || pageSize <= 0) return result;
+        HighScore[] sorted = b.sorted();
+        int from = page * pageSize;
+        int to = Math.min(sorted.length, from + pageSize);
+        for (int i = from; i < to; i++) result.add(sorted[i]);
+        return result;
+    }
+
+    /**
+     * @param board board name
+     * @return number of retained entries of the board
+     */
+    public int getEntryCount(String board) {
+        Board b = boards.get(board);
+        return b == null ? 0 : b.heap.size();
+    }
+
+    /**
+     * @return names of all boards with entries, {@link #BOARD_ALL} first,
+     *         then difficulty boards followed by their mode boards
+     */
+    public List<String> getBoards() {
+        List<String> names = new ArrayList<>(boards.keySet());
+        names.remove(BOARD_ALL);
+        Collections.sort(names);
+        names.add(0, BOARD_ALL);
+        return names;
+    }
+
+    private void insert(HighScore entry) {
+        boards.get(BOARD_ALL).offer(entry);
+        if (entry.difficulty == null) return;
+        boards.computeIfAbsent(entry.difficulty, k -> new Board()).offer(entry);
+        boards.computeIfAbsent(boardOf(entry.difficulty, entry.coop), k -> new Board()).offer(entry);
+    }
+
+    /**
+     * Compacts once the log holds {@value #COMPACT_FACTOR} times more lines
+     * than retained entries. Counting the retained entries walks all boards,
+     * so it is only done when the log reached the previous threshold.
+     */
+    private void compactIfNeeded() {
+        if (logLines <= compactAt) return;
+        int threshold = Math.max(COMPACT_MIN_LINES, retained().size() * COMPACT_FACTOR);
+        if (logLines > threshold) {
+            compact();
+        } else {
+            compactAt = threshold;
+        }
     }
 
-    private void sortAndTrim() {
-        scores.sort();
-        if (scores.size > MAX_SCORES) {
-            scores.truncate(MAX_SCORES);
+    private List<HighScore> retained() {
+        IdentityHashMap<HighScore, Boolean> seen = new IdentityHashMap<>();
+        List<HighScore> entries = new ArrayList<>();
+        for (Board b : boards.values()) {
+            for (HighScore s : b.heap) {
+                if (seen.put(s, Boolean.TRUE) == null) entries.add(s);
+            }
         }
+        entries.sort(Comparator.comparingLong(s -> s.timestamp));
+        return entries;
     }
 
-    private void save() {
-        Json json = new Json();
-        FileHandle file = Gdx.files.local(LEADERBOARD_FILE);
-        file.writeString(json.toJson(scores), false);
+    /**
+     * Replaces the log by the entries still retained on any board.
+     */
+    private void compact() {
+        List<HighScore> entries = retained();
+        List<HighScore> copies = new ArrayList<>(entries.size());
+        for (HighScore s : entries) copies.add(copyOf(s));
+        enqueue(new LogOp(true, copies));
+        logLines = entries.size();
+        compactAt = Math.max(COMPACT_MIN_LINES, logLines * COMPACT_FACTOR);
+    }
+
+    private static void enqueue(LogOp op) {
+        if (SimulationMode.isHeadless()) return;
+        PENDING.add(op);
+        PersistenceService.getInstance().schedule(LOG_FILE, LeaderboardManager::writePending);
+    }
+
+    /**
+     * Formats and writes all pending log operations in order; runs on the
+     * persistence thread.
+     */
+    private static void writePending() throws IOException {
+        boolean rewrite = false;
+        StringBuilder text = new StringBuilder();
+        LogOp op;
+        while ((op = PENDING.poll()) != null) {
+            if (op.rewrite()) {
+                rewrite = true;
+                text.setLength(0);
+            }
+            for (HighScore s : op.scores()) text.append(format(s));
+        }
+        if (rewrite) {
+            PersistenceService.commit(LOG_FILE, text.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (text.length() > 0) {
+            Gdx.files.local(LOG_FILE).writeString(text.toString(), true, "UTF-8");
+        }
+    }
+
+    private static HighScore copyOf(HighScore s) {
+        HighScore copy = new HighScore(s.name, s.score);
+        copy.difficulty = s.difficulty;
+        copy.coop = s.coop;
+        copy.timestamp = s.timestamp;
+        return copy;
+    }
+
+    /** Log line: score, difficulty or "-", coop flag, timestamp, name; tab separated. */
+    private static String format(HighScore s) {
+        return s.score + "\t" + (s.difficulty != null ? s.difficulty : "-") + "\t"
+                + (s.coop ? 1 : 0) + "\t" + s.timestamp + "\t" + s.name + "\n";
+    }
+
+    private static HighScore parse(String line) {
+        String[] parts = line.split("\t", 5);
+        if (parts.length != 5) return null;
+        try {
+            HighScore s = new HighScore(parts[4], Integer.parseInt(parts[0]));
+            s.difficulty = "-".equals(parts[1]) ? null : parts[1];
+            s.coop = "1".equals(parts[2]);
+            s.timestamp = Long.parseLong(parts[3]);
+            return s;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String sanitize(String name) {
+        if (name == null) return "";
+        return name.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
     }
 
-    @SuppressWarnings("unchecked")
     private void load() {
-        FileHandle file = Gdx.files.local(LEADERBOARD_FILE);
-        if (file.exists()) {
-            try {
-                Json json = new Json();
-                scores = json.fromJson(Array.class, HighScore.class, file);
-                if (scores == null) {
-                    scores = new Array<>();
-                }
-                sortAndTrim();
-            } catch (Exception e) {
-                scores = new Array<>();
-                Logger.warning("Failed to load leaderboard: " + e.getMessage());
+        PersistenceService.getInstance().flush(LOG_FILE);
+        FileHandle file = Gdx.files.local(LOG_FILE);
+        if (!file.exists()) {
+            importLegacy();
+            return;
+        }
+        try {
+            String text = file.readString("UTF-8");
+            int start = 0;
+            while (start < text.length()) {
+                int end = text.indexOf('\n', start);
+                if (end < 0) break;
+                HighScore s = parse(text.substring(start, end));
+                if (s != null) insert(s);
+                logLines++;
+                start = end + 1;
+            }
+            // A crash can leave a partial last line; rewrite the log so
+            // the next append starts on a fresh line.
+            if (start < text.length()) {
+                compact();
+            } else {
+                compactIfNeeded();
+            }
+        } catch (Exception e) {
+            Logger.warning("Failed to load leaderboard: " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void importLegacy() {
+        FileHandle file = Gdx.files.local(LEGACY_LEADERBOARD_FILE);
+        if (!file.exists()) return;
+        try {
+            Json json = new Json();
+            Array<HighScore> scores = json.fromJson(Array.class, HighScore.class, file);
+            if (scores == null) return;
+            for (HighScore s : scores) {
+                s.name = sanitize(s.name);
+                insert(s);
             }
+            compact();
+            Logger.info("Imported " + scores.size + " legacy leaderboard entries");
+        } catch (Exception e) {
+            Logger.warning("Failed to load leaderboard: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import de.tum.cit.fop.maze.game.save.StorageManager;
+import de.tum.cit.fop.maze.game.save.StorageManager.SaveBackend;
 /**
  * Desktop entry point for the Maze Runner game.
  *
@@ -20,7 +22,13 @@ public class DesktopLauncher {
      * while preserving a 16:9 aspect ratio.
      * </p>
      *
-     * @param arg command-line arguments (unused)
+     * <p>
+     * Save storage can be chosen with {@code --save-backend=files|container}
+     * and {@code --save-slots=<n>}; by default every slot is its own file
+     * and there are {@link StorageManager#MAX_SAVE_SLOTS} slots.
+     * </p>
+     *
+     * @param arg command-line arguments
      */
     public static void main(String[] arg) {
         try {
@@ -61,7 +69,17 @@ public static void main(String[] arg) {
                     8,   // stencil
                     0    // samples
             );
-            new Lwjgl3Application(new MazeRunnerGame(), config);
+            SaveBackend saveBackend = SaveBackend.FILES;
+            int saveSlots = StorageManager.MAX_SAVE_SLOTS;
+            for (String a : arg) {
+                if (a.startsWith("--save-backend=")) {
+                    saveBackend = SaveBackend.valueOf(a.substring("--save-backend=".length()).toUpperCase());
+                } else if (a.startsWith("--save-slots=")) {
+                    saveSlots = Integer.parseInt(a.substring("--save-slots=".length()));
+                }
+            }
+
+            new Lwjgl3Application(new MazeRunnerGame(saveBackend, saveSlots), config);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -0,0 +1,80 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import de.tum.cit.fop.maze.audio.AudioManager;
+import de.tum.cit.fop.maze.game.SimulationMode;
+import de.tum.cit.fop.maze.tools.benchmark.ReplayBenchmark;
+import de.tum.cit.fop.maze.tools.benchmark.SimulationTickBenchmark;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+/**
+ * Headless entry point for the simulation tick and replay benchmarks.
+ *
+ * <p>
+ * Starts the libGDX headless backend without a window, installs a no-op
+ * {@link GL20} so textures and atlases can be created without a GPU,
+ * mutes audio and runs {@link SimulationTickBenchmark} in
+ * {@link SimulationMode}. With the arguments {@code replay [file]} it runs
+ * {@link ReplayBenchmark} instead.
+ * </p>
+ */
+public class HeadlessSimulationLauncher {
+    /**
+     * Runs the simulation benchmark and exits.
+     *
+     * @param arg command-line arguments; {@code replay [file]} plays an
+     *            input replay instead
+     */
+    public static void main(String[] arg) {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                Gdx.gl = Gdx.gl20 = createNullGL();
+                SimulationMode.enableHeadless(42L);
+                AudioManager.getInstance().setMasterEnabled(false);
+                try {
+                    if (arg.length > 0 && arg[0].equals("replay")) {
+                        ReplayBenchmark.run(arg.length > 1 ? arg[1] : null);
+                    } else {
+                        SimulationTickBenchmark.run();
+                    }
+                } finally {
+                    Gdx.app.exit();
+                }
+            }
+        }, config);
+    }
+
+    /**
+     * Creates a {@link GL20} whose calls do nothing and return zero values.
+     * Object creation returns a valid handle and shader and program
+     * status queries report success.
+     */
+    private static GL20 createNullGL() {
+        return (GL20) Proxy.newProxyInstance(
+                GL20.class.getClassLoader(),
+                new Class<?>[]{ GL20.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv"))
+                            && ((int) args[1] == GL20.GL_COMPILE_STATUS || (int) args[1] == GL20.GL_LINK_STATUS)
+                            && args[2] instanceof IntBuffer status) {
+                        status.put(status.position(), 1);
+                    }
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) return false;
+                    if (type == int.class) return name.startsWith("glCreate") || name.startsWith("glGen") ? 1 : 0;
+                    if (type == float.class) return 0f;
+                    if (type == long.class) return 0L;
+                    return null;
+                });
+    }
+}